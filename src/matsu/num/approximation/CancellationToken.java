@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation;
+
+/**
+ * 近似計算の中断を外部から要求するためのトークン.
+ * 
+ * <p>
+ * トークンを与えられた近似計算は, イテレーションの区切りごとにトークンを確認し,
+ * {@link #cancel()} が呼ばれていれば計算を中断する. <br>
+ * 一度中断が要求されたトークンは元に戻らない. <br>
+ * 1個のトークンを複数の近似計算に与えた場合, それらは一斉に中断される.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは, {@link #create()} により取得する. <br>
+ * すべてのメソッドはスレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    private CancellationToken() {
+        super();
+    }
+
+    /**
+     * 近似計算の中断を要求する. <br>
+     * すでに要求されている場合は何もしない.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * 近似計算の中断が要求されているかを判定する.
+     * 
+     * @return 要求されている場合はtrue
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "CancellationToken(cancelled = %s)".formatted(this.cancelled);
+    }
+
+    /**
+     * 中断が要求されていない, 新しいトークンを返す.
+     * 
+     * @return 新しいトークン
+     */
+    public static CancellationToken create() {
+        return new CancellationToken();
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.25
+ * 2026.10.16
  */
 package matsu.num.approximation;
 
@@ -33,6 +33,17 @@ package matsu.num.approximation;
  * </p>
  * 
  * <p>
+ * 複数の点における値とスケールは,
+ * {@link #values(double[], double[])}, {@link #scales(double[], double[])}
+ * により一括で評価できる. <br>
+ * 引数の範囲チェックは, 引数が昇順に並んでいる場合は両端に対してのみ行われる. <br>
+ * 一括評価の計算は {@link #calcValues(double[], double[])},
+ * {@link #calcScales(double[], double[])} に委譲されるので,
+ * これらをオーバーライドすることで, 複数点の計算に共通する準備処理をまとめたり,
+ * ベクトル化したりできる.
+ * </p>
+ * 
+ * <p>
  * このインターフェースのサブタイプはイミュータブルであり,
  * かつすべてのメソッドはスレッドセーフであることが保証されている.
  * </p>
@@ -128,6 +139,170 @@ public abstract class DoubleApproxTarget {
      */
     protected abstract double calcScale(double x);
 
+    /**
+     * 与えられた <i>x</i><sub><i>i</i></sub> のそれぞれに対し,
+     * <i>f</i>(<i>x</i><sub><i>i</i></sub>) の値を一括で計算し, 出力用の配列に書き込む. <br>
+     * 各値は {@link #value(double)} の戻り値と同一である
+     * (値が計算できなかった場合は {@link Double#NaN} となる).
+     * 
+     * <p>
+     * 引数の配列が昇順に並んでいる場合, 範囲チェックは両端に対してのみ行われる. <br>
+     * 区間外の引数が含まれる場合は {@link IllegalArgumentException} がスローされ,
+     * 出力用の配列は変更されない.
+     * </p>
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さの別の配列
+     * @throws IllegalArgumentException 区間外の引数が含まれる場合,
+     *             配列の長さが一致しない場合, 2個の配列が同一である場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public final void values(double[] xs, double[] out) {
+        this.checkBatch(xs, out);
+
+        this.calcValues(xs, out);
+        for (int i = 0; i < out.length; i++) {
+            if (!Double.isFinite(out[i])) {
+                out[i] = Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * {@link #values(double[], double[])} で返す値の計算を行うためのメソッド.
+     * 
+     * <p>
+     * このメソッドは {@link #values(double[], double[])} の内部で呼ばれるために用意されており,
+     * 引数 <i>x</i><sub><i>i</i></sub> は必ず区間内であり,
+     * 2個の配列は同じ長さの別の配列である. <br>
+     * 公開は禁止され, サブクラスからもコールしてはならない. <br>
+     * 戻り値の扱いは {@link #calcValue(double)} と同様である.
+     * </p>
+     * 
+     * @implSpec
+     *               アクセス修飾子を {@code public} にしてはいけない. <br>
+     *               書き込む値は, 要素ごとに {@link #calcValue(double)} を呼んだ場合と
+     *               同一でなければならない. <br>
+     *               引数の配列を書き換えてはいけない.
+     * 
+     *               <p>
+     *               デフォルトでは, 要素ごとに {@link #calcValue(double)} を呼ぶ.
+     *               </p>
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out <i>f</i>(<i>x</i><sub><i>i</i></sub>) の候補値の出力先
+     */
+    protected void calcValues(double[] xs, double[] out) {
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = this.calcValue(xs[i]);
+        }
+    }
+
+    /**
+     * 与えられた <i>x</i><sub><i>i</i></sub> のそれぞれに対し,
+     * <i>s</i><sub><i>f</i></sub>(<i>x</i><sub><i>i</i></sub>) の値を一括で計算し,
+     * 出力用の配列に書き込む. <br>
+     * 各値は {@link #scale(double)} の戻り値と同一である
+     * (値が計算できなかった場合は {@link Double#NaN} となる).
+     * 
+     * <p>
+     * 引数の配列が昇順に並んでいる場合, 範囲チェックは両端に対してのみ行われる. <br>
+     * 区間外の引数が含まれる場合は {@link IllegalArgumentException} がスローされ,
+     * 出力用の配列は変更されない.
+     * </p>
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さの別の配列
+     * @throws IllegalArgumentException 区間外の引数が含まれる場合,
+     *             配列の長さが一致しない場合, 2個の配列が同一である場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public final void scales(double[] xs, double[] out) {
+        this.checkBatch(xs, out);
+
+        this.calcScales(xs, out);
+        for (int i = 0; i < out.length; i++) {
+            double s = out[i];
+            if (!(Double.isFinite(s) && s > 0d)) {
+                out[i] = Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * {@link #scales(double[], double[])} で返す値の計算を行うためのメソッド.
+     * 
+     * <p>
+     * このメソッドは {@link #scales(double[], double[])} の内部で呼ばれるために用意されており,
+     * 引数 <i>x</i><sub><i>i</i></sub> は必ず区間内であり,
+     * 2個の配列は同じ長さの別の配列である. <br>
+     * 公開は禁止され, サブクラスからもコールしてはならない. <br>
+     * 戻り値の扱いは {@link #calcScale(double)} と同様である.
+     * </p>
+     * 
+     * @implSpec
+     *               アクセス修飾子を {@code public} にしてはいけない. <br>
+     *               書き込む値は, 要素ごとに {@link #calcScale(double)} を呼んだ場合と
+     *               同一でなければならない. <br>
+     *               引数の配列を書き換えてはいけない.
+     * 
+     *               <p>
+     *               デフォルトでは, 要素ごとに {@link #calcScale(double)} を呼ぶ.
+     *               </p>
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out <i>s</i><sub><i>f</i></sub>(<i>x</i><sub><i>i</i></sub>) の候補値の出力先
+     */
+    protected void calcScales(double[] xs, double[] out) {
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = this.calcScale(xs[i]);
+        }
+    }
+
+    /**
+     * 一括評価の引数を検証する.
+     * 
+     * @throws IllegalArgumentException 引数が不正の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    private void checkBatch(double[] xs, double[] out) {
+        if (xs.length != out.length) {
+            throw new IllegalArgumentException(
+                    "mismatch length: xs.length = %s, out.length = %s".formatted(xs.length, out.length));
+        }
+        if (xs == out) {
+            throw new IllegalArgumentException("xs and out are the same array");
+        }
+
+        final int size = xs.length;
+        if (size == 0) {
+            return;
+        }
+
+        //昇順に並んでいる場合は両端のみを検査すればよい (NaNを含む場合は昇順とみなされない)
+        boolean sorted = true;
+        for (int i = 1; i < size; i++) {
+            if (!(xs[i - 1] <= xs[i])) {
+                sorted = false;
+                break;
+            }
+        }
+        if (sorted) {
+            if (!this.accepts(xs[0])) {
+                throw new IllegalArgumentException("out of range: x = " + xs[0]);
+            }
+            if (!this.accepts(xs[size - 1])) {
+                throw new IllegalArgumentException("out of range: x = " + xs[size - 1]);
+            }
+            return;
+        }
+        for (double x : xs) {
+            if (!this.accepts(x)) {
+                throw new IllegalArgumentException("out of range: x = " + x);
+            }
+        }
+    }
+
     /**
      * 引数が <i>f</i> に受け入れられるかどうかを判定する.
      * 
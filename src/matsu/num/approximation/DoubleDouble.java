@@ -0,0 +1,631 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * 2個の {@code double} の和 (double-double) で表現された実数体. <br>
+ * 仮数部は約106ビット (10進数で約32桁) であり,
+ * 指数部の範囲は {@code double} と同等である.
+ * 
+ * <p>
+ * 値は上位部 <i>h</i> と下位部 <i>l</i> の和 <i>h</i> + <i>l</i> で表現される. <br>
+ * 上位部は和を {@code double} に丸めた値 <i>h</i> = fl(<i>h</i> + <i>l</i>) であり,
+ * 下位部は |<i>l</i>| &le; ulp(<i>h</i>)/2 を満たすように正規化されている. <br>
+ * したがって, 同じ値の内部表現は一意である.
+ * </p>
+ * 
+ * <p>
+ * 四則演算は, 誤差なし変換 (TwoSum, および {@link Math#fma(double, double, double)}
+ * による TwoProd) を用いて {@code double} の演算のみで行う. <br>
+ * {@link java.math.BigDecimal} のような可変長の内部表現を持たないので,
+ * {@link Decimal128} よりも高速である. <br>
+ * 多数の積和演算を行う場合は, {@link PseudoRealNumber.TypeProvider#createAccumulator()}
+ * のアキュムレータにより, 中間結果のインスタンスの生成を省くことができる. <br>
+ * 四則演算の相対誤差は概ね 2<sup>-104</sup> 程度である.
+ * </p>
+ * 
+ * <p>
+ * 演算結果の上位部, 下位部が有限でない場合は, {@link ArithmeticException} がスローされる. <br>
+ * ただし, 上位部の絶対値が {@code double} の最大値に近い場合は,
+ * 上位部が有限であっても中間結果がオーバーフローして例外がスローされることがある. <br>
+ * また, 上位部の絶対値が {@code double} の正規化数の最小値に近い場合は,
+ * 下位部がアンダーフローして精度が低下する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class DoubleDouble extends PseudoRealNumber<DoubleDouble> {
+
+    /**
+     * {@link DoubleDouble} の元のプロバイダ.
+     */
+    private static final PseudoRealNumber.TypeProvider<DoubleDouble> TYPE_PROVIDER =
+            new DoubleDouble.TypeProvider();
+
+    /**
+     * 0を表す.
+     */
+    private static final DoubleDouble ZERO = new DoubleDouble(0d, 0d);
+
+    /**
+     * 1を表す.
+     */
+    private static final DoubleDouble ONE = new DoubleDouble(1d, 0d);
+
+    /**
+     * 文字列表現の有効桁数.
+     */
+    private static final MathContext STRING_CONTEXT = new MathContext(32);
+
+    /**
+     * 上位部.
+     */
+    private final double high;
+
+    /**
+     * 下位部.
+     */
+    private final double low;
+
+    /**
+     * 正規化された上位部と下位部から生成するコンストラクタ.
+     * 
+     * @param high 上位部
+     * @param low 下位部
+     * @throws IllegalArgumentException 引数が有限でない場合
+     */
+    private DoubleDouble(double high, double low) {
+        super();
+
+        if (!(Double.isFinite(high) && Double.isFinite(low))) {
+            throw new IllegalArgumentException("NOT accepted: value = " + high + " + " + low);
+        }
+        //-0dを回避する
+        if (high == 0d) {
+            high = 0d;
+        }
+        if (low == 0d) {
+            low = 0d;
+        }
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * 外部からの呼び出し不可.
+     * 
+     * @return -
+     */
+    @Override
+    protected PseudoRealNumber.TypeProvider<DoubleDouble> typeProvider() {
+        return TYPE_PROVIDER;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * スローされる例外はスーパータイプに準じる.
+     * </p>
+     */
+    @Override
+    public DoubleDouble plus(DoubleDouble augend) {
+        return new Accumulator(this).add(augend.high, augend.low).get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * スローされる例外はスーパータイプに準じる.
+     * </p>
+     */
+    @Override
+    public DoubleDouble minus(DoubleDouble subtrahend) {
+        return new Accumulator(this).add(-subtrahend.high, -subtrahend.low).get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * スローされる例外はスーパータイプに準じる.
+     * </p>
+     */
+    @Override
+    public DoubleDouble times(DoubleDouble multiplicand) {
+        return new Accumulator(this).multiply(multiplicand.high, multiplicand.low).get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * 長除法により, 商を3個の {@code double} の和として求める. <br>
+     * スローされる例外はスーパータイプに準じる.
+     * </p>
+     */
+    @Override
+    public DoubleDouble dividedBy(DoubleDouble divisor) {
+        return new Accumulator(this).divide(divisor.high, divisor.low).get();
+    }
+
+    @Override
+    public DoubleDouble negated() {
+        return new DoubleDouble(-this.high, -this.low);
+    }
+
+    @Override
+    public DoubleDouble abs() {
+        return this.high < 0d
+                ? this.negated()
+                : this;
+    }
+
+    /**
+     * {@inheritDoc }
+     * 
+     * <p>
+     * {@link DoubleDouble} では上位部が返る. <br>
+     * 無限大は返らない.
+     * </p>
+     */
+    @Override
+    public double asDouble() {
+        return this.high;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof DoubleDouble target)) {
+            return false;
+        }
+
+        //正規化されており, -0d,inf,NaNを回避しているので, ==で問題ない
+        return this.high == target.high && this.low == target.low;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Double.hashCode(this.high);
+        result = 31 * result + Double.hashCode(this.low);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * スローされる例外はスーパータイプに準じる.
+     * </p>
+     */
+    @Override
+    public int compareTo(DoubleDouble o) {
+        //正規化されているので, 上位部, 下位部の順に比較すればよい
+        int result = Double.compare(this.high, o.high);
+        return result != 0
+                ? result
+                : Double.compare(this.low, o.low);
+    }
+
+    /**
+     * 10進数で32桁の文字列表現を返す.
+     * 
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        return new BigDecimal(this.high)
+                .add(new BigDecimal(this.low))
+                .round(STRING_CONTEXT)
+                .toString();
+    }
+
+    /**
+     * {@link DoubleDouble} の元のプロバイダを返す.
+     * 
+     * @return プロバイダ
+     */
+    public static PseudoRealNumber.TypeProvider<DoubleDouble> elementTypeProvider() {
+        return TYPE_PROVIDER;
+    }
+
+    private static final class TypeProvider
+            extends PseudoRealNumber.TypeProvider<DoubleDouble> {
+
+        /**
+         * 唯一のコンストラクタ.
+         */
+        TypeProvider() {
+            super(DoubleDouble.class);
+        }
+
+        @Override
+        public DoubleDouble zero() {
+            return ZERO;
+        }
+
+        @Override
+        public DoubleDouble one() {
+            return ONE;
+        }
+
+        @Override
+        public DoubleDouble fromDoubleValue(double value) {
+            // ここで例外が発生する可能性がある
+            return new DoubleDouble(value, 0d);
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * {@link DoubleDouble} のアキュムレータは, 上位部と下位部を直接更新する. <br>
+         * したがって, 演算により {@link DoubleDouble} のインスタンスは生成されない.
+         * </p>
+         */
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> createAccumulator() {
+            return new Accumulator(ZERO);
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * {@link DoubleDouble} のパックドベクトルは, 上位部と下位部を2個の {@code double[]} に格納する.
+         * </p>
+         */
+        @Override
+        public PseudoRealNumber.PackedVector<DoubleDouble> createPackedVector(int length) {
+            return new PackedVector(length);
+        }
+    }
+
+    /**
+     * 上位部と下位部を2個の {@code double[]} に格納するパックドベクトル.
+     */
+    private static final class PackedVector extends PseudoRealNumber.PackedVector<DoubleDouble> {
+
+        private final double[] high;
+        private final double[] low;
+
+        /**
+         * 全ての要素が0であるベクトルを生成する.
+         * 
+         * @throws NegativeArraySizeException lengthが0以上でない場合
+         */
+        PackedVector(int length) {
+            super();
+            this.high = new double[length];
+            this.low = new double[length];
+        }
+
+        @Override
+        public int length() {
+            return this.high.length;
+        }
+
+        @Override
+        public DoubleDouble get(int index) {
+            return new DoubleDouble(this.high[index], this.low[index]);
+        }
+
+        @Override
+        public void set(int index, DoubleDouble value) {
+            this.high[index] = value.high;
+            this.low[index] = value.low;
+        }
+
+        @Override
+        public void set(int index, PseudoRealNumber.Accumulator<DoubleDouble> value) {
+            if (value instanceof Accumulator accumulator) {
+                this.high[index] = accumulator.high;
+                this.low[index] = accumulator.low;
+                return;
+            }
+            super.set(index, value);
+        }
+    }
+
+    /**
+     * 上位部と下位部を可変の状態として持つアキュムレータ. <br>
+     * {@link DoubleDouble} の四則演算もこのクラスにより実行される.
+     * 
+     * <p>
+     * 状態は常に正規化されており, 有限である. <br>
+     * 演算結果が有限でない場合は {@link ArithmeticException} をスローする
+     * (状態は有限のまま維持されるが, 値は規定されない).
+     * </p>
+     */
+    private static final class Accumulator extends PseudoRealNumber.Accumulator<DoubleDouble> {
+
+        private double high;
+        private double low;
+
+        /**
+         * 与えた値を初期値とするアキュムレータを生成する.
+         */
+        Accumulator(DoubleDouble value) {
+            super();
+            this.high = value.high;
+            this.low = value.low;
+        }
+
+        @Override
+        public DoubleDouble get() {
+            return new DoubleDouble(this.high, this.low);
+        }
+
+        @Override
+        public Accumulator set(DoubleDouble value) {
+            this.high = value.high;
+            this.low = value.low;
+            return this;
+        }
+
+        @Override
+        public Accumulator add(DoubleDouble augend) {
+            return this.add(augend.high, augend.low);
+        }
+
+        @Override
+        public Accumulator subtract(DoubleDouble subtrahend) {
+            return this.add(-subtrahend.high, -subtrahend.low);
+        }
+
+        @Override
+        public Accumulator multiply(DoubleDouble multiplicand) {
+            return this.multiply(multiplicand.high, multiplicand.low);
+        }
+
+        @Override
+        public Accumulator divide(DoubleDouble divisor) {
+            return this.divide(divisor.high, divisor.low);
+        }
+
+        @Override
+        public Accumulator negate() {
+            this.high = -this.high;
+            this.low = -this.low;
+            return this;
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> add(
+                PseudoRealNumber.Accumulator<DoubleDouble> augend) {
+            if (augend instanceof Accumulator other) {
+                return this.add(other.high, other.low);
+            }
+            return super.add(augend);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> subtract(
+                PseudoRealNumber.Accumulator<DoubleDouble> subtrahend) {
+            if (subtrahend instanceof Accumulator other) {
+                return this.add(-other.high, -other.low);
+            }
+            return super.subtract(subtrahend);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> multiply(
+                PseudoRealNumber.Accumulator<DoubleDouble> multiplicand) {
+            if (multiplicand instanceof Accumulator other) {
+                return this.multiply(other.high, other.low);
+            }
+            return super.multiply(multiplicand);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> divide(
+                PseudoRealNumber.Accumulator<DoubleDouble> divisor) {
+            if (divisor instanceof Accumulator other) {
+                return this.divide(other.high, other.low);
+            }
+            return super.divide(divisor);
+        }
+
+        @Override
+        public Accumulator addProduct(DoubleDouble multiplier, DoubleDouble multiplicand) {
+            return this.addProduct(
+                    multiplier.high, multiplier.low, multiplicand.high, multiplicand.low);
+        }
+
+        @Override
+        public Accumulator subtractProduct(DoubleDouble multiplier, DoubleDouble multiplicand) {
+            return this.addProduct(
+                    -multiplier.high, -multiplier.low, multiplicand.high, multiplicand.low);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> addProduct(
+                PseudoRealNumber.Accumulator<DoubleDouble> multiplier, DoubleDouble multiplicand) {
+            if (multiplier instanceof Accumulator other) {
+                return this.addProduct(other.high, other.low, multiplicand.high, multiplicand.low);
+            }
+            return super.addProduct(multiplier, multiplicand);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> set(
+                PseudoRealNumber.PackedVector<DoubleDouble> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                this.high = packed.high[index];
+                this.low = packed.low[index];
+                return this;
+            }
+            return super.set(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> add(
+                PseudoRealNumber.PackedVector<DoubleDouble> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.add(packed.high[index], packed.low[index]);
+            }
+            return super.add(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> subtract(
+                PseudoRealNumber.PackedVector<DoubleDouble> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.add(-packed.high[index], -packed.low[index]);
+            }
+            return super.subtract(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> multiply(
+                PseudoRealNumber.PackedVector<DoubleDouble> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.multiply(packed.high[index], packed.low[index]);
+            }
+            return super.multiply(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleDouble> divide(
+                PseudoRealNumber.PackedVector<DoubleDouble> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.divide(packed.high[index], packed.low[index]);
+            }
+            return super.divide(vector, index);
+        }
+
+        /**
+         * 自身に double-double (bh + bl) を加える.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator add(double bh, double bl) {
+            final double ah = this.high;
+            final double al = this.low;
+
+            //上位部同士, 下位部同士の TwoSum
+            final double s = ah + bh;
+            final double sv = s - ah;
+            double se = (ah - (s - sv)) + (bh - sv);
+
+            final double t = al + bl;
+            final double tv = t - al;
+            final double te = (al - (t - tv)) + (bl - tv);
+
+            se += t;
+            //QuickTwoSum
+            final double h = s + se;
+            se = se - (h - s);
+            se += te;
+            return this.normalize(h, se);
+        }
+
+        /**
+         * 自身に double-double (bh + bl) を掛ける.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator multiply(double bh, double bl) {
+            //TwoProd
+            final double p = this.high * bh;
+            double e = Math.fma(this.high, bh, -p);
+
+            e += this.high * bl + this.low * bh;
+            return this.normalize(p, e);
+        }
+
+        /**
+         * 自身を double-double (dh + dl) で割る. <br>
+         * 長除法により, 商を3個の {@code double} の和として求める.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator divide(double dh, double dl) {
+            final double ah = this.high;
+            final double al = this.low;
+
+            final double q1 = ah / dh;
+            if (!Double.isFinite(q1)) {
+                throw new ArithmeticException("illegal operation");
+            }
+
+            //r = this - q1 * divisor
+            double p = q1 * dh;
+            double pe = Math.fma(q1, dh, -p) + q1 * dl;
+            double rh = ah - p;
+            double rl = (ah - rh - p) - pe + al;
+
+            final double q2 = (rh + rl) / dh;
+
+            //r = r - q2 * divisor
+            p = q2 * dh;
+            pe = Math.fma(q2, dh, -p) + q2 * dl;
+            double sh = rh - p;
+            double sl = (rh - sh - p) - pe + rl;
+
+            final double q3 = (sh + sl) / dh;
+
+            //QuickTwoSum(q1, q2) の結果に q3 を加える
+            final double h = q1 + q2;
+            final double l = q2 - (h - q1);
+            this.normalize(h, l);
+            return this.add(q3, 0d);
+        }
+
+        /**
+         * 自身に double-double の積 (ah + al)(bh + bl) を加える. <br>
+         * 積は正規化前の和のまま加えるので, 乗算と加算を別々に行うよりも丸めが少ない.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator addProduct(double ah, double al, double bh, double bl) {
+            //TwoProd
+            final double p = ah * bh;
+            double e = Math.fma(ah, bh, -p);
+            e += ah * bl + al * bh;
+            if (!(Double.isFinite(p) && Double.isFinite(e))) {
+                throw new ArithmeticException("illegal operation");
+            }
+
+            //QuickTwoSum
+            final double ph = p + e;
+            final double pl = e - (ph - p);
+            return this.add(ph, pl);
+        }
+
+        /**
+         * 正規化されていない和 <i>s</i> + <i>e</i> (ただし |<i>s</i>| &ge; |<i>e</i>| または <i>s</i> = 0)
+         * を正規化して自身の状態とするか,
+         * 不正値 (無限大, NaN) の場合は {@link ArithmeticException} をスローする.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator normalize(double s, double e) {
+            //QuickTwoSum
+            final double h = s + e;
+            final double l = e - (h - s);
+            if (!(Double.isFinite(h) && Double.isFinite(l))) {
+                throw new ArithmeticException("illegal operation");
+            }
+            this.high = h;
+            this.low = l;
+            return this;
+        }
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.27
+ * 2026.10.16
  */
 package matsu.num.approximation;
 
@@ -261,5 +261,293 @@ public final class DoubleLike extends PseudoRealNumber<DoubleLike> {
 
             return new DoubleLike(value);
         }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * {@link DoubleLike} のアキュムレータは, {@code double} 値を直接更新する. <br>
+         * したがって, 演算により {@link DoubleLike} のインスタンスは生成されない.
+         * </p>
+         */
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> createAccumulator() {
+            return new Accumulator();
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * {@link DoubleLike} のパックドベクトルは, 値を {@code double[]} に格納する.
+         * </p>
+         */
+        @Override
+        public PseudoRealNumber.PackedVector<DoubleLike> createPackedVector(int length) {
+            return new PackedVector(length);
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * {@link DoubleLike} は {@code double} 値と同等であるので, {@code true} を返す.
+         * </p>
+         */
+        @Override
+        public boolean isDoubleBacked() {
+            return true;
+        }
+    }
+
+    /**
+     * 値を {@code double[]} に格納するパックドベクトル.
+     */
+    private static final class PackedVector extends PseudoRealNumber.PackedVector<DoubleLike> {
+
+        private final double[] values;
+
+        /**
+         * 全ての要素が0であるベクトルを生成する.
+         * 
+         * @throws NegativeArraySizeException lengthが0以上でない場合
+         */
+        PackedVector(int length) {
+            super();
+            this.values = new double[length];
+        }
+
+        @Override
+        public int length() {
+            return this.values.length;
+        }
+
+        @Override
+        public DoubleLike get(int index) {
+            return new DoubleLike(this.values[index]);
+        }
+
+        @Override
+        public void set(int index, DoubleLike value) {
+            this.values[index] = value.value;
+        }
+
+        @Override
+        public void set(int index, PseudoRealNumber.Accumulator<DoubleLike> value) {
+            if (value instanceof Accumulator accumulator) {
+                this.values[index] = accumulator.value;
+                return;
+            }
+            super.set(index, value);
+        }
+    }
+
+    /**
+     * {@code double} 値を可変の状態として持つアキュムレータ.
+     * 
+     * <p>
+     * 状態は常に有限である. <br>
+     * 演算結果が有限でない場合は {@link ArithmeticException} をスローし,
+     * 状態は演算前のまま維持される.
+     * </p>
+     */
+    private static final class Accumulator extends PseudoRealNumber.Accumulator<DoubleLike> {
+
+        private double value;
+
+        /**
+         * 値が0であるアキュムレータを生成する.
+         */
+        Accumulator() {
+            super();
+            this.value = 0d;
+        }
+
+        @Override
+        public DoubleLike get() {
+            return new DoubleLike(this.value);
+        }
+
+        @Override
+        public Accumulator set(DoubleLike value) {
+            this.value = value.value;
+            return this;
+        }
+
+        @Override
+        public Accumulator add(DoubleLike augend) {
+            return this.update(this.value + augend.value);
+        }
+
+        @Override
+        public Accumulator subtract(DoubleLike subtrahend) {
+            return this.update(this.value - subtrahend.value);
+        }
+
+        @Override
+        public Accumulator multiply(DoubleLike multiplicand) {
+            return this.update(this.value * multiplicand.value);
+        }
+
+        @Override
+        public Accumulator divide(DoubleLike divisor) {
+            return this.update(this.value / divisor.value);
+        }
+
+        @Override
+        public Accumulator negate() {
+            this.value = -this.value;
+            return this;
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> add(
+                PseudoRealNumber.Accumulator<DoubleLike> augend) {
+            if (augend instanceof Accumulator other) {
+                return this.update(this.value + other.value);
+            }
+            return super.add(augend);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> subtract(
+                PseudoRealNumber.Accumulator<DoubleLike> subtrahend) {
+            if (subtrahend instanceof Accumulator other) {
+                return this.update(this.value - other.value);
+            }
+            return super.subtract(subtrahend);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> multiply(
+                PseudoRealNumber.Accumulator<DoubleLike> multiplicand) {
+            if (multiplicand instanceof Accumulator other) {
+                return this.update(this.value * other.value);
+            }
+            return super.multiply(multiplicand);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> divide(
+                PseudoRealNumber.Accumulator<DoubleLike> divisor) {
+            if (divisor instanceof Accumulator other) {
+                return this.update(this.value / other.value);
+            }
+            return super.divide(divisor);
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * 乗算と加算を別々に丸める. <br>
+         * すなわち, 結果は {@link DoubleLike} の乗算と加算の組み合わせに一致する.
+         * </p>
+         */
+        @Override
+        public Accumulator addProduct(DoubleLike multiplier, DoubleLike multiplicand) {
+            return this.addProduct(multiplier.value, multiplicand.value);
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * 乗算と減算を別々に丸める.
+         * </p>
+         */
+        @Override
+        public Accumulator subtractProduct(DoubleLike multiplier, DoubleLike multiplicand) {
+            return this.addProduct(-multiplier.value, multiplicand.value);
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * <p>
+         * 乗算と加算を別々に丸める.
+         * </p>
+         */
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> addProduct(
+                PseudoRealNumber.Accumulator<DoubleLike> multiplier, DoubleLike multiplicand) {
+            if (multiplier instanceof Accumulator other) {
+                return this.addProduct(other.value, multiplicand.value);
+            }
+            return super.addProduct(multiplier, multiplicand);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> set(
+                PseudoRealNumber.PackedVector<DoubleLike> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                this.value = packed.values[index];
+                return this;
+            }
+            return super.set(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> add(
+                PseudoRealNumber.PackedVector<DoubleLike> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.update(this.value + packed.values[index]);
+            }
+            return super.add(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> subtract(
+                PseudoRealNumber.PackedVector<DoubleLike> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.update(this.value - packed.values[index]);
+            }
+            return super.subtract(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> multiply(
+                PseudoRealNumber.PackedVector<DoubleLike> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.update(this.value * packed.values[index]);
+            }
+            return super.multiply(vector, index);
+        }
+
+        @Override
+        public PseudoRealNumber.Accumulator<DoubleLike> divide(
+                PseudoRealNumber.PackedVector<DoubleLike> vector, int index) {
+            if (vector instanceof PackedVector packed) {
+                return this.update(this.value / packed.values[index]);
+            }
+            return super.divide(vector, index);
+        }
+
+        /**
+         * 自身に積を加える.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator addProduct(double multiplier, double multiplicand) {
+            final double product = multiplier * multiplicand;
+            if (!Double.isFinite(product)) {
+                throw new ArithmeticException("illegal operation");
+            }
+            return this.update(this.value + product);
+        }
+
+        /**
+         * 与えた値を状態とするか, 不正値 (無限大, NaN) の場合は
+         * {@link ArithmeticException} をスローする.
+         * 
+         * @throws ArithmeticException 不正値
+         */
+        private Accumulator update(double value) {
+            if (!Double.isFinite(value)) {
+                throw new ArithmeticException("illegal operation");
+            }
+            this.value = value;
+            return this;
+        }
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 容量が制限された, LRU (least recently used) 方式の評価値キャッシュ. <br>
+ * ヒット数とミス数を記録する.
+ * 
+ * <p>
+ * すべてのメソッドはスレッドセーフである. <br>
+ * 値の計算はこのクラスの外で (ロックを保持せずに) 行うことを想定しており,
+ * 同一のキーに対する計算が並行して重複した場合は, 後から登録された値で上書きされる.
+ * </p>
+ * 
+ * <p>
+ * 各メソッドの引数に対する契約は, プログラミングエラーによるものについてはアサーションで対応している. <br>
+ * したがって, このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+final class EvaluationCache<K, V> {
+
+    private final Object lock = new Object();
+    private final Map<K, V> map;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * 容量を与えてキャッシュを生成する.
+     * 
+     * @param capacity 容量, 1以上
+     */
+    EvaluationCache(int capacity) {
+        assert capacity >= 1 : "capacity is less than 1";
+
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * キーに対応する値を返す. <br>
+     * 値が登録されていない場合は {@code null} を返す. <br>
+     * 結果に応じてヒット数あるいはミス数が加算される.
+     * 
+     * @param key キー, nullであってはいけない
+     * @return キーに対応する値, 登録されていない場合はnull
+     */
+    V get(K key) {
+        assert key != null : "null";
+
+        synchronized (lock) {
+            V out = this.map.get(key);
+            if (out == null) {
+                this.missCount++;
+            } else {
+                this.hitCount++;
+            }
+            return out;
+        }
+    }
+
+    /**
+     * キーと値を登録する. <br>
+     * 容量を超えた場合は, 最も長く参照されていないエントリが削除される.
+     * 
+     * @param key キー, nullであってはいけない
+     * @param value 値, nullであってはいけない
+     */
+    void put(K key, V value) {
+        assert key != null : "null";
+        assert value != null : "null";
+
+        synchronized (lock) {
+            this.map.put(key, value);
+        }
+    }
+
+    /**
+     * ヒット数を返す.
+     * 
+     * @return ヒット数
+     */
+    long hitCount() {
+        synchronized (lock) {
+            return this.hitCount;
+        }
+    }
+
+    /**
+     * ミス数を返す.
+     * 
+     * @return ミス数
+     */
+    long missCount() {
+        synchronized (lock) {
+            return this.missCount;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation;
+
+import java.util.Objects;
+
+/**
+ * 近似関数と, 計算された近似誤差の組を扱う.
+ * 
+ * <p>
+ * 近似誤差は, ターゲット関数の値 <i>f</i>(<i>x</i>), スケール <i>s</i><sub><i>f</i></sub>(<i>x</i>)
+ * と近似関数 <i>p</i>(<i>x</i>) に対する重みづけ誤差 <br>
+ * max<sub><i>x</i></sub> |<i>p</i>(<i>x</i>) - <i>f</i>(<i>x</i>)| / <i>s</i><sub><i>f</i></sub>(<i>x</i>) <br>
+ * である. <br>
+ * 最大値をどのように評価したか (有限個の点における評価であるかなど) は,
+ * このインスタンスを生成したエグゼキュータの説明を参照すること.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは, {@link #of(Object, double)} により取得する. <br>
+ * 近似関数がイミュータブルであれば, このクラスのインスタンスもイミュータブルである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 近似関数の型パラメータ
+ */
+public final class MeasuredApproximation<T> {
+
+    private final T approximation;
+    private final double weightedError;
+
+    private MeasuredApproximation(T approximation, double weightedError) {
+        this.approximation = approximation;
+        this.weightedError = weightedError;
+    }
+
+    /**
+     * 近似関数を返す.
+     * 
+     * @return 近似関数
+     */
+    public T approximation() {
+        return this.approximation;
+    }
+
+    /**
+     * 近似誤差 (重みづけ誤差の絶対値の最大値) を返す.
+     * 
+     * @return 近似誤差
+     */
+    public double weightedError() {
+        return this.weightedError;
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "MeasuredApproximation(%s, error = %s)".formatted(this.approximation, this.weightedError);
+    }
+
+    /**
+     * 近似関数と近似誤差を与えて, インスタンスを返す.
+     * 
+     * @param <T> 近似関数の型パラメータ
+     * @param approximation 近似関数
+     * @param weightedError 近似誤差, 0以上の有限値
+     * @return 近似関数と近似誤差の組
+     * @throws IllegalArgumentException 近似誤差が不適の場合
+     * @throws NullPointerException 近似関数がnullの場合
+     */
+    public static <T> MeasuredApproximation<T> of(T approximation, double weightedError) {
+        Objects.requireNonNull(approximation);
+        if (!(weightedError >= 0d && Double.isFinite(weightedError))) {
+            throw new IllegalArgumentException("invalid error: weightedError = " + weightedError);
+        }
+        return new MeasuredApproximation<>(approximation, weightedError);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation;
+
+import java.util.Objects;
+
+/**
+ * 評価結果をキャッシュする, {@link ApproxTarget} のデコレータ.
+ * 
+ * <p>
+ * 元のターゲット関数の値とスケールを引数 (型 {@code T} のインスタンス) をキーとしてキャッシュし,
+ * 同一の引数に対する再評価を省略する. <br>
+ * キーの同一性は {@link PseudoRealNumber#equals(Object)} により判定される. <br>
+ * キャッシュは値とスケールのそれぞれについて容量が制限されており,
+ * 容量を超えた場合は最も長く参照されていないエントリが破棄される (LRU 方式). <br>
+ * 評価に失敗した ({@link ArithmeticException} がスローされた) 場合, その結果はキャッシュされない.
+ * </p>
+ * 
+ * <p>
+ * 区間, 値, スケール, 体の元に関するプロバイダは元のターゲット関数と一致する. <br>
+ * キャッシュの参照と更新はスレッドセーフであり,
+ * このクラスのインスタンスは (ヒット数, ミス数を除いて) 元のターゲット関数と同様に振る舞う.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは, {@link #of(ApproxTarget, int)} により取得する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体の元を表現する型パラメータ
+ */
+public final class MemoizingApproxTarget<T extends PseudoRealNumber<T>> extends ApproxTarget<T> {
+
+    private final ApproxTarget<T> target;
+
+    private final EvaluationCache<T, T> valueCache;
+    private final EvaluationCache<T, T> scaleCache;
+
+    private MemoizingApproxTarget(ApproxTarget<T> target, int capacity) {
+        super();
+        this.target = target;
+        this.valueCache = new EvaluationCache<>(capacity);
+        this.scaleCache = new EvaluationCache<>(capacity);
+    }
+
+    @Override
+    protected T calcValue(T x) {
+        T cached = this.valueCache.get(x);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        T out = this.target.value(x);
+        this.valueCache.put(x, out);
+        return out;
+    }
+
+    @Override
+    protected T calcScale(T x) {
+        T cached = this.scaleCache.get(x);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        T out = this.target.scale(x);
+        this.scaleCache.put(x, out);
+        return out;
+    }
+
+    @Override
+    public FiniteClosedInterval<T> interval() {
+        return this.target.interval();
+    }
+
+    @Override
+    public PseudoRealNumber.TypeProvider<T> elementTypeProvider() {
+        return this.target.elementTypeProvider();
+    }
+
+    /**
+     * 値とスケールの評価においてキャッシュがヒットした回数の合計を返す.
+     * 
+     * @return ヒット数
+     */
+    public long hitCount() {
+        return this.valueCache.hitCount() + this.scaleCache.hitCount();
+    }
+
+    /**
+     * 値とスケールの評価においてキャッシュがヒットしなかった
+     * (元のターゲット関数が評価された) 回数の合計を返す.
+     * 
+     * @return ミス数
+     */
+    public long missCount() {
+        return this.valueCache.missCount() + this.scaleCache.missCount();
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "Memoizing(%s)".formatted(this.target);
+    }
+
+    /**
+     * ターゲット関数とキャッシュの容量を与えて,
+     * 評価結果をキャッシュするターゲット関数を返す.
+     * 
+     * <p>
+     * 容量は値とスケールのそれぞれに適用される.
+     * </p>
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param target 元のターゲット関数
+     * @param capacity キャッシュの容量, 1以上
+     * @return 評価結果をキャッシュするターゲット関数
+     * @throws IllegalArgumentException 容量が1未満の場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static <T extends PseudoRealNumber<T>> MemoizingApproxTarget<T> of(
+            ApproxTarget<T> target, int capacity) {
+        Objects.requireNonNull(target);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity: capacity = " + capacity);
+        }
+        return new MemoizingApproxTarget<>(target, capacity);
+    }
+}
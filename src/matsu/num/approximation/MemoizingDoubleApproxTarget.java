@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation;
+
+import java.util.Objects;
+
+/**
+ * 評価結果をキャッシュする, {@link DoubleApproxTarget} のデコレータ.
+ * 
+ * <p>
+ * 近似計算の過程では, ターゲット関数が同一の引数で繰り返し評価されることがある
+ * (例えば, Remez 法のイテレーションにおいて移動しなかったノード). <br>
+ * このクラスは, 元のターゲット関数の値とスケールを引数のビット表現
+ * ({@link Double#doubleToRawLongBits(double)}) をキーとしてキャッシュし,
+ * 同一の引数に対する再評価を省略する. <br>
+ * キャッシュは値とスケールのそれぞれについて容量が制限されており,
+ * 容量を超えた場合は最も長く参照されていないエントリが破棄される (LRU 方式).
+ * </p>
+ * 
+ * <p>
+ * 区間, 値, スケールは元のターゲット関数と一致する. <br>
+ * キャッシュの参照と更新はスレッドセーフであり,
+ * このクラスのインスタンスは (ヒット数, ミス数を除いて) 元のターゲット関数と同様に振る舞う. <br>
+ * ターゲット関数の評価が軽い場合は, キャッシュのオーバーヘッドにより遅くなることがある.
+ * </p>
+ * 
+ * <p>
+ * 一括評価 ({@link #values(double[], double[])}, {@link #scales(double[], double[])}) では,
+ * キャッシュにヒットしなかった引数のみをまとめて元のターゲット関数の一括評価に委譲する.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは, {@link #of(DoubleApproxTarget, int)} により取得する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MemoizingDoubleApproxTarget extends DoubleApproxTarget {
+
+    private final DoubleApproxTarget target;
+
+    private final EvaluationCache<Long, Double> valueCache;
+    private final EvaluationCache<Long, Double> scaleCache;
+
+    private MemoizingDoubleApproxTarget(DoubleApproxTarget target, int capacity) {
+        super();
+        this.target = target;
+        this.valueCache = new EvaluationCache<>(capacity);
+        this.scaleCache = new EvaluationCache<>(capacity);
+    }
+
+    @Override
+    protected double calcValue(double x) {
+        Long key = Double.doubleToRawLongBits(x);
+        Double cached = this.valueCache.get(key);
+        if (Objects.nonNull(cached)) {
+            return cached.doubleValue();
+        }
+        double out = this.target.value(x);
+        this.valueCache.put(key, out);
+        return out;
+    }
+
+    @Override
+    protected double calcScale(double x) {
+        Long key = Double.doubleToRawLongBits(x);
+        Double cached = this.scaleCache.get(key);
+        if (Objects.nonNull(cached)) {
+            return cached.doubleValue();
+        }
+        double out = this.target.scale(x);
+        this.scaleCache.put(key, out);
+        return out;
+    }
+
+    @Override
+    protected void calcValues(double[] xs, double[] out) {
+        this.calcBatch(xs, out, this.valueCache, true);
+    }
+
+    @Override
+    protected void calcScales(double[] xs, double[] out) {
+        this.calcBatch(xs, out, this.scaleCache, false);
+    }
+
+    /**
+     * キャッシュを参照し, ヒットしなかった引数を元のターゲット関数で一括評価する. <br>
+     * ヒットしなかった引数の相対順序は保たれるので,
+     * 引数が昇順であれば元のターゲット関数での範囲チェックも両端のみで済む.
+     */
+    private void calcBatch(double[] xs, double[] out,
+            EvaluationCache<Long, Double> cache, boolean isValue) {
+        final int size = xs.length;
+        int[] missIndex = new int[size];
+        int missCount = 0;
+        for (int i = 0; i < size; i++) {
+            Double cached = cache.get(Double.doubleToRawLongBits(xs[i]));
+            if (Objects.nonNull(cached)) {
+                out[i] = cached.doubleValue();
+            } else {
+                missIndex[missCount] = i;
+                missCount++;
+            }
+        }
+        if (missCount == 0) {
+            return;
+        }
+
+        double[] missXs = new double[missCount];
+        for (int k = 0; k < missCount; k++) {
+            missXs[k] = xs[missIndex[k]];
+        }
+        double[] missOut = new double[missCount];
+        if (isValue) {
+            this.target.values(missXs, missOut);
+        } else {
+            this.target.scales(missXs, missOut);
+        }
+        for (int k = 0; k < missCount; k++) {
+            out[missIndex[k]] = missOut[k];
+            cache.put(Double.doubleToRawLongBits(missXs[k]), missOut[k]);
+        }
+    }
+
+    @Override
+    public DoubleFiniteClosedInterval interval() {
+        return this.target.interval();
+    }
+
+    /**
+     * 値とスケールの評価においてキャッシュがヒットした回数の合計を返す.
+     * 
+     * @return ヒット数
+     */
+    public long hitCount() {
+        return this.valueCache.hitCount() + this.scaleCache.hitCount();
+    }
+
+    /**
+     * 値とスケールの評価においてキャッシュがヒットしなかった
+     * (元のターゲット関数が評価された) 回数の合計を返す.
+     * 
+     * @return ミス数
+     */
+    public long missCount() {
+        return this.valueCache.missCount() + this.scaleCache.missCount();
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "Memoizing(%s)".formatted(this.target);
+    }
+
+    /**
+     * ターゲット関数とキャッシュの容量を与えて,
+     * 評価結果をキャッシュするターゲット関数を返す.
+     * 
+     * <p>
+     * 容量は値とスケールのそれぞれに適用される. <br>
+     * Remez 法による近似では, 近似多項式の次数に対して十分大きな容量
+     * (例えば, ノード数の数倍) を与えることが望ましい.
+     * </p>
+     * 
+     * @param target 元のターゲット関数
+     * @param capacity キャッシュの容量, 1以上
+     * @return 評価結果をキャッシュするターゲット関数
+     * @throws IllegalArgumentException 容量が1未満の場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static MemoizingDoubleApproxTarget of(DoubleApproxTarget target, int capacity) {
+        Objects.requireNonNull(target);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity: capacity = " + capacity);
+        }
+        return new MemoizingDoubleApproxTarget(target, capacity);
+    }
+}
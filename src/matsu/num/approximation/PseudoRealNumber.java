@@ -5,11 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.27
+ * 2026.10.16
  */
 package matsu.num.approximation;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -661,6 +662,96 @@ public abstract class PseudoRealNumber<T extends PseudoRealNumber<T>> implements
             return arrayType.cast(Array.newInstance(elementType, length));
         }
 
+        /**
+         * 値が0である, 新しいアキュムレータを返す.
+         * 
+         * <p>
+         * アキュムレータは, 演算結果を自身の状態として保持する可変のオブジェクトであり,
+         * ループ内の積和演算などにおいて, 中間結果のインスタンスの生成を省くために用いる. <br>
+         * 詳しくは {@link Accumulator} を参照すること.
+         * </p>
+         * 
+         * @implSpec
+         *               このメソッドは, 呼び出しごとに新しいインスタンスを返さなければならない. <br>
+         *               スーパークラスの実装では, {@code T} の演算を呼び出して結果を保持する
+         *               (したがって中間結果のインスタンスの生成は省かれない)
+         *               アキュムレータを返す. <br>
+         *               {@code T} の内部表現を直接操作するアキュムレータを提供できる場合は,
+         *               このメソッドをオーバーライドすることが推奨される.
+         * 
+         * @return 新しいアキュムレータ
+         */
+        public Accumulator<T> createAccumulator() {
+            return new ImmutableBackedAccumulator<>(this.zero());
+        }
+
+        /**
+         * 指定した長さの, 全ての要素が0である新しいパックドベクトルを返す.
+         * 
+         * <p>
+         * パックドベクトルは, {@code T} の配列に代わる固定長のコンテナであり,
+         * 要素をプリミティブ型の配列などの連続した領域にまとめて格納するために用いる. <br>
+         * 詳しくは {@link PackedVector} を参照すること.
+         * </p>
+         * 
+         * @implSpec
+         *               このメソッドは, 呼び出しごとに新しいインスタンスを返さなければならない. <br>
+         *               スーパークラスの実装では, {@code T} の配列を用いたパックドベクトルを返す. <br>
+         *               要素の内部表現をプリミティブ型の配列などに格納できる場合は,
+         *               このメソッドをオーバーライドすることが推奨される. <br>
+         *               その場合は, 同じ型のアキュムレータについて,
+         *               パックドベクトルの要素を引数とする演算もオーバーライドすべきである.
+         * 
+         * @param length ベクトルの長さ
+         * @return 新しいパックドベクトル
+         * @throws NegativeArraySizeException lengthが0以上でない場合
+         */
+        public PackedVector<T> createPackedVector(int length) {
+            T[] array = this.createArray(length);
+            Arrays.fill(array, this.zero());
+            return new ArrayBackedPackedVector<>(array);
+        }
+
+        /**
+         * 与えた配列の要素を順に格納した, 新しいパックドベクトルを返す.
+         * 
+         * @param values 要素
+         * @return 新しいパックドベクトル
+         * @throws NullPointerException 引数がnullの場合, 引数にnullが含まれる場合
+         */
+        public final PackedVector<T> createPackedVector(T[] values) {
+            PackedVector<T> out = this.createPackedVector(values.length);
+            for (int i = 0; i < values.length; i++) {
+                out.set(i, values[i]);
+            }
+            return out;
+        }
+
+        /**
+         * この型の元が {@code double} 値と同等であるかどうかを返す.
+         * 
+         * <p>
+         * {@code true} を返す型は, 次を満たさなければならない. <br>
+         * {@link #fromDoubleValue(double)} と {@link PseudoRealNumber#asDouble()} が,
+         * 扱える {@code double} 値と元との間の1対1の対応を与える. <br>
+         * 四則演算の結果が, 対応する {@code double} 値の四則演算の結果に対応する
+         * (丸めが {@code double} 型の演算と同一である).
+         * </p>
+         * 
+         * <p>
+         * このモジュールの近似エグゼキュータは, {@code true} を返す型のターゲット関数に対しては,
+         * 近似計算を {@code double} 型で行い, 結果を元の型に戻す.
+         * </p>
+         * 
+         * @implSpec
+         *               スーパークラスの実装では {@code false} を返す.
+         * 
+         * @return {@code double} 値と同等である場合はtrue
+         */
+        public boolean isDoubleBacked() {
+            return false;
+        }
+
         /**
          * {@link Provider} から {@link TypeProvider} を生成するためのアダプター.
          * 
@@ -719,4 +810,451 @@ public abstract class PseudoRealNumber<T extends PseudoRealNumber<T>> implements
             };
         }
     }
+
+    /**
+     * 体の元の演算結果を, 自身の状態として保持する可変のアキュムレータ.
+     * 
+     * <p>
+     * {@link PseudoRealNumber} はイミュータブルであるので,
+     * 演算のたびに結果を表すインスタンスが生成される. <br>
+     * アキュムレータは, 積和演算などの中間結果を自身の状態として保持し,
+     * その場で更新することにより, 中間結果のインスタンスの生成を省く. <br>
+     * アキュムレータは {@link TypeProvider#createAccumulator()} により取得する.
+     * </p>
+     * 
+     * <p>
+     * 更新を行うメソッドは自身を返すので, 次のように連鎖させて用いることができる.
+     * </p>
+     * 
+     * <pre>
+     * // sum = a * b + c
+     * T sum = typeProvider.createAccumulator().set(c).addProduct(a, b).get();
+     * </pre>
+     * 
+     * <p>
+     * 演算結果が {@code T} で表現できない場合, {@link ArithmeticException} がスローされる. <br>
+     * 例外がスローされた後のアキュムレータの状態は規定されないが,
+     * {@link #set(PseudoRealNumber)} により再び利用できる状態になる. <br>
+     * 引数に {@code null} が与えられた場合は, {@link NullPointerException} がスローされる.
+     * </p>
+     * 
+     * <p>
+     * アキュムレータはスレッドセーフではない. <br>
+     * 1つのスレッドの, 1つの計算の内部でのみ用いることが想定されている.
+     * </p>
+     * 
+     * @implSpec
+     *               {@code T} を引数とする演算は抽象メソッドであり, 必ず実装しなければならない. <br>
+     *               アキュムレータを引数とする演算および積和演算は,
+     *               {@link #get()} と {@code T} の演算を用いた骨格実装が与えられている. <br>
+     *               内部表現を直接操作することで中間結果の生成を省ける場合は,
+     *               それらをオーバーライドすべきである. <br>
+     *               各演算の結果は, 対応する {@code T} の演算
+     *               (積和演算の場合は, 乗算と加算の組み合わせ) の結果と
+     *               同等以上の精度でなければならない.
+     * 
+     * @param <T> 体の元を表す型
+     */
+    public static abstract class Accumulator<T extends PseudoRealNumber<T>> {
+
+        /**
+         * 唯一のコンストラクタ.
+         */
+        protected Accumulator() {
+            super();
+        }
+
+        /**
+         * 自身の値を返す.
+         * 
+         * @return 値
+         */
+        public abstract T get();
+
+        /**
+         * 自身の値を与えた値に置き換える.
+         * 
+         * @param value 値
+         * @return this
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public abstract Accumulator<T> set(T value);
+
+        /**
+         * 自身の値に与えた値を加える.
+         * 
+         * @param augend augend
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public abstract Accumulator<T> add(T augend);
+
+        /**
+         * 自身の値から与えた値を引く.
+         * 
+         * @param subtrahend subtrahend
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public abstract Accumulator<T> subtract(T subtrahend);
+
+        /**
+         * 自身の値に与えた値を掛ける.
+         * 
+         * @param multiplicand multiplicand
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public abstract Accumulator<T> multiply(T multiplicand);
+
+        /**
+         * 自身の値を与えた値で割る.
+         * 
+         * @param divisor divisor
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合 (0割りが発生した場合を含む)
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public abstract Accumulator<T> divide(T divisor);
+
+        /**
+         * 自身の値を加法逆元 (-1倍) に置き換える.
+         * 
+         * @return this
+         */
+        public Accumulator<T> negate() {
+            return this.set(this.get().negated());
+        }
+
+        /**
+         * 自身の値に, 与えたアキュムレータの値を加える.
+         * 
+         * @param augend augend
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> add(Accumulator<T> augend) {
+            return this.add(augend.get());
+        }
+
+        /**
+         * 自身の値から, 与えたアキュムレータの値を引く.
+         * 
+         * @param subtrahend subtrahend
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> subtract(Accumulator<T> subtrahend) {
+            return this.subtract(subtrahend.get());
+        }
+
+        /**
+         * 自身の値に, 与えたアキュムレータの値を掛ける.
+         * 
+         * @param multiplicand multiplicand
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> multiply(Accumulator<T> multiplicand) {
+            return this.multiply(multiplicand.get());
+        }
+
+        /**
+         * 自身の値を, 与えたアキュムレータの値で割る.
+         * 
+         * @param divisor divisor
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合 (0割りが発生した場合を含む)
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> divide(Accumulator<T> divisor) {
+            return this.divide(divisor.get());
+        }
+
+        /**
+         * 自身の値に, 与えた2個の値の積を加える (積和演算).
+         * 
+         * @param multiplier multiplier
+         * @param multiplicand multiplicand
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> addProduct(T multiplier, T multiplicand) {
+            return this.add(multiplier.times(multiplicand));
+        }
+
+        /**
+         * 自身の値から, 与えた2個の値の積を引く.
+         * 
+         * @param multiplier multiplier
+         * @param multiplicand multiplicand
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> subtractProduct(T multiplier, T multiplicand) {
+            return this.subtract(multiplier.times(multiplicand));
+        }
+
+        /**
+         * 自身の値に, 与えたアキュムレータの値と値の積を加える (積和演算).
+         * 
+         * @param multiplier multiplier
+         * @param multiplicand multiplicand
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> addProduct(Accumulator<T> multiplier, T multiplicand) {
+            return this.addProduct(multiplier.get(), multiplicand);
+        }
+
+        /**
+         * 自身の値を, 与えたパックドベクトルの要素に置き換える.
+         * 
+         * @param vector パックドベクトル
+         * @param index 要素のインデックス
+         * @return this
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> set(PackedVector<T> vector, int index) {
+            return this.set(vector.get(index));
+        }
+
+        /**
+         * 自身の値に, 与えたパックドベクトルの要素を加える.
+         * 
+         * @param vector パックドベクトル
+         * @param index 要素のインデックス
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> add(PackedVector<T> vector, int index) {
+            return this.add(vector.get(index));
+        }
+
+        /**
+         * 自身の値から, 与えたパックドベクトルの要素を引く.
+         * 
+         * @param vector パックドベクトル
+         * @param index 要素のインデックス
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> subtract(PackedVector<T> vector, int index) {
+            return this.subtract(vector.get(index));
+        }
+
+        /**
+         * 自身の値に, 与えたパックドベクトルの要素を掛ける.
+         * 
+         * @param vector パックドベクトル
+         * @param index 要素のインデックス
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> multiply(PackedVector<T> vector, int index) {
+            return this.multiply(vector.get(index));
+        }
+
+        /**
+         * 自身の値を, 与えたパックドベクトルの要素で割る.
+         * 
+         * @param vector パックドベクトル
+         * @param index 要素のインデックス
+         * @return this
+         * @throws ArithmeticException 演算結果がインスタンスとして表現できない場合 (0割りが発生した場合を含む)
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public Accumulator<T> divide(PackedVector<T> vector, int index) {
+            return this.divide(vector.get(index));
+        }
+
+        /**
+         * 自身の値の文字列表現を返す.
+         */
+        @Override
+        public String toString() {
+            return String.valueOf(this.get());
+        }
+    }
+
+    /**
+     * 体の元を連続した領域にまとめて格納する, 固定長で可変のベクトル.
+     * 
+     * <p>
+     * {@code T} の配列は要素のインスタンスへの参照の配列であり,
+     * 要素はヒープ上に散在する. <br>
+     * パックドベクトルは, 要素の内部表現をプリミティブ型の配列などの連続した領域に格納するための拡張点である. <br>
+     * 例えば, 2個の {@code double} で表現される型は, 2個の {@code double[]} に要素を格納できる. <br>
+     * パックドベクトルは {@link TypeProvider#createPackedVector(int)} により取得する.
+     * </p>
+     * 
+     * <p>
+     * パックドベクトルの要素は, {@link Accumulator} のパックドベクトルを引数とする演算により,
+     * インスタンスを経由せずに読み出すことができる. <br>
+     * 逆に, アキュムレータの値は {@link #set(int, Accumulator)}
+     * により, インスタンスを経由せずに書き込むことができる.
+     * </p>
+     * 
+     * <p>
+     * パックドベクトルはスレッドセーフではない. <br>
+     * 要素の書き込みを終えたパックドベクトルを, 以降は読み出しのみに用いる場合は,
+     * 安全な公開を行えば複数のスレッドから読み出すことができる.
+     * </p>
+     * 
+     * @implSpec
+     *               {@link #get(int)} と {@link #set(int, PseudoRealNumber)} は,
+     *               {@code T} の値を変えずに格納, 読み出ししなければならない. <br>
+     *               すなわち, {@code vector.set(i, v)} の後の {@code vector.get(i)} は,
+     *               {@code v} と等価でなければならない.
+     * 
+     * @param <T> 体の元を表す型
+     */
+    public static abstract class PackedVector<T extends PseudoRealNumber<T>> {
+
+        /**
+         * 唯一のコンストラクタ.
+         */
+        protected PackedVector() {
+            super();
+        }
+
+        /**
+         * ベクトルの長さを返す.
+         * 
+         * @return 長さ
+         */
+        public abstract int length();
+
+        /**
+         * 指定したインデックスの要素を返す.
+         * 
+         * @param index インデックス
+         * @return 要素
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         */
+        public abstract T get(int index);
+
+        /**
+         * 指定したインデックスの要素を, 与えた値に置き換える.
+         * 
+         * @param index インデックス
+         * @param value 値
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public abstract void set(int index, T value);
+
+        /**
+         * 指定したインデックスの要素を, 与えたアキュムレータの値に置き換える.
+         * 
+         * @param index インデックス
+         * @param value アキュムレータ
+         * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+         * @throws NullPointerException 引数がnullの場合
+         */
+        public void set(int index, Accumulator<T> value) {
+            this.set(index, value.get());
+        }
+    }
+
+    /**
+     * {@link TypeProvider#createPackedVector(int)} の既定の実装であり,
+     * {@code T} の配列に要素を格納する.
+     * 
+     * @param <T> 体の元を表す型
+     */
+    private static final class ArrayBackedPackedVector<T extends PseudoRealNumber<T>>
+            extends PackedVector<T> {
+
+        private final T[] array;
+
+        ArrayBackedPackedVector(T[] array) {
+            super();
+            this.array = array;
+        }
+
+        @Override
+        public int length() {
+            return this.array.length;
+        }
+
+        @Override
+        public T get(int index) {
+            return this.array[index];
+        }
+
+        @Override
+        public void set(int index, T value) {
+            this.array[index] = Objects.requireNonNull(value);
+        }
+    }
+
+    /**
+     * {@link TypeProvider#createAccumulator()} の既定の実装であり,
+     * {@code T} の演算結果のインスタンスを保持する.
+     * 
+     * @param <T> 体の元を表す型
+     */
+    private static final class ImmutableBackedAccumulator<T extends PseudoRealNumber<T>>
+            extends Accumulator<T> {
+
+        private T value;
+
+        ImmutableBackedAccumulator(T value) {
+            super();
+            this.value = value;
+        }
+
+        @Override
+        public T get() {
+            return this.value;
+        }
+
+        @Override
+        public Accumulator<T> set(T value) {
+            this.value = Objects.requireNonNull(value);
+            return this;
+        }
+
+        @Override
+        public Accumulator<T> add(T augend) {
+            this.value = this.value.plus(augend);
+            return this;
+        }
+
+        @Override
+        public Accumulator<T> subtract(T subtrahend) {
+            this.value = this.value.minus(subtrahend);
+            return this;
+        }
+
+        @Override
+        public Accumulator<T> multiply(T multiplicand) {
+            this.value = this.value.times(multiplicand);
+            return this;
+        }
+
+        @Override
+        public Accumulator<T> divide(T divisor) {
+            this.value = this.value.dividedBy(divisor);
+            return this;
+        }
+    }
 }
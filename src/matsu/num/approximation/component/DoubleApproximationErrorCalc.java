@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.17
  */
 package matsu.num.approximation.component;
 
@@ -65,4 +65,64 @@ public final class DoubleApproximationErrorCalc {
         }
         return out;
     }
+
+    /**
+     * 与えられた <i>x</i><sub><i>i</i></sub> のそれぞれに対する関数の近似誤差を,
+     * 出力用の配列に書き込む. <br>
+     * 各値は {@link #value(double)} の戻り値と同一である. <br>
+     * ターゲット関数の値とスケールは一括評価
+     * ({@link DoubleApproxTarget#values(double[], double[])},
+     * {@link DoubleApproxTarget#scales(double[], double[])})
+     * により計算されるので, 引数が昇順に並んでいる場合は範囲チェックが簡略化される.
+     * 
+     * <p>
+     * スケールの一時保存のための配列が呼び出しごとに生成される. <br>
+     * 繰り返し呼ぶ場合は, 作業用の配列を与える
+     * {@link #values(double[], double[], double[])} を用いるとよい.
+     * </p>
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さの別の配列
+     * @throws IllegalArgumentException 範囲外の引数が含まれる場合,
+     *             配列の長さが一致しない場合, 2個の配列が同一である場合
+     * @throws ApproximationFailedException 計算に失敗した場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void values(double[] xs, double[] out) throws ApproximationFailedException {
+        this.values(xs, out, new double[xs.length]);
+    }
+
+    /**
+     * 与えられた <i>x</i><sub><i>i</i></sub> のそれぞれに対する関数の近似誤差を,
+     * 出力用の配列に書き込む. <br>
+     * 呼び出し側が所有する作業用の配列をスケールの一時保存に用いる点を除き,
+     * {@link #values(double[], double[])} と同一である. <br>
+     * 作業用の配列の内容は上書きされ, 呼び出し後の内容は規定されない.
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さの別の配列
+     * @param scaleBuffer 作業用の配列, 引数の配列と同じ長さの, 他の2個とは別の配列
+     * @throws IllegalArgumentException 範囲外の引数が含まれる場合,
+     *             配列の長さが一致しない場合, 3個の配列に同一のものが含まれる場合
+     * @throws ApproximationFailedException 計算に失敗した場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void values(double[] xs, double[] out, double[] scaleBuffer) throws ApproximationFailedException {
+        if (scaleBuffer == Objects.requireNonNull(out)) {
+            throw new IllegalArgumentException("out and scaleBuffer are the same array");
+        }
+        final int size = xs.length;
+        double[] scale = scaleBuffer;
+        this.target.scales(xs, scale);
+        this.target.values(xs, out);
+
+        for (int i = 0; i < size; i++) {
+            double x = xs[i];
+            double v = (out[i] - approxFunction.applyAsDouble(x)) / scale[i];
+            if (!(Double.isFinite(v))) {
+                throw new ApproximationFailedException("error-calc-failure");
+            }
+            out[i] = v;
+        }
+    }
 }
@@ -38,7 +38,8 @@
  * である. <br>
  * {@link matsu.num.approximation.PseudoRealNumber}
  * の実装として
- * {@link matsu.num.approximation.Decimal128}
+ * {@link matsu.num.approximation.Decimal128},
+ * {@link matsu.num.approximation.DoubleDouble}
  * を用意しているが, ユーザーが独自実装を用意しても良い
  * (独自実装を用意する場合は,
  * {@link matsu.num.approximation.PseudoRealNumber}
@@ -49,7 +50,9 @@
  * 近似結果は, {@link matsu.num.approximation.ApproxResult} にラップされて返される. <br>
  * {@link matsu.num.approximation.ApproxResult} は
  * {@link java.util.Optional} の模倣であり,
- * 失敗の場合は "空" と, メッセージが返されることになる.
+ * 失敗の場合は "空" と, メッセージが返されることになる. <br>
+ * 近似誤差を併せて報告するエグゼキュータは, 近似結果を
+ * {@link matsu.num.approximation.MeasuredApproximation} として返す.
  * </p>
  * 
  */
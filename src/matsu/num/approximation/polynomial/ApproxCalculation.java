@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 独自クラスによる実数体の多項式関数による近似の計算処理を表す. <br>
+ * サブクラスはスレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体を表す型パラメータ
+ */
+abstract class ApproxCalculation<T extends PseudoRealNumber<T>> {
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    ApproxCalculation() {
+        super();
+    }
+
+    /**
+     * 近似計算を実行する.
+     * 
+     * @throws ApproximationFailedException 近似計算に失敗した場合
+     */
+    abstract void calculate() throws ApproximationFailedException;
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    abstract NewtonPolynomial<T> getResult();
+
+    /**
+     * 計算条件に適合する近似計算を生成する.
+     * 
+     * <p>
+     * ターゲット関数の型が {@code double} 値と同等である場合
+     * ({@link PseudoRealNumber.TypeProvider#isDoubleBacked()}) は,
+     * {@code double} 型の近似計算に委譲する近似計算を返す
+     * (区間が {@code double} 型で表現できない場合を除く).
+     * </p>
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return 近似計算
+     */
+    static <T extends PseudoRealNumber<T>> ApproxCalculation<T> of(
+            ApproxTarget<T> target, int order, RemezConfiguration configuration) {
+        ApproxCalculation<T> doubleBacked = DoubleBackedApproxCalculation.of(target, order, configuration);
+        if (Objects.nonNull(doubleBacked)) {
+            return doubleBacked;
+        }
+        return switch (configuration.algorithm()) {
+            case NODE_SHIFT -> new ApproxCalculationByRemezMinimax<>(target, order, configuration);
+            case EXCHANGE -> new ApproxCalculationByRemezExchange<>(target, order, configuration);
+        };
+    }
+
+    /**
+     * 計算条件に適合する初期ノードを作成する.
+     * 
+     * <p>
+     * {@code double} 型による事前計算が指定されている場合,
+     * {@code double} 型の近似計算で収束させたノードを返す. <br>
+     * 事前計算に失敗した場合は, 初期ノードの決め方にしたがったノードを返す.
+     * </p>
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数, nullであってはいけない
+     * @param size ノードの数, 2以上でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return ノード, 昇順に並んでいる
+     */
+    static <T extends PseudoRealNumber<T>> T[] initialNode(
+            ApproxTarget<T> target, int size, RemezConfiguration configuration) {
+        T[] presolved = presolvedNode(target, size, configuration);
+        if (Objects.nonNull(presolved)) {
+            return presolved;
+        }
+        return switch (configuration.initialization()) {
+            case CHEBYSHEV_NODES -> NodeCreation.execute(size, target.interval(), target.elementTypeProvider());
+            case INTERPOLANT_EXTREMA -> InterpolantNodeCreation.execute(size, target);
+        };
+    }
+
+    /**
+     * {@code double} 型による事前計算が指定されている場合,
+     * {@code double} 型の近似計算で収束させたノードを返す.
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数, nullであってはいけない
+     * @param size ノードの数, 2以上でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return ノード (昇順に並んでいる),
+     *             事前計算が指定されていない場合や事前計算に失敗した場合はnull
+     */
+    static <T extends PseudoRealNumber<T>> T[] presolvedNode(
+            ApproxTarget<T> target, int size, RemezConfiguration configuration) {
+        if (!configuration.isDoublePresolve()) {
+            return null;
+        }
+        return DoublePresolve.execute(target, size - 2, configuration);
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationErrorCalc;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * Remez の交換法による, 多項式関数による近似の計算処理を扱う. <br>
+ * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * <p>
+ * アルゴリズムは {@link DoubleApproxCalculationByRemezExchange} と同一である. <br>
+ * 極値点の探索は {@link ExtremumSearch} による. <br>
+ * ノードにおける近似誤差の符号が交互にならない場合は,
+ * そのノードからノード移動方式 ({@link ApproxCalculationByRemezMinimax}) に切り替える.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体を表す型パラメータ
+ */
+final class ApproxCalculationByRemezExchange<T extends PseudoRealNumber<T>>
+        extends ApproxCalculation<T> {
+
+    /**
+     * イテレーションの上限回数.
+     */
+    private static final int MAX_ITERATION = 50;
+
+    /**
+     * 近似誤差の最大値が改善しないイテレーションが連続した場合に打ち切る回数.
+     */
+    private static final int MAX_STAGNATION = 3;
+
+    /**
+     * 収束判定の許容相対誤差が与えられていない場合の値.
+     */
+    private static final double DEFAULT_TOLERANCE = 1E-8;
+
+    /**
+     * 符号変化点を求める二分法の回数. <br>
+     * 符号変化点は極値点の探索区間を区切るだけであるので, 隣接ノードの間隔の 2<sup>-12</sup> 程度の精度で十分である.
+     */
+    private static final int ROOT_BISECTION = 12;
+
+    /**
+     * 近似誤差の計算の丸め誤差の目安を, 値とスケールの比と体の元の精度の積の何倍とするか.
+     */
+    private static final double NOISE_FACTOR = 4d;
+
+    private final ApproxTarget<T> target;
+    private final int order;
+    private final double tolerance;
+    private final RemezConfiguration configuration;
+    private final PseudoRealNumber.TypeProvider<T> typeProvider;
+
+    private final RemezTypePolynomialFactory<T> remezPolynomialFactory;
+
+    private final ExtremumSearch<T> extremumSearch;
+
+    private NewtonPolynomial<T> result;
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     */
+    ApproxCalculationByRemezExchange(
+            ApproxTarget<T> target, int order, RemezConfiguration configuration) {
+        super();
+        this.target = target;
+        this.order = order;
+        this.tolerance = configuration.convergenceToleranceOr(DEFAULT_TOLERANCE);
+        this.configuration = configuration;
+        this.typeProvider = target.elementTypeProvider();
+
+        this.remezPolynomialFactory = new RemezTypePolynomialFactory<>(this.target);
+        this.extremumSearch = new ExtremumSearch<>(this.typeProvider);
+    }
+
+    @Override
+    void calculate() throws ApproximationFailedException {
+        T[] node = initialNode(target, this.order + 2, this.configuration);
+
+        RemezPolynomial<T> best = null;
+        T bestMaxError = null;
+        int stagnation = 0;
+        for (int c = 0; c < MAX_ITERATION; c++) {
+            if (this.configuration.cancellation().shouldStop(Objects.nonNull(best))) {
+                break;
+            }
+            final RemezPolynomial<T> remezPolynomial;
+            try {
+                remezPolynomial = this.remezPolynomialFactory.solve(node);
+            } catch (ArithmeticException ae) {
+                //交換によってノードが接近しすぎた場合, それまでの最良の結果を採用する
+                if (Objects.isNull(best)) {
+                    throw new ApproximationFailedException("polynomial cannot be created");
+                }
+                break;
+            }
+
+            Exchange exchange = new Exchange(
+                    node, new ApproximationErrorCalc<>(target, remezPolynomial::value));
+            final T[] nextNode;
+            final boolean converged;
+            try {
+                nextNode = exchange.execute();
+                //水準と最大値の差が丸め誤差の目安以下であれば, 収束したとみなす
+                T noise = typeProvider.fromDoubleValue(
+                        NOISE_FACTOR * extremumSearch.epsilon() * remezPolynomial.maxScaledValue());
+                converged = exchange.maxError.minus(exchange.level)
+                        .compareTo(exchange.maxError.times(this.tolerance).plus(noise)) <= 0;
+            } catch (ArithmeticException ae) {
+                throw new ApproximationFailedException("approx error cannot be calculated appropriately");
+            }
+
+            if (Objects.nonNull(exchange.stopReason)) {
+                //交換の途中で中断した場合, この交換の結果は用いない
+                if (Objects.isNull(best) || !this.configuration.cancellation().isPartialResult()) {
+                    throw new ApproximationFailedException(exchange.stopReason);
+                }
+                break;
+            }
+            if (Objects.isNull(nextNode)) {
+                //ノードにおける誤差のみからは近似誤差の最大値を評価できないので, 候補としない
+                this.calculateByNodeShift(node);
+                return;
+            }
+
+            if (Objects.isNull(bestMaxError) || exchange.maxError.compareTo(bestMaxError) < 0) {
+                best = remezPolynomial;
+                bestMaxError = exchange.maxError;
+                stagnation = 0;
+            } else {
+                stagnation++;
+            }
+
+            if (converged || stagnation >= MAX_STAGNATION) {
+                break;
+            }
+            node = nextNode;
+        }
+
+        try {
+            this.result = best.toNewtonPolynomial().validateCoefficient();
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("polynomial cannot be created");
+        }
+        ErrorMeasurement.validate(this.target, this.result, this.order + 2);
+    }
+
+    /**
+     * 与えたノードから, ノード移動方式により近似を計算する.
+     * 
+     * @param node ノード, 昇順に並んでいる
+     * @throws ApproximationFailedException 近似計算に失敗した場合
+     */
+    private void calculateByNodeShift(T[] node) throws ApproximationFailedException {
+        ApproxCalculationByRemezMinimax<T> calc =
+                new ApproxCalculationByRemezMinimax<>(this.target, this.order, this.configuration, node);
+        calc.calculate();
+        this.result = calc.getResult();
+    }
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    @Override
+    NewtonPolynomial<T> getResult() {
+        assert Objects.nonNull(this.result);
+
+        return this.result;
+    }
+
+    /**
+     * 1回の交換を扱う.
+     */
+    private final class Exchange {
+
+        private final T[] node;
+        private final ApproximationErrorCalc<T> error;
+
+        /**
+         * ノードにおける近似誤差の水準 (ノードにおける誤差の絶対値の最小値).
+         */
+        T level;
+
+        /**
+         * 交換後のノードにおける近似誤差の絶対値の最大値.
+         */
+        T maxError;
+
+        /**
+         * 交換の途中で中断した場合の理由, 中断していない場合は null.
+         */
+        String stopReason;
+
+        /**
+         * @param node ノード, 昇順に並んでいる
+         * @param error ノードから構成した Remez 多項式の近似誤差
+         */
+        Exchange(T[] node, ApproximationErrorCalc<T> error) {
+            super();
+            this.node = node;
+            this.error = error;
+        }
+
+        /**
+         * 交換を実行し, 交換後のノードを返す.
+         * 
+         * <p>
+         * ノードにおける近似誤差の符号が交互になっていない場合
+         * (近似誤差の水準が0の場合を含む),
+         * 交換は行えず, {@code null} を返す. <br>
+         * このとき, {@link #maxError} は近似誤差の最大値を表さない. <br>
+         * ノードごとの処理の区切りで中断の条件を満たした場合も {@code null} を返し,
+         * {@link #stopReason} に理由を記録する.
+         * </p>
+         * 
+         * @return 交換後のノード, 交換できない場合はnull
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         * @throws ArithmeticException 計算が破綻した場合
+         */
+        T[] execute() throws ApproximationFailedException {
+            final int size = node.length;
+            final T zero = typeProvider.zero();
+
+            T[] errAtNode = typeProvider.createArray(size);
+            for (int i = 0; i < size; i++) {
+                errAtNode[i] = error.value(node[i]);
+                T absErr = errAtNode[i].abs();
+                if (i == 0 || absErr.compareTo(this.level) < 0) {
+                    this.level = absErr;
+                }
+                if (i == 0 || absErr.compareTo(this.maxError) > 0) {
+                    this.maxError = absErr;
+                }
+            }
+            for (int i = 0; i < size - 1; i++) {
+                int s0 = errAtNode[i].compareTo(zero);
+                int s1 = errAtNode[i + 1].compareTo(zero);
+                if (s0 == 0 || s0 == s1) {
+                    return null;
+                }
+            }
+
+            //符号変化点で区間を区切る
+            T[] bound = typeProvider.createArray(size + 1);
+            bound[0] = target.interval().lower();
+            bound[size] = target.interval().upper();
+            for (int i = 0; i < size - 1; i++) {
+                if (this.isStopped()) {
+                    return null;
+                }
+                bound[i + 1] = this.root(node[i], errAtNode[i].compareTo(zero) > 0, node[i + 1]);
+            }
+
+            T[] nextNode = typeProvider.createArray(size);
+            this.maxError = zero;
+            for (int i = 0; i < size; i++) {
+                if (this.isStopped()) {
+                    return null;
+                }
+                boolean positive = errAtNode[i].compareTo(zero) > 0;
+                nextNode[i] = extremumSearch.maximize(
+                        error, bound[i], bound[i + 1], node[i], errAtNode[i].abs(), positive, tolerance);
+                T e = ExtremumSearch.signed(error.value(nextNode[i]), positive);
+                if (e.compareTo(this.maxError) > 0) {
+                    this.maxError = e;
+                }
+            }
+            return nextNode;
+        }
+
+        /**
+         * 中断の条件を判定し, 満たしている場合は理由を記録する.
+         */
+        private boolean isStopped() {
+            this.stopReason = configuration.cancellation().stopReason();
+            return Objects.nonNull(this.stopReason);
+        }
+
+        /**
+         * 区間 [lower, upper] 内の近似誤差の符号変化点を二分法で求める.
+         * 
+         * @param lower 下端
+         * @param positiveAtLower 下端における近似誤差が正かどうか
+         * @param upper 上端 (近似誤差の符号は下端と逆である)
+         * @return 符号変化点
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        private T root(T lower, boolean positiveAtLower, T upper) throws ApproximationFailedException {
+            final T zero = typeProvider.zero();
+            for (int c = 0; c < ROOT_BISECTION; c++) {
+                T mid = lower.plus(upper.minus(lower).times(0.5));
+                if (mid.compareTo(lower) <= 0 || mid.compareTo(upper) >= 0) {
+                    break;
+                }
+                int s = error.value(mid).compareTo(zero);
+                if (s != 0 && (s > 0) == positiveAtLower) {
+                    lower = mid;
+                } else {
+                    upper = mid;
+                }
+            }
+            return lower.plus(upper.minus(lower).times(0.5));
+        }
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.23
+ * 2026.10.17
  */
 package matsu.num.approximation.polynomial;
 
@@ -20,17 +20,50 @@ import matsu.num.approximation.component.ApproximationFailedException;
  * 多項式関数による近似の計算処理を扱う. <br>
  * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
  * 
+ * <p>
+ * 中断の条件 ({@link RemezCancellation}) を満たした場合, 途中結果を採用する設定であれば,
+ * その時点のノードによる多項式を結果とする.
+ * </p>
+ * 
  * @author Matsuura Y.
  * @param <T> 体を表す型パラメータ
  */
-final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
+final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>>
+        extends ApproxCalculation<T> {
+
+    /**
+     * 1ステージあたりのイテレーションの上限回数.
+     */
+    private static final int ITERATION_PER_STAGE = 100;
+
+    /**
+     * {@code double} 型による事前計算で求めたノードから開始する場合の, イテレーションの上限回数.
+     */
+    private static final int ITERATION_AFTER_PRESOLVE = 20;
+
+    /**
+     * 近似誤差の計算の丸め誤差の目安を, 値とスケールの比と体の元の精度の積の何倍とするか.
+     */
+    private static final double NOISE_FACTOR = 4d;
+
+    /**
+     * 各ステージにおける, ノードの移動幅 (隣接ノードとの間隔に対する相対値).
+     */
+    private static final double[] RELATIVE_DELTAS = { 0.1, 0.03, 0.01, 0.003, 0.001, 3E-4, 1E-4 };
 
     private final ApproxTarget<T> target;
     private final int order;
+    private final RemezConfiguration configuration;
 
     private final RemezTypePolynomialFactory<T> remezPolynomialFactory;
+    private final ExtremumSearch<T> extremumSearch;
+
+    /**
+     * 初期ノード, 計算条件にしたがって作成する場合は null.
+     */
+    private final T[] initialNode;
 
-    private Polynomial<T> result;
+    private NewtonPolynomial<T> result;
 
     /**
      * 
@@ -38,28 +71,156 @@ final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
      * @param order 多項式の次数, 0以上の適切な値でなければならない
      */
     ApproxCalculationByRemezMinimax(ApproxTarget<T> target, int order) {
+        this(target, order, RemezConfiguration.DEFAULT);
+    }
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     */
+    ApproxCalculationByRemezMinimax(
+            ApproxTarget<T> target, int order, RemezConfiguration configuration) {
+        this(target, order, configuration, null);
+    }
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @param initialNode 初期ノード (昇順, 長さは次数 + 2),
+     *            計算条件にしたがって作成する場合はnull
+     */
+    ApproxCalculationByRemezMinimax(
+            ApproxTarget<T> target, int order, RemezConfiguration configuration, T[] initialNode) {
         super();
+        assert Objects.isNull(initialNode) || initialNode.length == order + 2 : "mismatch size";
+
         this.target = target;
         this.order = order;
+        this.configuration = configuration;
+        this.initialNode = initialNode;
 
         this.remezPolynomialFactory = new RemezTypePolynomialFactory<>(this.target);
+        this.extremumSearch = new ExtremumSearch<>(this.target.elementTypeProvider());
     }
 
+    @Override
     void calculate() throws ApproximationFailedException {
-        RemezIterator remezIterator =
-                new RemezIterator(
-                        NodeCreation.execute(
-                                this.order + 2, target.interval(),
-                                target.elementTypeProvider()));
-
-        int iteration = 100;
-        double[] relativeDeltas = { 0.1, 0.03, 0.01, 0.003, 0.001, 3E-4, 1E-4 };
-        for (double rd : relativeDeltas) {
-            for (int c = 0; c < iteration; c++) {
-                remezIterator.iteration(rd);
+        T[] presolved = Objects.nonNull(this.initialNode)
+                ? null
+                : presolvedNode(target, this.order + 2, this.configuration);
+        RemezIterator remezIterator = new RemezIterator(
+                Objects.nonNull(this.initialNode)
+                        ? this.initialNode.clone()
+                        : Objects.nonNull(presolved)
+                                ? presolved
+                                : initialNode(target, this.order + 2, this.configuration));
+
+        if (Objects.nonNull(presolved)) {
+            this.iterateAfterPresolve(remezIterator);
+        } else if (this.configuration.isConvergenceMode()) {
+            this.iterateUntilConvergence(remezIterator);
+        } else {
+            this.iterateBySchedule(remezIterator);
+        }
+        try {
+            this.result = remezIterator.calcResult();
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("polynomial cannot be created");
+        }
+        ErrorMeasurement.validate(this.target, this.result, this.order + 2);
+    }
+
+    /**
+     * 固定されたスケジュールでイテレーションを行う.
+     * 
+     * <p>
+     * ノードが移動しなかった場合, 同一ステージの以降のイテレーションは同じ状態を繰り返すだけであるので,
+     * 次のステージに進む
+     * (結果はスケジュールを全て実行した場合と一致する).
+     * </p>
+     */
+    private void iterateBySchedule(RemezIterator remezIterator) throws ApproximationFailedException {
+        for (double rd : RELATIVE_DELTAS) {
+            for (int c = 0; c < ITERATION_PER_STAGE; c++) {
+                if (this.configuration.cancellation().shouldStop(true)) {
+                    return;
+                }
+                if (!remezIterator.iteration(rd)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code double} 型による事前計算で求めたノードから, 仕上げのイテレーションを行う.
+     * 
+     * <p>
+     * 事前計算のノードは, {@code double} 型の近似計算の最終ステージの移動幅の精度で求まっている. <br>
+     * 粗い移動幅のステージはノードをいったん遠ざけるだけであるので,
+     * 最終ステージの移動幅のみを用い, 少数回で打ち切る.
+     * </p>
+     */
+    private void iterateAfterPresolve(RemezIterator remezIterator) throws ApproximationFailedException {
+        final double rd = RELATIVE_DELTAS[RELATIVE_DELTAS.length - 1];
+        for (int c = 0; c < ITERATION_AFTER_PRESOLVE; c++) {
+            if (this.configuration.cancellation().shouldStop(true)) {
+                return;
+            }
+            if (!remezIterator.iteration(rd)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 収束判定を行いながらイテレーションを行う.
+     * 
+     * <p>
+     * 各ステージは, ノードが移動しなくなるか,
+     * 近似誤差の水準 (ノードにおける誤差の絶対値) が増加しなくなった時点で打ち切られる. <br>
+     * ノードは誤差が大きくなる方向にのみ移動するので,
+     * 水準はイテレーションごとに単調非減少である (de la Vallée Poussin の定理). <br>
+     * 水準が増加しない移動は丸め誤差によるものとみなす
+     * (固定されたスケジュールでは, このような移動も続けるため, 結果が異なりうる). <br>
+     * ステージの終了時に, 近似誤差の絶対値の最大値と水準との相対差 (等振動からのずれ) を求め,
+     * それが許容範囲に収まった時点で全体を打ち切る. <br>
+     * 水準の変化はノードの移動幅に比例して小さくなるため, 収束の判定には用いない.
+     * </p>
+     * 
+     * <p>
+     * 等振動からのずれを極値点の探索により求める計算量は, ステージ全体のそれに匹敵する. <br>
+     * そこで, まずノードの近傍の評価のみからずれの下界を求め,
+     * それが許容範囲に収まった場合に限り極値点を探索する.
+     * </p>
+     */
+    private void iterateUntilConvergence(RemezIterator remezIterator) throws ApproximationFailedException {
+        final double tolerance = this.configuration.convergenceTolerance();
+
+        for (double rd : RELATIVE_DELTAS) {
+            double level = Double.NaN;
+            for (int c = 0; c < ITERATION_PER_STAGE; c++) {
+                if (this.configuration.cancellation().shouldStop(true)) {
+                    return;
+                }
+                boolean moved = remezIterator.iteration(rd);
+                double nextLevel = remezIterator.level();
+                boolean increased = !(nextLevel <= level);
+                level = nextLevel;
+                if (!moved || !increased) {
+                    break;
+                }
+            }
+
+            if (remezIterator.localEquioscillationGap(rd) <= tolerance
+                    && remezIterator.equioscillationGap() <= tolerance) {
+                break;
             }
         }
-        this.result = remezIterator.calcResult();
     }
 
     /**
@@ -68,7 +229,8 @@ final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
      * 
      * @return 近似結果
      */
-    Polynomial<T> getResult() {
+    @Override
+    NewtonPolynomial<T> getResult() {
         assert Objects.nonNull(this.result);
 
         return this.result;
@@ -78,10 +240,15 @@ final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
 
         private T[] node;
 
+        /**
+         * 直近のイテレーションにおける近似誤差の水準 (ノードにおける誤差の絶対値) の {@code double} 表現.
+         */
+        private double level = Double.NaN;
+
         /**
          * 初期ノードを与えてイテレータを生成する.
          * 
-         * @param node ノード (両端は区間両端に一致する)
+         * @param node ノード, 昇順に並んでいる
          */
         RemezIterator(T[] node) {
             super();
@@ -102,63 +269,240 @@ final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
          * </ul>
          * 
          * @param relativeDelta 1E-4から0.1の範囲
+         * @return ノードが移動した場合はtrue
          * @throws ApproximationFailedException
          */
-        void iteration(double relativeDelta) throws ApproximationFailedException {
+        boolean iteration(double relativeDelta) throws ApproximationFailedException {
             assert 1E-4 <= relativeDelta;
             assert relativeDelta <= 0.1;
 
             //ノードからRemez多項式を構築する
-            Polynomial<T> remezPolynomial = remezPolynomialFactory.create(node);
+            final RemezPolynomial<T> remezPolynomial;
+            try {
+                remezPolynomial = remezPolynomialFactory.solve(node);
+            } catch (ArithmeticException ae) {
+                throw new ApproximationFailedException("polynomial cannot be created");
+            }
             var error = new ApproximationErrorCalc<T>(target, remezPolynomial::value);
 
             // 近似誤差の分布を表す
             // ここで例外が発生する可能性
             boolean err_sign_is_positive = this.errSignIsPositive(error);
+            T noise = target.elementTypeProvider().fromDoubleValue(
+                    NOISE_FACTOR * extremumSearch.epsilon() * remezPolynomial.maxScaledValue());
 
             // 端を除くノードをわずかに動かす処理
-            // ここでは, 例外が発生しない
             T[] nextNodes = this.node.clone();
-            for (int i = 0; i < node.length; i++) {
-                //偶数番目のノードはそのまま, 奇数番目のノードは反転させる
-                boolean node_sign = err_sign_is_positive ^ ((i & 1) == 1);
-
-                T x_prev = i == 0
-                        ? target.interval().lower()
-                        : node[i - 1];
-                T x_mid = node[i];
-                T x_next = i == node.length - 1
-                        ? target.interval().upper()
-                        : node[i + 1];
-
-                T gap_l = x_mid.minus(x_prev);
-                T gap_u = x_next.minus(x_mid);
-
-                T x_l = x_mid.minus(gap_l.times(relativeDelta));
-                T x_u = x_mid.plus(gap_u.times(relativeDelta));
-
-                T e_l = error.value(x_l);
-                T e_mid = error.value(x_mid);
-                T e_u = error.value(x_u);
-
-                if (!node_sign) {
-                    e_l = e_l.negated();
-                    e_mid = e_mid.negated();
-                    e_u = e_u.negated();
+            boolean moved = NodeWiseExecution.executeAll(
+                    node.length, configuration.isParallel(),
+                    i -> this.shift(i, err_sign_is_positive, relativeDelta, noise, error, nextNodes));
+
+            node = nextNodes;
+            return moved;
+        }
+
+        /**
+         * 1個のノードについて, 両隣の点と近似誤差を比較し, 移動先を書き込む. <br>
+         * 各ノードの処理は互いに独立であり, 並列に実行できる.
+         * 
+         * @param i ノードのインデックス
+         * @param errSignIsPositive 近似誤差の符号
+         * @param relativeDelta 移動幅
+         * @param noise 近似誤差の計算の丸め誤差の目安,
+         *            両隣の点の近似誤差がノードのそれをこの値以上に上回らない限り, ノードを移動させない
+         * @param error 近似誤差の計算
+         * @param nextNodes 移動先の書き込み先
+         * @return ノードが移動した場合はtrue
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        private boolean shift(int i, boolean errSignIsPositive, double relativeDelta, T noise,
+                ApproximationErrorCalc<T> error, T[] nextNodes) throws ApproximationFailedException {
+            //偶数番目のノードはそのまま, 奇数番目のノードは反転させる
+            boolean node_sign = errSignIsPositive ^ ((i & 1) == 1);
+
+            T x_prev = i == 0
+                    ? target.interval().lower()
+                    : node[i - 1];
+            T x_mid = node[i];
+            T x_next = i == node.length - 1
+                    ? target.interval().upper()
+                    : node[i + 1];
+
+            T gap_l = x_mid.minus(x_prev);
+            T gap_u = x_next.minus(x_mid);
+
+            T x_l = x_mid.minus(gap_l.times(relativeDelta));
+            T x_u = x_mid.plus(gap_u.times(relativeDelta));
+
+            T e_l = error.value(x_l);
+            T e_mid = error.value(x_mid);
+            T e_u = error.value(x_u);
+
+            if (!node_sign) {
+                e_l = e_l.negated();
+                e_mid = e_mid.negated();
+                e_u = e_u.negated();
+            }
+
+            T threshold = e_mid.plus(noise);
+            if (e_l.compareTo(threshold) > 0 && e_l.compareTo(e_u) > 0) {
+                nextNodes[i] = x_l;
+                return true;
+            } else if (e_u.compareTo(threshold) > 0 && e_u.compareTo(e_l) > 0) {
+                nextNodes[i] = x_u;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 直近のイテレーションにおける近似誤差の水準 (ノードにおける誤差の絶対値) の
+         * {@code double} 表現を返す. <br>
+         * イテレーションが実行されていない場合は NaN.
+         * 
+         * @return 近似誤差の水準
+         */
+        double level() {
+            return this.level;
+        }
+
+        /**
+         * 現在のノードによる Remez 多項式について,
+         * ノードの近傍の評価のみから, 等振動からのずれの下界を返す.
+         * 
+         * <p>
+         * 各ノードと両隣の点 (イテレーションと同じ移動幅) における近似誤差を評価し,
+         * ノードが3点の中で最大である場合は, 3点を通る放物線の頂点における近似誤差も評価する. <br>
+         * 評価した近似誤差は近似誤差の絶対値の最大値を超えないので,
+         * 戻り値は {@link #equioscillationGap()} の下界である. <br>
+         * 評価の回数はノード数の4倍程度である.
+         * </p>
+         * 
+         * @param relativeDelta 両隣の点の移動幅
+         * @return 等振動からのずれの下界
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        double localEquioscillationGap(double relativeDelta) throws ApproximationFailedException {
+            try {
+                var error = new ApproximationErrorCalc<T>(target, remezPolynomialFactory.solve(node)::value);
+
+                final int size = node.length;
+                final T zero = target.elementTypeProvider().zero();
+                T[] errAtNode = target.elementTypeProvider().createArray(size);
+                T sum = zero;
+                for (int i = 0; i < size; i++) {
+                    errAtNode[i] = error.value(node[i]);
+                    sum = sum.plus((i & 1) == 0 ? errAtNode[i] : errAtNode[i].negated());
                 }
+                T nodeLevel = sum.abs().dividedBy(size);
+                boolean errSignIsPositive = sum.compareTo(zero) >= 0;
+
+                T maxError = zero;
+                for (int i = 0; i < size; i++) {
+                    boolean positive = errSignIsPositive ^ ((i & 1) == 1);
 
-                if (e_l.compareTo(e_mid) > 0 && e_l.compareTo(e_u) > 0) {
-                    nextNodes[i] = x_l;
-                } else if (e_u.compareTo(e_mid) > 0 && e_u.compareTo(e_l) > 0) {
-                    nextNodes[i] = x_u;
+                    T x_prev = i == 0
+                            ? target.interval().lower()
+                            : node[i - 1];
+                    T x_mid = node[i];
+                    T x_next = i == size - 1
+                            ? target.interval().upper()
+                            : node[i + 1];
+                    T x_l = x_mid.minus(x_mid.minus(x_prev).times(relativeDelta));
+                    T x_u = x_mid.plus(x_next.minus(x_mid).times(relativeDelta));
+
+                    T e_l = ExtremumSearch.signed(error.value(x_l), positive);
+                    T e_mid = ExtremumSearch.signed(errAtNode[i], positive);
+                    T e_u = ExtremumSearch.signed(error.value(x_u), positive);
+
+                    T e = e_mid;
+                    if (e_l.compareTo(e) > 0) {
+                        e = e_l;
+                    }
+                    if (e_u.compareTo(e) > 0) {
+                        e = e_u;
+                    }
+                    if (e_mid.compareTo(e_l) >= 0 && e_mid.compareTo(e_u) >= 0) {
+                        T x = extremumSearch.parabolicVertex(x_l, e_l, x_mid, e_mid, x_u, e_u);
+                        if (Objects.nonNull(x) && x_l.compareTo(x) < 0 && x.compareTo(x_u) < 0) {
+                            T e_vertex = ExtremumSearch.signed(error.value(x), positive);
+                            if (e_vertex.compareTo(e) > 0) {
+                                e = e_vertex;
+                            }
+                        }
+                    }
+                    if (e.compareTo(maxError) > 0) {
+                        maxError = e;
+                    }
                 }
+                if (maxError.compareTo(zero) == 0) {
+                    return 0d;
+                }
+                return maxError.minus(nodeLevel).dividedBy(maxError).asDouble();
+            } catch (ArithmeticException ae) {
+                throw new ApproximationFailedException("approx error cannot be calculated appropriately");
+            }
+        }
+
+        /**
+         * 現在のノードによる Remez 多項式について,
+         * 近似誤差の絶対値の最大値と近似誤差の水準との相対差 (等振動からのずれ) を返す.
+         * 
+         * <p>
+         * 隣接するノードの中点で区間を区切り, 各区間において正負それぞれの向きの極値を
+         * {@link ExtremumSearch} により探索する. <br>
+         * 近似誤差が恒等的に0である場合は0を返す.
+         * </p>
+         * 
+         * @return 等振動からのずれ
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        double equioscillationGap() throws ApproximationFailedException {
+            try {
+                var error = new ApproximationErrorCalc<T>(target, remezPolynomialFactory.solve(node)::value);
+
+                final int size = node.length;
+                final T zero = target.elementTypeProvider().zero();
+                T[] errAtNode = target.elementTypeProvider().createArray(size);
+                T sum = zero;
+                for (int i = 0; i < size; i++) {
+                    errAtNode[i] = error.value(node[i]);
+                    sum = sum.plus((i & 1) == 0 ? errAtNode[i] : errAtNode[i].negated());
+                }
+                T nodeLevel = sum.abs().dividedBy(size);
+
+                T maxError = zero;
+                for (int i = 0; i < size; i++) {
+                    T lower = i == 0
+                            ? target.interval().lower()
+                            : node[i - 1].plus(node[i].minus(node[i - 1]).times(0.5));
+                    T upper = i == size - 1
+                            ? target.interval().upper()
+                            : node[i].plus(node[i + 1].minus(node[i]).times(0.5));
+                    for (boolean positive : new boolean[] { true, false }) {
+                        T x = extremumSearch.maximize(
+                                error, lower, upper, node[i],
+                                ExtremumSearch.signed(errAtNode[i], positive), positive,
+                                configuration.convergenceTolerance());
+                        T e = ExtremumSearch.signed(error.value(x), positive);
+                        if (e.compareTo(maxError) > 0) {
+                            maxError = e;
+                        }
+                    }
+                }
+                if (maxError.compareTo(zero) == 0) {
+                    return 0d;
+                }
+                return maxError.minus(nodeLevel).dividedBy(maxError).asDouble();
+            } catch (ArithmeticException ae) {
+                throw new ApproximationFailedException("approx error cannot be calculated appropriately");
             }
-            node = nextNodes;
         }
 
         /**
          * <p>
-         * ノードにおける近似誤差の符号を判定し, 正負を返す.
+         * ノードにおける近似誤差の符号を判定し, 正負を返す. <br>
+         * 同時に, 近似誤差の水準を更新する.
          * </p>
          * 
          * <p>
@@ -179,6 +523,8 @@ final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
                     sum = sum.plus((i & 1) == 0 ? err : err.negated());
                 }
 
+                //Remez多項式はノードで誤差が交互に等しくなるように構成されている
+                this.level = sum.abs().asDouble() / node.length;
                 return sum.compareTo(target.elementTypeProvider().zero()) > 0;
             } catch (ArithmeticException e) {
                 throw new ApproximationFailedException("approx error cannot be calculated appropriately");
@@ -191,8 +537,8 @@ final class ApproxCalculationByRemezMinimax<T extends PseudoRealNumber<T>> {
          * @return 最適化された多項式関数
          * @throws ArithmeticException
          */
-        Polynomial<T> calcResult() {
-            return remezPolynomialFactory.create(node);
+        NewtonPolynomial<T> calcResult() {
+            return remezPolynomialFactory.create(node).validateCoefficient();
         }
     }
 }
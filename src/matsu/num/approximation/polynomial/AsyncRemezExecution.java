@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import matsu.num.approximation.ApproxResult;
+
+/**
+ * Remez 法による近似を, 与えられたエグゼキュータで非同期に実行する.
+ * 
+ * <p>
+ * 返される {@link CompletableFuture} が完了した場合 (取り消しや外部からの完了を含む),
+ * 実行中の近似計算はイテレーションの区切りで中断される ({@link RemezCancellation}). <br>
+ * 開始前に完了したタスクは, 近似計算を行わずに終了する. <br>
+ * 制限時間は投入の時点から計られる (エグゼキュータの待ち行列での待ち時間を含む).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class AsyncRemezExecution {
+
+    private AsyncRemezExecution() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 近似をエグゼキュータに投入する.
+     * 
+     * @param <R> 近似結果の型
+     * @param configuration 計算条件, nullであってはいけない
+     * @param task 計算条件を受け取って近似を実行する処理, nullであってはいけない
+     * @param executor エグゼキュータ, nullであってはいけない
+     * @return 近似結果の {@link CompletableFuture}
+     * @throws java.util.concurrent.RejectedExecutionException エグゼキュータがタスクを受け付けない場合
+     */
+    static <R> CompletableFuture<ApproxResult<R>> submit(
+            RemezConfiguration configuration, Function<RemezConfiguration, ApproxResult<R>> task,
+            Executor executor) {
+        CompletableFuture<ApproxResult<R>> future = new CompletableFuture<>();
+        //制限時間は投入の時点から計る
+        RemezConfiguration cancellable = configuration.withCancellation(
+                configuration.cancellation().start().or(future::isDone));
+        executor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.apply(cancellable));
+            } catch (Throwable th) {
+                future.completeExceptionally(th);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * Chebyshev 基底により表現された, {@code double} 型の多項式関数.
+ * 
+ * <p>
+ * 区間 [<i>a</i>, <i>b</i>] を [-1, 1] に写す変数変換 <br>
+ * <i>t</i> = (<i>x</i> - <i>m</i>) / <i>h</i>,
+ * <i>m</i> = (<i>a</i> + <i>b</i>) / 2,
+ * <i>h</i> = (<i>b</i> - <i>a</i>) / 2 <br>
+ * により, 多項式を <br>
+ * <i>p</i>(<i>x</i>) =
+ * &sum;<sub><i>k</i> = 0</sub><sup><i>n</i></sup>
+ * <i>c</i><sub><i>k</i></sub> <i>T</i><sub><i>k</i></sub>(<i>t</i>) <br>
+ * と表現する (<i>T</i><sub><i>k</i></sub> は第1種 Chebyshev 多項式). <br>
+ * 値は Clenshaw の漸化式により計算する.
+ * </p>
+ * 
+ * <p>
+ * 単項式基底の係数は, 区間が原点から離れている場合や次数が高い場合に桁落ちの影響を強く受ける. <br>
+ * Chebyshev 基底の係数 <i>c</i><sub><i>k</i></sub> は区間上の多項式の大きさと同程度に抑えられ,
+ * Clenshaw の漸化式による区間上の評価は,
+ * 丸め誤差がおおよそ <i>n</i> <i>u</i> &sum;<sub><i>k</i></sub> |<i>c</i><sub><i>k</i></sub>|
+ * 程度にとどまる (<i>u</i> は単位丸め). <br>
+ * {@link #coefficient()} は単項式基底への変換を行うため, 上記の問題を持つことに注意.
+ * </p>
+ * 
+ * <p>
+ * ミニマックス近似の結果として得られるインスタンスは, 各係数の丸め誤差を補正項として保持し,
+ * 漸化式を倍精度で実行する
+ * ({@link DoublePolynomialKernel#compensatedClenshaw(double[], double[], double)}). <br>
+ * この場合, 丸め誤差は多項式の値の大きさに比例する程度にとどまり,
+ * 重みづけ (相対誤差など) による近似の精度が, 値が小さくなる点でも保たれる. <br>
+ * 評価に要する時間は補正を行わない場合の数倍となるため, 速度を優先する場合は,
+ * 主要部 ({@link #chebyshevCoefficient()}) から
+ * {@link #of(double[], DoubleFiniteClosedInterval)} により再構成した多項式を用いるとよい.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(double[], DoubleFiniteClosedInterval)} により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ChebyshevDoublePolynomial implements DoublePolynomial {
+
+    private final DoubleFiniteClosedInterval interval;
+    private final double[] chebyshevCoeff;
+
+    /**
+     * Chebyshev 基底の係数の補正項, 補正を行わない場合はnull.
+     */
+    private final double[] correction;
+
+    /**
+     * 変数変換の中心 <i>m</i> と倍率 1/<i>h</i>.
+     */
+    private final double shift;
+    private final double scale;
+
+    // 遅延初期化用のロックオブジェクト
+    private final Object lock = new Object();
+
+    //単項式基底の係数, 遅延初期化される
+    private volatile double[] coeff;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private ChebyshevDoublePolynomial(
+            double[] chebyshevCoeff, double[] correction, DoubleFiniteClosedInterval interval) {
+        this.interval = interval;
+        this.chebyshevCoeff = chebyshevCoeff;
+        this.correction = correction;
+
+        double halfGap = 0.5 * interval.gap();
+        this.shift = interval.lower() + halfGap;
+        this.scale = 1d / halfGap;
+    }
+
+    @Override
+    public int degree() {
+        return this.chebyshevCoeff.length - 1;
+    }
+
+    /**
+     * 変数変換の基準となる区間を返す.
+     * 
+     * @return 区間
+     */
+    public DoubleFiniteClosedInterval interval() {
+        return this.interval;
+    }
+
+    /**
+     * Chebyshev 基底の係数
+     * {
+     * <i>c</i><sub>0</sub>,
+     * <i>c</i><sub>1</sub>, ... ,
+     * <i>c</i><sub><i>n</i></sub>
+     * }
+     * を配列として返す. <br>
+     * 係数が補正項を持つ場合, 主要部のみを返す.
+     * 
+     * @return Chebyshev 基底の係数
+     */
+    public double[] chebyshevCoefficient() {
+        return this.chebyshevCoeff.clone();
+    }
+
+    @Override
+    public double value(double x) {
+        final double t = (x - this.shift) * this.scale;
+        if (Objects.nonNull(this.correction)) {
+            return DoublePolynomialKernel.compensatedClenshaw(this.chebyshevCoeff, this.correction, t);
+        }
+        return DoublePolynomialKernel.clenshaw(this.chebyshevCoeff, t);
+    }
+
+    @Override
+    public void value(double[] xs, double[] out) {
+        DoublePolynomialKernel.requireValidArrays(xs, out);
+        this.evaluate(xs, 0, out, 0, xs.length);
+    }
+
+    @Override
+    public void value(DoubleBuffer xs, DoubleBuffer out) {
+        DoublePolynomialKernel.requireValidBuffers(xs, out);
+        DoublePolynomialKernel.evaluate(this::evaluate, xs, out);
+    }
+
+    private void evaluate(double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        if (Objects.nonNull(this.correction)) {
+            DoublePolynomialKernel.compensatedClenshaw(this.chebyshevCoeff, this.correction,
+                    this.shift, this.scale, xs, xsFrom, out, outFrom, length);
+            return;
+        }
+        DoublePolynomialKernel.clenshaw(
+                this.chebyshevCoeff, this.shift, this.scale, xs, xsFrom, out, outFrom, length);
+    }
+
+    /**
+     * 単項式基底の係数を返す.
+     * 
+     * <p>
+     * 係数は初めて呼ばれた時点で計算され, キャッシュされる. <br>
+     * 区間が原点から離れている場合や次数が高い場合は, 係数の精度が低くなったり,
+     * 有限でない値を含んだりすることがある.
+     * </p>
+     */
+    @Override
+    public double[] coefficient() {
+        return this.coeff().clone();
+    }
+
+    /**
+     * 単項式基底の係数を返す (遅延初期化). <br>
+     * 戻り値は内部の配列そのものであるので, 書き換えてはいけない.
+     */
+    private double[] coeff() {
+        double[] out = this.coeff;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+        synchronized (lock) {
+            out = this.coeff;
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+            out = this.calcCoeff();
+            this.coeff = out;
+            return out;
+        }
+    }
+
+    /**
+     * Clenshaw の漸化式を多項式の演算として実行し, 単項式基底の係数を得る. <br>
+     * <i>b</i><sub><i>k</i></sub> =
+     * <i>c</i><sub><i>k</i></sub> + 2<i>t</i> <i>b</i><sub><i>k</i>+1</sub> - <i>b</i><sub><i>k</i>+2</sub>,
+     * <i>p</i> = <i>c</i><sub>0</sub> + <i>t</i> <i>b</i><sub>1</sub> - <i>b</i><sub>2</sub>
+     * (<i>t</i> = &alpha; + &beta;<i>x</i>).
+     */
+    private double[] calcCoeff() {
+        final int size = this.chebyshevCoeff.length;
+        final double alpha = -this.shift * this.scale;
+        final double beta = this.scale;
+
+        double[] b1 = new double[size];
+        double[] b2 = new double[size];
+        for (int k = size - 1; k >= 0; k--) {
+            // k = 0 の場合のみ, tの係数は1
+            final double factor = k == 0 ? 1d : 2d;
+            double[] b = new double[size];
+            for (int j = 0; j < size; j++) {
+                double tb = factor * alpha * b1[j];
+                if (j > 0) {
+                    tb += factor * beta * b1[j - 1];
+                }
+                b[j] = tb - b2[j];
+            }
+            b[0] += this.chebyshevCoeff[k];
+            b2 = b1;
+            b1 = b;
+        }
+        return b1;
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "ChebyshevDoublePolynomial(%s, %s)".formatted(
+                this.interval, Arrays.toString(this.chebyshevCoeff));
+    }
+
+    /**
+     * Chebyshev 基底の係数と区間を与えて, 多項式を返す.
+     * 
+     * @param chebyshevCoefficient Chebyshev 基底の係数
+     *            {<i>c</i><sub>0</sub>, ... , <i>c</i><sub><i>n</i></sub>}
+     * @param interval 変数変換の基準となる区間
+     * @return Chebyshev 基底により表現された多項式
+     * @throws IllegalArgumentException 係数が空の場合, 係数が有限でない値を含む場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static ChebyshevDoublePolynomial of(
+            double[] chebyshevCoefficient, DoubleFiniteClosedInterval interval) {
+        Objects.requireNonNull(interval);
+        double[] coeff = chebyshevCoefficient.clone();
+        if (coeff.length == 0 || !Arrays.stream(coeff).allMatch(Double::isFinite)) {
+            throw new IllegalArgumentException("invalid coefficients");
+        }
+        return new ChebyshevDoublePolynomial(coeff, null, interval);
+    }
+
+    /**
+     * 補正項付きの Chebyshev 基底の係数と区間を与えて, 多項式を返す. <br>
+     * 内部でバリデーションされておらず, 引数の配列は共有される.
+     * 
+     * @param chebyshevCoefficient Chebyshev 基底の係数の主要部, 長さは1以上, 有限
+     * @param correction Chebyshev 基底の係数の補正項, 主要部と同じ長さ, 有限
+     * @param interval 変数変換の基準となる区間
+     * @return Chebyshev 基底により表現された多項式
+     */
+    static ChebyshevDoublePolynomial of(
+            double[] chebyshevCoefficient, double[] correction, DoubleFiniteClosedInterval interval) {
+        assert chebyshevCoefficient.length >= 1 : "size 0";
+        assert chebyshevCoefficient.length == correction.length : "mismatch size";
+
+        return new ChebyshevDoublePolynomial(chebyshevCoefficient, correction, interval);
+    }
+}
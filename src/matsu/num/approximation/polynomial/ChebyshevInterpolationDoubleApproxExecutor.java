@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.MeasuredApproximation;
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.component.DoubleApproximationErrorCalc;
+
+/**
+ * Chebyshev 補間による, {@code double} 型で表現された実数体に関する多項式関数による近似の実行を扱う.
+ * 
+ * <p>
+ * ターゲット関数 <i>f</i>(<i>x</i>) を, 区間の端を含む (<i>n</i> + 1) 個の Chebyshev 点
+ * (ミニマックス法の初期ノードと同じ配置) で評価し,
+ * それらを補間する <i>n</i> 次多項式を近似結果とする. <br>
+ * 補間多項式の Chebyshev 基底の係数は,
+ * 離散コサイン変換により O(<i>n</i> log <i>n</i>) の計算量で求められる. <br>
+ * ターゲット関数の評価は (<i>n</i> + 1) 回であり, イテレーションは行わない.
+ * </p>
+ * 
+ * <p>
+ * 滑らかなターゲット関数に対して, Chebyshev 補間の近似誤差はミニマックス近似の近似誤差に近い
+ * (最大ノルムでの誤差の比は, 高々 Lebesgue 定数
+ * (2/&pi;) log(<i>n</i> + 1) + 1 程度である). <br>
+ * ただし, 補間はスケール <i>s</i><sub><i>f</i></sub>(<i>x</i>) による重みを考慮しないため,
+ * 重みが区間内で大きく変化する場合はミニマックス近似との差が大きくなる.
+ * </p>
+ * 
+ * <p>
+ * 近似結果は, 補間多項式 ({@link ChebyshevDoublePolynomial}) と,
+ * 重みづけ誤差 <br>
+ * max<sub><i>x</i></sub> |<i>p</i>(<i>x</i>) - <i>f</i>(<i>x</i>)| / <i>s</i><sub><i>f</i></sub>(<i>x</i>) <br>
+ * の組 ({@link MeasuredApproximation}) として返される. <br>
+ * 重みづけ誤差の最大値は, 補間点の {@value #ERROR_SAMPLING_RATE} 倍の密度で配置した
+ * Chebyshev 点における評価による推定値である.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(int)} メソッドにより取得する. <br>
+ * 近似に失敗した場合は "空" が返る.
+ * </p>
+ * 
+ * <p>
+ * 扱うことができる多項式の次数 <i>n</i> は, 次のとおりである. <br>
+ * 0 &le; <i>n</i> &le; 10000
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ChebyshevInterpolationDoubleApproxExecutor {
+
+    /**
+     * 扱うことができる次数の下限.
+     */
+    public static final int LOWER_LIMIT_OF_ORDER = 0;
+
+    /**
+     * 扱うことができる次数の上限.
+     */
+    public static final int UPPER_LIMIT_OF_ORDER = 10000;
+
+    /**
+     * 近似誤差を評価する点の, 補間点に対する密度の倍率.
+     */
+    public static final int ERROR_SAMPLING_RATE = 4;
+
+    private final int order;
+
+    /**
+     * 与えられた値を補間多項式の次数とする, インスタンスを生成.
+     * 
+     * @throws IllegalArgumentException 次数が不適の場合
+     */
+    private ChebyshevInterpolationDoubleApproxExecutor(int order) {
+        if (!(LOWER_LIMIT_OF_ORDER <= order &&
+                order <= UPPER_LIMIT_OF_ORDER)) {
+            throw new IllegalArgumentException("invalid order: order = " + order);
+        }
+        this.order = order;
+    }
+
+    /**
+     * 補間多項式の次数を返す.
+     * 
+     * @return 補間の次数
+     */
+    public int order() {
+        return this.order;
+    }
+
+    /**
+     * 与えられたターゲット関数を Chebyshev 補間により近似する.
+     * 
+     * <p>
+     * 近似結果の次数は, 自身の {@link #order()} に一致する. <br>
+     * ターゲット関数の値が有限でない場合など, 計算中に不具合が出た場合は,
+     * 空の {@link ApproxResult} が返る.
+     * </p>
+     * 
+     * @param target ターゲット関数
+     * @return 近似結果 (補間多項式と近似誤差), 計算に失敗した場合は空
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public ApproxResult<MeasuredApproximation<ChebyshevDoublePolynomial>> apply(DoubleApproxTarget target) {
+        Objects.requireNonNull(target);
+        try {
+            DoubleFiniteClosedInterval interval = target.interval();
+            ChebyshevDoublePolynomial polynomial =
+                    ChebyshevDoublePolynomial.of(this.interpolate(target), interval);
+
+            double[] grid = DoubleNodeCreation.execute(
+                    ERROR_SAMPLING_RATE * (this.order + 1) + 1, interval);
+            double[] error = new double[grid.length];
+            //ここで例外が発生する可能性がある.
+            new DoubleApproximationErrorCalc(target, polynomial::value).values(grid, error);
+
+            double maxError = 0d;
+            for (double e : error) {
+                maxError = Math.max(maxError, Math.abs(e));
+            }
+            return ApproxResult.of(MeasuredApproximation.of(polynomial, maxError));
+        } catch (ApproximationFailedException afe) {
+            return ApproxResult.failed(afe.failuerMessage());
+        }
+    }
+
+    /**
+     * Chebyshev 点でターゲット関数を評価し, 補間多項式の Chebyshev 基底の係数を返す.
+     * 
+     * @throws ApproximationFailedException ターゲット関数の値や係数が有限でない場合
+     */
+    private double[] interpolate(DoubleApproxTarget target) throws ApproximationFailedException {
+        DoubleFiniteClosedInterval interval = target.interval();
+        double[] node = this.order == 0
+                ? new double[] { interval.lower() + 0.5 * interval.gap() }
+                : DoubleNodeCreation.execute(this.order + 1, interval);
+
+        double[] value = new double[node.length];
+        target.values(node, value);
+        if (!Arrays.stream(value).allMatch(Double::isFinite)) {
+            throw new ApproximationFailedException("invalid target values");
+        }
+
+        double[] coeff = this.order == 0
+                ? value
+                : DoubleChebyshevTransform.chebyshevCoefficient(value);
+        if (!Arrays.stream(coeff).allMatch(Double::isFinite)) {
+            throw new ApproximationFailedException("invalid chebyshev coefficients");
+        }
+        return coeff;
+    }
+
+    /**
+     * 与えられた値を補間多項式の次数とする, Chebyshev 補間による多項式近似エグゼキュータを返す.
+     * 
+     * <p>
+     * 扱うことができる次数の範囲はこのクラスの定数で規定されている.
+     * </p>
+     * 
+     * @param order 補間多項式の次数
+     * @return 多項式近似エグゼキュータ
+     * @throws IllegalArgumentException 次数が不適の場合
+     */
+    public static ChebyshevInterpolationDoubleApproxExecutor of(int order) {
+        return new ChebyshevInterpolationDoubleApproxExecutor(order);
+    }
+}
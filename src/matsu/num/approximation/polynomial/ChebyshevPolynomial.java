@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.PseudoRealNumber.Provider;
+
+/**
+ * Chebyshev 基底により表現された, 独自クラスによる実数体に関する多項式関数.
+ * 
+ * <p>
+ * 区間 [<i>a</i>, <i>b</i>] を [-1, 1] に写す変数変換 <br>
+ * <i>t</i> = (<i>x</i> - <i>m</i>) / <i>h</i>,
+ * <i>m</i> = (<i>a</i> + <i>b</i>) / 2,
+ * <i>h</i> = (<i>b</i> - <i>a</i>) / 2 <br>
+ * により, 多項式を <br>
+ * <i>p</i>(<i>x</i>) =
+ * &sum;<sub><i>k</i> = 0</sub><sup><i>n</i></sup>
+ * <i>c</i><sub><i>k</i></sub> <i>T</i><sub><i>k</i></sub>(<i>t</i>) <br>
+ * と表現する (<i>T</i><sub><i>k</i></sub> は第1種 Chebyshev 多項式). <br>
+ * 値は Clenshaw の漸化式により計算する. <br>
+ * 詳細は {@link ChebyshevDoublePolynomial} を参照.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(PseudoRealNumber[], FiniteClosedInterval, PseudoRealNumber.TypeProvider)}
+ * により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体の元を表現する型パラメータ
+ */
+public final class ChebyshevPolynomial<T extends PseudoRealNumber<T>> implements Polynomial<T> {
+
+    private final FiniteClosedInterval<T> interval;
+    private final T[] chebyshevCoeff;
+
+    /**
+     * 変数変換の中心 <i>m</i> と半幅 <i>h</i>.
+     */
+    private final T shift;
+    private final T halfGap;
+
+    private final PseudoRealNumber.TypeProvider<T> elementTypeProvider;
+
+    // 遅延初期化用のロックオブジェクト
+    private final Object lock = new Object();
+
+    //単項式基底の係数, 遅延初期化される
+    private volatile T[] coeff;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private ChebyshevPolynomial(T[] chebyshevCoeff, FiniteClosedInterval<T> interval,
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        this.interval = interval;
+        this.chebyshevCoeff = chebyshevCoeff;
+        this.elementTypeProvider = elementTypeProvider;
+
+        this.halfGap = interval.upper().minus(interval.lower()).times(0.5);
+        this.shift = interval.lower().plus(this.halfGap);
+    }
+
+    @Override
+    public int degree() {
+        return this.chebyshevCoeff.length - 1;
+    }
+
+    /**
+     * 変数変換の基準となる区間を返す.
+     * 
+     * @return 区間
+     */
+    public FiniteClosedInterval<T> interval() {
+        return this.interval;
+    }
+
+    /**
+     * Chebyshev 基底の係数
+     * {
+     * <i>c</i><sub>0</sub>,
+     * <i>c</i><sub>1</sub>, ... ,
+     * <i>c</i><sub><i>n</i></sub>
+     * }
+     * を配列として返す.
+     * 
+     * @return Chebyshev 基底の係数
+     */
+    public T[] chebyshevCoefficient() {
+        return this.chebyshevCoeff.clone();
+    }
+
+    @Override
+    public T value(T x) {
+        final T t = x.minus(this.shift).dividedBy(this.halfGap);
+        final T tt = t.plus(t);
+
+        //b_k = tt b_{k+1} + c_k - b_{k+2} を, b_{k+2} を保持していたアキュムレータに上書きする
+        PseudoRealNumber.Accumulator<T> b1 = this.elementTypeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> b2 = this.elementTypeProvider.createAccumulator();
+        for (int k = this.chebyshevCoeff.length - 1; k >= 1; k--) {
+            b2.negate().add(this.chebyshevCoeff[k]).addProduct(b1, tt);
+            PseudoRealNumber.Accumulator<T> b = b2;
+            b2 = b1;
+            b1 = b;
+        }
+        return b2.negate().add(this.chebyshevCoeff[0]).addProduct(b1, t).get();
+    }
+
+    /**
+     * 単項式基底の係数を返す.
+     * 
+     * <p>
+     * 係数は初めて呼ばれた時点で計算され, キャッシュされる. <br>
+     * 区間が原点から離れている場合や次数が高い場合は, 係数の精度が低くなることがある.
+     * </p>
+     * 
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     */
+    @Override
+    public T[] coefficient() {
+        return this.coeff().clone();
+    }
+
+    /**
+     * 単項式基底の係数を返す (遅延初期化). <br>
+     * 戻り値は内部の配列そのものであるので, 書き換えてはいけない.
+     * 
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     */
+    private T[] coeff() {
+        T[] out = this.coeff;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+        synchronized (lock) {
+            out = this.coeff;
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+            out = this.calcCoeff();
+            this.coeff = out;
+            return out;
+        }
+    }
+
+    /**
+     * Clenshaw の漸化式を多項式の演算として実行し, 単項式基底の係数を得る
+     * ({@link ChebyshevDoublePolynomial} と同一の手順).
+     * 
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     */
+    private T[] calcCoeff() {
+        final int size = this.chebyshevCoeff.length;
+        final T beta = this.elementTypeProvider.one().dividedBy(this.halfGap);
+        final T alpha = this.shift.times(beta).negated();
+
+        T[] b1 = this.zeros(size);
+        T[] b2 = this.zeros(size);
+        for (int k = size - 1; k >= 0; k--) {
+            // k = 0 の場合のみ, tの係数は1
+            final T factoredAlpha = k == 0 ? alpha : alpha.times(2d);
+            final T factoredBeta = k == 0 ? beta : beta.times(2d);
+            T[] b = this.elementTypeProvider.createArray(size);
+            for (int j = 0; j < size; j++) {
+                T tb = factoredAlpha.times(b1[j]);
+                if (j > 0) {
+                    tb = tb.plus(factoredBeta.times(b1[j - 1]));
+                }
+                b[j] = tb.minus(b2[j]);
+            }
+            b[0] = b[0].plus(this.chebyshevCoeff[k]);
+            b2 = b1;
+            b1 = b;
+        }
+        return b1;
+    }
+
+    private T[] zeros(int size) {
+        T[] out = this.elementTypeProvider.createArray(size);
+        Arrays.fill(out, this.elementTypeProvider.zero());
+        return out;
+    }
+
+    @Override
+    @Deprecated(forRemoval = true)
+    @SuppressWarnings("removal")
+    public Provider<T> elementProvider() {
+        return this.elementTypeProvider;
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "ChebyshevPolynomial(%s, %s)".formatted(
+                this.interval, Arrays.toString(this.chebyshevCoeff));
+    }
+
+    /**
+     * Chebyshev 基底の係数と区間を与えて, 多項式を返す.
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param chebyshevCoefficient Chebyshev 基底の係数
+     *            {<i>c</i><sub>0</sub>, ... , <i>c</i><sub><i>n</i></sub>}
+     * @param interval 変数変換の基準となる区間
+     * @param elementTypeProvider 体の元に関するプロバイダ
+     * @return Chebyshev 基底により表現された多項式
+     * @throws IllegalArgumentException 係数が空の場合
+     * @throws NullPointerException 引数にnullが含まれる場合, 係数にnullが含まれる場合
+     */
+    public static <T extends PseudoRealNumber<T>> ChebyshevPolynomial<T> of(
+            T[] chebyshevCoefficient, FiniteClosedInterval<T> interval,
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        Objects.requireNonNull(interval);
+        Objects.requireNonNull(elementTypeProvider);
+        T[] coeff = chebyshevCoefficient.clone();
+        if (coeff.length == 0) {
+            throw new IllegalArgumentException("invalid coefficients");
+        }
+        for (T c : coeff) {
+            Objects.requireNonNull(c);
+        }
+        return new ChebyshevPolynomial<>(coeff, interval, elementTypeProvider);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 単項式基底の係数を直接評価する, {@code double} 型の多項式関数.
+ * 
+ * <p>
+ * 近似結果の多項式は, 一般に補間の形式 (Newton 形式など) で値を計算する. <br>
+ * このクラスは多項式の係数 {@link DoublePolynomial#coefficient()} を保持し,
+ * {@link EvaluationScheme} で指定された方式
+ * (Horner 法あるいは Estrin 法) で値を計算する. <br>
+ * 評価の際にノードの参照や減算が不要になるため, 近似結果を繰り返し評価する用途に適する.
+ * </p>
+ * 
+ * <p>
+ * 係数への変換において丸め誤差が生じるため,
+ * 値は元の多項式の値と一致するとは限らない. <br>
+ * {@link #errorBound(double)} は, 保持している係数で表される多項式に対する,
+ * 評価時の丸め誤差の上限を返す (変換による誤差は含まない).
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは, {@link #of(DoublePolynomial, EvaluationScheme)} により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class CompiledDoublePolynomial implements DoublePolynomial {
+
+    /**
+     * 単位丸め.
+     */
+    private static final double UNIT_ROUNDOFF = 0x1p-53;
+
+    private final double[] coeff;
+    private final EvaluationScheme scheme;
+
+    /**
+     * 評価に用いる係数 (評価方式に応じた形式).
+     */
+    private final double[] evaluationCoeff;
+
+    /**
+     * 丸め誤差の上限の係数 &gamma;<sub><i>m</i></sub>.
+     */
+    private final double gamma;
+
+    private CompiledDoublePolynomial(double[] coeff, EvaluationScheme scheme) {
+        this.coeff = coeff;
+        this.scheme = scheme;
+        this.evaluationCoeff = switch (scheme) {
+            case HORNER -> coeff;
+            case ESTRIN -> DoublePolynomialKernel.estrinCoefficient(coeff);
+        };
+        this.gamma = gamma(roundingCount(coeff.length - 1, scheme));
+    }
+
+    @Override
+    public int degree() {
+        return this.coeff.length - 1;
+    }
+
+    /**
+     * 多項式の評価方式を返す.
+     * 
+     * @return 評価方式
+     */
+    public EvaluationScheme scheme() {
+        return this.scheme;
+    }
+
+    @Override
+    public double value(double x) {
+        return switch (this.scheme) {
+            case HORNER -> DoublePolynomialKernel.horner(this.evaluationCoeff, x);
+            case ESTRIN -> DoublePolynomialKernel.estrin(this.evaluationCoeff, x);
+        };
+    }
+
+    @Override
+    public void value(double[] xs, double[] out) {
+        DoublePolynomialKernel.requireValidArrays(xs, out);
+        this.evaluate(xs, 0, out, 0, xs.length);
+    }
+
+    @Override
+    public void value(DoubleBuffer xs, DoubleBuffer out) {
+        DoublePolynomialKernel.requireValidBuffers(xs, out);
+        DoublePolynomialKernel.evaluate(this::evaluate, xs, out);
+    }
+
+    private void evaluate(double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        switch (this.scheme) {
+            case HORNER -> DoublePolynomialKernel.horner(this.evaluationCoeff, xs, xsFrom, out, outFrom, length);
+            case ESTRIN -> DoublePolynomialKernel.estrin(this.evaluationCoeff, xs, xsFrom, out, outFrom, length);
+        }
+    }
+
+    /**
+     * 与えられた <i>x</i> における, {@link #value(double)} の丸め誤差の上限を返す.
+     * 
+     * <p>
+     * 係数を <i>a</i><sub><i>k</i></sub> として, <br>
+     * &gamma;<sub><i>m</i></sub>
+     * &sum;<sub><i>k</i></sub> |<i>a</i><sub><i>k</i></sub>| |<i>x</i>|<sup><i>k</i></sup> <br>
+     * を返す. <br>
+     * 係数 <i>m</i> は評価方式により定まる ({@link EvaluationScheme} を参照). <br>
+     * アンダーフローの影響は考慮しない. <br>
+     * 一括評価では丸めの順序が同一であるため, 同じ上限が適用される.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return 丸め誤差の上限, 引数が有限でない場合や上限がオーバーフローする場合は有限でない値
+     */
+    public double errorBound(double x) {
+        final double absX = Math.abs(x);
+        double sum = 0d;
+        for (int k = this.coeff.length - 1; k >= 0; k--) {
+            sum = sum * absX + Math.abs(this.coeff[k]);
+        }
+        return this.gamma * sum;
+    }
+
+    @Override
+    public double[] coefficient() {
+        return this.coeff.clone();
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "CompiledDoublePolynomial(%s, %s)".formatted(this.scheme, Arrays.toString(this.coeff));
+    }
+
+    /**
+     * 多項式と評価方式を与えて, 係数を直接評価する多項式を返す.
+     * 
+     * @param polynomial 多項式
+     * @param scheme 評価方式
+     * @return 係数を直接評価する多項式
+     * @throws IllegalArgumentException 多項式の係数が有限でない値を含む場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static CompiledDoublePolynomial of(DoublePolynomial polynomial, EvaluationScheme scheme) {
+        Objects.requireNonNull(scheme);
+        double[] coeff = polynomial.coefficient();
+        if (coeff.length == 0 || !Arrays.stream(coeff).allMatch(Double::isFinite)) {
+            throw new IllegalArgumentException("invalid coefficients");
+        }
+        return new CompiledDoublePolynomial(coeff, scheme);
+    }
+
+    /**
+     * 評価方式に応じた, 丸め誤差の上限の係数 <i>m</i> を返す.
+     */
+    private static int roundingCount(int degree, EvaluationScheme scheme) {
+        return switch (scheme) {
+            case HORNER -> degree;
+            case ESTRIN -> degree + 3;
+        };
+    }
+
+    /**
+     * &gamma;<sub><i>m</i></sub> = <i>mu</i> / (1 - <i>mu</i>) を返す.
+     */
+    private static double gamma(int m) {
+        double mu = m * UNIT_ROUNDOFF;
+        return mu / (1d - mu);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * {@code double} 型の多項式関数による近似の計算処理を表す. <br>
+ * サブクラスはスレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * @author Matsuura Y.
+ */
+abstract class DoubleApproxCalculation {
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    DoubleApproxCalculation() {
+        super();
+    }
+
+    /**
+     * 近似計算を実行する.
+     * 
+     * @throws ApproximationFailedException 近似計算に失敗した場合
+     */
+    abstract void calculate() throws ApproximationFailedException;
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    abstract DoubleNewtonPolynomial getResult();
+
+    /**
+     * 近似結果を構成したノード (参照点) を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return ノード, 昇順に並んでいる
+     */
+    abstract double[] getNode();
+
+    /**
+     * 計算条件に適合する近似計算を生成する.
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return 近似計算
+     */
+    static DoubleApproxCalculation of(
+            DoubleApproxTarget target, int order, RemezConfiguration configuration) {
+        return switch (configuration.algorithm()) {
+            case NODE_SHIFT -> new DoubleApproxCalculationByRemezMinimax(target, order, configuration);
+            case EXCHANGE -> new DoubleApproxCalculationByRemezExchange(target, order, configuration);
+        };
+    }
+
+    /**
+     * 初期ノードを与えて, 計算条件に適合する近似計算を生成する. <br>
+     * 計算条件のうち, 初期ノードの決め方は無視される.
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @param initialNode 初期ノード, 昇順に並び, 長さは次数 + 2 でなければならない
+     * @return 近似計算
+     */
+    static DoubleApproxCalculation of(
+            DoubleApproxTarget target, int order, RemezConfiguration configuration, double[] initialNode) {
+        return switch (configuration.algorithm()) {
+            case NODE_SHIFT -> new DoubleApproxCalculationByRemezMinimax(
+                    target, order, configuration, initialNode);
+            case EXCHANGE -> new DoubleApproxCalculationByRemezExchange(
+                    target, order, configuration, initialNode);
+        };
+    }
+
+    /**
+     * 計算条件に適合する初期ノードを作成する.
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param size ノードの数, 2以上でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return ノード, 昇順に並んでいる
+     */
+    static double[] initialNode(
+            DoubleApproxTarget target, int size, RemezConfiguration configuration) {
+        return switch (configuration.initialization()) {
+            case CHEBYSHEV_NODES -> DoubleNodeCreation.execute(size, target.interval());
+            case INTERPOLANT_EXTREMA -> DoubleInterpolantNodeCreation.execute(size, target);
+        };
+    }
+}
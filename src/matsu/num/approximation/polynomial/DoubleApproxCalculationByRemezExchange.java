@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Objects;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.component.DoubleApproximationErrorCalc;
+
+/**
+ * Remez の交換法による, 多項式関数による近似の計算処理を扱う. <br>
+ * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * <p>
+ * 1回のイテレーションでは, ノード (参照点) から Remez 多項式を構成し,
+ * 隣接するノード間にある近似誤差の符号変化点を二分法で求める. <br>
+ * 符号変化点で区切られた各区間において近似誤差の極値点を黄金分割探索で求め,
+ * 全てのノードを極値点に一括で交換する.
+ * </p>
+ * 
+ * <p>
+ * ノードにおける近似誤差の符号が交互にならない場合 (偶関数, 奇関数などの対称なターゲット関数で,
+ * ノードが対称に配置された場合など) は交換が行えないので,
+ * そのノードからノード移動方式 ({@link DoubleApproxCalculationByRemezMinimax}) に切り替える.
+ * </p>
+ * 
+ * <p>
+ * 中断の条件 ({@link RemezCancellation}) を満たした場合, 途中結果を採用する設定であれば,
+ * それまでで近似誤差の最大値が最小の多項式を結果とする.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleApproxCalculationByRemezExchange extends DoubleApproxCalculation {
+
+    /**
+     * イテレーションの上限回数.
+     */
+    private static final int MAX_ITERATION = 50;
+
+    /**
+     * 近似誤差の最大値が改善しないイテレーションが連続した場合に打ち切る回数.
+     */
+    private static final int MAX_STAGNATION = 3;
+
+    /**
+     * 収束判定の許容相対誤差が与えられていない場合の値.
+     */
+    private static final double DEFAULT_TOLERANCE = 1E-8;
+
+    /**
+     * 符号変化点を求める二分法の回数. <br>
+     * 符号変化点は極値点の探索区間を区切るだけであるので, 隣接ノードの間隔の 2<sup>-12</sup> 程度の精度で十分である.
+     */
+    private static final int ROOT_BISECTION = 12;
+
+    /**
+     * 近似誤差の計算の丸め誤差の目安を, 値とスケールの比の ulp の何倍とするか.
+     */
+    private static final double NOISE_FACTOR = 4d;
+
+    private final DoubleApproxTarget target;
+    private final int order;
+    private final double tolerance;
+    private final RemezConfiguration configuration;
+
+    private final RemezTypeDoublePolynomialFactory remezPolynomialFactory;
+
+    /**
+     * 初期ノード, 計算条件にしたがって作成する場合は null.
+     */
+    private final double[] initialNode;
+
+    private DoubleNewtonPolynomial result;
+    private double[] resultNode;
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     */
+    DoubleApproxCalculationByRemezExchange(
+            DoubleApproxTarget target, int order, RemezConfiguration configuration) {
+        this(target, order, configuration, null);
+    }
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @param initialNode 初期ノード (昇順, 長さは次数 + 2),
+     *            計算条件にしたがって作成する場合はnull
+     */
+    DoubleApproxCalculationByRemezExchange(
+            DoubleApproxTarget target, int order, RemezConfiguration configuration, double[] initialNode) {
+        super();
+        assert Objects.isNull(initialNode) || initialNode.length == order + 2 : "mismatch size";
+
+        this.target = target;
+        this.order = order;
+        this.tolerance = configuration.convergenceToleranceOr(DEFAULT_TOLERANCE);
+        this.configuration = configuration;
+        this.initialNode = initialNode;
+
+        this.remezPolynomialFactory = new RemezTypeDoublePolynomialFactory(this.target);
+    }
+
+    @Override
+    void calculate() throws ApproximationFailedException {
+        double[] node = Objects.nonNull(this.initialNode)
+                ? this.initialNode.clone()
+                : initialNode(target, this.order + 2, this.configuration);
+
+        DoubleRemezWorkspace workspace = this.remezPolynomialFactory.createWorkspace(node.length);
+        DoubleApproximationErrorCalc error = new DoubleApproximationErrorCalc(target, workspace::value);
+        double[] errAtNode = new double[node.length];
+        double[] scaleBuffer = new double[node.length];
+
+        double[] bestNode = null;
+        double bestMaxError = Double.POSITIVE_INFINITY;
+        int stagnation = 0;
+        for (int c = 0; c < MAX_ITERATION; c++) {
+            if (this.configuration.cancellation().shouldStop(Objects.nonNull(bestNode))) {
+                break;
+            }
+            try {
+                workspace.build(node);
+            } catch (ApproximationFailedException afe) {
+                //交換によってノードが接近しすぎた場合, それまでの最良の結果を採用する
+                if (Objects.isNull(bestNode)) {
+                    throw afe;
+                }
+                break;
+            }
+
+            Exchange exchange = new Exchange(node, error, errAtNode, scaleBuffer);
+            double[] nextNode = exchange.execute();
+            if (Objects.isNull(nextNode)) {
+                //ノードにおける誤差のみからは近似誤差の最大値を評価できないので, 候補としない
+                this.calculateByNodeShift(node);
+                return;
+            }
+
+            if (exchange.maxError < bestMaxError) {
+                bestNode = node;
+                bestMaxError = exchange.maxError;
+                stagnation = 0;
+            } else {
+                stagnation++;
+            }
+
+            //水準と最大値の差が丸め誤差の目安以下であれば, 収束したとみなす
+            double noise = NOISE_FACTOR * Math.ulp(workspace.maxScaledValue());
+            if (exchange.maxError - exchange.level <= this.tolerance * exchange.maxError + noise
+                    || stagnation >= MAX_STAGNATION) {
+                break;
+            }
+            node = nextNode;
+        }
+
+        workspace.build(bestNode);
+        this.result = workspace.toPolynomial();
+        this.resultNode = bestNode;
+        DoubleErrorMeasurement.validate(this.target, this.result, this.resultNode);
+    }
+
+    /**
+     * 与えたノードから, ノード移動方式により近似を計算する.
+     * 
+     * @param node ノード, 昇順に並んでいる
+     * @throws ApproximationFailedException 近似計算に失敗した場合
+     */
+    private void calculateByNodeShift(double[] node) throws ApproximationFailedException {
+        DoubleApproxCalculationByRemezMinimax calc =
+                new DoubleApproxCalculationByRemezMinimax(this.target, this.order, this.configuration, node);
+        calc.calculate();
+        this.result = calc.getResult();
+        this.resultNode = calc.getNode();
+    }
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    @Override
+    DoubleNewtonPolynomial getResult() {
+        assert Objects.nonNull(this.result);
+
+        return this.result;
+    }
+
+    /**
+     * 近似結果を構成したノード (参照点) を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return ノード, 昇順に並んでいる
+     */
+    @Override
+    double[] getNode() {
+        assert Objects.nonNull(this.resultNode);
+
+        return this.resultNode.clone();
+    }
+
+    /**
+     * 1回の交換を扱う.
+     */
+    private final class Exchange {
+
+        private final double[] node;
+        private final DoubleApproximationErrorCalc error;
+        private final double[] errAtNode;
+        private final double[] scaleBuffer;
+
+        /**
+         * ノードにおける近似誤差の水準 (ノードにおける誤差の絶対値の最小値).
+         */
+        double level;
+
+        /**
+         * 交換後のノードにおける近似誤差の絶対値の最大値.
+         */
+        double maxError;
+
+        /**
+         * @param node ノード, 昇順に並んでいる
+         * @param error ノードから構成した Remez 多項式の近似誤差
+         * @param errAtNode ノードにおける近似誤差の書き込み先, ノードと同じ長さ
+         * @param scaleBuffer 近似誤差の一括評価の作業用の配列, ノードと同じ長さ
+         */
+        Exchange(double[] node, DoubleApproximationErrorCalc error,
+                double[] errAtNode, double[] scaleBuffer) {
+            super();
+            this.node = node;
+            this.error = error;
+            this.errAtNode = errAtNode;
+            this.scaleBuffer = scaleBuffer;
+        }
+
+        /**
+         * 交換を実行し, 交換後のノードを返す.
+         * 
+         * <p>
+         * ノードにおける近似誤差の符号が交互になっていない場合
+         * (近似誤差の水準が0の場合を含む),
+         * 交換は行えず, {@code null} を返す. <br>
+         * このとき, {@link #maxError} は近似誤差の最大値を表さない.
+         * </p>
+         * 
+         * @return 交換後のノード, 交換できない場合はnull
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        double[] execute() throws ApproximationFailedException {
+            final int size = node.length;
+
+            error.values(node, errAtNode, scaleBuffer);
+            this.level = Double.POSITIVE_INFINITY;
+            this.maxError = 0d;
+            for (int i = 0; i < size; i++) {
+                this.level = Math.min(this.level, Math.abs(errAtNode[i]));
+                this.maxError = Math.max(this.maxError, Math.abs(errAtNode[i]));
+            }
+            for (int i = 0; i < size - 1; i++) {
+                if (!(errAtNode[i] * errAtNode[i + 1] < 0d)) {
+                    return null;
+                }
+            }
+
+            //符号変化点で区間を区切る
+            double[] bound = new double[size + 1];
+            bound[0] = target.interval().lower();
+            bound[size] = target.interval().upper();
+            for (int i = 0; i < size - 1; i++) {
+                bound[i + 1] = this.root(node[i], errAtNode[i], node[i + 1]);
+            }
+
+            double[] nextNode = new double[size];
+            this.maxError = 0d;
+            for (int i = 0; i < size; i++) {
+                double sign = errAtNode[i] > 0d ? 1d : -1d;
+                nextNode[i] = DoubleExtremumSearch.maximize(
+                        error, bound[i], bound[i + 1], node[i], sign * errAtNode[i], sign, tolerance);
+                this.maxError = Math.max(this.maxError, sign * error.value(nextNode[i]));
+            }
+            return nextNode;
+        }
+
+        /**
+         * 区間 [lower, upper] 内の近似誤差の符号変化点を二分法で求める.
+         * 
+         * @param lower 下端
+         * @param errAtLower 下端における近似誤差 (0でない)
+         * @param upper 上端 (近似誤差の符号は下端と逆である)
+         * @return 符号変化点
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        private double root(double lower, double errAtLower, double upper) throws ApproximationFailedException {
+            for (int c = 0; c < ROOT_BISECTION; c++) {
+                double mid = lower + 0.5 * (upper - lower);
+                if (mid <= lower || mid >= upper) {
+                    break;
+                }
+                if (error.value(mid) * errAtLower > 0d) {
+                    lower = mid;
+                } else {
+                    upper = mid;
+                }
+            }
+            return lower + 0.5 * (upper - lower);
+        }
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.17
  */
 package matsu.num.approximation.polynomial;
 
@@ -19,16 +19,43 @@ import matsu.num.approximation.component.DoubleApproximationErrorCalc;
  * 多項式関数による近似の計算処理を扱う. <br>
  * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
  * 
+ * <p>
+ * 中断の条件 ({@link RemezCancellation}) を満たした場合, 途中結果を採用する設定であれば,
+ * その時点のノードによる多項式を結果とする.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
-final class DoubleApproxCalculationByRemezMinimax {
+final class DoubleApproxCalculationByRemezMinimax extends DoubleApproxCalculation {
+
+    /**
+     * 1ステージあたりのイテレーションの上限回数.
+     */
+    private static final int ITERATION_PER_STAGE = 1000;
+
+    /**
+     * 近似誤差の計算の丸め誤差の目安を, 値とスケールの比の ulp の何倍とするか.
+     */
+    private static final double NOISE_FACTOR = 4d;
+
+    /**
+     * 各ステージにおける, ノードの移動幅 (隣接ノードとの間隔に対する相対値).
+     */
+    private static final double[] RELATIVE_DELTAS = { 0.1, 0.03, 0.01, 0.003, 0.001, 3E-4, 1E-4 };
 
     private final DoubleApproxTarget target;
     private final int order;
+    private final RemezConfiguration configuration;
 
     private final RemezTypeDoublePolynomialFactory remezPolynomialFactory;
 
-    private DoublePolynomial result;
+    /**
+     * 初期ノード, 計算条件にしたがって作成する場合は null.
+     */
+    private final double[] initialNode;
+
+    private DoubleNewtonPolynomial result;
+    private double[] resultNode;
 
     /**
      * 
@@ -36,25 +63,124 @@ final class DoubleApproxCalculationByRemezMinimax {
      * @param order 多項式の次数, 0以上の適切な値でなければならない
      */
     DoubleApproxCalculationByRemezMinimax(DoubleApproxTarget target, int order) {
+        this(target, order, RemezConfiguration.DEFAULT);
+    }
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     */
+    DoubleApproxCalculationByRemezMinimax(
+            DoubleApproxTarget target, int order, RemezConfiguration configuration) {
+        this(target, order, configuration, null);
+    }
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @param initialNode 初期ノード (昇順, 長さは次数 + 2),
+     *            計算条件にしたがって作成する場合はnull
+     */
+    DoubleApproxCalculationByRemezMinimax(
+            DoubleApproxTarget target, int order, RemezConfiguration configuration, double[] initialNode) {
         super();
+        assert Objects.isNull(initialNode) || initialNode.length == order + 2 : "mismatch size";
+
         this.target = target;
         this.order = order;
+        this.configuration = configuration;
+        this.initialNode = initialNode;
 
         this.remezPolynomialFactory = new RemezTypeDoublePolynomialFactory(this.target);
     }
 
+    @Override
     void calculate() throws ApproximationFailedException {
-        RemezIterator remezIterator =
-                new RemezIterator(DoubleNodeCreation.execute(this.order + 2, target.interval()));
+        RemezIterator remezIterator = new RemezIterator(
+                Objects.nonNull(this.initialNode)
+                        ? this.initialNode.clone()
+                        : initialNode(target, this.order + 2, this.configuration));
 
-        int iteration = 1000;
-        double[] relativeDeltas = { 0.1, 0.03, 0.01, 0.003, 0.001, 3E-4, 1E-4 };
-        for (double rd : relativeDeltas) {
-            for (int c = 0; c < iteration; c++) {
-                remezIterator.iteration(rd);
-            }
+        if (this.configuration.isConvergenceMode()) {
+            this.iterateUntilConvergence(remezIterator);
+        } else {
+            this.iterateBySchedule(remezIterator);
         }
         this.result = remezIterator.calcResult();
+        this.resultNode = remezIterator.node;
+        DoubleErrorMeasurement.validate(this.target, this.result, this.resultNode);
+    }
+
+    /**
+     * 固定されたスケジュールでイテレーションを行う.
+     * 
+     * <p>
+     * ノードが移動しなかった場合, 同一ステージの以降のイテレーションは同じ状態を繰り返すだけであるので,
+     * 次のステージに進む
+     * (結果はスケジュールを全て実行した場合と一致する).
+     * </p>
+     */
+    private void iterateBySchedule(RemezIterator remezIterator) throws ApproximationFailedException {
+        for (double rd : RELATIVE_DELTAS) {
+            for (int c = 0; c < ITERATION_PER_STAGE; c++) {
+                if (this.configuration.cancellation().shouldStop(true)) {
+                    return;
+                }
+                if (!remezIterator.iteration(rd)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 収束判定を行いながらイテレーションを行う.
+     * 
+     * <p>
+     * 各ステージは, ノードが移動しなくなるか,
+     * 近似誤差の水準 (ノードにおける誤差の絶対値) が増加しなくなった時点で打ち切られる. <br>
+     * ノードは誤差が大きくなる方向にのみ移動するので,
+     * 水準はイテレーションごとに単調非減少である (de la Vallée Poussin の定理). <br>
+     * 水準が増加しない移動は丸め誤差によるものとみなす
+     * (固定されたスケジュールでは, このような移動も続けるため, 結果が異なりうる). <br>
+     * ステージの終了時に, 近似誤差の絶対値の最大値と水準との相対差 (等振動からのずれ) を求め,
+     * それが許容範囲に収まった時点で全体を打ち切る. <br>
+     * 水準の変化はノードの移動幅に比例して小さくなるため, 収束の判定には用いない.
+     * </p>
+     * 
+     * <p>
+     * 等振動からのずれを極値点の探索により求める計算量は, ステージ全体のそれに匹敵する. <br>
+     * そこで, まずノードの近傍の評価のみからずれの下界を求め,
+     * それが許容範囲に収まった場合に限り極値点を探索する.
+     * </p>
+     */
+    private void iterateUntilConvergence(RemezIterator remezIterator) throws ApproximationFailedException {
+        final double tolerance = this.configuration.convergenceTolerance();
+
+        for (double rd : RELATIVE_DELTAS) {
+            double level = Double.NaN;
+            for (int c = 0; c < ITERATION_PER_STAGE; c++) {
+                if (this.configuration.cancellation().shouldStop(true)) {
+                    return;
+                }
+                boolean moved = remezIterator.iteration(rd);
+                double nextLevel = remezIterator.level();
+                boolean increased = !(nextLevel <= level);
+                level = nextLevel;
+                if (!moved || !increased) {
+                    break;
+                }
+            }
+
+            if (remezIterator.localEquioscillationGap(rd) <= tolerance
+                    && remezIterator.equioscillationGap() <= tolerance) {
+                break;
+            }
+        }
     }
 
     /**
@@ -63,24 +189,90 @@ final class DoubleApproxCalculationByRemezMinimax {
      * 
      * @return 近似結果
      */
-    DoublePolynomial getResult() {
+    @Override
+    DoubleNewtonPolynomial getResult() {
         assert Objects.nonNull(this.result);
 
         return this.result;
     }
 
+    /**
+     * 近似結果を構成したノード (参照点) を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return ノード, 昇順に並んでいる
+     */
+    @Override
+    double[] getNode() {
+        assert Objects.nonNull(this.resultNode);
+
+        return this.resultNode.clone();
+    }
+
+    /**
+     * ノードを反復的に更新する. <br>
+     * Remez 多項式の構成とノードの更新には事前に確保した作業領域を用いる. <br>
+     * ノードと, ノードの両隣の試行点における近似誤差は, それぞれ配列にまとめて一括で評価する.
+     */
     private final class RemezIterator {
 
+        private final DoubleRemezWorkspace workspace;
+        private final DoubleApproximationErrorCalc error;
+
         private double[] node;
 
+        /**
+         * 次のノードを書き込むための領域, {@link #node} と交互に入れ替えて用いる.
+         */
+        private double[] nextNode;
+
+        /**
+         * ノードにおける近似誤差.
+         */
+        private final double[] nodeError;
+
+        /**
+         * ノードの下側, 上側の試行点と, そこでの近似誤差.
+         */
+        private final double[] lowerProbe;
+        private final double[] upperProbe;
+        private final double[] lowerError;
+        private final double[] upperError;
+
+        /**
+         * 近似誤差の一括評価においてスケールを一時保存する作業用の配列.
+         */
+        private final double[] scaleBuffer;
+
+        /**
+         * 直近のイテレーションにおける近似誤差の水準 (ノードにおける誤差の絶対値).
+         */
+        private double level = Double.NaN;
+
+        /**
+         * 直近のイテレーションにおける, 近似誤差の計算の丸め誤差の目安. <br>
+         * 試行点の近似誤差がノードのそれをこの値以上に上回らない限り, ノードを移動させない.
+         */
+        private double noise;
+
         /**
          * 初期ノードを与えてイテレータを生成する.
          * 
-         * @param node ノード (両端は区間両端に一致する)
+         * @param node ノード, 昇順に並んでいる
          */
         RemezIterator(double[] node) {
             super();
+            final int size = node.length;
             this.node = node;
+            this.nextNode = new double[size];
+            this.nodeError = new double[size];
+            this.lowerProbe = new double[size];
+            this.upperProbe = new double[size];
+            this.lowerError = new double[size];
+            this.upperError = new double[size];
+            this.scaleBuffer = new double[size];
+            this.workspace = remezPolynomialFactory.createWorkspace(size);
+            this.error = new DoubleApproximationErrorCalc(target, this.workspace::value);
         }
 
         /**
@@ -97,62 +289,218 @@ final class DoubleApproxCalculationByRemezMinimax {
          * </ul>
          * 
          * @param relativeDelta 1E-4から0.1の範囲
+         * @return ノードが移動した場合はtrue
          * @throws ApproximationFailedException
          */
-        void iteration(double relativeDelta) throws ApproximationFailedException {
+        boolean iteration(double relativeDelta) throws ApproximationFailedException {
             assert 1E-4 <= relativeDelta;
             assert relativeDelta <= 0.1;
 
             //ノードからRemez多項式を構築する
-            DoublePolynomial remezPolynomial = remezPolynomialFactory.create(node);
-            DoubleApproximationErrorCalc error = new DoubleApproximationErrorCalc(target, remezPolynomial::value);
+            workspace.build(node);
 
             // 近似誤差の分布を表す
             // ここで例外が発生する可能性
             boolean err_sign_is_positive = this.errSignIsPositive(error);
+            this.noise = NOISE_FACTOR * Math.ulp(workspace.maxScaledValue());
 
             //端を除くノードをわずかに動かす処理
-            double[] nextNodes = this.node.clone();
+            this.fillProbes(relativeDelta);
+            this.evaluateProbes();
+
+            double[] nextNodes = this.nextNode;
+            boolean moved = false;
             for (int i = 0; i < node.length; i++) {
-                //偶数番目のノードはそのまま, 奇数番目のノードは反転させる
-                boolean node_sign = err_sign_is_positive ^ ((i & 1) == 1);
+                moved |= this.shift(i, err_sign_is_positive, nextNodes);
+            }
+
+            this.nextNode = node;
+            node = nextNodes;
+            return moved;
+        }
 
+        /**
+         * 各ノードの両隣の試行点を書き込む. <br>
+         * ノードの並びが昇順であれば, 試行点の並びも昇順になる.
+         * 
+         * @param relativeDelta 移動幅
+         */
+        private void fillProbes(double relativeDelta) {
+            final int size = node.length;
+            for (int i = 0; i < size; i++) {
                 double x_prev = i == 0
                         ? target.interval().lower()
                         : node[i - 1];
                 double x_mid = node[i];
-                double x_next = i == node.length - 1
+                double x_next = i == size - 1
                         ? target.interval().upper()
                         : node[i + 1];
 
-                double gap_l = x_mid - x_prev;
-                double gap_u = x_next - x_mid;
+                lowerProbe[i] = x_mid - (x_mid - x_prev) * relativeDelta;
+                upperProbe[i] = x_mid + (x_next - x_mid) * relativeDelta;
+            }
+        }
+
+        /**
+         * 試行点における近似誤差を評価する. <br>
+         * 逐次評価の場合は一括評価を用い,
+         * 並列評価の場合はノードごとに評価する (いずれも結果は同一である).
+         * 
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        private void evaluateProbes() throws ApproximationFailedException {
+            if (!configuration.isParallel()) {
+                error.values(lowerProbe, lowerError, scaleBuffer);
+                error.values(upperProbe, upperError, scaleBuffer);
+                return;
+            }
+
+            NodeWiseExecution.executeAll(
+                    node.length, true,
+                    i -> {
+                        lowerError[i] = error.value(lowerProbe[i]);
+                        upperError[i] = error.value(upperProbe[i]);
+                        return false;
+                    });
+        }
+
+        /**
+         * 1個のノードについて, 両隣の試行点と近似誤差を比較し, 移動先を書き込む.
+         * 
+         * @param i ノードのインデックス
+         * @param errSignIsPositive 近似誤差の符号
+         * @param nextNodes 移動先の書き込み先
+         * @return ノードが移動した場合はtrue
+         */
+        private boolean shift(int i, boolean errSignIsPositive, double[] nextNodes) {
+            //偶数番目のノードはそのまま, 奇数番目のノードは反転させる
+            boolean node_sign = errSignIsPositive ^ ((i & 1) == 1);
+
+            double e_l = lowerError[i];
+            double e_mid = nodeError[i];
+            double e_u = upperError[i];
+
+            if (!node_sign) {
+                e_l = -e_l;
+                e_mid = -e_mid;
+                e_u = -e_u;
+            }
+
+            if (e_l > e_mid + noise && e_l > e_u) {
+                nextNodes[i] = lowerProbe[i];
+                return true;
+            } else if (e_u > e_mid + noise && e_u > e_l) {
+                nextNodes[i] = upperProbe[i];
+                return true;
+            }
+            nextNodes[i] = node[i];
+            return false;
+        }
 
-                double x_l = x_mid - gap_l * relativeDelta;
-                double x_u = x_mid + gap_u * relativeDelta;
+        /**
+         * 直近のイテレーションにおける近似誤差の水準 (ノードにおける誤差の絶対値) を返す. <br>
+         * イテレーションが実行されていない場合は NaN.
+         * 
+         * @return 近似誤差の水準
+         */
+        double level() {
+            return this.level;
+        }
+
+        /**
+         * 現在のノードによる Remez 多項式について,
+         * ノードの近傍の評価のみから, 等振動からのずれの下界を返す.
+         * 
+         * <p>
+         * 各ノードと両隣の試行点における近似誤差を評価し,
+         * ノードが3点の中で最大である場合は, 3点を通る放物線の頂点における近似誤差も評価する. <br>
+         * 評価した近似誤差は近似誤差の絶対値の最大値を超えないので,
+         * 戻り値は {@link #equioscillationGap()} の下界である. <br>
+         * 評価の回数はノード数の4倍程度である.
+         * </p>
+         * 
+         * @param relativeDelta 試行点の移動幅
+         * @return 等振動からのずれの下界
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        double localEquioscillationGap(double relativeDelta) throws ApproximationFailedException {
+            workspace.build(node);
+            boolean err_sign_is_positive = this.errSignIsPositive(error);
+            this.fillProbes(relativeDelta);
+            this.evaluateProbes();
 
-                double e_l = error.value(x_l);
-                double e_mid = error.value(x_mid);
-                double e_u = error.value(x_u);
+            double maxError = 0d;
+            for (int i = 0; i < node.length; i++) {
+                double sign = err_sign_is_positive ^ ((i & 1) == 1) ? 1d : -1d;
+                double e_l = sign * lowerError[i];
+                double e_mid = sign * nodeError[i];
+                double e_u = sign * upperError[i];
 
-                if (!node_sign) {
-                    e_l = -e_l;
-                    e_mid = -e_mid;
-                    e_u = -e_u;
+                double e = Math.max(e_mid, Math.max(e_l, e_u));
+                if (e_mid >= e_l && e_mid >= e_u) {
+                    double x = DoubleExtremumSearch.parabolicVertex(
+                            lowerProbe[i], e_l, node[i], e_mid, upperProbe[i], e_u);
+                    if (lowerProbe[i] < x && x < upperProbe[i]) {
+                        e = Math.max(e, sign * error.value(x));
+                    }
                 }
+                maxError = Math.max(maxError, e);
+            }
+            if (!Double.isFinite(maxError)) {
+                throw new ApproximationFailedException("approx error cannot be calculated appropriately");
+            }
+            if (maxError == 0d) {
+                return 0d;
+            }
+            return (maxError - this.level) / maxError;
+        }
 
-                if (e_l > e_mid && e_l > e_u) {
-                    nextNodes[i] = x_l;
-                } else if (e_u > e_mid && e_u > e_l) {
-                    nextNodes[i] = x_u;
+        /**
+         * 現在のノードによる Remez 多項式について,
+         * 近似誤差の絶対値の最大値と近似誤差の水準との相対差 (等振動からのずれ) を返す.
+         * 
+         * <p>
+         * 隣接するノードの中点で区間を区切り, 各区間において正負それぞれの向きの極値を
+         * {@link DoubleExtremumSearch} により探索する. <br>
+         * 近似誤差が恒等的に0である場合は0を返す.
+         * </p>
+         * 
+         * @return 等振動からのずれ
+         * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+         */
+        double equioscillationGap() throws ApproximationFailedException {
+            workspace.build(node);
+            this.errSignIsPositive(error);
+
+            final int size = node.length;
+            double maxError = 0d;
+            for (int i = 0; i < size; i++) {
+                double lower = i == 0
+                        ? target.interval().lower()
+                        : node[i - 1] + 0.5 * (node[i] - node[i - 1]);
+                double upper = i == size - 1
+                        ? target.interval().upper()
+                        : node[i] + 0.5 * (node[i + 1] - node[i]);
+                for (double sign : new double[] { 1d, -1d }) {
+                    double x = DoubleExtremumSearch.maximize(
+                            error, lower, upper, node[i], sign * nodeError[i], sign,
+                            configuration.convergenceTolerance());
+                    maxError = Math.max(maxError, sign * error.value(x));
                 }
             }
-            node = nextNodes;
+            if (!Double.isFinite(maxError)) {
+                throw new ApproximationFailedException("approx error cannot be calculated appropriately");
+            }
+            if (maxError == 0d) {
+                return 0d;
+            }
+            return (maxError - this.level) / maxError;
         }
 
         /**
          * <p>
-         * ノードにおける近似誤差の符号を判定し, 正負を返す.
+         * ノードにおける近似誤差の符号を判定し, 正負を返す. <br>
+         * 同時に, 近似誤差の水準とノードにおける近似誤差を更新する.
          * </p>
          * 
          * <p>
@@ -165,15 +513,18 @@ final class DoubleApproxCalculationByRemezMinimax {
          * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
          */
         private boolean errSignIsPositive(DoubleApproximationErrorCalc error) throws ApproximationFailedException {
+            error.values(node, nodeError, scaleBuffer);
             double sum = 0d;
             for (int i = 0; i < node.length; i++) {
-                double err = error.value(node[i]);
+                double err = nodeError[i];
                 sum += (i & 1) == 0 ? err : -err;
             }
             if (!Double.isFinite(sum)) {
                 throw new ApproximationFailedException("approx error cannot be calculated appropriately");
             }
 
+            //Remez多項式はノードで誤差が交互に等しくなるように構成されている
+            this.level = Math.abs(sum) / node.length;
             return sum >= 0;
         }
 
@@ -183,8 +534,9 @@ final class DoubleApproxCalculationByRemezMinimax {
          * @return 最適化された多項式関数
          * @throws ApproximationFailedException
          */
-        DoublePolynomial calcResult() throws ApproximationFailedException {
-            return remezPolynomialFactory.create(node);
+        DoubleNewtonPolynomial calcResult() throws ApproximationFailedException {
+            workspace.build(node);
+            return workspace.toPolynomial();
         }
     }
 }
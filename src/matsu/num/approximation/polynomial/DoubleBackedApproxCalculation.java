@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * {@code double} 値と同等の型 ({@link PseudoRealNumber.TypeProvider#isDoubleBacked()})
+ * による多項式関数による近似の計算処理を,
+ * {@code double} 型の近似計算 ({@link DoubleApproxCalculation}) に委譲する. <br>
+ * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * <p>
+ * ターゲット関数を {@code double} 型のターゲット関数に写して近似計算を行い,
+ * 近似結果のノードと Newton 補間の係数を元の型に戻す. <br>
+ * 元の型と {@code double} 値の間の変換は丸めを伴わないので,
+ * 元の型のインスタンスを演算ごとに生成することなく, 同等の近似結果が得られる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体を表す型パラメータ
+ */
+final class DoubleBackedApproxCalculation<T extends PseudoRealNumber<T>>
+        extends ApproxCalculation<T> {
+
+    private final ApproxTarget<T> target;
+    private final DoubleApproxCalculation calculation;
+
+    private NewtonPolynomial<T> result;
+
+    /**
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param interval ターゲット関数の区間を {@code double} 型に写した区間
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     */
+    private DoubleBackedApproxCalculation(
+            ApproxTarget<T> target, DoubleFiniteClosedInterval interval,
+            int order, RemezConfiguration configuration) {
+        super();
+        this.target = target;
+        this.calculation = DoubleApproxCalculation.of(
+                new DoubleBackedTarget<>(target, interval), order, configuration);
+    }
+
+    @Override
+    void calculate() throws ApproximationFailedException {
+        this.calculation.calculate();
+        try {
+            this.result = this.calculation.getResult()
+                    .validateCoefficient()
+                    .toNewtonPolynomial(this.target.elementTypeProvider());
+        } catch (IllegalArgumentException iae) {
+            throw new ApproximationFailedException("polynomial cannot be created");
+        }
+    }
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    @Override
+    NewtonPolynomial<T> getResult() {
+        assert Objects.nonNull(this.result);
+
+        return this.result;
+    }
+
+    /**
+     * ターゲット関数の型が {@code double} 値と同等であり,
+     * 区間が {@code double} 型で表現できる場合に, 近似計算を生成する.
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数, nullであってはいけない
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return 近似計算, 委譲できない場合はnull
+     */
+    static <T extends PseudoRealNumber<T>> DoubleBackedApproxCalculation<T> of(
+            ApproxTarget<T> target, int order, RemezConfiguration configuration) {
+        if (!target.elementTypeProvider().isDoubleBacked()) {
+            return null;
+        }
+
+        FiniteClosedInterval<T> interval = target.interval();
+        double lower = interval.lower().asDouble();
+        double upper = interval.upper().asDouble();
+        if (!DoubleFiniteClosedInterval.acceptsBoundaryValues(lower, upper)) {
+            return null;
+        }
+        return new DoubleBackedApproxCalculation<>(
+                target, DoubleFiniteClosedInterval.from(lower, upper), order, configuration);
+    }
+
+    /**
+     * {@code double} 値と同等の型によるターゲット関数を, {@code double} 型に写したターゲット関数. <br>
+     * 値が計算できない場合は NaN を返し, {@code double} 型の近似計算の失敗として扱わせる.
+     * 
+     * @param <T> 体を表す型パラメータ
+     */
+    private static final class DoubleBackedTarget<T extends PseudoRealNumber<T>> extends DoubleApproxTarget {
+
+        private final ApproxTarget<T> target;
+        private final PseudoRealNumber.TypeProvider<T> typeProvider;
+        private final DoubleFiniteClosedInterval interval;
+
+        /**
+         * @param target 元のターゲット関数
+         * @param interval 元の区間を {@code double} 型に写した区間
+         */
+        DoubleBackedTarget(ApproxTarget<T> target, DoubleFiniteClosedInterval interval) {
+            super();
+            this.target = target;
+            this.typeProvider = target.elementTypeProvider();
+            this.interval = interval;
+        }
+
+        @Override
+        protected double calcValue(double x) {
+            try {
+                return this.target.value(this.typeProvider.fromDoubleValue(x)).asDouble();
+            } catch (ArithmeticException ae) {
+                return Double.NaN;
+            }
+        }
+
+        @Override
+        protected double calcScale(double x) {
+            try {
+                return this.target.scale(this.typeProvider.fromDoubleValue(x)).asDouble();
+            } catch (ArithmeticException ae) {
+                return Double.NaN;
+            }
+        }
+
+        @Override
+        public DoubleFiniteClosedInterval interval() {
+            return this.interval;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+/**
+ * Chebyshev 点における値から, 補間多項式の Chebyshev 基底の係数を計算するユーティリティクラス.
+ * 
+ * <p>
+ * <i>n</i> 次の補間多項式の係数は, Chebyshev 点 (第2種, 区間の端を含む)
+ * <i>t</i><sub><i>j</i></sub> = cos(&pi;<i>j</i>/<i>n</i>)
+ * における値 <i>f</i><sub><i>j</i></sub> の第1種離散コサイン変換 (DCT-I) <br>
+ * <i>c</i><sub><i>k</i></sub> =
+ * (2/<i>n</i>) &sum;''<sub><i>j</i></sub>
+ * <i>f</i><sub><i>j</i></sub> cos(&pi;<i>jk</i>/<i>n</i>) <br>
+ * で与えられる (&sum;'' は両端の項を1/2倍した和, さらに <i>c</i><sub>0</sub>, <i>c</i><sub><i>n</i></sub> を1/2倍する). <br>
+ * DCT-I は, 値を偶関数として長さ 2<i>n</i> に拡張した列の離散 Fourier 変換の実部に等しい. <br>
+ * 離散 Fourier 変換は, 長さが2の累乗の場合は基数2の高速 Fourier 変換で,
+ * それ以外の場合は Bluestein のアルゴリズム (長さが2の累乗の畳み込みへの帰着) で計算する. <br>
+ * いずれも計算量は O(<i>n</i> log <i>n</i>) である. <br>
+ * Chebyshev 多項式の零点 (第1種 Chebyshev 点) における値からの係数の計算 (DCT-II) も,
+ * 同様に離散 Fourier 変換に帰着させる.
+ * </p>
+ * 
+ * <p>
+ * このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleChebyshevTransform {
+
+    private DoubleChebyshevTransform() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * Chebyshev 点における値から, 補間多項式の Chebyshev 基底の係数を計算する.
+     * 
+     * <p>
+     * 値は, {@link DoubleNodeCreation#execute(int, matsu.num.approximation.DoubleFiniteClosedInterval)}
+     * のノードの順 (昇順, すなわち <i>t</i> = -1 から <i>t</i> = 1 の順) に並んでいなければならない.
+     * </p>
+     * 
+     * @param value Chebyshev 点における値, 長さは2以上
+     * @return Chebyshev 基底の係数, 長さは値と同じ
+     */
+    static double[] chebyshevCoefficient(double[] value) {
+        assert value.length >= 2 : "size is less than 2";
+
+        final int n = value.length - 1;
+        final int size = 2 * n;
+
+        // f_j = value[n - j] (t_j = cos(pi j / n) は降順) を偶関数として拡張する
+        double[] re = new double[size];
+        double[] im = new double[size];
+        for (int j = 0; j <= n; j++) {
+            re[j] = value[n - j];
+        }
+        for (int j = n + 1; j < size; j++) {
+            re[j] = re[size - j];
+        }
+
+        fourier(re, im);
+
+        double[] out = new double[n + 1];
+        final double factor = 1d / n;
+        for (int k = 0; k <= n; k++) {
+            out[k] = re[k] * factor;
+        }
+        out[0] *= 0.5;
+        out[n] *= 0.5;
+        return out;
+    }
+
+    /**
+     * Chebyshev 多項式の零点における値から, 補間多項式の Chebyshev 基底の係数を計算する.
+     * 
+     * <p>
+     * <i>N</i> 個の零点
+     * <i>t</i><sub><i>j</i></sub> = cos(&pi;(<i>j</i> + 1/2)/<i>N</i>)
+     * における値 <i>f</i><sub><i>j</i></sub> を補間する (<i>N</i> - 1) 次多項式の係数は,
+     * 第2種離散コサイン変換 (DCT-II) <br>
+     * <i>c</i><sub><i>k</i></sub> =
+     * (2/<i>N</i>) &sum;<sub><i>j</i></sub>
+     * <i>f</i><sub><i>j</i></sub> cos(&pi;<i>k</i>(<i>j</i> + 1/2)/<i>N</i>) <br>
+     * で与えられる (さらに <i>c</i><sub>0</sub> を1/2倍する). <br>
+     * DCT-II は, 奇数番目に値を偶関数として配置した長さ 4<i>N</i> の列の離散 Fourier 変換の実部の1/2に等しい.
+     * </p>
+     * 
+     * <p>
+     * 値は零点の昇順 (<i>t</i> = -1 側から <i>t</i> = 1 側の順) に並んでいなければならない.
+     * </p>
+     * 
+     * @param value Chebyshev 多項式の零点における値, 長さは1以上
+     * @return Chebyshev 基底の係数, 長さは値と同じ
+     */
+    static double[] chebyshevCoefficientAtRoots(double[] value) {
+        assert value.length >= 1 : "size 0";
+
+        final int n = value.length;
+        final int size = 4 * n;
+
+        // f_j = value[n - 1 - j] (t_j は降順) を, 添え字 2j + 1 と 4n - 2j - 1 に配置する
+        double[] re = new double[size];
+        double[] im = new double[size];
+        for (int j = 0; j < n; j++) {
+            double f = value[n - 1 - j];
+            re[2 * j + 1] = f;
+            re[size - 2 * j - 1] = f;
+        }
+
+        fourier(re, im);
+
+        double[] out = new double[n];
+        final double factor = 1d / n;
+        for (int k = 0; k < n; k++) {
+            out[k] = re[k] * factor;
+        }
+        out[0] *= 0.5;
+        return out;
+    }
+
+    /**
+     * 離散 Fourier 変換
+     * <i>X</i><sub><i>k</i></sub> =
+     * &sum;<sub><i>j</i></sub> <i>x</i><sub><i>j</i></sub>
+     * exp(-2&pi;<i>ijk</i>/<i>N</i>)
+     * をその場で計算する.
+     * 
+     * @param re 実部, 長さは1以上
+     * @param im 虚部, 実部と同じ長さ
+     */
+    static void fourier(double[] re, double[] im) {
+        assert re.length == im.length : "mismatch size";
+        assert re.length >= 1 : "size 0";
+
+        if (Integer.bitCount(re.length) == 1) {
+            radix2(re, im);
+        } else {
+            bluestein(re, im);
+        }
+    }
+
+    /**
+     * 長さが2の累乗の場合の, 基数2の高速 Fourier 変換.
+     */
+    private static void radix2(double[] re, double[] im) {
+        final int size = re.length;
+
+        // ビット反転による並べ替え
+        for (int i = 1, j = 0; i < size; i++) {
+            int bit = size >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double tr = re[i];
+                re[i] = re[j];
+                re[j] = tr;
+                double ti = im[i];
+                im[i] = im[j];
+                im[j] = ti;
+            }
+        }
+
+        // 回転因子 exp(-2 pi i k / size), k < size / 2
+        final int half = size >> 1;
+        double[] cos = new double[half];
+        double[] sin = new double[half];
+        for (int k = 0; k < half; k++) {
+            double theta = 2 * Math.PI * k / size;
+            cos[k] = Math.cos(theta);
+            sin[k] = -Math.sin(theta);
+        }
+
+        for (int len = 2; len <= size; len <<= 1) {
+            final int halfLen = len >> 1;
+            final int step = size / len;
+            for (int from = 0; from < size; from += len) {
+                for (int k = 0; k < halfLen; k++) {
+                    final double wr = cos[k * step];
+                    final double wi = sin[k * step];
+                    final int p = from + k;
+                    final int q = p + halfLen;
+                    final double xr = re[q] * wr - im[q] * wi;
+                    final double xi = re[q] * wi + im[q] * wr;
+                    re[q] = re[p] - xr;
+                    im[q] = im[p] - xi;
+                    re[p] += xr;
+                    im[p] += xi;
+                }
+            }
+        }
+    }
+
+    /**
+     * 任意の長さの場合の, Bluestein のアルゴリズムによる離散 Fourier 変換. <br>
+     * <i>jk</i> = (<i>j</i><sup>2</sup> + <i>k</i><sup>2</sup> - (<i>k</i> - <i>j</i>)<sup>2</sup>) / 2
+     * により, 変換を長さが2の累乗の巡回畳み込みに帰着させる.
+     */
+    private static void bluestein(double[] re, double[] im) {
+        final int size = re.length;
+        final int convSize = Integer.highestOneBit(2 * size - 1) << 1;
+
+        // w_j = exp(-pi i j^2 / size), 角度の精度のため j^2 は 2 size を法として計算する
+        double[] wr = new double[size];
+        double[] wi = new double[size];
+        final long modulus = 2L * size;
+        for (int j = 0; j < size; j++) {
+            double theta = Math.PI * (((long) j * j) % modulus) / size;
+            wr[j] = Math.cos(theta);
+            wi[j] = -Math.sin(theta);
+        }
+
+        // a_j = x_j w_j
+        double[] ar = new double[convSize];
+        double[] ai = new double[convSize];
+        for (int j = 0; j < size; j++) {
+            ar[j] = re[j] * wr[j] - im[j] * wi[j];
+            ai[j] = re[j] * wi[j] + im[j] * wr[j];
+        }
+
+        // b_j = conj(w_j), 負の添え字は巡回させる
+        double[] br = new double[convSize];
+        double[] bi = new double[convSize];
+        br[0] = wr[0];
+        bi[0] = -wi[0];
+        for (int j = 1; j < size; j++) {
+            br[j] = wr[j];
+            bi[j] = -wi[j];
+            br[convSize - j] = wr[j];
+            bi[convSize - j] = -wi[j];
+        }
+
+        radix2(ar, ai);
+        radix2(br, bi);
+        for (int k = 0; k < convSize; k++) {
+            double r = ar[k] * br[k] - ai[k] * bi[k];
+            double i = ar[k] * bi[k] + ai[k] * br[k];
+            // 逆変換は共役をとった順変換で計算する
+            ar[k] = r;
+            ai[k] = -i;
+        }
+        radix2(ar, ai);
+
+        // X_k = w_k conj(c_k) / convSize
+        final double factor = 1d / convSize;
+        for (int k = 0; k < size; k++) {
+            double cr = ar[k] * factor;
+            double ci = -ai[k] * factor;
+            re[k] = cr * wr[k] - ci * wi[k];
+            im[k] = cr * wi[k] + ci * wr[k];
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.function.DoubleUnaryOperator;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.component.DoubleApproximationErrorCalc;
+
+/**
+ * {@code double} 型の近似多項式の近似誤差 (重みづけ誤差の絶対値の最大値) を,
+ * 有限個の点における評価により推定するユーティリティクラス.
+ * 
+ * <p>
+ * 評価する点は, 近似多項式のノードと,
+ * ノード数の指定倍程度の密度で区間に配置した Chebyshev 点 ({@link DoubleNodeCreation}) である.
+ * </p>
+ * 
+ * <p>
+ * 近似計算の結果の検証 ({@link #validate(DoubleApproxTarget, DoublePolynomial, double[])}) も扱う.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleErrorMeasurement {
+
+    /**
+     * 近似計算の結果の検証における, ノード数に対する Chebyshev 点の密度の倍率.
+     */
+    private static final int VALIDATION_SAMPLING_RATE = 4;
+
+    /**
+     * 近似計算の結果の検証において, 恒等的に0である多項式の近似誤差に対して許容する倍率.
+     */
+    private static final double VALIDATION_FACTOR = 2d;
+
+    private DoubleErrorMeasurement() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 近似多項式の近似誤差を推定する.
+     * 
+     * @param target ターゲット関数
+     * @param polynomial 近似多項式
+     * @param node 近似多項式のノード, 区間内で昇順, 長さは2以上
+     * @param samplingRate ノード数に対する Chebyshev 点の密度の倍率, 1以上
+     * @return 近似誤差の推定値
+     * @throws ApproximationFailedException 近似誤差が計算できない場合
+     */
+    static double maxError(
+            DoubleApproxTarget target, DoublePolynomial polynomial,
+            double[] node, int samplingRate) throws ApproximationFailedException {
+        assert node.length >= 2 && samplingRate >= 1;
+
+        return maxError(target, (DoubleUnaryOperator) polynomial::value, node, samplingRate);
+    }
+
+    /**
+     * 近似計算の結果の多項式が妥当であることを検証する.
+     * 
+     * <p>
+     * 最良近似多項式の近似誤差は, 恒等的に0である多項式の近似誤差
+     * (重みづけしたターゲット関数の絶対値の最大値) を超えない. <br>
+     * 近似誤差の推定値がこれを大きく上回る場合は, 次数が高すぎるなどの理由で計算が破綻したものとみなす.
+     * </p>
+     * 
+     * @param target ターゲット関数
+     * @param polynomial 近似多項式
+     * @param node 近似多項式のノード, 区間内で昇順, 長さは2以上
+     * @throws ApproximationFailedException 近似誤差が計算できない場合, 近似誤差が大きすぎる場合
+     */
+    static void validate(
+            DoubleApproxTarget target, DoublePolynomial polynomial, double[] node)
+            throws ApproximationFailedException {
+        assert node.length >= 2;
+
+        double maxError = maxError(target, polynomial, node, VALIDATION_SAMPLING_RATE);
+        double zeroError = maxError(target, x -> 0d, node, VALIDATION_SAMPLING_RATE);
+        if (maxError > VALIDATION_FACTOR * zeroError) {
+            throw new ApproximationFailedException(
+                    "approx error is too large: maxError = %s".formatted(maxError));
+        }
+    }
+
+    private static double maxError(
+            DoubleApproxTarget target, DoubleUnaryOperator function,
+            double[] node, int samplingRate) throws ApproximationFailedException {
+        DoubleApproximationErrorCalc errorCalc = new DoubleApproximationErrorCalc(target, function);
+
+        double[] grid = DoubleNodeCreation.execute(
+                samplingRate * (node.length - 1) + 1, target.interval());
+        double[] gridError = new double[grid.length];
+        errorCalc.values(grid, gridError);
+        double[] nodeError = new double[node.length];
+        errorCalc.values(node, nodeError);
+
+        double maxError = 0d;
+        for (double e : gridError) {
+            maxError = Math.max(maxError, Math.abs(e));
+        }
+        for (double e : nodeError) {
+            maxError = Math.max(maxError, Math.abs(e));
+        }
+        return maxError;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.component.DoubleApproximationErrorCalc;
+
+/**
+ * {@code double} 型の近似誤差の極値点を, 区間の粗い走査と黄金分割探索により求めるユーティリティクラス.
+ * 
+ * <p>
+ * 極値点の位置のずれ &delta; (区間幅に対する相対値) に対して,
+ * 近似誤差の極値の目減りは &delta;<sup>2</sup> 程度である. <br>
+ * そこで, 黄金分割探索は区間幅に対して (許容相対誤差)<sup>1/2</sup> 程度の幅で打ち切り,
+ * 最後に放物線補間で極値点を補正する. <br>
+ * 区間の端から探索の精度以内にある点は端とする
+ * (端で最大となる場合に, 丸め誤差によって端のわずかに内側の点が選ばれることを防ぐ).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleExtremumSearch {
+
+    /**
+     * 極値点の探索の前に, 各区間を粗く走査する分割数.
+     */
+    private static final int SCAN_DIVISION = 8;
+
+    /**
+     * 黄金分割探索において, 区間幅に対する探索幅の相対的な下限の最小値 (double の精度の平方根).
+     */
+    private static final double MIN_RELATIVE_WIDTH = Math.sqrt(Math.ulp(1d));
+
+    /**
+     * 黄金分割探索の内分比, (3 - sqrt(5)) / 2.
+     */
+    private static final double GOLDEN_RATIO_COMPLEMENT = 0.5 * (3d - Math.sqrt(5d));
+
+    private DoubleExtremumSearch() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 区間 [lower, upper] 内で sign * (近似誤差) が最大となる点を探索する.
+     * 
+     * @param error 近似誤差の計算
+     * @param lower 下端
+     * @param upper 上端
+     * @param start 探索の起点 (区間内)
+     * @param signedErrAtStart 起点における sign * (近似誤差)
+     * @param sign 近似誤差の符号, 1または-1
+     * @param tolerance 近似誤差の極値に対する許容相対誤差, 0より大きく1より小さい
+     * @return 最大点
+     * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+     */
+    static double maximize(
+            DoubleApproximationErrorCalc error,
+            double lower, double upper, double start, double signedErrAtStart, double sign,
+            double tolerance)
+            throws ApproximationFailedException {
+
+        //粗く走査して, 最大点を含む区間を定める
+        double step = (upper - lower) / SCAN_DIVISION;
+        double[] scanX = new double[SCAN_DIVISION + 1];
+        for (int k = 0; k < SCAN_DIVISION; k++) {
+            scanX[k] = lower + step * k;
+        }
+        scanX[SCAN_DIVISION] = upper;
+        double[] scanE = new double[SCAN_DIVISION + 1];
+        error.values(scanX, scanE);
+        int bestK = 0;
+        for (int k = 1; k <= SCAN_DIVISION; k++) {
+            if (sign * scanE[k] > sign * scanE[bestK]) {
+                bestK = k;
+            }
+        }
+
+        //探索幅の両端は走査した点とし, 近似誤差を既知とする
+        double bestX;
+        double bestE;
+        int lowerK;
+        int upperK;
+        if (signedErrAtStart >= sign * scanE[bestK]) {
+            bestX = start;
+            bestE = signedErrAtStart;
+            lowerK = 0;
+            while (lowerK < SCAN_DIVISION - 1 && scanX[lowerK + 1] <= start) {
+                lowerK++;
+            }
+            upperK = lowerK + 1;
+        } else {
+            bestX = scanX[bestK];
+            bestE = sign * scanE[bestK];
+            lowerK = Math.max(0, bestK - 1);
+            upperK = Math.min(SCAN_DIVISION, bestK + 1);
+        }
+        double a = scanX[lowerK];
+        double b = scanX[upperK];
+        double ea = sign * scanE[lowerK];
+        double eb = sign * scanE[upperK];
+
+        //黄金分割探索
+        final double minWidth = (upper - lower) * Math.max(MIN_RELATIVE_WIDTH, Math.sqrt(tolerance));
+        double x1 = a + GOLDEN_RATIO_COMPLEMENT * (b - a);
+        double x2 = b - GOLDEN_RATIO_COMPLEMENT * (b - a);
+        double e1 = sign * error.value(x1);
+        double e2 = sign * error.value(x2);
+        while (b - a > minWidth && a < x1 && x1 < x2 && x2 < b) {
+            if (e1 < e2) {
+                a = x1;
+                ea = e1;
+                x1 = x2;
+                e1 = e2;
+                x2 = b - GOLDEN_RATIO_COMPLEMENT * (b - a);
+                e2 = sign * error.value(x2);
+            } else {
+                b = x2;
+                eb = e2;
+                x2 = x1;
+                e2 = e1;
+                x1 = a + GOLDEN_RATIO_COMPLEMENT * (b - a);
+                e1 = sign * error.value(x1);
+            }
+        }
+
+        if (e1 > bestE) {
+            bestX = x1;
+            bestE = e1;
+        }
+        if (e2 > bestE) {
+            bestX = x2;
+            bestE = e2;
+        }
+
+        //放物線補間による補正
+        double xp = e1 >= e2
+                ? parabolicVertex(a, ea, x1, e1, x2, e2)
+                : parabolicVertex(x1, e1, x2, e2, b, eb);
+        if (a < xp && xp < b) {
+            double ep = sign * error.value(xp);
+            if (ep > bestE) {
+                bestX = xp;
+            }
+        }
+
+        //区間の端から探索の精度以内にある点は, 端とする
+        if (bestX - lower <= minWidth) {
+            return lower;
+        }
+        if (upper - bestX <= minWidth) {
+            return upper;
+        }
+        return bestX;
+    }
+
+    /**
+     * 3点を通る放物線の頂点を返す. <br>
+     * 頂点が定まらない場合は NaN を返す.
+     * 
+     * @param x0 1点目
+     * @param e0 1点目の値
+     * @param x1 2点目
+     * @param e1 2点目の値
+     * @param x2 3点目
+     * @param e2 3点目の値
+     * @return 頂点
+     */
+    static double parabolicVertex(double x0, double e0, double x1, double e1, double x2, double e2) {
+        double d0 = (x1 - x0) * (e1 - e2);
+        double d2 = (x1 - x2) * (e1 - e0);
+        double den = d0 - d2;
+        if (den == 0d) {
+            return Double.NaN;
+        }
+        return x1 - 0.5 * ((x1 - x0) * d0 - (x1 - x2) * d2) / den;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.component.DoubleApproximationErrorCalc;
+
+/**
+ * ターゲット関数の Chebyshev 補間多項式の誤差の極値点から,
+ * Remez 法の初期ノードを作成するユーティリティクラス.
+ * 
+ * <p>
+ * ノード数を <i>m</i> として, (<i>m</i> - 1) 個の Chebyshev 多項式の零点で補間した
+ * (<i>m</i> - 2) 次多項式を構成する. <br>
+ * 補間多項式の重みづけ誤差は零点で符号を変えるので,
+ * 零点と区間の端で区切られた <i>m</i> 個の区間のそれぞれで,
+ * 重みづけ誤差の絶対値が最大となる点を走査により求める. <br>
+ * 最大点は, 走査点の近傍の放物線補間により補正する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleInterpolantNodeCreation {
+
+    /**
+     * 零点で区切られた1区間あたりの走査の分割数.
+     */
+    private static final int SCAN_DIVISION = 16;
+
+    private DoubleInterpolantNodeCreation() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * ターゲット関数の区間にノードを配置する.
+     * 
+     * <p>
+     * 補間多項式の構成や近似誤差の計算に失敗した場合,
+     * 最大点における重みづけ誤差の符号が交互でない場合は,
+     * {@link DoubleNodeCreation#execute(int, DoubleFiniteClosedInterval)} のノードを返す.
+     * </p>
+     * 
+     * @param size ノードの数, 2以上でなければならない
+     * @param target ターゲット関数
+     * @return ノード, 昇順に並んでいる
+     * @throws NullPointerException null
+     */
+    static double[] execute(int size, DoubleApproxTarget target) {
+        assert size >= 2 : "invalid size";
+
+        double[] out;
+        try {
+            out = extrema(size, target);
+        } catch (ApproximationFailedException afe) {
+            out = null;
+        }
+        return out != null
+                ? out
+                : DoubleNodeCreation.execute(size, target.interval());
+    }
+
+    /**
+     * 補間多項式の重みづけ誤差の極値点を求める.
+     * 
+     * @return 極値点, 符号が交互でない場合はnull
+     * @throws ApproximationFailedException ターゲット関数の値や近似誤差が計算できない場合
+     */
+    private static double[] extrema(int size, DoubleApproxTarget target) throws ApproximationFailedException {
+        final DoubleFiniteClosedInterval interval = target.interval();
+        final int rootSize = size - 1;
+        final double halfGap = 0.5 * interval.gap();
+        final double mid = interval.lower() + halfGap;
+
+        //昇順に並んだ Chebyshev 多項式の零点
+        double[] root = new double[rootSize];
+        for (int i = 0; i < rootSize; i++) {
+            root[i] = mid - halfGap * Math.cos(Math.PI * (i + 0.5) / rootSize);
+        }
+        double[] value = new double[rootSize];
+        target.values(root, value);
+        if (!Arrays.stream(value).allMatch(Double::isFinite)) {
+            throw new ApproximationFailedException("invalid target values");
+        }
+        double[] coeff = DoubleChebyshevTransform.chebyshevCoefficientAtRoots(value);
+        if (!Arrays.stream(coeff).allMatch(Double::isFinite)) {
+            throw new ApproximationFailedException("invalid chebyshev coefficients");
+        }
+        ChebyshevDoublePolynomial interpolant = ChebyshevDoublePolynomial.of(coeff, interval);
+
+        //区間 [bound[i], bound[i + 1]] を, 両端を含めて SCAN_DIVISION 等分して走査する
+        double[] bound = new double[size + 1];
+        bound[0] = interval.lower();
+        System.arraycopy(root, 0, bound, 1, rootSize);
+        bound[size] = interval.upper();
+
+        final int stride = SCAN_DIVISION + 1;
+        double[] scanX = new double[size * stride];
+        for (int i = 0; i < size; i++) {
+            double lower = bound[i];
+            double step = (bound[i + 1] - lower) / SCAN_DIVISION;
+            for (int k = 0; k < SCAN_DIVISION; k++) {
+                scanX[i * stride + k] = lower + step * k;
+            }
+            scanX[i * stride + SCAN_DIVISION] = bound[i + 1];
+        }
+        double[] scanE = new double[scanX.length];
+        new DoubleApproximationErrorCalc(target, interpolant::value).values(scanX, scanE);
+
+        double[] out = new double[size];
+        double previousE = 0d;
+        for (int i = 0; i < size; i++) {
+            final int from = i * stride;
+            int best = from;
+            for (int k = from + 1; k < from + stride; k++) {
+                if (Math.abs(scanE[k]) > Math.abs(scanE[best])) {
+                    best = k;
+                }
+            }
+            double e = scanE[best];
+            if (!(e * previousE <= 0d) || e == 0d) {
+                return null;
+            }
+            previousE = e;
+            out[i] = refine(scanX, scanE, from, best);
+        }
+
+        //放物線補間による補正の後も, 狭義単調であることを確かめる
+        for (int i = 0; i < size - 1; i++) {
+            if (!(out[i] < out[i + 1])) {
+                return null;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 走査点の最大点を, 両隣の走査点を含めた放物線の頂点により補正する. <br>
+     * 最大点が区間の端の場合は補正しない.
+     */
+    private static double refine(double[] scanX, double[] scanE, int from, int best) {
+        if (best == from || best == from + SCAN_DIVISION) {
+            return scanX[best];
+        }
+        double sign = scanE[best] > 0d ? 1d : -1d;
+        double e0 = sign * scanE[best - 1];
+        double e1 = sign * scanE[best];
+        double e2 = sign * scanE[best + 1];
+        double curvature = e0 - 2 * e1 + e2;
+        if (!(curvature < 0d)) {
+            return scanX[best];
+        }
+        double halfStep = 0.5 * (scanX[best + 1] - scanX[best - 1]);
+        double shift = 0.5 * halfStep * (e0 - e2) / curvature;
+        return scanX[best] + Math.max(-halfStep, Math.min(halfStep, shift));
+    }
+}
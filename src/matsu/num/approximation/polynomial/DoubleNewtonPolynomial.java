@@ -5,12 +5,18 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.17
  */
 package matsu.num.approximation.polynomial;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
+import java.util.Objects;
 
+import matsu.num.approximation.DoubleDouble;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
 import matsu.num.approximation.component.ApproximationFailedException;
 
 /**
@@ -37,6 +43,18 @@ import matsu.num.approximation.component.ApproximationFailedException;
  * そのため, パッケージプライベートメソッドの引数については, 例外のスローでなくアサーションにより対応している. <br>
  * 言うまでもなく, 外部に公開されるべきではない.
  * </p>
+ * 
+ * <p>
+ * 多項式の係数 (単項式基底による表現) は,
+ * {@link #coefficient()} が初めて呼ばれた時点で計算され, キャッシュされる. <br>
+ * 値の計算のみに用いられる (中間的な) インスタンスでは, 係数の計算は行われない. <br>
+ * 近似結果として外部に公開するインスタンスに対しては,
+ * {@link #validateCoefficient()} により係数が不正値を含まないことを検証しなければならない.
+ * </p>
+ * 
+ * <p>
+ * 一括評価は, Newton 形式のまま {@link DoublePolynomialKernel} により行う.
+ * </p>
  *
  * @author Matsuura, Y.
  */
@@ -45,18 +63,15 @@ final class DoubleNewtonPolynomial implements DoublePolynomial {
     private final double[] node;
     private final double[] newtonCoeff;
 
-    //多項式の係数
-    private final double[] coeff;
+    // 遅延初期化用のロックオブジェクト
+    private final Object lock = new Object();
 
-    /**
-     * @throws ApproximationFailedException 多項式の係数に不正値が混入した場合
-     */
-    private DoubleNewtonPolynomial(double[] node, double[] newtonCoeff) throws ApproximationFailedException {
+    //多項式の係数, 遅延初期化される
+    private volatile double[] coeff;
+
+    private DoubleNewtonPolynomial(double[] node, double[] newtonCoeff) {
         this.node = node;
         this.newtonCoeff = newtonCoeff;
-
-        //引数に不正値がある場合, ここで例外がスローれる
-        this.coeff = this.calcCoeff();
     }
 
     @Override
@@ -74,12 +89,153 @@ final class DoubleNewtonPolynomial implements DoublePolynomial {
         return value;
     }
 
+    @Override
+    public void value(double[] xs, double[] out) {
+        DoublePolynomialKernel.requireValidArrays(xs, out);
+        this.evaluate(xs, 0, out, 0, xs.length);
+    }
+
+    @Override
+    public void value(DoubleBuffer xs, DoubleBuffer out) {
+        DoublePolynomialKernel.requireValidBuffers(xs, out);
+        DoublePolynomialKernel.evaluate(this::evaluate, xs, out);
+    }
+
+    private void evaluate(double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        DoublePolynomialKernel.newton(this.node, this.newtonCoeff, xs, xsFrom, out, outFrom, length);
+    }
+
     @Override
     public double[] coefficient() {
-        return this.coeff.clone();
+        return this.coeff().clone();
     }
 
-    private double[] calcCoeff() throws ApproximationFailedException {
+    /**
+     * 多項式の係数を計算し, 不正値を含まないことを検証する. <br>
+     * 計算した係数はキャッシュされる.
+     * 
+     * @return this
+     * @throws ApproximationFailedException 多項式の係数に不正値が混入した場合
+     */
+    DoubleNewtonPolynomial validateCoefficient() throws ApproximationFailedException {
+        if (!Arrays.stream(this.coeff()).allMatch(Double::isFinite)) {
+            throw new ApproximationFailedException("invalid coefficients");
+        }
+        return this;
+    }
+
+    /**
+     * 区間を与えて, この多項式を Chebyshev 基底で表現した多項式に変換する.
+     * 
+     * <p>
+     * 入れ子形式 <i>p</i> = <i>d</i><sub>0</sub> + (<i>x</i> - <i>c</i><sub>0</sub>)(<i>d</i><sub>1</sub> + &sdot;&sdot;&sdot;)
+     * を内側から, Chebyshev 基底の級数として展開する. <br>
+     * <i>x</i> - <i>c</i> = <i>h</i><i>t</i> + (<i>m</i> - <i>c</i>) と
+     * <i>t</i><i>T</i><sub>0</sub> = <i>T</i><sub>1</sub>,
+     * <i>t</i><i>T</i><sub><i>k</i></sub> = (<i>T</i><sub><i>k</i>+1</sub> + <i>T</i><sub><i>k</i>-1</sub>) / 2
+     * を用いるため, 単項式基底を経由しない.
+     * </p>
+     * 
+     * <p>
+     * 展開は {@link DoubleDouble} により行い ({@link NewtonPolynomial#toChebyshev(FiniteClosedInterval)}),
+     * 各係数を {@code double} の主要部と補正項に分けて保持する. <br>
+     * 係数を {@code double} に丸めるだけでは, 丸め誤差が
+     * &sum;<sub><i>k</i></sub> |<i>c</i><sub><i>k</i></sub>| に比例し,
+     * 値が係数に比べて小さくなる点 (例えば, 相対誤差で近似した指数関数の区間の下端) で
+     * Newton 補間の形式よりも精度が大きく劣るためである.
+     * </p>
+     * 
+     * @param interval 変数変換の基準となる区間
+     * @return Chebyshev 基底により表現された多項式
+     * @throws ApproximationFailedException 係数に不正値が混入した場合
+     */
+    ChebyshevDoublePolynomial toChebyshev(DoubleFiniteClosedInterval interval)
+            throws ApproximationFailedException {
+        final PseudoRealNumber.TypeProvider<DoubleDouble> typeProvider = DoubleDouble.elementTypeProvider();
+
+        final DoubleDouble[] series;
+        try {
+            series = this.mapTo(typeProvider).toChebyshev(
+                    FiniteClosedInterval.from(
+                            typeProvider.fromDoubleValue(interval.lower()),
+                            typeProvider.fromDoubleValue(interval.upper())))
+                    .chebyshevCoefficient();
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("invalid chebyshev coefficients");
+        }
+
+        final int size = series.length;
+        double[] chebyshevCoeff = new double[size];
+        double[] correction = new double[size];
+        for (int k = 0; k < size; k++) {
+            double high = series[k].asDouble();
+            double low = series[k].minus(typeProvider.fromDoubleValue(high)).asDouble();
+            if (!(Double.isFinite(high) && Double.isFinite(low))) {
+                throw new ApproximationFailedException("invalid chebyshev coefficients");
+            }
+            chebyshevCoeff[k] = high;
+            correction[k] = low;
+        }
+        return ChebyshevDoublePolynomial.of(chebyshevCoeff, correction, interval);
+    }
+
+    /**
+     * ノードと Newton 補間の係数を元の型に写して, 独自クラスによる Newton 補間多項式に変換する. <br>
+     * 元の型は {@code double} 値と同等 ({@link PseudoRealNumber.TypeProvider#isDoubleBacked()})
+     * でなければならず, その場合は値は丸められない.
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param elementTypeProvider 体の元に関するプロバイダ
+     * @return 独自クラスによる Newton 補間多項式
+     * @throws IllegalArgumentException ノードや係数が有限でない場合
+     */
+    <T extends PseudoRealNumber<T>> NewtonPolynomial<T> toNewtonPolynomial(
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        assert elementTypeProvider.isDoubleBacked() : "not double-backed";
+
+        return this.mapTo(elementTypeProvider);
+    }
+
+    /**
+     * ノードと Newton 補間の係数を元の型に写して, 独自クラスによる Newton 補間多項式に変換する. <br>
+     * 元の型は全ての有限な {@code double} 値を丸めずに表現できなければならない.
+     */
+    private <T extends PseudoRealNumber<T>> NewtonPolynomial<T> mapTo(
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        final int size = this.node.length;
+        PseudoRealNumber.PackedVector<T> packedNode = elementTypeProvider.createPackedVector(size);
+        PseudoRealNumber.PackedVector<T> packedCoeff = elementTypeProvider.createPackedVector(size);
+        for (int i = 0; i < size; i++) {
+            packedNode.set(i, elementTypeProvider.fromDoubleValue(this.node[i]));
+            packedCoeff.set(i, elementTypeProvider.fromDoubleValue(this.newtonCoeff[i]));
+        }
+        return NewtonPolynomial.fromNewtonCoefficient(packedNode, packedCoeff, elementTypeProvider);
+    }
+
+    /**
+     * 多項式の係数を返す (遅延初期化). <br>
+     * 戻り値は内部の配列そのものであるので, 書き換えてはいけない.
+     */
+    private double[] coeff() {
+        double[] out = this.coeff;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+        synchronized (lock) {
+            out = this.coeff;
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+            out = this.calcCoeff();
+            this.coeff = out;
+            return out;
+        }
+    }
+
+    /**
+     * この戻り値は有限でない可能性がある
+     */
+    private double[] calcCoeff() {
         final int size = this.node.length;
         double[] polyCoeff = new double[0];
         for (int i = 0; i < size; i++) {
@@ -94,26 +250,21 @@ final class DoubleNewtonPolynomial implements DoublePolynomial {
             }
             polyCoeff = nextCoeff;
         }
-
-        if (!Arrays.stream(polyCoeff).allMatch(Double::isFinite)) {
-            throw new ApproximationFailedException("invalid coefficients");
-        }
-
         return polyCoeff;
     }
 
     /**
      * 与えられたノードと値を実現するような, Newton 補間多項式を返す. <br>
      * ノード重複したり, 接近しすぎたりする場合, 値が極端な場合は,
-     * 係数に不正値が生じて例外がスローされることがある.
+     * 係数に不正値が生じることがある
+     * (係数の検証は {@link #validateCoefficient()} で行う).
      * 
      * @param node ノード
      * @param value ノードに対応する値
      * @return Newton 補間多項式
-     * @throws ApproximationFailedException 多項式の係数に不正値が混入した場合
      * @throws NullPointerException null
      */
-    static DoubleNewtonPolynomial from(double[] node, double[] value) throws ApproximationFailedException {
+    static DoubleNewtonPolynomial from(double[] node, double[] value) {
         node = node.clone();
         value = value.clone();
 
@@ -125,6 +276,22 @@ final class DoubleNewtonPolynomial implements DoublePolynomial {
         return new DoubleNewtonPolynomial(node, new NewtonCoefficientCalc(node, value).calcAndGet());
     }
 
+    /**
+     * ノードと Newton 補間の係数を直接与えて, Newton 補間多項式を返す. <br>
+     * 引数の配列は多項式に保持されるので, 呼び出し後に書き換えてはいけない. <br>
+     * ノードと係数の長さは, 1以上かつ同じでなければならない.
+     * 
+     * @param node ノード
+     * @param newtonCoeff Newton 補間の係数
+     * @return Newton 補間多項式
+     */
+    static DoubleNewtonPolynomial fromNewtonCoefficient(double[] node, double[] newtonCoeff) {
+        assert node.length == newtonCoeff.length : "mismatch size";
+        assert node.length > 0 : "size 0";
+
+        return new DoubleNewtonPolynomial(node, newtonCoeff);
+    }
+
     private static final class NewtonCoefficientCalc {
 
         private final double[] node;
@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.25
+ * 2026.10.16
  */
 package matsu.num.approximation.polynomial;
 
+import java.nio.DoubleBuffer;
+
 /**
  * {@code double} 型で表現された実数体に関する多項式関数を表現するインターフェース. <br>
  * <i>p</i>: &#x211D; &rarr; &#x211D; <br>
@@ -24,6 +26,13 @@ package matsu.num.approximation.polynomial;
  * </p>
  * 
  * <p>
+ * 多数の点における値は, {@link #value(double[], double[])} あるいは
+ * {@link #value(DoubleBuffer, DoubleBuffer)} により一括で評価できる. <br>
+ * 一括評価はループ展開された計算カーネルにより実行されることがあり,
+ * その場合, 結果は {@link #value(double)} と丸め誤差の範囲で異なることがある.
+ * </p>
+ * 
+ * <p>
  * このインターフェースのサブタイプはイミュータブルであり,
  * かつすべてのメソッドはスレッドセーフであることが保証されている.
  * </p>
@@ -55,6 +64,57 @@ public interface DoublePolynomial {
      */
     public abstract double value(double x);
 
+    /**
+     * 与えられた <i>x</i><sub><i>i</i></sub> のそれぞれに対し,
+     * <i>p</i>(<i>x</i><sub><i>i</i></sub>) の値を出力用の配列に書き込む. <br>
+     * 引数の配列と出力用の配列は同一でもよい (その場合, 引数は値で上書きされる).
+     * 
+     * <p>
+     * 各値は {@link #value(double)} と丸め誤差の範囲で一致する.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルトでは, 要素ごとに {@link #value(double)} を呼ぶ.
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さでなければならない
+     * @throws IllegalArgumentException 配列の長さが一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default void value(double[] xs, double[] out) {
+        DoublePolynomialKernel.requireValidArrays(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = this.value(xs[i]);
+        }
+    }
+
+    /**
+     * 引数バッファの残りの要素 (位置から上限まで) のそれぞれに対し,
+     * <i>p</i>(<i>x</i><sub><i>i</i></sub>) の値を出力用のバッファの現在位置から書き込む. <br>
+     * 両方のバッファの位置は, 評価した要素の数だけ進む.
+     * 
+     * <p>
+     * 各値は {@link #value(double)} と丸め誤差の範囲で一致する. <br>
+     * 2個のバッファが記憶域の重なり合う異なる領域を参照している場合の結果は保証されない.
+     * </p>
+     * 
+     * @implSpec
+     *               デフォルトでは, 要素ごとに {@link #value(double)} を呼ぶ.
+     * 
+     * @param xs <i>x</i><sub><i>i</i></sub>, 引数のバッファ
+     * @param out 出力用のバッファ
+     * @throws IllegalArgumentException 出力用のバッファの残りの要素数が引数のそれより少ない場合,
+     *             2個のバッファが同一のインスタンスである場合
+     * @throws java.nio.ReadOnlyBufferException 出力用のバッファが読み取り専用の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public default void value(DoubleBuffer xs, DoubleBuffer out) {
+        DoublePolynomialKernel.requireValidBuffers(xs, out);
+        while (xs.hasRemaining()) {
+            out.put(this.value(xs.get()));
+        }
+    }
+
     /**
      * 多項式の係数
      * {
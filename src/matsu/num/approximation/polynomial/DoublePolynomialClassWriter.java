@@ -0,0 +1,381 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link GeneratedDoublePolynomial} のサブクラスのクラスファイルを生成する.
+ * 
+ * <p>
+ * 生成されるクラスの {@code value(double)} は,
+ * 係数を定数 ({@code ldc2_w}) として埋め込み,
+ * {@link Math#fma(double, double, double)} の呼び出しを分岐なしで並べたコードである. <br>
+ * 演算の順序は {@link DoublePolynomialKernel} の Horner 法, Estrin 法と同一である. <br>
+ * 分岐を含まないので, スタックマップフレームは不要である.
+ * </p>
+ * 
+ * <p>
+ * 各メソッドの引数に対する契約は, プログラミングエラーによるものについてはアサーションで対応している. <br>
+ * したがって, このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoublePolynomialClassWriter {
+
+    /**
+     * JIT コンパイルの対象となるメソッドのバイトコード長の上限 (HotSpot の既定値). <br>
+     * これを超えるコードはインタプリタで実行されるため, 生成しない.
+     */
+    static final int MAX_CODE_LENGTH = 8000;
+
+    /**
+     * 生成するクラスの名前 (JVM 内部形式), 隠しクラスとして定義する際に接尾辞が付加される.
+     */
+    static final String CLASS_NAME = "matsu/num/approximation/polynomial/GeneratedDoublePolynomial$Impl";
+
+    private static final String SUPER_CLASS_NAME = "matsu/num/approximation/polynomial/GeneratedDoublePolynomial";
+    private static final String CONSTRUCTOR_DESCRIPTOR =
+            "(Lmatsu/num/approximation/polynomial/CompiledDoublePolynomial;)V";
+
+    private static final int CLASS_FILE_MAJOR_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int LDC2_W = 0x14;
+    private static final int DLOAD = 0x18;
+    private static final int DSTORE = 0x39;
+    private static final int DMUL = 0x6b;
+    private static final int DRETURN = 0xaf;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    /*
+     * value(double) の局所変数の配置 (double は2スロットを占める).
+     */
+    private static final int LOCAL_X = 1;
+    private static final int LOCAL_X2 = 3;
+    private static final int LOCAL_X4 = 5;
+    private static final int LOCAL_X8 = 7;
+    private static final int LOCAL_Q0 = 9;
+    private static final int LOCAL_Q1 = 11;
+    private static final int LOCAL_Q2 = 13;
+    private static final int LOCAL_Q3 = 15;
+    private static final int LOCAL_R0 = 17;
+    private static final int MAX_LOCALS = 19;
+
+    /**
+     * value(double) のオペランドスタックの最大深さ (Estrin 法で p, x8 と fma の3引数).
+     */
+    private static final int MAX_STACK = 10;
+
+    private final ConstantPool pool = new ConstantPool();
+    private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+    private final int fmaRef;
+
+    private DoublePolynomialClassWriter() {
+        super();
+        this.fmaRef = this.pool.methodref("java/lang/Math", "fma", "(DDD)D");
+    }
+
+    /**
+     * 係数と評価方式を与えて, クラスファイルを生成する. <br>
+     * {@code value(double)} のコードが長すぎる場合は {@code null} を返す.
+     * 
+     * @param coeff 単項式基底の係数, 長さは1以上
+     * @param scheme 評価方式
+     * @return クラスファイル, コードが長すぎる場合はnull
+     */
+    static byte[] write(double[] coeff, EvaluationScheme scheme) {
+        assert coeff.length >= 1 : "size 0";
+
+        DoublePolynomialClassWriter writer = new DoublePolynomialClassWriter();
+        switch (scheme) {
+            case HORNER -> writer.horner(coeff);
+            case ESTRIN -> writer.estrin(DoublePolynomialKernel.estrinCoefficient(coeff));
+        }
+        writer.op(DRETURN);
+
+        if (writer.code.size() > MAX_CODE_LENGTH) {
+            return null;
+        }
+        return writer.toClassFile();
+    }
+
+    /**
+     * p = a[n]; p = fma(p, x, a[k]) (k = n-1, ... , 0)
+     */
+    private void horner(double[] coeff) {
+        final int last = coeff.length - 1;
+        this.ldc(coeff[last]);
+        for (int k = last - 1; k >= 0; k--) {
+            this.dload(LOCAL_X);
+            this.ldc(coeff[k]);
+            this.fma();
+        }
+    }
+
+    /**
+     * {@link DoublePolynomialKernel#estrin(double[], double)} と同一の演算を行う.
+     */
+    private void estrin(double[] estrinCoeff) {
+        // x2 = x * x, x4 = x2 * x2
+        this.dload(LOCAL_X);
+        this.dload(LOCAL_X);
+        this.op(DMUL);
+        this.dstore(LOCAL_X2);
+        this.dload(LOCAL_X2);
+        this.dload(LOCAL_X2);
+        this.op(DMUL);
+        this.dstore(LOCAL_X4);
+
+        int from = estrinCoeff.length - 8;
+        this.estrinBlock(estrinCoeff, from);
+        if (from == 0) {
+            return;
+        }
+
+        // x8 = x4 * x4
+        this.dload(LOCAL_X4);
+        this.dload(LOCAL_X4);
+        this.op(DMUL);
+        this.dstore(LOCAL_X8);
+        for (from -= 8; from >= 0; from -= 8) {
+            // p = fma(p, x8, block)
+            this.dload(LOCAL_X8);
+            this.estrinBlock(estrinCoeff, from);
+            this.fma();
+        }
+    }
+
+    /**
+     * 8個の係数からなるブロックの値をスタックに積む.
+     */
+    private void estrinBlock(double[] c, int from) {
+        final int[] q = { LOCAL_Q0, LOCAL_Q1, LOCAL_Q2, LOCAL_Q3 };
+        for (int i = 0; i < 4; i++) {
+            // q_i = fma(c[2i+1], x, c[2i])
+            this.ldc(c[from + 2 * i + 1]);
+            this.dload(LOCAL_X);
+            this.ldc(c[from + 2 * i]);
+            this.fma();
+            this.dstore(q[i]);
+        }
+
+        // r0 = fma(q1, x2, q0)
+        this.dload(LOCAL_Q1);
+        this.dload(LOCAL_X2);
+        this.dload(LOCAL_Q0);
+        this.fma();
+        this.dstore(LOCAL_R0);
+
+        // fma(fma(q3, x2, q2), x4, r0)
+        this.dload(LOCAL_Q3);
+        this.dload(LOCAL_X2);
+        this.dload(LOCAL_Q2);
+        this.fma();
+        this.dload(LOCAL_X4);
+        this.dload(LOCAL_R0);
+        this.fma();
+    }
+
+    private void ldc(double value) {
+        this.op(LDC2_W);
+        this.u2(this.pool.doubleConstant(value));
+    }
+
+    private void dload(int local) {
+        this.op(DLOAD);
+        this.op(local);
+    }
+
+    private void dstore(int local) {
+        this.op(DSTORE);
+        this.op(local);
+    }
+
+    private void fma() {
+        this.op(INVOKESTATIC);
+        this.u2(this.fmaRef);
+    }
+
+    private void op(int b) {
+        this.code.write(b);
+    }
+
+    private void u2(int v) {
+        this.code.write(v >>> 8);
+        this.code.write(v);
+    }
+
+    /**
+     * クラスファイルを組み立てる.
+     */
+    private byte[] toClassFile() {
+        final int thisClass = this.pool.classRef(CLASS_NAME);
+        final int superClass = this.pool.classRef(SUPER_CLASS_NAME);
+        final int superConstructor = this.pool.methodref(SUPER_CLASS_NAME, "<init>", CONSTRUCTOR_DESCRIPTOR);
+        final int codeName = this.pool.utf8("Code");
+        final int initName = this.pool.utf8("<init>");
+        final int initDescriptor = this.pool.utf8(CONSTRUCTOR_DESCRIPTOR);
+        final int valueName = this.pool.utf8("value");
+        final int valueDescriptor = this.pool.utf8("(D)D");
+
+        byte[] constructorCode = {
+                (byte) ALOAD_0, (byte) ALOAD_1,
+                (byte) INVOKESPECIAL, (byte) (superConstructor >>> 8), (byte) superConstructor,
+                (byte) RETURN };
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_MAJOR_VERSION);
+            this.pool.writeTo(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0); // interfaces
+            out.writeShort(0); // fields
+            out.writeShort(2); // methods
+            writeMethod(out, ACC_PUBLIC, initName, initDescriptor, codeName, 2, 2, constructorCode);
+            writeMethod(out, ACC_PUBLIC | ACC_FINAL, valueName, valueDescriptor, codeName,
+                    MAX_STACK, MAX_LOCALS, this.code.toByteArray());
+            out.writeShort(0); // attributes
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            //ByteArrayOutputStream は IOException をスローしない
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMethod(DataOutputStream out, int access, int name, int descriptor,
+            int codeName, int maxStack, int maxLocals, byte[] code) throws IOException {
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1); // attributes
+        out.writeShort(codeName);
+        out.writeInt(2 + 2 + 4 + code.length + 2 + 2);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0); // exception table
+        out.writeShort(0); // attributes
+    }
+
+    /**
+     * コンスタントプール. <br>
+     * 同一のエントリは共有する.
+     */
+    private static final class ConstantPool {
+
+        private static final int TAG_UTF8 = 1;
+        private static final int TAG_DOUBLE = 6;
+        private static final int TAG_CLASS = 7;
+        private static final int TAG_METHODREF = 10;
+        private static final int TAG_NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(entries);
+        private final Map<Object, Integer> indices = new HashMap<>();
+
+        /**
+         * 次のエントリのインデックス (1始まり).
+         */
+        private int next = 1;
+
+        int utf8(String value) {
+            return this.entry("U" + value, 1, () -> {
+                out.writeByte(TAG_UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        int doubleConstant(double value) {
+            //符号付きゼロや NaN を区別するため, ビット表現をキーとする
+            long bits = Double.doubleToRawLongBits(value);
+            return this.entry(bits, 2, () -> {
+                out.writeByte(TAG_DOUBLE);
+                out.writeLong(bits);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = this.utf8(internalName);
+            return this.entry("C" + internalName, 1, () -> {
+                out.writeByte(TAG_CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        int methodref(String owner, String name, String descriptor) {
+            int ownerIndex = this.classRef(owner);
+            int nameIndex = this.utf8(name);
+            int descriptorIndex = this.utf8(descriptor);
+            int nameAndType = this.entry("N" + name + ":" + descriptor, 1, () -> {
+                out.writeByte(TAG_NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return this.entry("M" + owner + "." + name + ":" + descriptor, 1, () -> {
+                out.writeByte(TAG_METHODREF);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        /**
+         * コンスタントプールをクラスファイルに書き込む.
+         */
+        void writeTo(DataOutputStream classFile) throws IOException {
+            out.flush();
+            classFile.writeShort(this.next);
+            this.entries.writeTo(classFile);
+        }
+
+        private int entry(Object key, int slots, EntryWriter writer) {
+            Integer index = this.indices.get(key);
+            if (Objects.nonNull(index)) {
+                return index;
+            }
+            int newIndex = this.next;
+            try {
+                writer.write();
+            } catch (IOException e) {
+                //ByteArrayOutputStream は IOException をスローしない
+                throw new UncheckedIOException(e);
+            }
+            this.next += slots;
+            this.indices.put(key, newIndex);
+            return newIndex;
+        }
+
+        @FunctionalInterface
+        private static interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+}
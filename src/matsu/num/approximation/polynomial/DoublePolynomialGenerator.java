@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+
+/**
+ * 多項式ごとに専用のクラスを実行時に生成し, 係数を定数として埋め込んだ評価コードを得るためのユーティリティ.
+ * 
+ * <p>
+ * {@link #generate(DoublePolynomial, EvaluationScheme)} は,
+ * 多項式の係数を定数として埋め込み,
+ * {@link Math#fma(double, double, double)} を分岐なしで並べた {@code value(double)} を持つクラスを,
+ * {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...)}
+ * により隠しクラスとして定義する. <br>
+ * 配列の参照やループを含まないため, 呼び出し側に完全にインライン展開されやすい
+ * (HotSpot の既定では, バイトコード長が 325 バイト以下のメソッドが頻繁な呼び出し箇所にインライン展開される.
+ * Horner 法では次数がおよそ 45 以下に相当する).
+ * </p>
+ * 
+ * <p>
+ * 生成された多項式の値は,
+ * 同じ評価方式の {@link CompiledDoublePolynomial} の値とビット単位で一致する. <br>
+ * クラスの定義が許可されない環境の場合や, 次数が高くコードが長くなりすぎる場合
+ * (JIT コンパイルの対象外となる場合) は,
+ * 代わりに {@link CompiledDoublePolynomial} が返される.
+ * </p>
+ * 
+ * <p>
+ * 生成されたクラスは, インスタンスが到達不能になればアンロードされ得る.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class DoublePolynomialGenerator {
+
+    private DoublePolynomialGenerator() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 多項式と評価方式を与えて, 係数を定数として埋め込んだ評価コードを持つ多項式を返す.
+     * 
+     * <p>
+     * 戻り値はイミュータブルであり, スレッドセーフである. <br>
+     * 値は {@code CompiledDoublePolynomial.of(polynomial, scheme)} の値とビット単位で一致する. <br>
+     * クラスが生成できない場合は,
+     * {@link CompiledDoublePolynomial#of(DoublePolynomial, EvaluationScheme)} の戻り値を返す.
+     * </p>
+     * 
+     * @param polynomial 多項式
+     * @param scheme 評価方式
+     * @return 評価コードを生成した多項式
+     * @throws IllegalArgumentException 多項式の係数が有限でない値を含む場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static DoublePolynomial generate(DoublePolynomial polynomial, EvaluationScheme scheme) {
+        CompiledDoublePolynomial compiled = CompiledDoublePolynomial.of(polynomial, scheme);
+
+        byte[] classFile = DoublePolynomialClassWriter.write(compiled.coefficient(), scheme);
+        if (Objects.isNull(classFile)) {
+            return compiled;
+        }
+
+        try {
+            Class<?> generated = MethodHandles.lookup().defineHiddenClass(classFile, true).lookupClass();
+            return (DoublePolynomial) generated
+                    .getConstructor(CompiledDoublePolynomial.class)
+                    .newInstance(compiled);
+        } catch (ReflectiveOperationException | LinkageError | SecurityException
+                | UnsupportedOperationException e) {
+            //クラスの定義が許可されない環境
+            return compiled;
+        }
+    }
+}
@@ -0,0 +1,610 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 多項式を複数の点で一括評価するための計算カーネルを扱うユーティリティクラス.
+ * 
+ * <p>
+ * 評価は Horner 法 (Newton 形式の場合はその一般化である入れ子形式) あるいは Estrin 法による. <br>
+ * Chebyshev 基底の場合は, Horner 法に相当する Clenshaw の漸化式による. <br>
+ * 1点についての Horner 法は逐次的な依存関係を持つため,
+ * 4点を同時に処理するようにループを展開し, 独立した4本の計算を並べて命令レベルの並列性を引き出す. <br>
+ * Estrin 法は1点の計算の中に並列性を持つので, 点ごとに評価する. <br>
+ * 乗算と加算は {@link Math#fma(double, double, double)} によりまとめる
+ * (丸めが1回になるため, 逐次的な評価とは丸め誤差の範囲で結果が異なることがある).
+ * </p>
+ * 
+ * <p>
+ * 計算カーネルの引数に対する契約は, プログラミングエラーによるものについてはアサーションで対応している. <br>
+ * 公開メソッドの引数の検証には, 例外をスローする検証用メソッドを用いる. <br>
+ * このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoublePolynomialKernel {
+
+    /**
+     * ループ展開の幅.
+     */
+    private static final int UNROLL = 4;
+
+    /**
+     * バッファを経由して評価する場合の, 一時配列の大きさ.
+     */
+    private static final int BUFFER_CHUNK = 256;
+
+    private DoublePolynomialKernel() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 配列による一括評価の引数を検証する.
+     * 
+     * @param xs 引数の配列
+     * @param out 出力用の配列
+     * @throws IllegalArgumentException 配列の長さが一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    static void requireValidArrays(double[] xs, double[] out) {
+        if (xs.length != out.length) {
+            throw new IllegalArgumentException(
+                    "mismatch length: xs.length = %s, out.length = %s".formatted(xs.length, out.length));
+        }
+    }
+
+    /**
+     * バッファによる一括評価の引数を検証する.
+     * 
+     * @param xs 引数のバッファ
+     * @param out 出力用のバッファ
+     * @throws IllegalArgumentException 出力用のバッファの残りの要素数が引数のそれより少ない場合,
+     *             2個のバッファが同一のインスタンスである場合
+     * @throws ReadOnlyBufferException 出力用のバッファが読み取り専用の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    static void requireValidBuffers(DoubleBuffer xs, DoubleBuffer out) {
+        if (Objects.requireNonNull(xs) == Objects.requireNonNull(out)) {
+            throw new IllegalArgumentException("xs and out are the same instance");
+        }
+        if (out.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (out.remaining() < xs.remaining()) {
+            throw new IllegalArgumentException(
+                    "out is too small: xs.remaining = %s, out.remaining = %s"
+                            .formatted(xs.remaining(), out.remaining()));
+        }
+    }
+
+    /**
+     * 一括評価の対象となる多項式の表現.
+     */
+    @FunctionalInterface
+    static interface ArrayEvaluator {
+
+        /**
+         * 配列の指定範囲の点における多項式の値を, 出力用の配列の指定位置から書き込む. <br>
+         * 引数の配列と出力用の配列は同一でもよい (範囲が一致する場合に限る).
+         * 
+         * @param xs 引数の配列
+         * @param xsFrom 引数の開始位置
+         * @param out 出力用の配列
+         * @param outFrom 出力の開始位置
+         * @param length 評価する点の数
+         */
+        void evaluate(double[] xs, int xsFrom, double[] out, int outFrom, int length);
+    }
+
+    /**
+     * 単項式基底の係数
+     * <i>a</i><sub>0</sub>, ... , <i>a</i><sub><i>n</i></sub>
+     * で表された多項式を, Horner 法により配列の指定範囲の点で評価する.
+     * 
+     * @param coeff 係数, 長さは1以上
+     * @param xs 引数の配列
+     * @param xsFrom 引数の開始位置
+     * @param out 出力用の配列
+     * @param outFrom 出力の開始位置
+     * @param length 評価する点の数
+     */
+    static void horner(double[] coeff,
+            double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        assert coeff.length >= 1 : "size 0";
+
+        final int last = coeff.length - 1;
+        final double top = coeff[last];
+
+        int i = 0;
+        for (final int end = length - UNROLL; i <= end; i += UNROLL) {
+            final double x0 = xs[xsFrom + i];
+            final double x1 = xs[xsFrom + i + 1];
+            final double x2 = xs[xsFrom + i + 2];
+            final double x3 = xs[xsFrom + i + 3];
+            double p0 = top;
+            double p1 = top;
+            double p2 = top;
+            double p3 = top;
+            for (int k = last - 1; k >= 0; k--) {
+                final double a = coeff[k];
+                p0 = Math.fma(p0, x0, a);
+                p1 = Math.fma(p1, x1, a);
+                p2 = Math.fma(p2, x2, a);
+                p3 = Math.fma(p3, x3, a);
+            }
+            out[outFrom + i] = p0;
+            out[outFrom + i + 1] = p1;
+            out[outFrom + i + 2] = p2;
+            out[outFrom + i + 3] = p3;
+        }
+        for (; i < length; i++) {
+            out[outFrom + i] = horner(coeff, xs[xsFrom + i]);
+        }
+    }
+
+    /**
+     * 単項式基底の係数で表された多項式を, Horner 法により1点で評価する.
+     * 
+     * @param coeff 係数, 長さは1以上
+     * @param x 引数
+     * @return 多項式の値
+     */
+    static double horner(double[] coeff, double x) {
+        assert coeff.length >= 1 : "size 0";
+
+        final int last = coeff.length - 1;
+        double p = coeff[last];
+        for (int k = last - 1; k >= 0; k--) {
+            p = Math.fma(p, x, coeff[k]);
+        }
+        return p;
+    }
+
+    /**
+     * Estrin 法のブロックの大きさ.
+     */
+    private static final int ESTRIN_BLOCK = 8;
+
+    /**
+     * 単項式基底の係数を, Estrin 法による評価のための形式に変換する. <br>
+     * 係数の個数がブロックの大きさの倍数になるように, 高次側に0を補う.
+     * 
+     * @param coeff 係数, 長さは1以上
+     * @return Estrin 法のための係数
+     */
+    static double[] estrinCoefficient(double[] coeff) {
+        assert coeff.length >= 1 : "size 0";
+
+        int blocks = (coeff.length + ESTRIN_BLOCK - 1) / ESTRIN_BLOCK;
+        return Arrays.copyOf(coeff, blocks * ESTRIN_BLOCK);
+    }
+
+    /**
+     * {@link #estrinCoefficient(double[])} により変換された係数で表された多項式を,
+     * Estrin 法により配列の指定範囲の点で評価する.
+     * 
+     * @param estrinCoeff Estrin 法のための係数
+     * @param xs 引数の配列
+     * @param xsFrom 引数の開始位置
+     * @param out 出力用の配列
+     * @param outFrom 出力の開始位置
+     * @param length 評価する点の数
+     */
+    static void estrin(double[] estrinCoeff,
+            double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            out[outFrom + i] = estrin(estrinCoeff, xs[xsFrom + i]);
+        }
+    }
+
+    /**
+     * {@link #estrinCoefficient(double[])} により変換された係数で表された多項式を,
+     * Estrin 法により1点で評価する.
+     * 
+     * <p>
+     * 係数を8個ずつのブロックに分け, 各ブロックを
+     * <i>x</i>, <i>x</i><sup>2</sup>, <i>x</i><sup>4</sup>
+     * についての木構造で評価し,
+     * ブロック間を <i>x</i><sup>8</sup> についての Horner 法で結合する. <br>
+     * 各ブロックの評価は互いに独立であるので, 並行して実行できる.
+     * </p>
+     * 
+     * @param estrinCoeff Estrin 法のための係数
+     * @param x 引数
+     * @return 多項式の値
+     */
+    static double estrin(double[] estrinCoeff, double x) {
+        assert estrinCoeff.length >= ESTRIN_BLOCK
+                && estrinCoeff.length % ESTRIN_BLOCK == 0 : "invalid size";
+
+        final double x2 = x * x;
+        final double x4 = x2 * x2;
+
+        int from = estrinCoeff.length - ESTRIN_BLOCK;
+        double p = estrinBlock(estrinCoeff, from, x, x2, x4);
+        if (from == 0) {
+            return p;
+        }
+        final double x8 = x4 * x4;
+        for (from -= ESTRIN_BLOCK; from >= 0; from -= ESTRIN_BLOCK) {
+            p = Math.fma(p, x8, estrinBlock(estrinCoeff, from, x, x2, x4));
+        }
+        return p;
+    }
+
+    /**
+     * 8個の係数からなるブロックを Estrin 法で評価する.
+     */
+    private static double estrinBlock(double[] c, int from, double x, double x2, double x4) {
+        final double q0 = Math.fma(c[from + 1], x, c[from]);
+        final double q1 = Math.fma(c[from + 3], x, c[from + 2]);
+        final double q2 = Math.fma(c[from + 5], x, c[from + 4]);
+        final double q3 = Math.fma(c[from + 7], x, c[from + 6]);
+        final double r0 = Math.fma(q1, x2, q0);
+        final double r1 = Math.fma(q3, x2, q2);
+        return Math.fma(r1, x4, r0);
+    }
+
+    /**
+     * Chebyshev 基底の係数
+     * <i>c</i><sub>0</sub>, ... , <i>c</i><sub><i>n</i></sub>
+     * で表された多項式 <br>
+     * <i>p</i>(<i>x</i>) =
+     * &sum;<sub><i>k</i></sub> <i>c</i><sub><i>k</i></sub>
+     * <i>T</i><sub><i>k</i></sub>(<i>t</i>),
+     * <i>t</i> = (<i>x</i> - <i>m</i>) <i>s</i> <br>
+     * を, Clenshaw の漸化式により配列の指定範囲の点で評価する.
+     * 
+     * @param chebyshevCoeff Chebyshev 基底の係数, 長さは1以上
+     * @param shift 変数変換の中心 <i>m</i>
+     * @param scale 変数変換の倍率 <i>s</i>
+     * @param xs 引数の配列
+     * @param xsFrom 引数の開始位置
+     * @param out 出力用の配列
+     * @param outFrom 出力の開始位置
+     * @param length 評価する点の数
+     */
+    static void clenshaw(double[] chebyshevCoeff, double shift, double scale,
+            double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        assert chebyshevCoeff.length >= 1 : "size 0";
+
+        final int last = chebyshevCoeff.length - 1;
+
+        int i = 0;
+        for (final int end = length - UNROLL; i <= end; i += UNROLL) {
+            final double t0 = (xs[xsFrom + i] - shift) * scale;
+            final double t1 = (xs[xsFrom + i + 1] - shift) * scale;
+            final double t2 = (xs[xsFrom + i + 2] - shift) * scale;
+            final double t3 = (xs[xsFrom + i + 3] - shift) * scale;
+            final double tt0 = t0 + t0;
+            final double tt1 = t1 + t1;
+            final double tt2 = t2 + t2;
+            final double tt3 = t3 + t3;
+            double b10 = 0d, b20 = 0d;
+            double b11 = 0d, b21 = 0d;
+            double b12 = 0d, b22 = 0d;
+            double b13 = 0d, b23 = 0d;
+            for (int k = last; k >= 1; k--) {
+                final double c = chebyshevCoeff[k];
+                final double n0 = Math.fma(tt0, b10, c - b20);
+                final double n1 = Math.fma(tt1, b11, c - b21);
+                final double n2 = Math.fma(tt2, b12, c - b22);
+                final double n3 = Math.fma(tt3, b13, c - b23);
+                b20 = b10;
+                b21 = b11;
+                b22 = b12;
+                b23 = b13;
+                b10 = n0;
+                b11 = n1;
+                b12 = n2;
+                b13 = n3;
+            }
+            final double c = chebyshevCoeff[0];
+            out[outFrom + i] = Math.fma(t0, b10, c - b20);
+            out[outFrom + i + 1] = Math.fma(t1, b11, c - b21);
+            out[outFrom + i + 2] = Math.fma(t2, b12, c - b22);
+            out[outFrom + i + 3] = Math.fma(t3, b13, c - b23);
+        }
+        for (; i < length; i++) {
+            out[outFrom + i] = clenshaw(chebyshevCoeff, (xs[xsFrom + i] - shift) * scale);
+        }
+    }
+
+    /**
+     * Chebyshev 基底の係数で表された多項式を, Clenshaw の漸化式により1点で評価する.
+     * 
+     * @param chebyshevCoeff Chebyshev 基底の係数, 長さは1以上
+     * @param t 変数変換後の引数 <i>t</i>
+     * @return 多項式の値
+     */
+    static double clenshaw(double[] chebyshevCoeff, double t) {
+        assert chebyshevCoeff.length >= 1 : "size 0";
+
+        final double tt = t + t;
+        double b1 = 0d;
+        double b2 = 0d;
+        for (int k = chebyshevCoeff.length - 1; k >= 1; k--) {
+            final double b = Math.fma(tt, b1, chebyshevCoeff[k] - b2);
+            b2 = b1;
+            b1 = b;
+        }
+        return Math.fma(t, b1, chebyshevCoeff[0] - b2);
+    }
+
+    /**
+     * 補正項付きの Chebyshev 基底の係数
+     * (<i>c</i><sub><i>k</i></sub> = 主要部 + 補正項) で表された多項式を,
+     * 補正付きの Clenshaw の漸化式により1点で評価する.
+     * 
+     * <p>
+     * 主要部の漸化式 <i>b</i><sub><i>k</i></sub> を {@code double} で実行し,
+     * 各段の丸め誤差を誤差なし変換
+     * (TwoSum, および {@link Math#fma(double, double, double)} による積の誤差の抽出)
+     * により取り出す. <br>
+     * 丸め誤差と係数の補正項は, 同じ形の漸化式 <br>
+     * <i>e</i><sub><i>k</i></sub> =
+     * &delta;<sub><i>k</i></sub> + 2<i>t</i> <i>e</i><sub><i>k</i>+1</sub> - <i>e</i><sub><i>k</i>+2</sub> <br>
+     * により伝播させ, 最後に主要部に加える. <br>
+     * 丸め誤差は, 概ね &sum;<sub><i>k</i></sub> |<i>c</i><sub><i>k</i></sub>| ではなく
+     * 多項式の値そのものの大きさに比例するので,
+     * 値が係数に比べて小さくなる点でも相対精度が保たれる.
+     * </p>
+     * 
+     * @param chebyshevCoeff Chebyshev 基底の係数の主要部, 長さは1以上
+     * @param correction Chebyshev 基底の係数の補正項, 主要部と同じ長さ
+     * @param t 変数変換後の引数 <i>t</i>
+     * @return 多項式の値
+     */
+    static double compensatedClenshaw(double[] chebyshevCoeff, double[] correction, double t) {
+        assert chebyshevCoeff.length >= 1 : "size 0";
+        assert chebyshevCoeff.length == correction.length : "mismatch size";
+
+        final double tt = t + t;
+        double b1 = 0d, b2 = 0d;
+        double e1 = 0d, e2 = 0d;
+        for (int k = chebyshevCoeff.length - 1; k >= 1; k--) {
+            final double p = tt * b1;
+            final double s = p - b2;
+            final double u = s + chebyshevCoeff[k];
+            final double e = Math.fma(tt, e1, correction[k] - e2)
+                    + roundingError(tt, b1, p, b2, s, chebyshevCoeff[k], u);
+            b2 = b1;
+            b1 = u;
+            e2 = e1;
+            e1 = e;
+        }
+        final double p = t * b1;
+        final double s = p - b2;
+        final double u = s + chebyshevCoeff[0];
+        final double e = Math.fma(t, e1, correction[0] - e2)
+                + roundingError(t, b1, p, b2, s, chebyshevCoeff[0], u);
+        return u + e;
+    }
+
+    /**
+     * 補正付きの Clenshaw の漸化式の1段
+     * <i>u</i> = fl(fl(fl(<i>a</i><i>b</i>) - <i>c</i>) + <i>d</i>)
+     * における丸め誤差 (<i>a</i><i>b</i> - <i>c</i> + <i>d</i> - <i>u</i>) を返す.
+     * 
+     * @param a 乗数
+     * @param b 被乗数
+     * @param p fl(<i>a</i><i>b</i>)
+     * @param c 減数
+     * @param s fl(<i>p</i> - <i>c</i>)
+     * @param d 加数
+     * @param u fl(<i>s</i> + <i>d</i>)
+     * @return 丸め誤差
+     */
+    private static double roundingError(
+            double a, double b, double p, double c, double s, double d, double u) {
+        // 積の誤差
+        final double pe = Math.fma(a, b, -p);
+        // 差の誤差 (TwoSum)
+        final double sv = s - p;
+        final double se = (p - (s - sv)) + (-c - sv);
+        // 和の誤差 (TwoSum)
+        final double uv = u - s;
+        final double ue = (s - (u - uv)) + (d - uv);
+        return pe + se + ue;
+    }
+
+    /**
+     * 補正項付きの Chebyshev 基底の係数で表された多項式を,
+     * 配列の指定範囲の点で評価する. <br>
+     * 各点の値は {@link #compensatedClenshaw(double[], double[], double)} の戻り値と同一である.
+     * 
+     * @param chebyshevCoeff Chebyshev 基底の係数の主要部, 長さは1以上
+     * @param correction Chebyshev 基底の係数の補正項, 主要部と同じ長さ
+     * @param shift 変数変換の中心 <i>m</i>
+     * @param scale 変数変換の倍率 1/<i>h</i>
+     * @param xs 引数の配列
+     * @param xsFrom 引数の開始位置
+     * @param out 出力用の配列
+     * @param outFrom 出力の開始位置
+     * @param length 評価する点の数
+     */
+    static void compensatedClenshaw(double[] chebyshevCoeff, double[] correction, double shift, double scale,
+            double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        assert chebyshevCoeff.length >= 1 : "size 0";
+        assert chebyshevCoeff.length == correction.length : "mismatch size";
+
+        int i = 0;
+        for (final int end = length - 2; i <= end; i += 2) {
+            final double t0 = (xs[xsFrom + i] - shift) * scale;
+            final double t1 = (xs[xsFrom + i + 1] - shift) * scale;
+            final double tt0 = t0 + t0;
+            final double tt1 = t1 + t1;
+            double b10 = 0d, b20 = 0d, e10 = 0d, e20 = 0d;
+            double b11 = 0d, b21 = 0d, e11 = 0d, e21 = 0d;
+            for (int k = chebyshevCoeff.length - 1; k >= 1; k--) {
+                final double c = chebyshevCoeff[k];
+                final double r = correction[k];
+                final double p0 = tt0 * b10;
+                final double p1 = tt1 * b11;
+                final double s0 = p0 - b20;
+                final double s1 = p1 - b21;
+                final double u0 = s0 + c;
+                final double u1 = s1 + c;
+                final double n0 = Math.fma(tt0, e10, r - e20) + roundingError(tt0, b10, p0, b20, s0, c, u0);
+                final double n1 = Math.fma(tt1, e11, r - e21) + roundingError(tt1, b11, p1, b21, s1, c, u1);
+                b20 = b10;
+                b21 = b11;
+                b10 = u0;
+                b11 = u1;
+                e20 = e10;
+                e21 = e11;
+                e10 = n0;
+                e11 = n1;
+            }
+            final double c = chebyshevCoeff[0];
+            final double r = correction[0];
+            final double p0 = t0 * b10;
+            final double p1 = t1 * b11;
+            final double s0 = p0 - b20;
+            final double s1 = p1 - b21;
+            final double u0 = s0 + c;
+            final double u1 = s1 + c;
+            out[outFrom + i] = u0
+                    + (Math.fma(t0, e10, r - e20) + roundingError(t0, b10, p0, b20, s0, c, u0));
+            out[outFrom + i + 1] = u1
+                    + (Math.fma(t1, e11, r - e21) + roundingError(t1, b11, p1, b21, s1, c, u1));
+        }
+        for (; i < length; i++) {
+            out[outFrom + i] = compensatedClenshaw(
+                    chebyshevCoeff, correction, (xs[xsFrom + i] - shift) * scale);
+        }
+    }
+
+    /**
+     * 係数表の指定範囲に格納された Chebyshev 基底の係数で表された多項式を,
+     * Clenshaw の漸化式により1点で評価する. <br>
+     * 区分多項式のように, 複数の多項式の係数を1つの配列に並べた場合に用いる.
+     * 
+     * @param table 係数表
+     * @param from 係数 <i>c</i><sub>0</sub> の位置
+     * @param size 係数の数, 1以上
+     * @param t 変数変換後の引数 <i>t</i>
+     * @return 多項式の値
+     */
+    static double clenshaw(double[] table, int from, int size, double t) {
+        assert size >= 1 : "size 0";
+
+        final double tt = t + t;
+        double b1 = 0d;
+        double b2 = 0d;
+        for (int k = from + size - 1; k > from; k--) {
+            final double b = Math.fma(tt, b1, table[k] - b2);
+            b2 = b1;
+            b1 = b;
+        }
+        return Math.fma(t, b1, table[from] - b2);
+    }
+
+    /**
+     * Newton 形式 <br>
+     * <i>p</i>(<i>x</i>) =
+     * <i>d</i><sub>0</sub> +
+     * (<i>x</i> - <i>c</i><sub>0</sub>)(<i>d</i><sub>1</sub> +
+     * (<i>x</i> - <i>c</i><sub>1</sub>)(<i>d</i><sub>2</sub> + &sdot;&sdot;&sdot;)) <br>
+     * で表された多項式を, 配列の指定範囲の点で評価する.
+     * 
+     * @param node ノード <i>c</i><sub><i>k</i></sub>
+     * @param newtonCoeff Newton 係数 <i>d</i><sub><i>k</i></sub>, ノードと同じ長さで1以上
+     * @param xs 引数の配列
+     * @param xsFrom 引数の開始位置
+     * @param out 出力用の配列
+     * @param outFrom 出力の開始位置
+     * @param length 評価する点の数
+     */
+    static void newton(double[] node, double[] newtonCoeff,
+            double[] xs, int xsFrom, double[] out, int outFrom, int length) {
+        assert node.length == newtonCoeff.length : "mismatch size";
+        assert node.length >= 1 : "size 0";
+
+        final int last = newtonCoeff.length - 1;
+        final double top = newtonCoeff[last];
+
+        int i = 0;
+        for (final int end = length - UNROLL; i <= end; i += UNROLL) {
+            final double x0 = xs[xsFrom + i];
+            final double x1 = xs[xsFrom + i + 1];
+            final double x2 = xs[xsFrom + i + 2];
+            final double x3 = xs[xsFrom + i + 3];
+            double p0 = top;
+            double p1 = top;
+            double p2 = top;
+            double p3 = top;
+            for (int k = last - 1; k >= 0; k--) {
+                final double c = node[k];
+                final double d = newtonCoeff[k];
+                p0 = Math.fma(p0, x0 - c, d);
+                p1 = Math.fma(p1, x1 - c, d);
+                p2 = Math.fma(p2, x2 - c, d);
+                p3 = Math.fma(p3, x3 - c, d);
+            }
+            out[outFrom + i] = p0;
+            out[outFrom + i + 1] = p1;
+            out[outFrom + i + 2] = p2;
+            out[outFrom + i + 3] = p3;
+        }
+        for (; i < length; i++) {
+            final double x = xs[xsFrom + i];
+            double p = top;
+            for (int k = last - 1; k >= 0; k--) {
+                p = Math.fma(p, x - node[k], newtonCoeff[k]);
+            }
+            out[outFrom + i] = p;
+        }
+    }
+
+    /**
+     * 配列による評価を用いて, 引数バッファの残りの要素すべてについて多項式の値を求め,
+     * 出力バッファに書き込む. <br>
+     * 両方のバッファの位置は, 評価した点の数だけ進む.
+     * 
+     * <p>
+     * バッファが書き込み可能な配列に支えられている場合はその配列を直接用い,
+     * そうでない場合は一時配列を経由する.
+     * </p>
+     * 
+     * @param evaluator 配列による評価
+     * @param xs 引数のバッファ
+     * @param out 出力用のバッファ, 残りの要素数が引数以上でなければならない
+     */
+    static void evaluate(ArrayEvaluator evaluator, DoubleBuffer xs, DoubleBuffer out) {
+        assert out.remaining() >= xs.remaining() : "out is too small";
+
+        final int length = xs.remaining();
+        if (xs.hasArray() && out.hasArray()) {
+            evaluator.evaluate(
+                    xs.array(), xs.arrayOffset() + xs.position(),
+                    out.array(), out.arrayOffset() + out.position(), length);
+            xs.position(xs.position() + length);
+            out.position(out.position() + length);
+            return;
+        }
+
+        double[] chunk = new double[Math.min(length, BUFFER_CHUNK)];
+        for (int done = 0; done < length;) {
+            int size = Math.min(chunk.length, length - done);
+            xs.get(chunk, 0, size);
+            evaluator.evaluate(chunk, 0, chunk, 0, size);
+            out.put(chunk, 0, size);
+            done += size;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 独自クラスによる実数体に関する近似のノードを,
+ * {@code double} 型による近似計算で事前に求めるユーティリティクラス.
+ * 
+ * <p>
+ * ターゲット関数 <i>f</i> を元の型で補間した <i>n</i> 次多項式 <i>q</i>
+ * (<i>n</i> は近似多項式の次数) を参照多項式とし,
+ * 残差 <i>r</i> = <i>f</i> - <i>q</i> を元の型で計算してから {@code double} 型に写す. <br>
+ * <i>d</i> が残差の近似多項式であれば <i>q</i> + <i>d</i> は <i>f</i> の近似多項式であり,
+ * 両者の重みづけ誤差は一致するので, ノードは同一である. <br>
+ * 同じ理由で, 残差から <i>n</i> 次以下の多項式を除いてもノードは変わらない. <br>
+ * 残差は近似誤差と同程度の大きさであり, 相対精度を保って {@code double} 型に写されるので,
+ * 近似誤差が {@code double} 型の精度を下回るような場合でも,
+ * 近似誤差の分布が {@code double} 型で正しく表現される.
+ * </p>
+ * 
+ * <p>
+ * 残差とスケール <i>s</i><sub><i>f</i></sub> は, Chebyshev 点における値から
+ * {@code double} 型の Chebyshev 補間多項式として構成し
+ * (残差については, <i>n</i> 次以下の係数を除く. 参照多項式の丸め誤差による項が残差を埋もれさせないためである),
+ * {@code double} 型の近似計算ではこれらを評価する. <br>
+ * 元の型でのターゲット関数の評価は, 参照多項式の構成と Chebyshev 点における評価のみである. <br>
+ * Chebyshev 点の数は, 補間多項式の末尾の係数が十分に小さくなるまで倍にする. <br>
+ * 補間多項式が収束しない場合 (ターゲット関数が滑らかでない場合など) は, 事前計算を行わない.
+ * </p>
+ * 
+ * <p>
+ * {@code double} 型の近似計算で収束させたノードを,
+ * {@link PseudoRealNumber.TypeProvider#fromDoubleValue(double)} により元の型に戻す. <br>
+ * 元の型の近似計算はこのノードから開始されるため,
+ * 元の型で行うイテレーションは仕上げの数回で済む.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoublePresolve {
+
+    /**
+     * 補間多項式の次数の, ノードの数に対する初期の倍率.
+     */
+    private static final int INITIAL_INTERPOLATION_RATE = 2;
+
+    /**
+     * 補間多項式の次数の, ノードの数に対する倍率の上限.
+     */
+    private static final int MAX_INTERPOLATION_RATE = 16;
+
+    /**
+     * 補間多項式の末尾の係数の, 係数の最大値に対する相対的な許容値.
+     */
+    private static final double TAIL_TOLERANCE = 1E-6;
+
+    private DoublePresolve() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * {@code double} 型による近似計算でノードを求める.
+     * 
+     * <p>
+     * 区間や残差が {@code double} 型で表現できない場合, 補間多項式が収束しない場合,
+     * {@code double} 型の近似計算に失敗した場合, 得られたノードを元の型に戻せない場合は,
+     * {@code null} を返す.
+     * </p>
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数
+     * @param order 多項式の次数, 0以上の適切な値でなければならない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return ノード (昇順に並んでいる), 求められない場合はnull
+     */
+    static <T extends PseudoRealNumber<T>> T[] execute(
+            ApproxTarget<T> target, int order, RemezConfiguration configuration) {
+
+        FiniteClosedInterval<T> interval = target.interval();
+        double lower = interval.lower().asDouble();
+        double upper = interval.upper().asDouble();
+        if (!DoubleFiniteClosedInterval.acceptsBoundaryValues(lower, upper)) {
+            return null;
+        }
+
+        DoubleFiniteClosedInterval dInterval = DoubleFiniteClosedInterval.from(lower, upper);
+        double[] node;
+        try {
+            DoubleApproxTarget residual = residual(target, order, dInterval);
+            if (Objects.isNull(residual)) {
+                return null;
+            }
+            DoubleApproxCalculation calc = DoubleApproxCalculation.of(residual, order, configuration);
+            calc.calculate();
+            node = calc.getNode();
+        } catch (ApproximationFailedException | ArithmeticException e) {
+            return null;
+        }
+
+        return lift(target, node, dInterval);
+    }
+
+    /**
+     * 昇順に並んだ区間内の点を, 元の型に戻す. <br>
+     * 区間の端は, 元の型の値そのものに戻す.
+     * 
+     * @return 元の型の点, 元の区間外に出た場合や昇順が崩れた場合はnull
+     */
+    private static <T extends PseudoRealNumber<T>> T[] lift(
+            ApproxTarget<T> target, double[] x, DoubleFiniteClosedInterval dInterval) {
+        final FiniteClosedInterval<T> interval = target.interval();
+        final PseudoRealNumber.TypeProvider<T> typeProvider = target.elementTypeProvider();
+
+        T[] out = typeProvider.createArray(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = x[i] <= dInterval.lower()
+                    ? interval.lower()
+                    : x[i] >= dInterval.upper()
+                            ? interval.upper()
+                            : typeProvider.fromDoubleValue(x[i]);
+            if (!target.accepts(out[i])
+                    || (i > 0 && !(out[i - 1].compareTo(out[i]) < 0))) {
+                return null;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * ターゲット関数と参照多項式の残差を, {@code double} 型のターゲット関数として返す.
+     * 
+     * @return 残差, 補間多項式が収束しない場合, 残差が0の場合,
+     *             残差やスケールが {@code double} 型で表現できない場合はnull
+     * @throws ArithmeticException ターゲット関数の値や参照多項式が計算できない場合
+     */
+    private static <T extends PseudoRealNumber<T>> DoubleApproxTarget residual(
+            ApproxTarget<T> target, int order, DoubleFiniteClosedInterval interval) {
+        final ChebyshevPolynomial<T> reference = InterpolantNodeCreation.interpolant(target, order);
+
+        for (int rate = INITIAL_INTERPOLATION_RATE; rate <= MAX_INTERPOLATION_RATE; rate *= 2) {
+            final int size = rate * (order + 2) + 1;
+            T[] point = lift(target, DoubleNodeCreation.execute(size, interval), interval);
+            if (Objects.isNull(point)) {
+                return null;
+            }
+
+            //残差は元の型で計算してから double に写す
+            double[] residual = new double[size];
+            double[] scale = new double[size];
+            for (int i = 0; i < size; i++) {
+                residual[i] = target.value(point[i]).minus(reference.value(point[i])).asDouble();
+                scale[i] = target.scale(point[i]).asDouble();
+                if (!(Double.isFinite(residual[i]) && Double.isFinite(scale[i]) && scale[i] > 0d)) {
+                    return null;
+                }
+            }
+
+            double[] residualCoeff = DoubleChebyshevTransform.chebyshevCoefficient(residual);
+            //n 次以下の項はノードに影響しないので除く (参照多項式の丸め誤差を含む)
+            Arrays.fill(residualCoeff, 0, Math.min(order + 1, size), 0d);
+            double[] scaleCoeff = DoubleChebyshevTransform.chebyshevCoefficient(scale);
+            if (!converged(residualCoeff) || !converged(scaleCoeff)) {
+                continue;
+            }
+            return new ResidualTarget(
+                    ChebyshevDoublePolynomial.of(residualCoeff, interval),
+                    ChebyshevDoublePolynomial.of(scaleCoeff, interval));
+        }
+        return null;
+    }
+
+    /**
+     * 補間多項式の末尾の2つの係数が, 係数の最大値に比べて十分に小さいかを判定する. <br>
+     * 係数が有限でない場合, 係数が全て0の場合は, 収束していないとする.
+     */
+    private static boolean converged(double[] coeff) {
+        double max = 0d;
+        for (int k = 0; k < coeff.length; k++) {
+            if (!Double.isFinite(coeff[k])) {
+                return false;
+            }
+            max = Math.max(max, Math.abs(coeff[k]));
+        }
+        final int last = coeff.length - 1;
+        return max > 0d
+                && Math.max(Math.abs(coeff[last]), Math.abs(coeff[last - 1])) <= TAIL_TOLERANCE * max;
+    }
+
+    /**
+     * 残差とスケールを, {@code double} 型の補間多項式で評価するターゲット関数.
+     */
+    private static final class ResidualTarget extends DoubleApproxTarget {
+
+        private final ChebyshevDoublePolynomial residual;
+        private final ChebyshevDoublePolynomial scale;
+
+        /**
+         * @param residual 残差
+         * @param scale スケール, 残差と同じ区間
+         */
+        ResidualTarget(ChebyshevDoublePolynomial residual, ChebyshevDoublePolynomial scale) {
+            super();
+            this.residual = residual;
+            this.scale = scale;
+        }
+
+        @Override
+        protected double calcValue(double x) {
+            return this.residual.value(x);
+        }
+
+        @Override
+        protected double calcScale(double x) {
+            return this.scale.value(x);
+        }
+
+        @Override
+        public DoubleFiniteClosedInterval interval() {
+            return this.residual.interval();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * Remez 多項式の構成に用いる作業領域を扱う.
+ * 
+ * <p>
+ * ノード数を固定して作業用の配列を事前に確保しておき,
+ * {@link #build(double[])} の呼び出しごとに Remez 多項式を Newton 補間の形式で再構成する. <br>
+ * ノードにおけるターゲット関数の値とスケールは, ソートしたノードに対して一括で評価する. <br>
+ * 構成した多項式は {@link #value(double)} で評価でき,
+ * この過程ではヒープ上のオブジェクトは生成されない. <br>
+ * 多項式オブジェクトは, 必要になった場合にのみ {@link #toPolynomial()} で生成する.
+ * </p>
+ * 
+ * <p>
+ * <i>n</i> 次の Remez 多項式 <i>p</i> は, (<i>n</i> + 2) 個のノード
+ * <i>x</i><sub>0</sub> &lt; ... &lt; <i>x</i><sub><i>n</i>+1</sub> において <br>
+ * <i>p</i>(<i>x</i><sub><i>j</i></sub>) =
+ * <i>f</i>(<i>x</i><sub><i>j</i></sub>) -
+ * (-1)<sup><i>j</i></sup> <i>s</i>(<i>x</i><sub><i>j</i></sub>) <i>E</i> <br>
+ * を満たす多項式である. <br>
+ * 最後のノードを除く (<i>n</i> + 1) 個のノードで,
+ * <i>f</i> を補間する多項式 <i>p</i><sub>1</sub> と
+ * (-1)<sup><i>j</i></sup> <i>s</i> を補間する多項式 <i>p</i><sub>2</sub> の Newton 係数 (差分商) を,
+ * ノード間の差を共有して O(<i>n</i><sup>2</sup>) で同時に計算する. <br>
+ * <i>E</i> は <i>x</i><sub><i>n</i>+1</sub> における条件から求め,
+ * <i>p</i> = <i>p</i><sub>1</sub> - <i>E</i> <i>p</i><sub>2</sub> の Newton 係数は
+ * 両者の係数の線形結合として O(<i>n</i>) で得る (3つ目の補間多項式は構成しない). <br>
+ * 多項式の値は Newton 補間の形式のまま O(<i>n</i>) で評価する. <br>
+ * 評価する多項式は {@link #toPolynomial()} が返す多項式と同一であり,
+ * <i>E</i> も同じ多項式から求めているので, 両者は丸め誤差の範囲で整合する.
+ * </p>
+ * 
+ * <p>
+ * ミュータブルであり, スレッドセーフでない. <br>
+ * 各メソッドの引数に対する契約は, プログラミングエラーによるものについてはアサーションで対応している. <br>
+ * したがって, このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleRemezWorkspace {
+
+    private final DoubleApproxTarget target;
+
+    /**
+     * ソートされたノード.
+     */
+    private final double[] node;
+
+    /**
+     * ノードにおける多項式の値. <br>
+     * 構成の途中では, ターゲット関数の値を一時的に保持する.
+     */
+    private final double[] value;
+
+    /**
+     * (-1)^j * scale(x_j)
+     */
+    private final double[] alternateScale;
+
+    /**
+     * 最後のノードを除くノードによる, Remez 多項式の Newton 係数. <br>
+     * 構成の途中では, ターゲット関数を補間する多項式の Newton 係数を保持する.
+     */
+    private final double[] newtonCoeff;
+
+    /**
+     * 最後のノードを除くノードによる, (-1)^j * scale(x_j) を補間する多項式の Newton 係数.
+     */
+    private final double[] alternateScaleNewtonCoeff;
+
+    /**
+     * 多項式が構成済みかどうか.
+     */
+    private boolean built;
+
+    /**
+     * ノード数を与えて, 作業領域を確保する.
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param nodeSize ノード数, 2以上でなければならない
+     */
+    DoubleRemezWorkspace(DoubleApproxTarget target, int nodeSize) {
+        assert nodeSize >= 2 : "nodeSize is less than 2";
+
+        this.target = target;
+        this.node = new double[nodeSize];
+        this.value = new double[nodeSize];
+        this.alternateScale = new double[nodeSize];
+        this.newtonCoeff = new double[nodeSize - 1];
+        this.alternateScaleNewtonCoeff = new double[nodeSize - 1];
+    }
+
+    /**
+     * ノードを与えて, Remez 多項式を構成する. <br>
+     * 引数の配列は変更されない.
+     * 
+     * @param node ノード, 長さは作業領域のノード数に一致しなければならない
+     * @throws ApproximationFailedException 多項式の構成に破綻した場合
+     */
+    void build(double[] node) throws ApproximationFailedException {
+        assert node.length == this.node.length : "mismatch size";
+
+        this.built = false;
+
+        //ノードをソートする
+        System.arraycopy(node, 0, this.node, 0, node.length);
+        Arrays.sort(this.node);
+
+        assert this.acceptsAll() : "node is out of range";
+
+        final int size = this.node.length;
+
+        //ソート済みのノードに対して一括評価する (範囲チェックは両端のみ)
+        this.target.values(this.node, this.value);
+        this.target.scales(this.node, this.alternateScale);
+        for (int j = 0; j < size; j++) {
+            if (!Double.isFinite(this.value[j])) {
+                throw new ApproximationFailedException("invalid value");
+            }
+            double scale = this.alternateScale[j];
+            if (!(Double.isFinite(scale))) {
+                throw new ApproximationFailedException("invalid scale");
+            }
+            this.alternateScale[j] = (j & 1) == 1 ? -scale : scale;
+        }
+
+        this.calcNewtonCoefficient();
+
+        //x_{n+1}からEを求める
+        final int last = size - 1;
+        double x_last = this.node[last];
+        double e = (this.newtonValue(this.newtonCoeff, x_last) - this.value[last]) /
+                (this.newtonValue(this.alternateScaleNewtonCoeff, x_last) - this.alternateScale[last]);
+        if (!(Double.isFinite(e))) {
+            throw new ApproximationFailedException("error value is invalid");
+        }
+
+        for (int j = 0; j < size; j++) {
+            this.value[j] -= this.alternateScale[j] * e;
+        }
+        for (int i = 0; i < last; i++) {
+            this.newtonCoeff[i] -= this.alternateScaleNewtonCoeff[i] * e;
+        }
+        this.built = true;
+    }
+
+    /**
+     * 構成済みの Remez 多項式の値を返す. <br>
+     * {@link #build(double[])} が成功していなければならない.
+     * 
+     * @param x 引数
+     * @return 多項式の値
+     */
+    double value(double x) {
+        assert this.built : "not built";
+
+        return this.newtonValue(this.newtonCoeff, x);
+    }
+
+    /**
+     * 構成済みの Remez 多項式について, ノードにおける多項式の値をスケールで割った値の絶対値の最大値を返す. <br>
+     * 近似誤差の計算における丸め誤差の大きさの目安となる. <br>
+     * {@link #build(double[])} が成功していなければならない.
+     * 
+     * @return 値とスケールの比の絶対値の最大値
+     */
+    double maxScaledValue() {
+        assert this.built : "not built";
+
+        double max = 0d;
+        for (int j = 0, size = this.node.length; j < size; j++) {
+            max = Math.max(max, Math.abs(this.value[j] / this.alternateScale[j]));
+        }
+        return max;
+    }
+
+    /**
+     * 構成済みの Remez 多項式を, 作業領域から独立した多項式オブジェクトとして返す. <br>
+     * 多項式は, 最後のノードを除く (<i>n</i> + 1) 個のノードによる Newton 補間で表現され,
+     * {@link #value(double)} で評価される多項式と同一である. <br>
+     * {@link #build(double[])} が成功していなければならない.
+     * 
+     * @return Remez 多項式
+     * @throws ApproximationFailedException 多項式の係数に不正値が混入した場合
+     */
+    DoubleNewtonPolynomial toPolynomial() throws ApproximationFailedException {
+        assert this.built : "not built";
+
+        return DoubleNewtonPolynomial.fromNewtonCoefficient(
+                Arrays.copyOf(this.node, this.newtonCoeff.length), this.newtonCoeff.clone())
+                .validateCoefficient();
+    }
+
+    /**
+     * 最後のノードを除くノードについて,
+     * ターゲット関数と (-1)^j * scale(x_j) を補間する多項式の Newton 係数を計算する.
+     * 
+     * @throws ApproximationFailedException ノードが重複するなどで, 係数が計算できない場合
+     */
+    private void calcNewtonCoefficient() throws ApproximationFailedException {
+        for (int i = 0, size = this.newtonCoeff.length; i < size; i++) {
+            double value_i = this.value[i];
+            double scale_i = this.alternateScale[i];
+            double x_i = this.node[i];
+            for (int k = 0; k < i; k++) {
+                double den = x_i - this.node[k];
+                value_i = (value_i - this.newtonCoeff[k]) / den;
+                scale_i = (scale_i - this.alternateScaleNewtonCoeff[k]) / den;
+            }
+            if (!(Double.isFinite(value_i) && Double.isFinite(scale_i))) {
+                throw new ApproximationFailedException("invalid newton coefficients");
+            }
+            this.newtonCoeff[i] = value_i;
+            this.alternateScaleNewtonCoeff[i] = scale_i;
+        }
+    }
+
+    /**
+     * 最後のノードを除くノードによる Newton 補間の形式で, 多項式の値を計算する.
+     */
+    private double newtonValue(double[] coeff, double x) {
+        double value = 0d;
+        for (int i = coeff.length - 1; i >= 0; i--) {
+            value *= x - this.node[i];
+            value += coeff[i];
+        }
+        return value;
+    }
+
+    private boolean acceptsAll() {
+        for (double x : this.node) {
+            if (!this.target.accepts(x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.function.UnaryOperator;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationErrorCalc;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 独自の数体による近似多項式の近似誤差を推定し, 近似計算の結果を検証するユーティリティクラス.
+ * 
+ * <p>
+ * 近似誤差は, ノード数の指定倍程度の密度で区間に配置した Chebyshev 点 ({@link NodeCreation})
+ * における評価により推定する. <br>
+ * 検証の方法は {@link DoubleErrorMeasurement} と同一である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ErrorMeasurement {
+
+    /**
+     * 近似計算の結果の検証における, ノード数に対する Chebyshev 点の密度の倍率.
+     */
+    private static final int VALIDATION_SAMPLING_RATE = 4;
+
+    /**
+     * 近似計算の結果の検証において, 恒等的に0である多項式の近似誤差に対して許容する倍率.
+     */
+    private static final double VALIDATION_FACTOR = 2d;
+
+    private ErrorMeasurement() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 近似多項式の近似誤差を推定する.
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数
+     * @param polynomial 近似多項式
+     * @param nodeSize 近似多項式のノード数, 2以上
+     * @param samplingRate ノード数に対する Chebyshev 点の密度の倍率, 1以上
+     * @return 近似誤差の推定値
+     * @throws ApproximationFailedException 近似誤差が計算できない場合
+     */
+    static <T extends PseudoRealNumber<T>> T maxError(
+            ApproxTarget<T> target, Polynomial<T> polynomial, int nodeSize, int samplingRate)
+            throws ApproximationFailedException {
+        assert nodeSize >= 2 && samplingRate >= 1;
+
+        return maxError(target, polynomial::value, grid(target, nodeSize, samplingRate));
+    }
+
+    /**
+     * 近似計算の結果の多項式が妥当であることを検証する.
+     * 
+     * <p>
+     * 近似誤差の推定値が, 恒等的に0である多項式の近似誤差を大きく上回る場合は,
+     * 計算が破綻したものとみなす.
+     * </p>
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数
+     * @param polynomial 近似多項式
+     * @param nodeSize 近似多項式のノード数, 2以上
+     * @throws ApproximationFailedException 近似誤差が計算できない場合, 近似誤差が大きすぎる場合
+     */
+    static <T extends PseudoRealNumber<T>> void validate(
+            ApproxTarget<T> target, Polynomial<T> polynomial, int nodeSize)
+            throws ApproximationFailedException {
+        assert nodeSize >= 2;
+
+        T[] grid = grid(target, nodeSize, VALIDATION_SAMPLING_RATE);
+        T zero = target.elementTypeProvider().zero();
+
+        T maxError = maxError(target, polynomial::value, grid);
+        T zeroError = maxError(target, x -> zero, grid);
+        try {
+            if (maxError.compareTo(zeroError.times(VALIDATION_FACTOR)) > 0) {
+                throw new ApproximationFailedException(
+                        "approx error is too large: maxError = %s".formatted(maxError));
+            }
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("error-calc-failure");
+        }
+    }
+
+    private static <T extends PseudoRealNumber<T>> T[] grid(
+            ApproxTarget<T> target, int nodeSize, int samplingRate) {
+        return NodeCreation.execute(
+                samplingRate * (nodeSize - 1) + 1, target.interval(), target.elementTypeProvider());
+    }
+
+    private static <T extends PseudoRealNumber<T>> T maxError(
+            ApproxTarget<T> target, UnaryOperator<T> function, T[] grid)
+            throws ApproximationFailedException {
+        ApproximationErrorCalc<T> errorCalc = new ApproximationErrorCalc<>(target, function);
+
+        T maxError = target.elementTypeProvider().zero();
+        for (T x : grid) {
+            T e = errorCalc.value(x).abs();
+            if (e.compareTo(maxError) > 0) {
+                maxError = e;
+            }
+        }
+        return maxError;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+/**
+ * 単項式基底の係数
+ * <i>a</i><sub>0</sub>, ... , <i>a</i><sub><i>n</i></sub>
+ * による多項式の評価方式を表す.
+ * 
+ * <p>
+ * 各方式の丸め誤差の上限は, 単位丸め <i>u</i> = 2<sup>-53</sup> と
+ * &gamma;<sub><i>m</i></sub> = <i>mu</i> / (1 - <i>mu</i>) を用いて, <br>
+ * |<i>p&#x0302;</i>(<i>x</i>) - <i>p</i>(<i>x</i>)| &le;
+ * &gamma;<sub><i>m</i></sub>
+ * &sum;<sub><i>k</i></sub> |<i>a</i><sub><i>k</i></sub>| |<i>x</i>|<sup><i>k</i></sup> <br>
+ * の形で与えられる
+ * (<i>p&#x0302;</i> は計算値, アンダーフローは考慮しない). <br>
+ * 係数 <i>m</i> は方式ごとに定まる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public enum EvaluationScheme {
+
+    /**
+     * Horner 法 (積和演算 {@link Math#fma(double, double, double)} を用いる).
+     * 
+     * <p>
+     * 乗算と加算が <i>n</i> 回ずつの逐次的な計算である. <br>
+     * 丸め誤差の上限の係数は <i>m</i> = <i>n</i> であり, 安定性に優れる.
+     * </p>
+     */
+    HORNER,
+
+    /**
+     * Estrin 法 (積和演算 {@link Math#fma(double, double, double)} を用いる).
+     * 
+     * <p>
+     * 係数を8個ずつのブロックに分け, 各ブロックを
+     * <i>x</i>, <i>x</i><sup>2</sup>, <i>x</i><sup>4</sup>
+     * について木構造で評価し, ブロック間を <i>x</i><sup>8</sup> についての Horner 法で結合する. <br>
+     * ブロックの評価は互いに独立であり, 依存関係の連鎖が Horner 法の約 1/8 になるため,
+     * 次数が高い場合に命令レベルの並列性を活かしやすい. <br>
+     * 累乗の計算による丸めが加わるため,
+     * 丸め誤差の上限の係数は <i>m</i> = <i>n</i> + 3 である.
+     * </p>
+     */
+    ESTRIN
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Objects;
+
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationErrorCalc;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 独自の数体による近似誤差の極値点を, 区間の粗い走査と黄金分割探索により求める.
+ * 
+ * <p>
+ * アルゴリズムは {@link DoubleExtremumSearch} と同一である. <br>
+ * 探索精度は許容相対誤差の平方根に基づいて定め,
+ * 体の元の精度 (1 + &epsilon; &ne; 1 となる最小の &epsilon;) の平方根を下限とする. <br>
+ * 極値の目減りは探索精度の2乗程度であるので, 体の元の精度まで探索する必要はない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体を表す型パラメータ
+ */
+final class ExtremumSearch<T extends PseudoRealNumber<T>> {
+
+    /**
+     * 極値点の探索の前に, 各区間を粗く走査する分割数.
+     */
+    private static final int SCAN_DIVISION = 8;
+
+    /**
+     * 体の元の精度を探索する際の, 2の冪の上限.
+     */
+    private static final int MAX_PRECISION_BITS = 400;
+
+    /**
+     * 黄金分割探索の内分比, (3 - sqrt(5)) / 2.
+     */
+    private static final double GOLDEN_RATIO_COMPLEMENT = 0.5 * (3d - Math.sqrt(5d));
+
+    private final PseudoRealNumber.TypeProvider<T> typeProvider;
+
+    /**
+     * 体の元の精度.
+     */
+    private final double epsilon;
+
+    /**
+     * 黄金分割探索において, 区間幅に対する探索幅の相対的な下限の最小値 (体の元の精度の平方根).
+     */
+    private final double minRelativeWidth;
+
+    /**
+     * 
+     * @param typeProvider 体の元に関するプロバイダ, nullであってはいけない
+     */
+    ExtremumSearch(PseudoRealNumber.TypeProvider<T> typeProvider) {
+        super();
+        this.typeProvider = typeProvider;
+        this.epsilon = epsilon(typeProvider);
+        this.minRelativeWidth = Math.sqrt(this.epsilon);
+    }
+
+    /**
+     * 体の元の精度 (1 + &epsilon; &ne; 1 となる最小の &epsilon;) を返す.
+     * 
+     * @return 体の元の精度
+     */
+    double epsilon() {
+        return this.epsilon;
+    }
+
+    /**
+     * 1 + &epsilon; &ne; 1 となる最小の &epsilon; (2の冪) を返す.
+     */
+    private static <T extends PseudoRealNumber<T>> double epsilon(
+            PseudoRealNumber.TypeProvider<T> typeProvider) {
+        T one = typeProvider.one();
+        double eps = 1d;
+        for (int c = 0; c < MAX_PRECISION_BITS; c++) {
+            double half = 0.5 * eps;
+            if (one.plus(half).compareTo(one) == 0) {
+                break;
+            }
+            eps = half;
+        }
+        return eps;
+    }
+
+    /**
+     * 区間 [lower, upper] 内で符号をそろえた近似誤差が最大となる点を探索する.
+     * 
+     * @param error 近似誤差の計算
+     * @param lower 下端
+     * @param upper 上端
+     * @param start 探索の起点 (区間内)
+     * @param signedErrAtStart 起点における符号をそろえた近似誤差
+     * @param positive 近似誤差の符号
+     * @param tolerance 近似誤差の極値に対する許容相対誤差, 0より大きく1より小さい
+     * @return 最大点
+     * @throws ApproximationFailedException 近似誤差を適切に計算できない場合
+     * @throws ArithmeticException 計算が破綻した場合
+     */
+    T maximize(ApproximationErrorCalc<T> error, T lower, T upper, T start, T signedErrAtStart, boolean positive,
+            double tolerance)
+            throws ApproximationFailedException {
+
+        //粗く走査して, 最大点を含む区間を定める
+        T step = upper.minus(lower).dividedBy(SCAN_DIVISION);
+        T[] scanX = typeProvider.createArray(SCAN_DIVISION + 1);
+        T[] scanE = typeProvider.createArray(SCAN_DIVISION + 1);
+        int bestK = 0;
+        for (int k = 0; k <= SCAN_DIVISION; k++) {
+            scanX[k] = k == SCAN_DIVISION ? upper : lower.plus(step.times(k));
+            scanE[k] = signed(error.value(scanX[k]), positive);
+            if (scanE[k].compareTo(scanE[bestK]) > 0) {
+                bestK = k;
+            }
+        }
+
+        //探索幅の両端は走査した点とし, 近似誤差を既知とする
+        T bestX;
+        T bestE;
+        int lowerK;
+        int upperK;
+        if (signedErrAtStart.compareTo(scanE[bestK]) >= 0) {
+            bestX = start;
+            bestE = signedErrAtStart;
+            lowerK = 0;
+            while (lowerK < SCAN_DIVISION - 1 && scanX[lowerK + 1].compareTo(start) <= 0) {
+                lowerK++;
+            }
+            upperK = lowerK + 1;
+        } else {
+            bestX = scanX[bestK];
+            bestE = scanE[bestK];
+            lowerK = Math.max(0, bestK - 1);
+            upperK = Math.min(SCAN_DIVISION, bestK + 1);
+        }
+        T a = scanX[lowerK];
+        T b = scanX[upperK];
+        T ea = scanE[lowerK];
+        T eb = scanE[upperK];
+
+        //黄金分割探索
+        final T minWidth = upper.minus(lower).times(Math.max(this.minRelativeWidth, Math.sqrt(tolerance)));
+        T x1 = a.plus(b.minus(a).times(GOLDEN_RATIO_COMPLEMENT));
+        T x2 = b.minus(b.minus(a).times(GOLDEN_RATIO_COMPLEMENT));
+        T e1 = signed(error.value(x1), positive);
+        T e2 = signed(error.value(x2), positive);
+        while (b.minus(a).compareTo(minWidth) > 0
+                && a.compareTo(x1) < 0 && x1.compareTo(x2) < 0 && x2.compareTo(b) < 0) {
+            if (e1.compareTo(e2) < 0) {
+                a = x1;
+                ea = e1;
+                x1 = x2;
+                e1 = e2;
+                x2 = b.minus(b.minus(a).times(GOLDEN_RATIO_COMPLEMENT));
+                e2 = signed(error.value(x2), positive);
+            } else {
+                b = x2;
+                eb = e2;
+                x2 = x1;
+                e2 = e1;
+                x1 = a.plus(b.minus(a).times(GOLDEN_RATIO_COMPLEMENT));
+                e1 = signed(error.value(x1), positive);
+            }
+        }
+
+        if (e1.compareTo(bestE) > 0) {
+            bestX = x1;
+            bestE = e1;
+        }
+        if (e2.compareTo(bestE) > 0) {
+            bestX = x2;
+            bestE = e2;
+        }
+
+        //放物線補間による補正
+        T xp = e1.compareTo(e2) >= 0
+                ? parabolicVertex(a, ea, x1, e1, x2, e2)
+                : parabolicVertex(x1, e1, x2, e2, b, eb);
+        if (Objects.nonNull(xp) && a.compareTo(xp) < 0 && xp.compareTo(b) < 0) {
+            T ep = signed(error.value(xp), positive);
+            if (ep.compareTo(bestE) > 0) {
+                bestX = xp;
+            }
+        }
+
+        //区間の端から探索の精度以内にある点は, 端とする
+        if (bestX.minus(lower).compareTo(minWidth) <= 0) {
+            return lower;
+        }
+        if (upper.minus(bestX).compareTo(minWidth) <= 0) {
+            return upper;
+        }
+        return bestX;
+    }
+
+    /**
+     * 3点を通る放物線の頂点を返す. <br>
+     * 頂点が定まらない場合は null を返す.
+     * 
+     * @param x0 1点目
+     * @param e0 1点目の値
+     * @param x1 2点目
+     * @param e1 2点目の値
+     * @param x2 3点目
+     * @param e2 3点目の値
+     * @return 頂点
+     * @throws ArithmeticException 計算が破綻した場合
+     */
+    T parabolicVertex(T x0, T e0, T x1, T e1, T x2, T e2) {
+        T d0 = x1.minus(x0).times(e1.minus(e2));
+        T d2 = x1.minus(x2).times(e1.minus(e0));
+        T den = d0.minus(d2);
+        if (den.compareTo(typeProvider.zero()) == 0) {
+            return null;
+        }
+        return x1.minus(x1.minus(x0).times(d0).minus(x1.minus(x2).times(d2)).dividedBy(den).times(0.5));
+    }
+
+    /**
+     * 符号を与えて, 近似誤差を正の向きにそろえる.
+     */
+    static <T extends PseudoRealNumber<T>> T signed(T err, boolean positive) {
+        return positive ? err : err.negated();
+    }
+}
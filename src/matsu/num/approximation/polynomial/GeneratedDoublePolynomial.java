@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * 実行時に生成されるクラスにより値を計算する多項式の基底クラス.
+ * 
+ * <p>
+ * サブクラスは {@link DoublePolynomialGenerator} により隠しクラスとして生成され,
+ * {@link #value(double)} を係数を定数として埋め込んだ直線的なコードで実装する. <br>
+ * その他のメソッドは, 同じ係数と評価方式を持つ {@link CompiledDoublePolynomial} に委譲する. <br>
+ * 生成されるコードの演算の順序は {@link CompiledDoublePolynomial} と同一であり,
+ * 値はビット単位で一致する.
+ * </p>
+ * 
+ * <p>
+ * 生成されるサブクラスのコンストラクタは,
+ * {@link #GeneratedDoublePolynomial(CompiledDoublePolynomial)} と同じシグネチャを持たなければならない. <br>
+ * このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+abstract class GeneratedDoublePolynomial implements DoublePolynomial {
+
+    private final CompiledDoublePolynomial delegate;
+
+    /**
+     * 唯一のコンストラクタ.
+     * 
+     * @param delegate 同じ係数と評価方式を持つ多項式
+     */
+    protected GeneratedDoublePolynomial(CompiledDoublePolynomial delegate) {
+        super();
+        this.delegate = delegate;
+    }
+
+    @Override
+    public final int degree() {
+        return this.delegate.degree();
+    }
+
+    @Override
+    public abstract double value(double x);
+
+    @Override
+    public final void value(double[] xs, double[] out) {
+        this.delegate.value(xs, out);
+    }
+
+    @Override
+    public final void value(DoubleBuffer xs, DoubleBuffer out) {
+        this.delegate.value(xs, out);
+    }
+
+    @Override
+    public final double[] coefficient() {
+        return this.delegate.coefficient();
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public final String toString() {
+        return "Generated(%s)".formatted(this.delegate);
+    }
+}
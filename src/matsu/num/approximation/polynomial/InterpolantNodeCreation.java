@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationErrorCalc;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * ターゲット関数の Chebyshev 補間多項式の誤差の極値点から,
+ * Remez 法の初期ノードを作成するユーティリティクラス. <br>
+ * 手順は {@link DoubleInterpolantNodeCreation} と同一である
+ * (ただし, 補間多項式の係数は離散コサイン変換を直接計算する).
+ * 
+ * @author Matsuura Y.
+ */
+final class InterpolantNodeCreation {
+
+    /**
+     * 零点で区切られた1区間あたりの走査の分割数.
+     */
+    private static final int SCAN_DIVISION = 16;
+
+    private InterpolantNodeCreation() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * ターゲット関数の区間にノードを配置する.
+     * 
+     * <p>
+     * 補間多項式の構成や近似誤差の計算に失敗した場合,
+     * 最大点における重みづけ誤差の符号が交互でない場合は,
+     * {@link NodeCreation#execute(int, FiniteClosedInterval, PseudoRealNumber.TypeProvider)}
+     * のノードを返す.
+     * </p>
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param size ノードの数, 2以上でなければならない
+     * @param target ターゲット関数
+     * @return ノード, 昇順に並んでいる
+     * @throws NullPointerException null
+     */
+    static <T extends PseudoRealNumber<T>> T[] execute(int size, ApproxTarget<T> target) {
+        assert size >= 2 : "invalid size";
+
+        T[] out;
+        try {
+            out = extrema(size, target);
+        } catch (ApproximationFailedException | ArithmeticException e) {
+            out = null;
+        }
+        return out != null
+                ? out
+                : NodeCreation.execute(size, target.interval(), target.elementTypeProvider());
+    }
+
+    /**
+     * ターゲット関数を Chebyshev 多項式の零点で補間した多項式を返す.
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param target ターゲット関数
+     * @param degree 補間多項式の次数, 0以上でなければならない
+     * @return 補間多項式
+     * @throws ArithmeticException ターゲット関数の値や補間多項式の係数が計算できない場合
+     */
+    static <T extends PseudoRealNumber<T>> ChebyshevPolynomial<T> interpolant(
+            ApproxTarget<T> target, int degree) {
+        assert degree >= 0 : "invalid degree";
+
+        return interpolant(target, roots(degree + 1, target));
+    }
+
+    /**
+     * 区間に写した Chebyshev 多項式の零点を, 昇順に並べて返す.
+     */
+    private static <T extends PseudoRealNumber<T>> T[] roots(int rootSize, ApproxTarget<T> target) {
+        final FiniteClosedInterval<T> interval = target.interval();
+        final T halfGap = interval.upper().minus(interval.lower()).times(0.5);
+        final T mid = interval.lower().plus(halfGap);
+
+        T[] root = target.elementTypeProvider().createArray(rootSize);
+        for (int i = 0; i < rootSize; i++) {
+            root[i] = mid.minus(halfGap.times(Math.cos(Math.PI * (i + 0.5) / rootSize)));
+        }
+        return root;
+    }
+
+    /**
+     * 昇順に並んだ Chebyshev 多項式の零点を与えて, 補間多項式を返す.
+     * 
+     * @throws ArithmeticException ターゲット関数の値や補間多項式の係数が計算できない場合
+     */
+    private static <T extends PseudoRealNumber<T>> ChebyshevPolynomial<T> interpolant(
+            ApproxTarget<T> target, T[] root) {
+        final PseudoRealNumber.TypeProvider<T> typeProvider = target.elementTypeProvider();
+        final int rootSize = root.length;
+
+        T[] value = typeProvider.createArray(rootSize);
+        for (int i = 0; i < rootSize; i++) {
+            value[i] = target.value(root[i]);
+        }
+
+        //DCT-II, 零点 t_j = cos(pi (j + 1/2) / N) は value[N - 1 - j] に対応する
+        T[] coeff = typeProvider.createArray(rootSize);
+        for (int k = 0; k < rootSize; k++) {
+            T sum = typeProvider.zero();
+            for (int j = 0; j < rootSize; j++) {
+                double cos = Math.cos(Math.PI * ((k * (2L * j + 1)) % (4L * rootSize)) / (2 * rootSize));
+                sum = sum.plus(value[rootSize - 1 - j].times(cos));
+            }
+            coeff[k] = sum.times((k == 0 ? 1d : 2d) / rootSize);
+        }
+        return ChebyshevPolynomial.of(coeff, target.interval(), typeProvider);
+    }
+
+    /**
+     * 補間多項式の重みづけ誤差の極値点を求める.
+     * 
+     * @return 極値点, 符号が交互でない場合はnull
+     * @throws ApproximationFailedException 近似誤差が計算できない場合
+     * @throws ArithmeticException ターゲット関数の値や補間多項式の係数が計算できない場合
+     */
+    private static <T extends PseudoRealNumber<T>> T[] extrema(
+            int size, ApproxTarget<T> target) throws ApproximationFailedException {
+
+        final FiniteClosedInterval<T> interval = target.interval();
+        final PseudoRealNumber.TypeProvider<T> typeProvider = target.elementTypeProvider();
+        final int rootSize = size - 1;
+
+        T[] root = roots(rootSize, target);
+        ChebyshevPolynomial<T> interpolant = interpolant(target, root);
+        ApproximationErrorCalc<T> error = new ApproximationErrorCalc<>(target, interpolant::value);
+
+        //区間 [bound[i], bound[i + 1]] を, 両端を含めて SCAN_DIVISION 等分して走査する
+        T[] bound = typeProvider.createArray(size + 1);
+        bound[0] = interval.lower();
+        System.arraycopy(root, 0, bound, 1, rootSize);
+        bound[size] = interval.upper();
+
+        final T zero = typeProvider.zero();
+        T[] out = typeProvider.createArray(size);
+        T[] scanX = typeProvider.createArray(SCAN_DIVISION + 1);
+        T[] scanE = typeProvider.createArray(SCAN_DIVISION + 1);
+        int previousSign = 0;
+        for (int i = 0; i < size; i++) {
+            T lower = bound[i];
+            T step = bound[i + 1].minus(lower).dividedBy(SCAN_DIVISION);
+            int best = 0;
+            for (int k = 0; k <= SCAN_DIVISION; k++) {
+                scanX[k] = k == SCAN_DIVISION
+                        ? bound[i + 1]
+                        : lower.plus(step.times(k));
+                scanE[k] = error.value(scanX[k]);
+                if (scanE[k].abs().compareTo(scanE[best].abs()) > 0) {
+                    best = k;
+                }
+            }
+            int sign = Integer.signum(scanE[best].compareTo(zero));
+            if (sign == 0 || sign == previousSign) {
+                return null;
+            }
+            previousSign = sign;
+            out[i] = refine(scanX, scanE, best, sign, zero);
+        }
+
+        //放物線補間による補正の後も, 狭義単調であることを確かめる
+        for (int i = 0; i < size - 1; i++) {
+            if (!(out[i].compareTo(out[i + 1]) < 0)) {
+                return null;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 走査点の最大点を, 両隣の走査点を含めた放物線の頂点により補正する. <br>
+     * 最大点が区間の端の場合は補正しない.
+     */
+    private static <T extends PseudoRealNumber<T>> T refine(
+            T[] scanX, T[] scanE, int best, int sign, T zero) {
+        if (best == 0 || best == SCAN_DIVISION) {
+            return scanX[best];
+        }
+        T e0 = scanE[best - 1];
+        T e1 = scanE[best];
+        T e2 = scanE[best + 1];
+        T curvature = e0.minus(e1.times(2d)).plus(e2);
+        //符号をそろえた誤差が上に凸でない場合は補正しない
+        if (!(Integer.signum(curvature.compareTo(zero)) * sign < 0)) {
+            return scanX[best];
+        }
+        double ratio = 0.5 * e0.minus(e2).dividedBy(curvature).asDouble();
+        T halfStep = scanX[best + 1].minus(scanX[best - 1]).times(0.5);
+        return scanX[best].plus(halfStep.times(Math.max(-1d, Math.min(1d, ratio))));
+    }
+}
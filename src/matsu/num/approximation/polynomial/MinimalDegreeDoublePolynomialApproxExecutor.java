@@ -0,0 +1,618 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.MeasuredApproximation;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 近似誤差の許容値を満たす最小の次数を探索する, ミニマックス法による
+ * {@code double} 型で表現された実数体に関する多項式関数による近似の実行を扱う.
+ * 
+ * <p>
+ * 近似誤差 (重みづけ誤差の絶対値の最大値) <br>
+ * max<sub><i>x</i></sub> |<i>p</i>(<i>x</i>) - <i>f</i>(<i>x</i>)| / <i>s</i><sub><i>f</i></sub>(<i>x</i>) <br>
+ * が許容値以下となるような最小の次数 <i>n</i> を探索し,
+ * その次数のミニマックス近似多項式 ({@link MinimaxDoublePolynomialApproxExecutor} と同等) と,
+ * 近似誤差の組 ({@link MeasuredApproximation}) を返す. <br>
+ * 近似誤差の最大値は, 近似多項式のノードと,
+ * 次数の {@value #ERROR_SAMPLING_RATE} 倍程度の密度で配置した Chebyshev 点における評価による推定値である. <br>
+ * ただし, 許容値を満たすと推定された場合は,
+ * {@value #CONFIRMATION_SAMPLING_RATE} 倍程度の密度で評価しなおした推定値を用いる.
+ * </p>
+ * 
+ * <p>
+ * ミニマックス近似の近似誤差は次数について単調非増加であるので,
+ * 次数の探索は, 許容値を満たさない次数と満たす次数による挟み込みで行う. <br>
+ * 次に試す次数は, 直近の2つの近似誤差を対数で線形に外挿 (近似誤差が次数について指数的に減少すると仮定)
+ * して決める. <br>
+ * 挟み込みが得られるまでは, 次数の増加はノード数が倍増する程度に制限される. <br>
+ * 外挿が使えない場合や, 挟み込みの幅が半分以下にならなかった場合は,
+ * 挟み込みが得られていなければ次数を倍増させ, 得られていれば二分法により次数を決める. <br>
+ * 2回目以降の近似計算は,
+ * 次数が最も近い収束済みの近似のノードを新しい次数のノード数に補間したものを初期ノードとして開始する
+ * (ウォームスタート, ただしノード数が大きく異なる場合は初期ノードの決め方にしたがう).
+ * </p>
+ * 
+ * <p>
+ * 近似計算に失敗した次数と, より低い次数の近似誤差を上回った (ミニマックス近似に達していない) 次数は,
+ * 許容値を満たさないことの根拠とならない. <br>
+ * これらの次数は挟み込みの上側として扱い, その下を探索する. <br>
+ * 下に許容値を満たす次数が無い場合は, ウォームスタートを用いずに再計算し,
+ * それでも信頼できる結果が得られなければ許容値を満たさないものとして扱う. <br>
+ * 返される次数の1つ低い次数は, 信頼できる近似が許容値を満たさなかったか,
+ * 再計算しても信頼できる結果が得られなかった次数である. <br>
+ * 上限の次数まで許容値を満たさない場合や,
+ * 全ての次数で近似計算に失敗した場合は, "空" が返る.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(double)} メソッドにより取得する. <br>
+ * 探索する次数 <i>n</i> の範囲は,
+ * 0 &le; <i>n</i> &le; {@link #maxOrder()} である
+ * (上限の既定値は {@link #UPPER_LIMIT_OF_ORDER}).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MinimalDegreeDoublePolynomialApproxExecutor {
+
+    /**
+     * 扱うことができる次数の下限.
+     */
+    public static final int LOWER_LIMIT_OF_ORDER = MinimaxDoublePolynomialApproxExecutor.LOWER_LIMIT_OF_ORDER;
+
+    /**
+     * 扱うことができる次数の上限.
+     */
+    public static final int UPPER_LIMIT_OF_ORDER = MinimaxDoublePolynomialApproxExecutor.UPPER_LIMIT_OF_ORDER;
+
+    /**
+     * 近似誤差を評価する点の, ノード数に対する密度の倍率.
+     */
+    public static final int ERROR_SAMPLING_RATE = 4;
+
+    /**
+     * 許容値を満たすかを確かめるために近似誤差を評価しなおす点の, ノード数に対する密度の倍率.
+     */
+    public static final int CONFIRMATION_SAMPLING_RATE = 32;
+
+    /**
+     * ウォームスタートを行う, ノード数の比の上限.
+     */
+    private static final int WARM_START_RATIO = 2;
+
+    private final double errorTolerance;
+    private final int maxOrder;
+    private final RemezConfiguration configuration;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private MinimalDegreeDoublePolynomialApproxExecutor(
+            double errorTolerance, int maxOrder, RemezConfiguration configuration) {
+        this.errorTolerance = errorTolerance;
+        this.maxOrder = maxOrder;
+        this.configuration = configuration;
+    }
+
+    /**
+     * 近似誤差の許容値を返す.
+     * 
+     * @return 近似誤差の許容値
+     */
+    public double errorTolerance() {
+        return this.errorTolerance;
+    }
+
+    /**
+     * 探索する次数の上限を返す.
+     * 
+     * @return 次数の上限
+     */
+    public int maxOrder() {
+        return this.maxOrder;
+    }
+
+    /**
+     * 探索する次数の上限を与えて, エグゼキュータを返す. <br>
+     * 許容値などのその他の条件は, 自身と同一である.
+     * 
+     * @param maxOrder 次数の上限
+     * @return 次数の上限を変更したエグゼキュータ
+     * @throws IllegalArgumentException 次数の上限が扱える次数の範囲外の場合
+     */
+    public MinimalDegreeDoublePolynomialApproxExecutor withMaxOrder(int maxOrder) {
+        if (!(LOWER_LIMIT_OF_ORDER <= maxOrder &&
+                maxOrder <= UPPER_LIMIT_OF_ORDER)) {
+            throw new IllegalArgumentException("invalid order: maxOrder = " + maxOrder);
+        }
+        return new MinimalDegreeDoublePolynomialApproxExecutor(
+                this.errorTolerance, maxOrder, this.configuration);
+    }
+
+    /**
+     * 収束判定の許容相対誤差を与えて, エグゼキュータを返す. <br>
+     * 各次数の近似計算は, 収束を判定した時点でイテレーションを打ち切る
+     * ({@link MinimaxDoublePolynomialApproxExecutor#withConvergenceTolerance(double)} を参照). <br>
+     * 許容値などのその他の条件は, 自身と同一である.
+     * 
+     * @param tolerance 許容相対誤差, 0より大きく1より小さい
+     * @return 収束判定を行うエグゼキュータ
+     * @throws IllegalArgumentException 許容相対誤差が不適の場合
+     */
+    public MinimalDegreeDoublePolynomialApproxExecutor withConvergenceTolerance(double tolerance) {
+        if (!RemezConfiguration.acceptsConvergenceTolerance(tolerance)) {
+            throw new IllegalArgumentException("invalid tolerance: tolerance = " + tolerance);
+        }
+        return new MinimalDegreeDoublePolynomialApproxExecutor(
+                this.errorTolerance, this.maxOrder, this.configuration.withConvergenceTolerance(tolerance));
+    }
+
+    /**
+     * ノードの更新方式を返す.
+     * 
+     * @return ノードの更新方式
+     */
+    public RemezAlgorithm algorithm() {
+        return this.configuration.algorithm();
+    }
+
+    /**
+     * ノードの更新方式を与えて, その方式により近似を行うエグゼキュータを返す. <br>
+     * 許容値などのその他の条件は, 自身と同一である.
+     * 
+     * @param algorithm ノードの更新方式
+     * @return ノードの更新方式を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimalDegreeDoublePolynomialApproxExecutor withAlgorithm(RemezAlgorithm algorithm) {
+        return new MinimalDegreeDoublePolynomialApproxExecutor(
+                this.errorTolerance, this.maxOrder,
+                this.configuration.withAlgorithm(Objects.requireNonNull(algorithm)));
+    }
+
+    /**
+     * 近似誤差の評価を並列に行うかどうかを返す.
+     * 
+     * @return 並列に評価する場合はtrue
+     */
+    public boolean isParallelEvaluation() {
+        return this.configuration.isParallel();
+    }
+
+    /**
+     * 近似誤差の評価を並列に行うかどうかを与えて, エグゼキュータを返す
+     * ({@link MinimaxDoublePolynomialApproxExecutor#withParallelEvaluation(boolean)} を参照). <br>
+     * 許容値などのその他の条件は, 自身と同一である.
+     * 
+     * @param parallel 並列に評価する場合はtrue
+     * @return 並列化の有無を変更したエグゼキュータ
+     */
+    public MinimalDegreeDoublePolynomialApproxExecutor withParallelEvaluation(boolean parallel) {
+        return new MinimalDegreeDoublePolynomialApproxExecutor(
+                this.errorTolerance, this.maxOrder, this.configuration.withParallel(parallel));
+    }
+
+    /**
+     * 最初の近似計算における初期ノードの決め方を返す.
+     * 
+     * @return 初期ノードの決め方
+     */
+    public RemezInitialization initialization() {
+        return this.configuration.initialization();
+    }
+
+    /**
+     * 最初の近似計算における初期ノードの決め方を与えて, エグゼキュータを返す
+     * ({@link MinimaxDoublePolynomialApproxExecutor#withInitialization(RemezInitialization)} を参照). <br>
+     * 2回目以降の近似計算は, ウォームスタートにより開始する. <br>
+     * 許容値などのその他の条件は, 自身と同一である.
+     * 
+     * @param initialization 初期ノードの決め方
+     * @return 初期ノードの決め方を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimalDegreeDoublePolynomialApproxExecutor withInitialization(RemezInitialization initialization) {
+        return new MinimalDegreeDoublePolynomialApproxExecutor(
+                this.errorTolerance, this.maxOrder,
+                this.configuration.withInitialization(Objects.requireNonNull(initialization)));
+    }
+
+    /**
+     * 与えられたターゲット関数を, 近似誤差の許容値を満たす最小の次数の多項式で近似する.
+     * 
+     * <p>
+     * 近似結果は, 近似多項式 (補間の形式) と近似誤差の組である. <br>
+     * 許容値を満たす次数が見つからない場合は, 空の {@link ApproxResult} が返る.
+     * </p>
+     * 
+     * @param target ターゲット関数
+     * @return 近似結果 (近似多項式と近似誤差), 許容値を満たす次数が見つからない場合は空
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public ApproxResult<MeasuredApproximation<DoublePolynomial>> apply(DoubleApproxTarget target) {
+        return new DegreeSearch(Objects.requireNonNull(target)).execute();
+    }
+
+    /**
+     * 近似誤差の許容値を与えて, 最小の次数を探索する多項式近似エグゼキュータを返す.
+     * 
+     * @param errorTolerance 近似誤差の許容値, 正の有限値
+     * @return 多項式近似エグゼキュータ
+     * @throws IllegalArgumentException 許容値が不適の場合
+     */
+    public static MinimalDegreeDoublePolynomialApproxExecutor of(double errorTolerance) {
+        if (!(errorTolerance > 0d && Double.isFinite(errorTolerance))) {
+            throw new IllegalArgumentException("invalid tolerance: errorTolerance = " + errorTolerance);
+        }
+        return new MinimalDegreeDoublePolynomialApproxExecutor(
+                errorTolerance, UPPER_LIMIT_OF_ORDER, RemezConfiguration.DEFAULT);
+    }
+
+    /**
+     * 1回の {@link #apply(DoubleApproxTarget)} における次数の探索.
+     */
+    private final class DegreeSearch {
+
+        private final DoubleApproxTarget target;
+
+        /**
+         * 近似計算に成功した近似の, 次数による索引.
+         */
+        private final NavigableMap<Integer, Fit> fits = new TreeMap<>();
+
+        /**
+         * 近似計算に失敗した次数.
+         */
+        private final Set<Integer> failures = new HashSet<>();
+
+        /**
+         * 上側の探りとして下を探索し尽くしたため, 許容値を満たさないものとして扱う次数.
+         */
+        private final Set<Integer> exhausted = new HashSet<>();
+
+        /**
+         * ウォームスタートを用いずに再計算した次数.
+         */
+        private final Set<Integer> retried = new HashSet<>();
+
+        /**
+         * 直近と, その1つ前に成功した信頼できる近似 (外挿に用いる).
+         */
+        private Fit latest;
+        private Fit previous;
+
+        /**
+         * 次の次数を二分法により決めるかどうか.
+         */
+        private boolean bisectNext;
+
+        private String lastFailure = "tolerance is not achieved up to max order";
+
+        DegreeSearch(DoubleApproxTarget target) {
+            this.target = target;
+        }
+
+        ApproxResult<MeasuredApproximation<DoublePolynomial>> execute() {
+            int order = LOWER_LIMIT_OF_ORDER;
+            int width = maxOrder + 2;
+            while (true) {
+                this.probe(order, true);
+
+                int failed;
+                int upper;
+                while (true) {
+                    failed = this.failedOrder();
+                    upper = this.upperOrder(failed);
+                    if (failed + 1 < upper) {
+                        break;
+                    }
+                    if (upper <= maxOrder && this.isUnreliable(upper)) {
+                        if (this.retried.add(upper)) {
+                            //上側の探りの下に許容値を満たす次数が無いので, ウォームスタートを用いずに再計算する
+                            this.probe(upper, false);
+                        } else {
+                            //再計算しても信頼できないので, 許容値を満たさないものとして扱う
+                            this.exhausted.add(upper);
+                        }
+                        continue;
+                    }
+                    return this.result();
+                }
+
+                //挟み込みの幅が半分以下にならなかった場合は, 次を二分法とする
+                final boolean bounded = upper <= maxOrder;
+                this.bisectNext = bounded && 2 * (upper - failed) > width;
+                width = upper - failed;
+                order = this.nextOrder(failed + 1, upper - 1, bounded);
+            }
+        }
+
+        private ApproxResult<MeasuredApproximation<DoublePolynomial>> result() {
+            Fit passed = this.passed();
+            if (Objects.isNull(passed)) {
+                return ApproxResult.failed(this.fits.isEmpty()
+                        ? this.lastFailure
+                        : "tolerance is not achieved up to max order");
+            }
+            return ApproxResult.of(MeasuredApproximation.of(passed.polynomial, passed.error));
+        }
+
+        /**
+         * 許容値を満たす最小の次数の近似, 無い場合は null.
+         */
+        private Fit passed() {
+            for (Fit fit : this.fits.values()) {
+                if (fit.error <= errorTolerance) {
+                    return fit;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 許容値を満たさないとみなす最大の次数, 無い場合は -1. <br>
+         * 信頼できる近似が許容値を満たさなかった次数と, 探索し尽くした上側の探りの次数が該当する.
+         */
+        private int failedOrder() {
+            int failed = -1;
+            for (int order : this.fits.keySet()) {
+                if (!this.isUnreliable(order) && this.fits.get(order).error > errorTolerance) {
+                    failed = Math.max(failed, order);
+                }
+            }
+            for (int order : this.exhausted) {
+                failed = Math.max(failed, order);
+            }
+            return failed;
+        }
+
+        /**
+         * 許容値を満たさないとみなす最大の次数より上で, 次に探索範囲を制限する次数を返す. <br>
+         * 許容値を満たす最小の次数と, 信頼できない次数 (上側の探り) のうち最小のものである. <br>
+         * 無い場合は上限の次数 + 1.
+         */
+        private int upperOrder(int failed) {
+            int upper = maxOrder + 1;
+            Fit passed = this.passed();
+            if (Objects.nonNull(passed)) {
+                upper = passed.polynomial.degree();
+            }
+            for (int order = failed + 1; order < upper; order++) {
+                if (this.isUnreliable(order) && !this.exhausted.contains(order)) {
+                    return order;
+                }
+            }
+            return upper;
+        }
+
+        /**
+         * 与えた次数の結果が, 許容値を満たさないことの根拠として信頼できないかを判定する.
+         * 
+         * <p>
+         * ミニマックス近似の近似誤差は次数について単調非増加であるので,
+         * より低い次数の近似誤差を上回る近似は, ミニマックス近似に達していない. <br>
+         * このような近似と, 近似計算に失敗した次数は,
+         * その次数以下で許容値を満たさないことを意味しないため, 信頼できないとする.
+         * </p>
+         */
+        private boolean isUnreliable(int order) {
+            if (this.failures.contains(order)) {
+                return true;
+            }
+            Fit fit = this.fits.get(order);
+            if (Objects.isNull(fit) || fit.error <= errorTolerance) {
+                return false;
+            }
+            for (Fit lower : this.fits.headMap(order, false).values()) {
+                if (lower.error < fit.error) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 与えた次数で近似し, 結果を記録する.
+         */
+        private void probe(int order, boolean warmStart) {
+            this.exhausted.remove(order);
+            Fit fit;
+            try {
+                fit = this.fit(order, warmStart);
+            } catch (ApproximationFailedException afe) {
+                this.fits.remove(order);
+                this.failures.add(order);
+                this.lastFailure = afe.failuerMessage();
+                return;
+            }
+            this.failures.remove(order);
+            this.fits.put(order, fit);
+            if (!this.isUnreliable(order)) {
+                this.previous = this.latest;
+                this.latest = fit;
+            }
+        }
+
+        /**
+         * 範囲 [low, high] から次に試す次数を決める.
+         */
+        private int nextOrder(int low, int high, boolean bounded) {
+            assert low <= high;
+
+            int extrapolated = this.bisectNext ? -1 : this.extrapolate();
+            if (extrapolated >= 0) {
+                //挟み込みが得られていない場合は, 次数の増加幅を制限する
+                int upper = bounded ? high : Math.min(high, maxGrowth(low));
+                return Math.max(low, Math.min(upper, extrapolated));
+            }
+            if (!bounded) {
+                return Math.min(high, maxGrowth(low));
+            }
+            return (low + high) >>> 1;
+        }
+
+        /**
+         * 直近の2つの近似誤差を対数で線形に外挿し, 許容値に達する次数を返す. <br>
+         * 外挿できない場合は -1 を返す.
+         */
+        private int extrapolate() {
+            if (Objects.isNull(this.previous)) {
+                return -1;
+            }
+            final int n1 = this.previous.polynomial.degree();
+            final int n2 = this.latest.polynomial.degree();
+            final double e1 = this.previous.error;
+            final double e2 = this.latest.error;
+            if (n1 == n2 || !(e1 > 0d && e2 > 0d)) {
+                return -1;
+            }
+            double slope = (Math.log(e2) - Math.log(e1)) / (n2 - n1);
+            if (!(slope < 0d)) {
+                return -1;
+            }
+            double estimate = n2 + (Math.log(errorTolerance) - Math.log(e2)) / slope;
+            return estimate < UPPER_LIMIT_OF_ORDER
+                    ? Math.max(0, (int) Math.ceil(estimate))
+                    : UPPER_LIMIT_OF_ORDER;
+        }
+
+        /**
+         * ウォームスタートに用いる, 次数が最も近い成功した信頼できる近似を返す. <br>
+         * ノード数の比が {@value #WARM_START_RATIO} を超える場合は
+         * (補間したノードが初期ノードの決め方によるノードより解から遠くなりうるため) null を返す.
+         */
+        private Fit nearest(int order) {
+            Map.Entry<Integer, Fit> floor = this.fits.floorEntry(order);
+            while (Objects.nonNull(floor) && this.isUnreliable(floor.getKey())) {
+                floor = this.fits.lowerEntry(floor.getKey());
+            }
+            Map.Entry<Integer, Fit> ceiling = this.fits.ceilingEntry(order);
+            while (Objects.nonNull(ceiling) && this.isUnreliable(ceiling.getKey())) {
+                ceiling = this.fits.higherEntry(ceiling.getKey());
+            }
+            Map.Entry<Integer, Fit> nearest = Objects.isNull(floor)
+                    ? ceiling
+                    : Objects.isNull(ceiling) || order - floor.getKey() <= ceiling.getKey() - order
+                            ? floor
+                            : ceiling;
+            if (Objects.isNull(nearest)) {
+                return null;
+            }
+            int size = order + 2;
+            int nearestSize = nearest.getKey() + 2;
+            return Math.max(size, nearestSize) <= WARM_START_RATIO * Math.min(size, nearestSize)
+                    ? nearest.getValue()
+                    : null;
+        }
+
+        /**
+         * 与えた次数で近似し, 近似誤差を評価する. <br>
+         * 許容値を満たす場合は, より密な評価点により近似誤差を評価しなおす.
+         * 
+         * @throws ApproximationFailedException 近似計算に失敗した場合
+         */
+        private Fit fit(int order, boolean warmStart) throws ApproximationFailedException {
+            Fit nearest = warmStart ? this.nearest(order) : null;
+            DoubleApproxCalculation calc = Objects.isNull(nearest)
+                    ? DoubleApproxCalculation.of(this.target, order, configuration)
+                    : DoubleApproxCalculation.of(
+                            this.target, order, configuration,
+                            resample(nearest.node, order + 2, this.target.interval()));
+            calc.calculate();
+
+            DoubleNewtonPolynomial polynomial = calc.getResult();
+            double[] node = calc.getNode();
+            double error = DoubleErrorMeasurement.maxError(this.target, polynomial, node, ERROR_SAMPLING_RATE);
+            if (error <= errorTolerance) {
+                error = Math.max(error,
+                        DoubleErrorMeasurement.maxError(this.target, polynomial, node, CONFIRMATION_SAMPLING_RATE));
+            }
+            return new Fit(polynomial, node, error);
+        }
+    }
+
+    /**
+     * 挟み込みが得られていない場合の, 次に試す次数の上限を返す. <br>
+     * 次数 + 2 (ノード数) が倍増する程度に制限する.
+     */
+    private static int maxGrowth(int low) {
+        return 2 * low + 2;
+    }
+
+    /**
+     * 昇順に並んだノードを, 指定した数のノードに補間する.
+     * 
+     * <p>
+     * 区間を [-1, 1] に写したノードを <i>t</i> = -cos(&theta;) により角度 &theta; &isin; [0, &pi;] に変換し,
+     * 角度を添え字について区分線形に補間する. <br>
+     * Chebyshev 点 ({@link DoubleNodeCreation}) は角度が等間隔であるので,
+     * Chebyshev 点は異なる数の Chebyshev 点に写される. <br>
+     * 両端のノードは保たれ, 結果も昇順に並ぶ.
+     * </p>
+     * 
+     * @param node ノード, 区間内で昇順, 長さは2以上
+     * @param size 結果のノードの数, 2以上
+     * @param interval 区間
+     * @return 補間したノード
+     */
+    static double[] resample(double[] node, int size, DoubleFiniteClosedInterval interval) {
+        assert node.length >= 2 && size >= 2;
+
+        final double halfGap = 0.5 * interval.gap();
+        final double mid = interval.lower() + halfGap;
+
+        double[] angle = new double[node.length];
+        for (int i = 0; i < node.length; i++) {
+            double t = (node[i] - mid) / halfGap;
+            angle[i] = Math.acos(-Math.max(-1d, Math.min(1d, t)));
+        }
+
+        final double scale = (double) (node.length - 1) / (size - 1);
+        double[] out = new double[size];
+        for (int j = 1; j < size - 1; j++) {
+            double position = j * scale;
+            int i = Math.min((int) position, node.length - 2);
+            double ratio = position - i;
+            out[j] = mid - halfGap * Math.cos(angle[i] + ratio * (angle[i + 1] - angle[i]));
+        }
+        out[0] = node[0];
+        out[size - 1] = node[node.length - 1];
+        return out;
+    }
+
+    /**
+     * ある次数における近似の結果.
+     */
+    private static final class Fit {
+
+        final DoubleNewtonPolynomial polynomial;
+        final double[] node;
+        final double error;
+
+        Fit(DoubleNewtonPolynomial polynomial, double[] node, double error) {
+            this.polynomial = polynomial;
+            this.node = node;
+            this.error = error;
+        }
+    }
+}
@@ -5,13 +5,18 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.25
+ * 2026.10.17
  */
 package matsu.num.approximation.polynomial;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.CancellationToken;
 import matsu.num.approximation.DoubleApproxTarget;
 import matsu.num.approximation.component.ApproximationFailedException;
 
@@ -36,7 +41,8 @@ import matsu.num.approximation.component.ApproximationFailedException;
  * {@link #of(int)} メソッドにより取得する. <br>
  * 近似多項式の (最高) 次数はこのクラスのインスタンス生成時に確定する. <br>
  * 多項式近似は, {@link #apply(DoubleApproxTarget)} メソッドにより実行する. <br>
- * 近似に失敗した場合は "空" が返る.
+ * 近似に失敗した場合は "空" が返る. <br>
+ * {@link #applyAsync(DoubleApproxTarget, Executor)} により, 近似を非同期に実行することもできる.
  * </p>
  * 
  * <p>
@@ -44,6 +50,38 @@ import matsu.num.approximation.component.ApproximationFailedException;
  * 0 &le; <i>n</i> &le; 100
  * </p>
  * 
+ * <p>
+ * 近似計算は, 既定では固定されたスケジュールにしたがってイテレーションが行われ,
+ * 同一の入力に対して常に同一の結果を返す. <br>
+ * {@link #withConvergenceTolerance(double)} により許容誤差を与えた場合,
+ * 収束を判定した時点でイテレーションが打ち切られる. <br>
+ * また, {@link #withAlgorithm(RemezAlgorithm)} によりノードの更新方式を選択できる. <br>
+ * {@link #withInitialization(RemezInitialization)} により,
+ * 初期ノードをターゲット関数の Chebyshev 補間に基づいて決めることもできる.
+ * </p>
+ * 
+ * <p>
+ * ターゲット関数の評価が重い場合,
+ * {@link #withParallelEvaluation(boolean)} により近似誤差の評価を並列化できる. <br>
+ * 並列化した場合も, 結果は逐次に評価した場合と一致する.
+ * </p>
+ * 
+ * <p>
+ * 計算時間が問題になる場合, {@link #withTimeLimit(Duration)} による制限時間,
+ * {@link #withCancellationToken(CancellationToken)} によるトークン, スレッドへの割り込みによって,
+ * 近似計算をイテレーションの区切りで中断できる. <br>
+ * 中断した場合の扱いは, {@link #withPartialResult(boolean)} により指定する.
+ * </p>
+ * 
+ * <p>
+ * 近似結果の多項式は, 既定では補間の形式で値を計算する. <br>
+ * {@link #withEvaluationScheme(EvaluationScheme)} により評価方式を与えた場合,
+ * 近似結果は係数を直接評価する {@link CompiledDoublePolynomial} として返される. <br>
+ * {@link #withChebyshevBasis(boolean)} により Chebyshev 基底を指定した場合,
+ * 近似結果はターゲット関数の区間に写された {@link ChebyshevDoublePolynomial} として返される. <br>
+ * 評価方式の指定と Chebyshev 基底の指定は両立しないため, 一方を指定したエグゼキュータに他方を指定することはできない.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public final class MinimaxDoublePolynomialApproxExecutor {
@@ -59,18 +97,36 @@ public final class MinimaxDoublePolynomialApproxExecutor {
     public static final int UPPER_LIMIT_OF_ORDER = 100;
 
     private final int order;
+    private final RemezConfiguration configuration;
+
+    /**
+     * 近似結果の評価方式, 補間の形式のままの場合は null.
+     */
+    private final EvaluationScheme evaluationScheme;
+
+    /**
+     * 近似結果を Chebyshev 基底で表現するかどうか.
+     */
+    private final boolean chebyshevBasis;
 
     /**
      * 与えられた値を近似多項式の (最高) 次数とする, インスタンスを生成.
      * 
      * @throws IllegalArgumentException 次数が不適の場合
      */
-    private MinimaxDoublePolynomialApproxExecutor(int order) {
+    private MinimaxDoublePolynomialApproxExecutor(
+            int order, RemezConfiguration configuration,
+            EvaluationScheme evaluationScheme, boolean chebyshevBasis) {
         if (!(LOWER_LIMIT_OF_ORDER <= order &&
                 order <= UPPER_LIMIT_OF_ORDER)) {
             throw new IllegalArgumentException("invalid order: order = " + order);
         }
         this.order = order;
+        this.configuration = configuration;
+        this.evaluationScheme = evaluationScheme;
+        this.chebyshevBasis = chebyshevBasis;
+
+        assert !(Objects.nonNull(evaluationScheme) && chebyshevBasis) : "exclusive options";
     }
 
     /**
@@ -82,6 +138,318 @@ public final class MinimaxDoublePolynomialApproxExecutor {
         return this.order;
     }
 
+    /**
+     * 収束判定の許容相対誤差を与えて,
+     * 収束を判定した時点でイテレーションを打ち切るエグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * イテレーションは, 近似誤差 (重みづけ誤差) の絶対値の最大値と,
+     * ノードにおける近似誤差の水準との相対差 (等振動からのずれ) が
+     * 許容相対誤差以下になった時点で打ち切られる. <br>
+     * このとき, 近似誤差の最大値は最良の値の (1 + 許容相対誤差) 倍程度以下である. <br>
+     * 許容相対誤差を小さくするほど既定のスケジュールによる結果に近づくが, 計算量が増える. <br>
+     * 収束の判定そのものにも近似誤差の評価を要するため,
+     * 既定のスケジュールより計算量が少なくなるとは限らない
+     * (近似誤差の最大値が許容範囲にあることを確かめる目的で用いる).
+     * </p>
+     * 
+     * @param tolerance 許容相対誤差, 0より大きく1より小さい
+     * @return 収束判定を行うエグゼキュータ
+     * @throws IllegalArgumentException 許容相対誤差が不適の場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withConvergenceTolerance(double tolerance) {
+        if (!RemezConfiguration.acceptsConvergenceTolerance(tolerance)) {
+            throw new IllegalArgumentException("invalid tolerance: tolerance = " + tolerance);
+        }
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order, this.configuration.withConvergenceTolerance(tolerance),
+                this.evaluationScheme, this.chebyshevBasis);
+    }
+
+    /**
+     * ノードの更新方式を返す.
+     * 
+     * @return ノードの更新方式
+     */
+    public RemezAlgorithm algorithm() {
+        return this.configuration.algorithm();
+    }
+
+    /**
+     * ノードの更新方式を与えて, その方式により近似を行うエグゼキュータを返す. <br>
+     * 次数や許容相対誤差などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 許容相対誤差は, いずれの方式においても,
+     * 近似誤差の水準と極値の最大値との相対差に対して適用される.
+     * </p>
+     * 
+     * @param algorithm ノードの更新方式
+     * @return ノードの更新方式を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withAlgorithm(RemezAlgorithm algorithm) {
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order, this.configuration.withAlgorithm(Objects.requireNonNull(algorithm)),
+                this.evaluationScheme, this.chebyshevBasis);
+    }
+
+    /**
+     * ノード移動方式のイテレーションにおいて,
+     * 近似誤差の評価を並列に行うかどうかを返す.
+     * 
+     * @return 並列に評価する場合はtrue
+     */
+    public boolean isParallelEvaluation() {
+        return this.configuration.isParallel();
+    }
+
+    /**
+     * 近似誤差の評価を並列に行うかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * ノード移動方式 ({@link RemezAlgorithm#NODE_SHIFT}) の各イテレーションでは,
+     * ノードごとに3点で近似誤差を評価する. <br>
+     * これらはノードごとに独立であるので,
+     * 並列化した場合は {@link java.util.concurrent.ForkJoinPool#commonPool()} で分散して評価する. <br>
+     * 結果は逐次に評価した場合と一致する. <br>
+     * ターゲット関数の評価が軽い場合は, 並列化のオーバーヘッドにより遅くなることがある.
+     * </p>
+     * 
+     * <p>
+     * 並列化する場合, ターゲット関数の値とスケールの計算はスレッドセーフでなければならない.
+     * </p>
+     * 
+     * @param parallel 並列に評価する場合はtrue
+     * @return 並列化の有無を変更したエグゼキュータ
+     */
+    public MinimaxDoublePolynomialApproxExecutor withParallelEvaluation(boolean parallel) {
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order, this.configuration.withParallel(parallel),
+                this.evaluationScheme, this.chebyshevBasis);
+    }
+
+    /**
+     * 初期ノードの決め方を返す.
+     * 
+     * @return 初期ノードの決め方
+     */
+    public RemezInitialization initialization() {
+        return this.configuration.initialization();
+    }
+
+    /**
+     * 初期ノードの決め方を与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * {@link RemezInitialization#INTERPOLANT_EXTREMA} を与えた場合,
+     * ターゲット関数の Chebyshev 補間多項式の重みづけ誤差の極値点からイテレーションを開始する. <br>
+     * スケールが区間内で大きく変化するターゲット関数 (相対誤差による近似など) では,
+     * 収束までのイテレーションの回数が大きく減る. <br>
+     * 固定されたスケジュールによるイテレーションでも, 結果は初期ノードに依存しうる
+     * (いずれも同一の近似多項式に収束するが, 打ち切り時点の値は丸め誤差の範囲で異なる).
+     * </p>
+     * 
+     * @param initialization 初期ノードの決め方
+     * @return 初期ノードの決め方を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withInitialization(RemezInitialization initialization) {
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order,
+                this.configuration.withInitialization(Objects.requireNonNull(initialization)),
+                this.evaluationScheme, this.chebyshevBasis);
+    }
+
+    /**
+     * 近似結果の評価方式を返す. <br>
+     * 近似結果が補間の形式のまま返される場合は空を返す.
+     * 
+     * @return 近似結果の評価方式
+     */
+    public Optional<EvaluationScheme> evaluationScheme() {
+        return Optional.ofNullable(this.evaluationScheme);
+    }
+
+    /**
+     * 近似結果の評価方式を与えて, 近似結果を {@link CompiledDoublePolynomial} として返すエグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 近似の計算そのものは評価方式に依存しない. <br>
+     * 近似結果の多項式は係数を直接評価するように変換されるため,
+     * その値は補間の形式による値と丸め誤差の範囲で異なる. <br>
+     * Chebyshev 基底の指定 ({@link #withChebyshevBasis(boolean)}) とは両立しない.
+     * </p>
+     * 
+     * @param scheme 近似結果の評価方式
+     * @return 近似結果の評価方式を変更したエグゼキュータ
+     * @throws IllegalStateException 自身に Chebyshev 基底が指定されている場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withEvaluationScheme(EvaluationScheme scheme) {
+        Objects.requireNonNull(scheme);
+        if (this.chebyshevBasis) {
+            throw new IllegalStateException("chebyshev basis is specified");
+        }
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order, this.configuration, scheme, false);
+    }
+
+    /**
+     * 近似結果を Chebyshev 基底で表現するかどうかを返す.
+     * 
+     * @return Chebyshev 基底で表現する場合はtrue
+     */
+    public boolean isChebyshevBasis() {
+        return this.chebyshevBasis;
+    }
+
+    /**
+     * 近似結果を Chebyshev 基底で表現するかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * Chebyshev 基底を指定した場合, 近似結果は,
+     * ターゲット関数の区間 {@link DoubleApproxTarget#interval()} を [-1, 1] に写した
+     * {@link ChebyshevDoublePolynomial} として返される. <br>
+     * 変換は補間の形式から直接行われ, 単項式基底を経由しないため,
+     * 区間が原点から離れている場合や次数が高い場合にも精度が保たれる.
+     * </p>
+     * 
+     * <p>
+     * 評価方式の指定 ({@link #withEvaluationScheme(EvaluationScheme)}) とは両立しない.
+     * </p>
+     * 
+     * @param chebyshevBasis Chebyshev 基底で表現する場合はtrue
+     * @return 近似結果の表現を変更したエグゼキュータ
+     * @throws IllegalStateException trueを与えたが, 自身に評価方式が指定されている場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withChebyshevBasis(boolean chebyshevBasis) {
+        if (chebyshevBasis && Objects.nonNull(this.evaluationScheme)) {
+            throw new IllegalStateException("evaluation scheme is specified");
+        }
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order, this.configuration, this.evaluationScheme, chebyshevBasis);
+    }
+
+    /**
+     * 近似計算の制限時間を返す. <br>
+     * 制限時間が与えられていない場合は空を返す.
+     * 
+     * @return 制限時間
+     */
+    public Optional<Duration> timeLimit() {
+        return Optional.ofNullable(this.configuration.cancellation().timeLimit());
+    }
+
+    /**
+     * 近似計算の制限時間を与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 制限時間は近似の実行 ({@link #apply(DoubleApproxTarget)} の呼び出しなど) ごとに, その開始時点から計られる. <br>
+     * ただし, 非同期実行 ({@link #applyAsync(DoubleApproxTarget, Executor)}) の場合は, 投入の時点から計られる
+     * (エグゼキュータの待ち行列での待ち時間を含む). <br>
+     * 制限時間を超えた場合, イテレーションの区切りで近似計算を中断し,
+     * 制限時間を超えたことを示すメッセージとともに空の {@link ApproxResult} を返す
+     * (途中結果を採用する設定の場合は, {@link #withPartialResult(boolean)} を参照). <br>
+     * 1回のイテレーションの途中では中断されないため, 実際の計算時間は制限時間をわずかに超えうる.
+     * </p>
+     * 
+     * @param timeLimit 制限時間, 正
+     * @return 制限時間を変更したエグゼキュータ
+     * @throws IllegalArgumentException 制限時間が正でない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withTimeLimit(Duration timeLimit) {
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("invalid time limit: timeLimit = " + timeLimit);
+        }
+        return this.withCancellation(this.configuration.cancellation().withTimeLimit(timeLimit));
+    }
+
+    /**
+     * 近似計算の中断を要求するトークンを返す. <br>
+     * トークンが与えられていない場合は空を返す.
+     * 
+     * @return トークン
+     */
+    public Optional<CancellationToken> cancellationToken() {
+        return Optional.ofNullable(this.configuration.cancellation().token());
+    }
+
+    /**
+     * 近似計算の中断を要求するトークンを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * トークンにより中断が要求された場合 ({@link CancellationToken#cancel()}),
+     * イテレーションの区切りで近似計算を中断し,
+     * 中断されたことを示すメッセージとともに空の {@link ApproxResult} を返す
+     * (途中結果を採用する設定の場合は, {@link #withPartialResult(boolean)} を参照). <br>
+     * トークンはエグゼキュータに保持されるので, 一度中断を要求したトークンを持つエグゼキュータによる近似は,
+     * 以降も直ちに中断される.
+     * </p>
+     * 
+     * @param token 中断を要求するトークン
+     * @return トークンを変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxDoublePolynomialApproxExecutor withCancellationToken(CancellationToken token) {
+        return this.withCancellation(
+                this.configuration.cancellation().withToken(Objects.requireNonNull(token)));
+    }
+
+    /**
+     * 近似計算が中断された場合に, 途中結果を返すかどうかを返す.
+     * 
+     * @return 途中結果を返す場合はtrue
+     */
+    public boolean isPartialResult() {
+        return this.configuration.cancellation().isPartialResult();
+    }
+
+    /**
+     * 近似計算が中断された場合に, 途中結果を返すかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 近似計算は, 実行中のスレッドへの割り込み, 制限時間 ({@link #withTimeLimit(Duration)}),
+     * トークン ({@link #withCancellationToken(CancellationToken)}),
+     * 非同期実行の取り消し ({@link #applyAsync(DoubleApproxTarget, Executor)}) によって,
+     * イテレーションの区切りで中断される. <br>
+     * 途中結果を返さない場合 (既定), 中断の理由を示すメッセージとともに空の {@link ApproxResult} を返す. <br>
+     * 途中結果を返す場合, それまでに得られた最良の多項式を返す
+     * (ノード移動方式ではその時点のノードによる多項式,
+     * 交換方式ではそれまでで近似誤差の最大値が最小の多項式). <br>
+     * ただし, 交換方式において最初のイテレーションの前に中断された場合は, 空を返す. <br>
+     * 途中結果はミニマックス近似に収束していない可能性がある.
+     * </p>
+     * 
+     * <p>
+     * 割り込みにより中断した場合も, スレッドの割り込み状態はクリアされない.
+     * </p>
+     * 
+     * @param partialResult 途中結果を返す場合はtrue
+     * @return 中断時の扱いを変更したエグゼキュータ
+     */
+    public MinimaxDoublePolynomialApproxExecutor withPartialResult(boolean partialResult) {
+        return this.withCancellation(this.configuration.cancellation().withPartialResult(partialResult));
+    }
+
+    /**
+     * 中断の判定を与えて, エグゼキュータを返す.
+     */
+    private MinimaxDoublePolynomialApproxExecutor withCancellation(RemezCancellation cancellation) {
+        return new MinimaxDoublePolynomialApproxExecutor(
+                this.order, this.configuration.withCancellation(cancellation),
+                this.evaluationScheme, this.chebyshevBasis);
+    }
+
     /**
      * 与えられたターゲット関数を近似する.
      * 
@@ -96,15 +464,62 @@ public final class MinimaxDoublePolynomialApproxExecutor {
      * @throws NullPointerException 引数がnullの場合
      */
     public ApproxResult<DoublePolynomial> apply(DoubleApproxTarget target) {
+        return this.execute(Objects.requireNonNull(target), this.configuration);
+    }
+
+    /**
+     * 与えられたターゲット関数の近似を, 与えられたエグゼキュータにより非同期に実行する.
+     * 
+     * <p>
+     * 近似結果は {@link #apply(DoubleApproxTarget)} によるものと同一である. <br>
+     * 返された {@link CompletableFuture} が近似の完了前に取り消された場合
+     * ({@link CompletableFuture#cancel(boolean)} など), 実行中の近似計算はイテレーションの区切りで中断される. <br>
+     * 実行の開始前に取り消された場合は, 近似計算は行われない.
+     * </p>
+     * 
+     * <p>
+     * ターゲット関数の値とスケールの計算は, エグゼキュータのスレッドで行われる.
+     * </p>
+     * 
+     * @param target ターゲット関数
+     * @param executor 近似を実行するエグゼキュータ
+     * @return 近似結果の {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @throws java.util.concurrent.RejectedExecutionException エグゼキュータがタスクを受け付けない場合
+     */
+    public CompletableFuture<ApproxResult<DoublePolynomial>> applyAsync(
+            DoubleApproxTarget target, Executor executor) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(executor);
+        return AsyncRemezExecution.submit(
+                this.configuration, configuration -> this.execute(target, configuration), executor);
+    }
+
+    /**
+     * 与えられた計算条件で近似を実行する.
+     * 
+     * @param target ターゲット関数, nullであってはいけない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return 近似結果, 計算に失敗した場合は空
+     */
+    private ApproxResult<DoublePolynomial> execute(
+            DoubleApproxTarget target, RemezConfiguration configuration) {
         try {
-            DoubleApproxCalculationByRemezMinimax calc = new DoubleApproxCalculationByRemezMinimax(
-                    Objects.requireNonNull(target), this.order);
+            DoubleApproxCalculation calc = DoubleApproxCalculation.of(
+                    target, this.order, configuration.withCancellation(configuration.cancellation().start()));
             //ここで例外が発生する可能性がある.
             calc.calculate();
 
             assert this.order() == calc.getResult().degree();
 
-            return ApproxResult.of(calc.getResult());
+            DoubleNewtonPolynomial result = calc.getResult();
+            if (this.chebyshevBasis) {
+                return ApproxResult.of(result.toChebyshev(target.interval()));
+            }
+            return ApproxResult.of(
+                    Objects.isNull(this.evaluationScheme)
+                            ? result
+                            : CompiledDoublePolynomial.of(result, this.evaluationScheme));
         } catch (ApproximationFailedException afe) {
             return ApproxResult.failed(afe.failuerMessage());
         }
@@ -122,6 +537,6 @@ public final class MinimaxDoublePolynomialApproxExecutor {
      * @throws IllegalArgumentException 次数が不適の場合
      */
     public static MinimaxDoublePolynomialApproxExecutor of(int order) {
-        return new MinimaxDoublePolynomialApproxExecutor(order);
+        return new MinimaxDoublePolynomialApproxExecutor(order, RemezConfiguration.DEFAULT, null, false);
     }
 }
@@ -5,12 +5,19 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.17
  */
 package matsu.num.approximation.polynomial;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import matsu.num.approximation.ApproxResult;
 import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.CancellationToken;
 import matsu.num.approximation.PseudoRealNumber;
 import matsu.num.approximation.component.ApproximationFailedException;
 
@@ -35,7 +42,8 @@ import matsu.num.approximation.component.ApproximationFailedException;
  * {@link #of(int)} メソッドにより取得する. <br>
  * 近似多項式の (最高) 次数はこのクラスのインスタンス生成時に確定する. <br>
  * 多項式近似は, {@link #apply(ApproxTarget)} メソッドにより実行する. <br>
- * 近似に失敗した場合は "空" が返る.
+ * 近似に失敗した場合は "空" が返る. <br>
+ * {@link #applyAsync(ApproxTarget, Executor)} により, 近似を非同期に実行することもできる.
  * </p>
  * 
  * <p>
@@ -43,6 +51,49 @@ import matsu.num.approximation.component.ApproximationFailedException;
  * 0 &le; <i>n</i> &le; 100
  * </p>
  * 
+ * <p>
+ * 近似計算は, 既定では固定されたスケジュールにしたがってイテレーションが行われ,
+ * 同一の入力に対して常に同一の結果を返す. <br>
+ * {@link #withConvergenceTolerance(double)} により許容誤差を与えた場合,
+ * 収束を判定した時点でイテレーションが打ち切られる. <br>
+ * また, {@link #withAlgorithm(RemezAlgorithm)} によりノードの更新方式を選択できる. <br>
+ * {@link #withInitialization(RemezInitialization)} により,
+ * 初期ノードをターゲット関数の Chebyshev 補間に基づいて決めることもできる.
+ * </p>
+ * 
+ * <p>
+ * 精度の高い型による近似では, {@link #withDoublePresolve(boolean)} により,
+ * ノードを {@code double} 型の近似計算で事前に求めることができる
+ * (混合精度による近似). <br>
+ * 独自クラスによる演算で行うイテレーションは仕上げの数回に限られるため, 計算時間が大きく短縮される.
+ * </p>
+ * 
+ * <p>
+ * ターゲット関数の評価が重い場合,
+ * {@link #withParallelEvaluation(boolean)} により近似誤差の評価を並列化できる. <br>
+ * 並列化した場合も, 結果は逐次に評価した場合と一致する.
+ * </p>
+ * 
+ * <p>
+ * 計算時間が問題になる場合, {@link #withTimeLimit(Duration)} による制限時間,
+ * {@link #withCancellationToken(CancellationToken)} によるトークン, スレッドへの割り込みによって,
+ * 近似計算をイテレーションの区切りで中断できる. <br>
+ * 中断した場合の扱いは, {@link #withPartialResult(boolean)} により指定する.
+ * </p>
+ * 
+ * <p>
+ * {@code double} 値と同等の型 ({@link PseudoRealNumber.TypeProvider#isDoubleBacked()} が
+ * {@code true} である型, {@link matsu.num.approximation.DoubleLike} など) のターゲット関数に対しては,
+ * 近似計算を {@code double} 型で行い, 結果を元の型に戻す. <br>
+ * 補間の形式による近似結果の値は, {@link MinimaxDoublePolynomialApproxExecutor} による結果と一致する.
+ * </p>
+ * 
+ * <p>
+ * 近似結果の多項式は, 既定では補間の形式で値を計算する. <br>
+ * {@link #withChebyshevBasis(boolean)} により Chebyshev 基底を指定した場合,
+ * 近似結果はターゲット関数の区間に写された {@link ChebyshevPolynomial} として返される.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public final class MinimaxPolynomialApproxExecutor {
@@ -58,18 +109,27 @@ public final class MinimaxPolynomialApproxExecutor {
     public static final int UPPER_LIMIT_OF_ORDER = 100;
 
     private final int order;
+    private final RemezConfiguration configuration;
+
+    /**
+     * 近似結果を Chebyshev 基底で表現するかどうか.
+     */
+    private final boolean chebyshevBasis;
 
     /**
      * 与えられた値を近似多項式の次数とする, インスタンスを生成.
      * 
      * @throws IllegalArgumentException 次数が不適の場合
      */
-    private MinimaxPolynomialApproxExecutor(int order) {
+    private MinimaxPolynomialApproxExecutor(
+            int order, RemezConfiguration configuration, boolean chebyshevBasis) {
         if (!(LOWER_LIMIT_OF_ORDER <= order &&
                 order <= UPPER_LIMIT_OF_ORDER)) {
             throw new IllegalArgumentException("invalid order");
         }
         this.order = order;
+        this.configuration = configuration;
+        this.chebyshevBasis = chebyshevBasis;
     }
 
     /**
@@ -81,6 +141,310 @@ public final class MinimaxPolynomialApproxExecutor {
         return this.order;
     }
 
+    /**
+     * 収束判定の許容相対誤差を与えて,
+     * 収束を判定した時点でイテレーションを打ち切るエグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * イテレーションは, 近似誤差 (重みづけ誤差) の絶対値の最大値と,
+     * ノードにおける近似誤差の水準との相対差 (等振動からのずれ) が
+     * 許容相対誤差以下になった時点で打ち切られる. <br>
+     * このとき, 近似誤差の最大値は最良の値の (1 + 許容相対誤差) 倍程度以下である. <br>
+     * 許容相対誤差を小さくするほど既定のスケジュールによる結果に近づくが, 計算量が増える. <br>
+     * 収束の判定そのものにも近似誤差の評価を要するため,
+     * 既定のスケジュールより計算量が少なくなるとは限らない
+     * (近似誤差の最大値が許容範囲にあることを確かめる目的で用いる).
+     * </p>
+     * 
+     * @param tolerance 許容相対誤差, 0より大きく1より小さい
+     * @return 収束判定を行うエグゼキュータ
+     * @throws IllegalArgumentException 許容相対誤差が不適の場合
+     */
+    public MinimaxPolynomialApproxExecutor withConvergenceTolerance(double tolerance) {
+        if (!RemezConfiguration.acceptsConvergenceTolerance(tolerance)) {
+            throw new IllegalArgumentException("invalid tolerance: tolerance = " + tolerance);
+        }
+        return new MinimaxPolynomialApproxExecutor(
+                this.order, this.configuration.withConvergenceTolerance(tolerance), this.chebyshevBasis);
+    }
+
+    /**
+     * ノードの更新方式を返す.
+     * 
+     * @return ノードの更新方式
+     */
+    public RemezAlgorithm algorithm() {
+        return this.configuration.algorithm();
+    }
+
+    /**
+     * ノードの更新方式を与えて, その方式により近似を行うエグゼキュータを返す. <br>
+     * 次数や許容相対誤差などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 許容相対誤差は, いずれの方式においても,
+     * 近似誤差の水準と極値の最大値との相対差に対して適用される.
+     * </p>
+     * 
+     * @param algorithm ノードの更新方式
+     * @return ノードの更新方式を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxPolynomialApproxExecutor withAlgorithm(RemezAlgorithm algorithm) {
+        return new MinimaxPolynomialApproxExecutor(
+                this.order, this.configuration.withAlgorithm(Objects.requireNonNull(algorithm)),
+                this.chebyshevBasis);
+    }
+
+    /**
+     * ノード移動方式のイテレーションにおいて,
+     * 近似誤差の評価を並列に行うかどうかを返す.
+     * 
+     * @return 並列に評価する場合はtrue
+     */
+    public boolean isParallelEvaluation() {
+        return this.configuration.isParallel();
+    }
+
+    /**
+     * 近似誤差の評価を並列に行うかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * ノード移動方式 ({@link RemezAlgorithm#NODE_SHIFT}) の各イテレーションでは,
+     * ノードごとに3点で近似誤差を評価する. <br>
+     * これらはノードごとに独立であるので,
+     * 並列化した場合は {@link java.util.concurrent.ForkJoinPool#commonPool()} で分散して評価する. <br>
+     * 結果は逐次に評価した場合と一致する. <br>
+     * ターゲット関数の評価が軽い場合は, 並列化のオーバーヘッドにより遅くなることがある.
+     * </p>
+     * 
+     * <p>
+     * 並列化する場合, ターゲット関数の値とスケールの計算はスレッドセーフでなければならない.
+     * </p>
+     * 
+     * @param parallel 並列に評価する場合はtrue
+     * @return 並列化の有無を変更したエグゼキュータ
+     */
+    public MinimaxPolynomialApproxExecutor withParallelEvaluation(boolean parallel) {
+        return new MinimaxPolynomialApproxExecutor(
+                this.order, this.configuration.withParallel(parallel), this.chebyshevBasis);
+    }
+
+    /**
+     * 初期ノードの決め方を返す.
+     * 
+     * @return 初期ノードの決め方
+     */
+    public RemezInitialization initialization() {
+        return this.configuration.initialization();
+    }
+
+    /**
+     * 初期ノードの決め方を与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * {@link RemezInitialization#INTERPOLANT_EXTREMA} を与えた場合,
+     * ターゲット関数の Chebyshev 補間多項式の重みづけ誤差の極値点からイテレーションを開始する. <br>
+     * スケールが区間内で大きく変化するターゲット関数 (相対誤差による近似など) では,
+     * 収束までのイテレーションの回数が大きく減る. <br>
+     * 固定されたスケジュールによるイテレーションでも, 結果は初期ノードに依存しうる
+     * (いずれも同一の近似多項式に収束するが, 打ち切り時点の値は丸め誤差の範囲で異なる).
+     * </p>
+     * 
+     * @param initialization 初期ノードの決め方
+     * @return 初期ノードの決め方を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxPolynomialApproxExecutor withInitialization(RemezInitialization initialization) {
+        return new MinimaxPolynomialApproxExecutor(
+                this.order,
+                this.configuration.withInitialization(Objects.requireNonNull(initialization)),
+                this.chebyshevBasis);
+    }
+
+    /**
+     * ノードを {@code double} 型の近似計算で事前に求めるかどうかを返す.
+     * 
+     * @return 事前に求める場合はtrue
+     */
+    public boolean isDoublePresolve() {
+        return this.configuration.isDoublePresolve();
+    }
+
+    /**
+     * ノードを {@code double} 型の近似計算で事前に求めるかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 事前計算を指定した場合, まず, ターゲット関数とその補間多項式との残差, およびスケールを
+     * Chebyshev 点で元の型により評価し, {@link PseudoRealNumber#asDouble()} により {@code double} 型に写す. <br>
+     * これらの {@code double} 型の補間多項式をターゲット関数として,
+     * 自身と同じ更新方式, 許容誤差, 初期ノードの決め方で近似計算を行う
+     * (この近似計算では, 元の型による評価は行わない). <br>
+     * 収束したノードを {@link PseudoRealNumber.TypeProvider#fromDoubleValue(double)} により元の型に戻し,
+     * そのノードから元の型による近似計算を開始する. <br>
+     * ノードは既に解に近いため, 元の型によるイテレーションは仕上げの数回で打ち切られる. <br>
+     * 近似結果の精度は, ノードを元の型で求めた場合と同等である.
+     * </p>
+     * 
+     * <p>
+     * 区間やターゲット関数の値が {@code double} 型で表現できない場合
+     * (値がオーバーフローする場合など), 補間多項式が収束しない場合 (ターゲット関数が滑らかでない場合など) や,
+     * {@code double} 型の近似計算に失敗した場合は,
+     * 事前計算を行わない場合と同じ初期ノードから近似計算を行う.
+     * </p>
+     * 
+     * @param doublePresolve 事前に求める場合はtrue
+     * @return 事前計算の有無を変更したエグゼキュータ
+     */
+    public MinimaxPolynomialApproxExecutor withDoublePresolve(boolean doublePresolve) {
+        return new MinimaxPolynomialApproxExecutor(
+                this.order, this.configuration.withDoublePresolve(doublePresolve), this.chebyshevBasis);
+    }
+
+    /**
+     * 近似結果を Chebyshev 基底で表現するかどうかを返す.
+     * 
+     * @return Chebyshev 基底で表現する場合はtrue
+     */
+    public boolean isChebyshevBasis() {
+        return this.chebyshevBasis;
+    }
+
+    /**
+     * 近似結果を Chebyshev 基底で表現するかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * Chebyshev 基底を指定した場合, 近似結果は,
+     * ターゲット関数の区間 {@link ApproxTarget#interval()} を [-1, 1] に写した
+     * {@link ChebyshevPolynomial} として返される. <br>
+     * 変換は補間の形式から直接行われ, 単項式基底を経由しない.
+     * </p>
+     * 
+     * @param chebyshevBasis Chebyshev 基底で表現する場合はtrue
+     * @return 近似結果の表現を変更したエグゼキュータ
+     */
+    public MinimaxPolynomialApproxExecutor withChebyshevBasis(boolean chebyshevBasis) {
+        return new MinimaxPolynomialApproxExecutor(this.order, this.configuration, chebyshevBasis);
+    }
+
+    /**
+     * 近似計算の制限時間を返す. <br>
+     * 制限時間が与えられていない場合は空を返す.
+     * 
+     * @return 制限時間
+     */
+    public Optional<Duration> timeLimit() {
+        return Optional.ofNullable(this.configuration.cancellation().timeLimit());
+    }
+
+    /**
+     * 近似計算の制限時間を与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 制限時間は近似の実行 ({@link #apply(ApproxTarget)} の呼び出しなど) ごとに, その開始時点から計られる. <br>
+     * ただし, 非同期実行 ({@link #applyAsync(ApproxTarget, Executor)}) の場合は, 投入の時点から計られる
+     * (エグゼキュータの待ち行列での待ち時間を含む). <br>
+     * 制限時間を超えた場合, イテレーションの区切りで近似計算を中断し,
+     * 制限時間を超えたことを示すメッセージとともに空の {@link ApproxResult} を返す
+     * (途中結果を採用する設定の場合は, {@link #withPartialResult(boolean)} を参照). <br>
+     * 1回のイテレーションの途中では中断されないため, 実際の計算時間は制限時間をわずかに超えうる.
+     * </p>
+     * 
+     * @param timeLimit 制限時間, 正
+     * @return 制限時間を変更したエグゼキュータ
+     * @throws IllegalArgumentException 制限時間が正でない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxPolynomialApproxExecutor withTimeLimit(Duration timeLimit) {
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("invalid time limit: timeLimit = " + timeLimit);
+        }
+        return this.withCancellation(this.configuration.cancellation().withTimeLimit(timeLimit));
+    }
+
+    /**
+     * 近似計算の中断を要求するトークンを返す. <br>
+     * トークンが与えられていない場合は空を返す.
+     * 
+     * @return トークン
+     */
+    public Optional<CancellationToken> cancellationToken() {
+        return Optional.ofNullable(this.configuration.cancellation().token());
+    }
+
+    /**
+     * 近似計算の中断を要求するトークンを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * トークンにより中断が要求された場合 ({@link CancellationToken#cancel()}),
+     * イテレーションの区切りで近似計算を中断し,
+     * 中断されたことを示すメッセージとともに空の {@link ApproxResult} を返す
+     * (途中結果を採用する設定の場合は, {@link #withPartialResult(boolean)} を参照). <br>
+     * トークンはエグゼキュータに保持されるので, 一度中断を要求したトークンを持つエグゼキュータによる近似は,
+     * 以降も直ちに中断される.
+     * </p>
+     * 
+     * @param token 中断を要求するトークン
+     * @return トークンを変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public MinimaxPolynomialApproxExecutor withCancellationToken(CancellationToken token) {
+        return this.withCancellation(
+                this.configuration.cancellation().withToken(Objects.requireNonNull(token)));
+    }
+
+    /**
+     * 近似計算が中断された場合に, 途中結果を返すかどうかを返す.
+     * 
+     * @return 途中結果を返す場合はtrue
+     */
+    public boolean isPartialResult() {
+        return this.configuration.cancellation().isPartialResult();
+    }
+
+    /**
+     * 近似計算が中断された場合に, 途中結果を返すかどうかを与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * <p>
+     * 近似計算は, 実行中のスレッドへの割り込み, 制限時間 ({@link #withTimeLimit(Duration)}),
+     * トークン ({@link #withCancellationToken(CancellationToken)}),
+     * 非同期実行の取り消し ({@link #applyAsync(ApproxTarget, Executor)}) によって,
+     * イテレーションの区切りで中断される. <br>
+     * 途中結果を返さない場合 (既定), 中断の理由を示すメッセージとともに空の {@link ApproxResult} を返す. <br>
+     * 途中結果を返す場合, それまでに得られた最良の多項式を返す
+     * (ノード移動方式ではその時点のノードによる多項式,
+     * 交換方式ではそれまでで近似誤差の最大値が最小の多項式). <br>
+     * ただし, 交換方式において最初のイテレーションの前に中断された場合は, 空を返す. <br>
+     * 途中結果はミニマックス近似に収束していない可能性がある.
+     * </p>
+     * 
+     * <p>
+     * 割り込みにより中断した場合も, スレッドの割り込み状態はクリアされない.
+     * </p>
+     * 
+     * @param partialResult 途中結果を返す場合はtrue
+     * @return 中断時の扱いを変更したエグゼキュータ
+     */
+    public MinimaxPolynomialApproxExecutor withPartialResult(boolean partialResult) {
+        return this.withCancellation(this.configuration.cancellation().withPartialResult(partialResult));
+    }
+
+    /**
+     * 中断の判定を与えて, エグゼキュータを返す.
+     */
+    private MinimaxPolynomialApproxExecutor withCancellation(RemezCancellation cancellation) {
+        return new MinimaxPolynomialApproxExecutor(
+                this.order, this.configuration.withCancellation(cancellation), this.chebyshevBasis);
+    }
+
     /**
      * 与えられたターゲット関数を近似する.
      * 
@@ -97,17 +461,66 @@ public final class MinimaxPolynomialApproxExecutor {
      */
     public <T extends PseudoRealNumber<T>> ApproxResult<Polynomial<T>> apply(
             ApproxTarget<T> target) {
+        return this.execute(Objects.requireNonNull(target), this.configuration);
+    }
 
+    /**
+     * 与えられたターゲット関数の近似を, 与えられたエグゼキュータにより非同期に実行する.
+     * 
+     * <p>
+     * 近似結果は {@link #apply(ApproxTarget)} によるものと同一である. <br>
+     * 返された {@link CompletableFuture} が近似の完了前に取り消された場合
+     * ({@link CompletableFuture#cancel(boolean)} など), 実行中の近似計算はイテレーションの区切りで中断される. <br>
+     * 実行の開始前に取り消された場合は, 近似計算は行われない.
+     * </p>
+     * 
+     * <p>
+     * ターゲット関数の値とスケールの計算は, エグゼキュータのスレッドで行われる.
+     * </p>
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param target ターゲット関数
+     * @param executor 近似を実行するエグゼキュータ
+     * @return 近似結果の {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @throws java.util.concurrent.RejectedExecutionException エグゼキュータがタスクを受け付けない場合
+     */
+    public <T extends PseudoRealNumber<T>> CompletableFuture<ApproxResult<Polynomial<T>>> applyAsync(
+            ApproxTarget<T> target, Executor executor) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(executor);
+        return AsyncRemezExecution.submit(
+                this.configuration, configuration -> this.execute(target, configuration), executor);
+    }
+
+    /**
+     * 与えられた計算条件で近似を実行する.
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param target ターゲット関数, nullであってはいけない
+     * @param configuration 計算条件, nullであってはいけない
+     * @return 近似結果, 計算に失敗した場合は空
+     */
+    private <T extends PseudoRealNumber<T>> ApproxResult<Polynomial<T>> execute(
+            ApproxTarget<T> target, RemezConfiguration configuration) {
         try {
-            ApproxCalculationByRemezMinimax<T> calc =
-                    new ApproxCalculationByRemezMinimax<>(target, this.order);
+            ApproxCalculation<T> calc = ApproxCalculation.of(
+                    target, this.order, configuration.withCancellation(configuration.cancellation().start()));
 
             //ここで例外が発生する可能性がある.
             calc.calculate();
 
             assert this.order() == calc.getResult().degree();
 
-            return ApproxResult.of(calc.getResult());
+            NewtonPolynomial<T> result = calc.getResult();
+            if (this.chebyshevBasis) {
+                try {
+                    return ApproxResult.of(result.toChebyshev(target.interval()));
+                } catch (ArithmeticException ae) {
+                    return ApproxResult.failed("chebyshev coefficients cannot be created");
+                }
+            }
+            return ApproxResult.of(result);
         } catch (ApproximationFailedException afe) {
             return ApproxResult.failed(afe.failuerMessage());
         }
@@ -125,6 +538,6 @@ public final class MinimaxPolynomialApproxExecutor {
      * @throws IllegalArgumentException 次数が不適の場合
      */
     public static MinimaxPolynomialApproxExecutor of(int order) {
-        return new MinimaxPolynomialApproxExecutor(order);
+        return new MinimaxPolynomialApproxExecutor(order, RemezConfiguration.DEFAULT, false);
     }
 }
@@ -5,12 +5,14 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.16
  */
 package matsu.num.approximation.polynomial;
 
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 
+import matsu.num.approximation.FiniteClosedInterval;
 import matsu.num.approximation.PseudoRealNumber;
 import matsu.num.approximation.PseudoRealNumber.Provider;
 
@@ -44,57 +46,144 @@ import matsu.num.approximation.PseudoRealNumber.Provider;
  * そのため, パッケージプライベートメソッドについては, 例外のスローでなくアサーションにより対応している. <br>
  * 言うまでもなく, 外部に公開されるべきではない.
  * </p>
+ * 
+ * <p>
+ * 多項式の係数 (単項式基底による表現) は,
+ * {@link #coefficient()} が初めて呼ばれた時点で計算され, キャッシュされる. <br>
+ * 値の計算のみに用いられる (中間的な) インスタンスでは, 係数の計算は行われない. <br>
+ * 近似結果として外部に公開するインスタンスに対しては,
+ * {@link #validateCoefficient()} により係数が計算できることを検証しなければならない.
+ * </p>
  *
  * @author Matsuura, Y.
  */
 final class NewtonPolynomial<T extends PseudoRealNumber<T>> implements Polynomial<T> {
 
-    private final T[] node;
-    private final T[] newtonCoeff;
+    //ノードと Newton 補間の係数は, パックドベクトルに格納する
+    private final PseudoRealNumber.PackedVector<T> node;
+    private final PseudoRealNumber.PackedVector<T> newtonCoeff;
 
     private final PseudoRealNumber.TypeProvider<T> elementTypeProvider;
 
-    //多項式の係数
-    private final T[] coeff;
+    // 遅延初期化用のロックオブジェクト
+    private final Object lock = new Object();
+
+    //多項式の係数, 遅延初期化される
+    private volatile T[] coeff;
 
     /**
      * 内部でバリデーションされていない.
      */
-    private NewtonPolynomial(T[] node, T[] newtonCoeff,
+    private NewtonPolynomial(
+            PseudoRealNumber.PackedVector<T> node, PseudoRealNumber.PackedVector<T> newtonCoeff,
             PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
         this.node = node;
         this.newtonCoeff = newtonCoeff;
         this.elementTypeProvider = elementTypeProvider;
-
-        //ここでArithmeticExceptionを発生させる可能性がある
-        this.coeff = this.calcCoeff();
     }
 
     @Override
     public int degree() {
-        return this.node.length - 1;
+        return this.node.length() - 1;
     }
 
     @Override
     public T value(T x) {
-        T value = elementTypeProvider.zero();
+        PseudoRealNumber.Accumulator<T> value = elementTypeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> difference = elementTypeProvider.createAccumulator();
 
-        for (int i = this.node.length - 1; i >= 0; i--) {
+        for (int i = this.node.length() - 1; i >= 0; i--) {
             /*
              * この計算は, i = len - 1 = n のときは0乗算である.
              * Newton補間の場合, ノードc_nの値は計算時には使わないが,
              * コードの見やすさのため0乗算の形で残してある.
              */
-            value = value.times(x.minus(node[i]));
+            value.multiply(difference.set(x).subtract(this.node, i));
 
-            value = value.plus(newtonCoeff[i]);
+            value.add(this.newtonCoeff, i);
         }
-        return value;
+        return value.get();
     }
 
+    /**
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     *             ({@link #validateCoefficient()} で検証済みの場合はスローされない)
+     */
     @Override
     public T[] coefficient() {
-        return this.coeff.clone();
+        return this.coeff().clone();
+    }
+
+    /**
+     * 多項式の係数を計算し, 係数が表現できることを検証する. <br>
+     * 計算した係数はキャッシュされる.
+     * 
+     * @return this
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     */
+    NewtonPolynomial<T> validateCoefficient() {
+        this.coeff();
+        return this;
+    }
+
+    /**
+     * 区間を与えて, この多項式を Chebyshev 基底で表現した多項式に変換する. <br>
+     * 手順は {@link DoubleNewtonPolynomial#toChebyshev(matsu.num.approximation.DoubleFiniteClosedInterval)}
+     * と同一であり, 単項式基底を経由しない.
+     * 
+     * @param interval 変数変換の基準となる区間
+     * @return Chebyshev 基底により表現された多項式
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     */
+    ChebyshevPolynomial<T> toChebyshev(FiniteClosedInterval<T> interval) {
+        final int size = this.node.length();
+        final T halfGap = interval.upper().minus(interval.lower()).times(0.5);
+        final T mid = interval.lower().plus(halfGap);
+        final T quarterGap = halfGap.times(0.5);
+
+        T[] series = elementTypeProvider.createArray(1);
+        series[0] = this.newtonCoeff.get(size - 1);
+        for (int i = size - 2; i >= 0; i--) {
+            final T shift = mid.minus(this.node.get(i));
+            final int degree = series.length - 1;
+            T[] nextSeries = elementTypeProvider.createArray(degree + 2);
+
+            for (int k = 0; k <= degree; k++) {
+                nextSeries[k] = shift.times(series[k]);
+            }
+            nextSeries[degree + 1] = elementTypeProvider.zero();
+            nextSeries[1] = nextSeries[1].plus(halfGap.times(series[0]));
+            for (int k = 1; k <= degree; k++) {
+                T term = quarterGap.times(series[k]);
+                nextSeries[k - 1] = nextSeries[k - 1].plus(term);
+                nextSeries[k + 1] = nextSeries[k + 1].plus(term);
+            }
+            nextSeries[0] = nextSeries[0].plus(this.newtonCoeff.get(i));
+            series = nextSeries;
+        }
+        return ChebyshevPolynomial.of(series, interval, elementTypeProvider);
+    }
+
+    /**
+     * 多項式の係数を返す (遅延初期化). <br>
+     * 戻り値は内部の配列そのものであるので, 書き換えてはいけない.
+     * 
+     * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
+     */
+    private T[] coeff() {
+        T[] out = this.coeff;
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+        synchronized (lock) {
+            out = this.coeff;
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+            out = this.calcCoeff();
+            this.coeff = out;
+            return out;
+        }
     }
 
     @Override
@@ -107,20 +196,30 @@ final class NewtonPolynomial<T extends PseudoRealNumber<T>> implements Polynomia
      * @throws ArithmeticException 四則演算の結果, 係数が表現できなくなった場合
      */
     private T[] calcCoeff() {
-        final int size = this.node.length;
-        T[] polyCoeff = elementTypeProvider.createArray(0);
-        for (int i = 0; i < size; i++) {
-            T cp_smim1 = this.node[size - 1 - i];
-            T[] nextCoeff = elementTypeProvider.createArray(i + 1);
+        final int size = this.node.length();
+        PseudoRealNumber.Accumulator<T> accumulator = elementTypeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> product = elementTypeProvider.createAccumulator();
 
-            nextCoeff[0] = this.newtonCoeff[size - 1 - i];
-            System.arraycopy(polyCoeff, 0, nextCoeff, 1, i);
+        /*
+         * i 次の多項式の係数を, work[size - 1 - i], ... , work[size - 1] に昇順に格納する.
+         * (i + 1) 次の多項式の係数は, 先頭に Newton 補間の係数を置き,
+         * 昇順に work[j] -= c * work[j + 1] とすることで, その場で更新される.
+         */
+        PseudoRealNumber.PackedVector<T> work = elementTypeProvider.createPackedVector(size);
+        for (int i = 0; i < size; i++) {
+            final int offset = size - 1 - i;
+            T cp_smim1 = this.node.get(offset);
 
-            for (int j = 0; j < i; j++) {
-                nextCoeff[j] = nextCoeff[j].minus(
-                        cp_smim1.times(polyCoeff[j]));
+            work.set(offset, accumulator.set(this.newtonCoeff, offset));
+            for (int j = offset; j < size - 1; j++) {
+                product.set(work, j + 1).multiply(cp_smim1);
+                work.set(j, accumulator.set(work, j).subtract(product));
             }
-            polyCoeff = nextCoeff;
+        }
+
+        T[] polyCoeff = elementTypeProvider.createArray(size);
+        for (int j = 0; j < size; j++) {
+            polyCoeff[j] = work.get(j);
         }
         return polyCoeff;
     }
@@ -180,6 +279,27 @@ final class NewtonPolynomial<T extends PseudoRealNumber<T>> implements Polynomia
                 nodeClone, value, elementTypeProvider);
     }
 
+    /**
+     * ノードと Newton 補間の係数を直接与えて, Newton 補間多項式を返す. <br>
+     * 引数のベクトルは多項式に保持されるので, 呼び出し後に書き換えてはいけない. <br>
+     * ノードと係数の長さは, 1以上かつ同じでなければならない.
+     * 
+     * @param <T> 体の元を表す型パラメータ
+     * @param node ノード
+     * @param newtonCoeff Newton 補間の係数
+     * @param elementTypeProvider 体の元に関するプロバイダ
+     * @return Newton 補間多項式
+     */
+    static <T extends PseudoRealNumber<T>> NewtonPolynomial<T> fromNewtonCoefficient(
+            PseudoRealNumber.PackedVector<T> node, PseudoRealNumber.PackedVector<T> newtonCoeff,
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+
+        assert node.length() == newtonCoeff.length() : "mismatch size";
+        assert node.length() > 0 : "size 0";
+
+        return new NewtonPolynomial<>(node, newtonCoeff, elementTypeProvider);
+    }
+
     /**
      * Newton 補間多項式を構築する内部実装.
      * 引数にはcloneを渡すこと.
@@ -193,18 +313,20 @@ final class NewtonPolynomial<T extends PseudoRealNumber<T>> implements Polynomia
         assert node.length == value.length : "mismatch size";
         assert node.length > 0 : "size 0";
 
+        PseudoRealNumber.PackedVector<T> packedNode = elementTypeProvider.createPackedVector(node);
         NewtonCoefficientCalc<T> calc =
-                new NewtonCoefficientCalc<>(node, value, elementTypeProvider);
-        return new NewtonPolynomial<>(node, calc.calcAndGet(), elementTypeProvider);
+                new NewtonCoefficientCalc<>(packedNode, value, elementTypeProvider);
+        return new NewtonPolynomial<>(packedNode, calc.calcAndGet(), elementTypeProvider);
     }
 
     private static final class NewtonCoefficientCalc<T extends PseudoRealNumber<T>> {
 
-        private final T[] node;
+        private final PseudoRealNumber.PackedVector<T> node;
         private final T[] value;
         private final PseudoRealNumber.TypeProvider<T> elementTypeProvider;
 
-        NewtonCoefficientCalc(T[] node, T[] value, PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        NewtonCoefficientCalc(PseudoRealNumber.PackedVector<T> node, T[] value,
+                PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
             super();
             this.node = node;
             this.value = value;
@@ -215,17 +337,20 @@ final class NewtonPolynomial<T extends PseudoRealNumber<T>> implements Polynomia
          * @throws ArithmeticException Tが生成できない場合
          * @throws NullPointerException null
          */
-        T[] calcAndGet() {
-            T[] newtonCoeff = elementTypeProvider.createArray(this.node.length);
-            for (int i = 0, size = this.node.length; i < size; i++) {
-                T value_i = this.value[i];
-                T x_i = this.node[i];
+        PseudoRealNumber.PackedVector<T> calcAndGet() {
+            PseudoRealNumber.Accumulator<T> value_i = elementTypeProvider.createAccumulator();
+            PseudoRealNumber.Accumulator<T> den = elementTypeProvider.createAccumulator();
+
+            final int size = this.node.length();
+            PseudoRealNumber.PackedVector<T> newtonCoeff = elementTypeProvider.createPackedVector(size);
+            for (int i = 0; i < size; i++) {
+                value_i.set(this.value[i]);
                 for (int k = 0; k < i; k++) {
-                    value_i = value_i.minus(newtonCoeff[k]);
-                    T den = x_i.minus(this.node[k]);
-                    value_i = value_i.dividedBy(den);
+                    value_i.subtract(newtonCoeff, k);
+                    den.set(this.node, i).subtract(this.node, k);
+                    value_i.divide(den);
                 }
-                newtonCoeff[i] = value_i;
+                newtonCoeff.set(i, value_i);
             }
             return newtonCoeff;
         }
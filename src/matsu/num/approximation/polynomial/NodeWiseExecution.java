@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.stream.IntStream;
+
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * ノードごとに独立した処理を, 逐次あるいは並列に実行する.
+ * 
+ * <p>
+ * 並列実行には {@link java.util.concurrent.ForkJoinPool#commonPool()} が用いられる. <br>
+ * 各処理は互いに独立でなければならない
+ * (異なるノードの処理が同一の可変状態に書き込んではいけない). <br>
+ * この条件の下で, 並列実行の結果は逐次実行の結果と一致する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class NodeWiseExecution {
+
+    private NodeWiseExecution() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * ノードごとの処理.
+     */
+    @FunctionalInterface
+    static interface NodeTask {
+
+        /**
+         * 与えたインデックスのノードに対する処理を実行する.
+         * 
+         * @param index ノードのインデックス
+         * @return 処理の結果
+         * @throws ApproximationFailedException 処理に失敗した場合
+         */
+        boolean execute(int index) throws ApproximationFailedException;
+    }
+
+    /**
+     * 全てのノードに対して処理を実行し, いずれかの処理の結果が {@code true} であるかを返す. <br>
+     * 全てのノードの処理が必ず実行される (短絡評価は行われない).
+     * 
+     * <p>
+     * 並列実行において複数の処理が失敗した場合, いずれの例外がスローされるかは不定である.
+     * </p>
+     * 
+     * @param size ノード数
+     * @param parallel 並列に実行する場合はtrue
+     * @param task ノードごとの処理
+     * @return いずれかの処理の結果がtrueの場合はtrue
+     * @throws ApproximationFailedException いずれかの処理に失敗した場合
+     */
+    static boolean executeAll(int size, boolean parallel, NodeTask task) throws ApproximationFailedException {
+        if (!parallel) {
+            boolean out = false;
+            for (int i = 0; i < size; i++) {
+                out |= task.execute(i);
+            }
+            return out;
+        }
+
+        try {
+            return IntStream.range(0, size).parallel()
+                    .map(i -> {
+                        try {
+                            return task.execute(i) ? 1 : 0;
+                        } catch (ApproximationFailedException afe) {
+                            throw new TaskFailure(afe);
+                        }
+                    })
+                    .sum() > 0;
+        } catch (TaskFailure failure) {
+            throw failure.cause;
+        }
+    }
+
+    /**
+     * ストリーム内で検査例外を運ぶための例外.
+     */
+    private static final class TaskFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        final transient ApproximationFailedException cause;
+
+        TaskFailure(ApproximationFailedException cause) {
+            super(null, null, false, false);
+            this.cause = cause;
+        }
+    }
+}
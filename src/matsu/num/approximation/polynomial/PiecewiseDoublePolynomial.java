@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * 区間を分割した各セグメント上の多項式により表現された, {@code double} 型の区分多項式関数.
+ * 
+ * <p>
+ * 区間 [<i>a</i>, <i>b</i>] を境界 <br>
+ * <i>a</i> = <i>x</i><sub>0</sub> &lt; <i>x</i><sub>1</sub> &lt; &sdot;&sdot;&sdot; &lt;
+ * <i>x</i><sub><i>m</i></sub> = <i>b</i> <br>
+ * により <i>m</i> 個のセグメントに分割し,
+ * セグメント [<i>x</i><sub><i>i</i></sub>, <i>x</i><sub><i>i</i>+1</sub>) 上の値を
+ * Chebyshev 基底の多項式 ({@link ChebyshevDoublePolynomial}) で表現する
+ * (最後のセグメントは上端を含む). <br>
+ * 区間外の引数に対しては, 端のセグメントの多項式の値 (外挿) を返す.
+ * </p>
+ * 
+ * <p>
+ * 全セグメントの Chebyshev 基底の係数は, 1つの配列に連続して格納される (セグメント表). <br>
+ * セグメントの幅が等しい場合は, セグメントの探索は添え字の計算による定数時間で行われ,
+ * そうでない場合は境界の二分探索による.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(List)} により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class PiecewiseDoublePolynomial {
+
+    /**
+     * セグメントの幅が等しいとみなす, 境界のずれのセグメントの幅に対する比の上限. <br>
+     * 添え字の計算による推定は境界との比較で補正されるので, この値は判定の精度に影響しない.
+     */
+    private static final double UNIFORM_THRESHOLD = 1E-6;
+
+    private final DoubleFiniteClosedInterval interval;
+
+    /**
+     * セグメントの境界, 長さはセグメント数 + 1.
+     */
+    private final double[] boundary;
+
+    /**
+     * セグメントごとの変数変換の中心と倍率.
+     */
+    private final double[] shift;
+    private final double[] scale;
+
+    /**
+     * セグメント表, セグメントごとに {@code stride} 個の係数が並ぶ.
+     */
+    private final double[] table;
+    private final int stride;
+
+    /**
+     * セグメントの幅が等しい場合の, 添え字の計算の倍率 (セグメント数 / 区間の幅). <br>
+     * 幅が等しくない場合は NaN.
+     */
+    private final double uniformScale;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private PiecewiseDoublePolynomial(List<ChebyshevDoublePolynomial> segments) {
+        final int count = segments.size();
+        int stride = 0;
+        for (ChebyshevDoublePolynomial segment : segments) {
+            stride = Math.max(stride, segment.degree() + 1);
+        }
+
+        this.boundary = new double[count + 1];
+        this.shift = new double[count];
+        this.scale = new double[count];
+        this.table = new double[count * stride];
+        this.stride = stride;
+        for (int i = 0; i < count; i++) {
+            ChebyshevDoublePolynomial segment = segments.get(i);
+            DoubleFiniteClosedInterval segmentInterval = segment.interval();
+            double halfGap = 0.5 * segmentInterval.gap();
+            this.boundary[i] = segmentInterval.lower();
+            this.shift[i] = segmentInterval.lower() + halfGap;
+            this.scale[i] = 1d / halfGap;
+
+            //次数が低いセグメントの係数は0で埋める
+            double[] coeff = segment.chebyshevCoefficient();
+            System.arraycopy(coeff, 0, this.table, i * stride, coeff.length);
+        }
+        this.boundary[count] = segments.get(count - 1).interval().upper();
+        this.interval = DoubleFiniteClosedInterval.from(this.boundary[0], this.boundary[count]);
+        this.uniformScale = isUniform(this.boundary) ? count / this.interval.gap() : Double.NaN;
+    }
+
+    /**
+     * 境界が区間を等分しているかを判定する.
+     */
+    private static boolean isUniform(double[] boundary) {
+        final int count = boundary.length - 1;
+        final double lower = boundary[0];
+        final double width = (boundary[count] - lower) / count;
+        for (int i = 1; i < count; i++) {
+            if (!(Math.abs(boundary[i] - (lower + i * width)) <= UNIFORM_THRESHOLD * width)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 区分多項式が定義された区間を返す.
+     * 
+     * @return 区間
+     */
+    public DoubleFiniteClosedInterval interval() {
+        return this.interval;
+    }
+
+    /**
+     * セグメントの数を返す.
+     * 
+     * @return セグメントの数
+     */
+    public int segmentCount() {
+        return this.shift.length;
+    }
+
+    /**
+     * セグメントの多項式の次数の最大値を返す.
+     * 
+     * @return 次数の最大値
+     */
+    public int degree() {
+        return this.stride - 1;
+    }
+
+    /**
+     * セグメントの境界
+     * {<i>x</i><sub>0</sub>, <i>x</i><sub>1</sub>, ... , <i>x</i><sub><i>m</i></sub>}
+     * を配列として返す.
+     * 
+     * @return セグメントの境界, 長さはセグメント数 + 1
+     */
+    public double[] boundaries() {
+        return this.boundary.clone();
+    }
+
+    /**
+     * セグメントの幅が等しいか (セグメントの探索が定数時間で行われるか) を返す.
+     * 
+     * @return セグメントの幅が等しい場合はtrue
+     */
+    public boolean isUniform() {
+        return !Double.isNaN(this.uniformScale);
+    }
+
+    /**
+     * 指定したセグメントの多項式を返す.
+     * 
+     * @param index セグメントの添え字
+     * @return セグメントの多項式
+     * @throws IndexOutOfBoundsException 添え字が範囲外の場合
+     */
+    public ChebyshevDoublePolynomial segment(int index) {
+        Objects.checkIndex(index, this.segmentCount());
+        return ChebyshevDoublePolynomial.of(
+                Arrays.copyOfRange(this.table, index * this.stride, (index + 1) * this.stride),
+                DoubleFiniteClosedInterval.from(this.boundary[index], this.boundary[index + 1]));
+    }
+
+    /**
+     * 与えた引数を含むセグメントの添え字を返す. <br>
+     * 区間外の引数に対しては端のセグメントの添え字を返す.
+     * 
+     * @param x 引数
+     * @return セグメントの添え字
+     */
+    public int segmentIndex(double x) {
+        final int last = this.segmentCount() - 1;
+        if (this.isUniform()) {
+            //推定した添え字を, 境界との比較で高々1つずらす
+            int index = (int) ((x - this.boundary[0]) * this.uniformScale);
+            index = Math.max(0, Math.min(last, index));
+            if (index > 0 && x < this.boundary[index]) {
+                index--;
+            } else if (index < last && x >= this.boundary[index + 1]) {
+                index++;
+            }
+            return index;
+        }
+
+        int position = Arrays.binarySearch(this.boundary, 1, last + 1, x);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    /**
+     * 区分多項式の値を返す.
+     * 
+     * @param x 引数
+     * @return 値
+     */
+    public double value(double x) {
+        final int index = this.segmentIndex(x);
+        return DoublePolynomialKernel.clenshaw(
+                this.table, index * this.stride, this.stride, (x - this.shift[index]) * this.scale[index]);
+    }
+
+    /**
+     * 区分多項式の値を一括で計算し, 出力用の配列に書き込む. <br>
+     * 引数の配列と出力用の配列は同一でもよい.
+     * 
+     * @param xs 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さ
+     * @throws IllegalArgumentException 配列の長さが一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void value(double[] xs, double[] out) {
+        DoublePolynomialKernel.requireValidArrays(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = this.value(xs[i]);
+        }
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "PiecewiseDoublePolynomial(%s, segments = %s, degree = %s)".formatted(
+                this.interval, this.segmentCount(), this.degree());
+    }
+
+    /**
+     * 隣り合うセグメントの多項式を昇順に並べたリストを与えて, 区分多項式を返す. <br>
+     * 各セグメントの区間の上端は, 次のセグメントの区間の下端と一致しなければならない.
+     * 
+     * @param segments セグメントの多項式のリスト
+     * @return 区分多項式
+     * @throws IllegalArgumentException リストが空の場合, セグメントの区間が連続していない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static PiecewiseDoublePolynomial of(List<ChebyshevDoublePolynomial> segments) {
+        List<ChebyshevDoublePolynomial> copy = List.copyOf(segments);
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("empty segments");
+        }
+        for (int i = 0; i < copy.size() - 1; i++) {
+            if (copy.get(i).interval().upper() != copy.get(i + 1).interval().lower()) {
+                throw new IllegalArgumentException("segments are not contiguous: index = " + i);
+            }
+        }
+        return new PiecewiseDoublePolynomial(copy);
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.MeasuredApproximation;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 区間を自動的に分割する, ミニマックス法による
+ * {@code double} 型で表現された実数体に関する区分多項式関数による近似の実行を扱う.
+ * 
+ * <p>
+ * ターゲット関数の区間を, 固定した次数 <i>n</i> のミニマックス近似多項式
+ * ({@link MinimaxDoublePolynomialApproxExecutor} と同等) の近似誤差が許容値以下となるまで再帰的に二等分し,
+ * 各セグメントの近似多項式を並べた区分多項式 ({@link PiecewiseDoublePolynomial}) と,
+ * 近似誤差の組 ({@link MeasuredApproximation}) を返す. <br>
+ * 広い区間で単一の高次多項式による近似が困難な場合でも, 低い次数の多項式で近似できる. <br>
+ * 各セグメントの多項式は, Chebyshev 基底により表現される.
+ * </p>
+ * 
+ * <p>
+ * 各セグメントの近似誤差は, 近似多項式のノードと,
+ * 次数の {@value #ERROR_SAMPLING_RATE} 倍程度の密度で配置した Chebyshev 点における評価による推定値である
+ * ({@link MinimalDegreeDoublePolynomialApproxExecutor} と同様). <br>
+ * 区分多項式の近似誤差は, セグメントの近似誤差の最大値である. <br>
+ * 近似計算に失敗したセグメントは, 許容値を満たさないものとして扱う.
+ * </p>
+ * 
+ * <p>
+ * 分割の深さは {@link #maxDepth()} までに制限される
+ * (セグメントの数は高々 2<sup>{@link #maxDepth()}</sup> である). <br>
+ * 上限の深さまで分割しても許容値を満たさないセグメントがある場合や,
+ * 区間が {@link DoubleFiniteClosedInterval} として分割できなくなった場合は, "空" が返る.
+ * </p>
+ * 
+ * <p>
+ * 独立したセグメントの近似を並列に行うことができる
+ * ({@link #withParallelFitting(boolean)}). <br>
+ * 並列化した場合は {@link java.util.concurrent.ForkJoinPool#commonPool()} で分割の木を分担して近似する. <br>
+ * 並列化の有無にかかわらず, 近似結果は同一である.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(int, double)} メソッドにより取得する. <br>
+ * 扱うことができる次数 <i>n</i> は,
+ * {@link #LOWER_LIMIT_OF_ORDER} &le; <i>n</i> &le; {@link #UPPER_LIMIT_OF_ORDER} である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class PiecewiseMinimaxDoublePolynomialApproxExecutor {
+
+    /**
+     * 扱うことができる次数の下限.
+     */
+    public static final int LOWER_LIMIT_OF_ORDER = MinimaxDoublePolynomialApproxExecutor.LOWER_LIMIT_OF_ORDER;
+
+    /**
+     * 扱うことができる次数の上限.
+     */
+    public static final int UPPER_LIMIT_OF_ORDER = MinimaxDoublePolynomialApproxExecutor.UPPER_LIMIT_OF_ORDER;
+
+    /**
+     * 近似誤差を評価する点の, ノード数に対する密度の倍率.
+     */
+    public static final int ERROR_SAMPLING_RATE = MinimalDegreeDoublePolynomialApproxExecutor.ERROR_SAMPLING_RATE;
+
+    /**
+     * 分割の深さの上限として指定できる値の上限.
+     */
+    public static final int UPPER_LIMIT_OF_DEPTH = 24;
+
+    /**
+     * 分割の深さの上限の既定値.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 16;
+
+    private final int order;
+    private final double errorTolerance;
+    private final int maxDepth;
+    private final boolean parallelFitting;
+    private final RemezConfiguration configuration;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private PiecewiseMinimaxDoublePolynomialApproxExecutor(
+            int order, double errorTolerance, int maxDepth,
+            boolean parallelFitting, RemezConfiguration configuration) {
+        this.order = order;
+        this.errorTolerance = errorTolerance;
+        this.maxDepth = maxDepth;
+        this.parallelFitting = parallelFitting;
+        this.configuration = configuration;
+    }
+
+    /**
+     * 各セグメントの近似多項式の次数を返す.
+     * 
+     * @return 次数
+     */
+    public int order() {
+        return this.order;
+    }
+
+    /**
+     * 近似誤差の許容値を返す.
+     * 
+     * @return 近似誤差の許容値
+     */
+    public double errorTolerance() {
+        return this.errorTolerance;
+    }
+
+    /**
+     * 分割の深さの上限を返す.
+     * 
+     * @return 分割の深さの上限
+     */
+    public int maxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * 分割の深さの上限を与えて, エグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * @param maxDepth 分割の深さの上限, 0以上 {@link #UPPER_LIMIT_OF_DEPTH} 以下
+     * @return 分割の深さの上限を変更したエグゼキュータ
+     * @throws IllegalArgumentException 分割の深さの上限が範囲外の場合
+     */
+    public PiecewiseMinimaxDoublePolynomialApproxExecutor withMaxDepth(int maxDepth) {
+        if (!(0 <= maxDepth && maxDepth <= UPPER_LIMIT_OF_DEPTH)) {
+            throw new IllegalArgumentException("invalid depth: maxDepth = " + maxDepth);
+        }
+        return new PiecewiseMinimaxDoublePolynomialApproxExecutor(
+                this.order, this.errorTolerance, maxDepth, this.parallelFitting, this.configuration);
+    }
+
+    /**
+     * ノードの更新方式を返す.
+     * 
+     * @return ノードの更新方式
+     */
+    public RemezAlgorithm algorithm() {
+        return this.configuration.algorithm();
+    }
+
+    /**
+     * ノードの更新方式を与えて, その方式により近似を行うエグゼキュータを返す. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * @param algorithm ノードの更新方式
+     * @return ノードの更新方式を変更したエグゼキュータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public PiecewiseMinimaxDoublePolynomialApproxExecutor withAlgorithm(RemezAlgorithm algorithm) {
+        return new PiecewiseMinimaxDoublePolynomialApproxExecutor(
+                this.order, this.errorTolerance, this.maxDepth, this.parallelFitting,
+                this.configuration.withAlgorithm(Objects.requireNonNull(algorithm)));
+    }
+
+    /**
+     * セグメントの近似を並列に行うかどうかを返す.
+     * 
+     * @return 並列に近似する場合はtrue
+     */
+    public boolean isParallelFitting() {
+        return this.parallelFitting;
+    }
+
+    /**
+     * セグメントの近似を並列に行うかどうかを与えて, エグゼキュータを返す. <br>
+     * 並列化した場合は {@link java.util.concurrent.ForkJoinPool#commonPool()} で分散して近似する. <br>
+     * 次数などのその他の条件は, 自身と同一である.
+     * 
+     * @param parallel 並列に近似する場合はtrue
+     * @return 並列化の有無を変更したエグゼキュータ
+     */
+    public PiecewiseMinimaxDoublePolynomialApproxExecutor withParallelFitting(boolean parallel) {
+        return new PiecewiseMinimaxDoublePolynomialApproxExecutor(
+                this.order, this.errorTolerance, this.maxDepth, parallel, this.configuration);
+    }
+
+    /**
+     * 与えられたターゲット関数を, 区間を分割した区分多項式で近似する.
+     * 
+     * <p>
+     * 近似結果は, 区分多項式と近似誤差の組である. <br>
+     * 上限の深さまで分割しても許容値を満たさない場合は, 空の {@link ApproxResult} が返る.
+     * </p>
+     * 
+     * @param target ターゲット関数
+     * @return 近似結果 (区分多項式と近似誤差), 許容値を満たす分割が見つからない場合は空
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public ApproxResult<MeasuredApproximation<PiecewiseDoublePolynomial>> apply(DoubleApproxTarget target) {
+        Split root = new Split(Objects.requireNonNull(target), target.interval(), 0);
+        Pieces pieces = this.parallelFitting
+                ? ForkJoinPool.commonPool().invoke(root)
+                : root.compute();
+
+        if (Objects.nonNull(pieces.failure)) {
+            return ApproxResult.failed(pieces.failure);
+        }
+        List<ChebyshevDoublePolynomial> segments = new ArrayList<>(pieces.segments.size());
+        double maxError = 0d;
+        for (Segment segment : pieces.segments) {
+            segments.add(segment.polynomial);
+            maxError = Math.max(maxError, segment.error);
+        }
+        return ApproxResult.of(MeasuredApproximation.of(PiecewiseDoublePolynomial.of(segments), maxError));
+    }
+
+    /**
+     * 次数と近似誤差の許容値を与えて, 区間を分割する多項式近似エグゼキュータを返す.
+     * 
+     * @param order 各セグメントの近似多項式の次数
+     * @param errorTolerance 近似誤差の許容値, 正の有限値
+     * @return 多項式近似エグゼキュータ
+     * @throws IllegalArgumentException 次数が扱えない値の場合, 許容値が不適の場合
+     */
+    public static PiecewiseMinimaxDoublePolynomialApproxExecutor of(int order, double errorTolerance) {
+        if (!(LOWER_LIMIT_OF_ORDER <= order &&
+                order <= UPPER_LIMIT_OF_ORDER)) {
+            throw new IllegalArgumentException("invalid order: order = " + order);
+        }
+        if (!(errorTolerance > 0d && Double.isFinite(errorTolerance))) {
+            throw new IllegalArgumentException("invalid tolerance: errorTolerance = " + errorTolerance);
+        }
+        return new PiecewiseMinimaxDoublePolynomialApproxExecutor(
+                order, errorTolerance, DEFAULT_MAX_DEPTH, false, RemezConfiguration.DEFAULT);
+    }
+
+    /**
+     * 1つの区間の近似と, 許容値を満たさない場合の二等分. <br>
+     * 並列化した場合は, 下側の区間をフォークし, 上側の区間を自身のスレッドで処理する.
+     */
+    private final class Split extends RecursiveTask<Pieces> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DoubleApproxTarget target;
+        private final DoubleFiniteClosedInterval interval;
+        private final int depth;
+
+        Split(DoubleApproxTarget target, DoubleFiniteClosedInterval interval, int depth) {
+            this.target = target;
+            this.interval = interval;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Pieces compute() {
+            String failure;
+            try {
+                Segment segment = this.fit();
+                if (segment.error <= errorTolerance) {
+                    return Pieces.of(segment);
+                }
+                failure = "tolerance is not achieved up to max depth";
+            } catch (ApproximationFailedException afe) {
+                failure = afe.failuerMessage();
+            }
+            if (this.depth >= maxDepth) {
+                return Pieces.failed(failure);
+            }
+
+            double lower = this.interval.lower();
+            double upper = this.interval.upper();
+            double mid = lower + 0.5 * this.interval.gap();
+            if (!(DoubleFiniteClosedInterval.acceptsBoundaryValues(lower, mid)
+                    && DoubleFiniteClosedInterval.acceptsBoundaryValues(mid, upper))) {
+                return Pieces.failed("interval cannot be split: " + this.interval);
+            }
+            Split left = new Split(this.target, DoubleFiniteClosedInterval.from(lower, mid), this.depth + 1);
+            Split right = new Split(this.target, DoubleFiniteClosedInterval.from(mid, upper), this.depth + 1);
+
+            if (!parallelFitting) {
+                Pieces leftPieces = left.compute();
+                return Objects.nonNull(leftPieces.failure)
+                        ? leftPieces
+                        : Pieces.concat(leftPieces, right.compute());
+            }
+            left.fork();
+            Pieces rightPieces = right.compute();
+            return Pieces.concat(left.join(), rightPieces);
+        }
+
+        /**
+         * 区間でミニマックス近似し, 近似誤差を評価する.
+         * 
+         * @throws ApproximationFailedException 近似計算に失敗した場合
+         */
+        private Segment fit() throws ApproximationFailedException {
+            DoubleApproxTarget subTarget = new SubIntervalTarget(this.target, this.interval);
+            DoubleApproxCalculation calc = DoubleApproxCalculation.of(subTarget, order, configuration);
+            calc.calculate();
+
+            //区分多項式は係数の主要部のみを保持するので, それにより近似誤差を評価する
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(
+                    calc.getResult().toChebyshev(this.interval).chebyshevCoefficient(), this.interval);
+            double error = DoubleErrorMeasurement.maxError(
+                    subTarget, polynomial, calc.getNode(), ERROR_SAMPLING_RATE);
+            return new Segment(polynomial, error);
+        }
+    }
+
+    /**
+     * ターゲット関数を, その区間に含まれる区間に制限したターゲット関数.
+     */
+    private static final class SubIntervalTarget extends DoubleApproxTarget {
+
+        private final DoubleApproxTarget target;
+        private final DoubleFiniteClosedInterval interval;
+
+        SubIntervalTarget(DoubleApproxTarget target, DoubleFiniteClosedInterval interval) {
+            super();
+            this.target = target;
+            this.interval = interval;
+        }
+
+        @Override
+        protected double calcValue(double x) {
+            return this.target.value(x);
+        }
+
+        @Override
+        protected double calcScale(double x) {
+            return this.target.scale(x);
+        }
+
+        @Override
+        protected void calcValues(double[] xs, double[] out) {
+            this.target.values(xs, out);
+        }
+
+        @Override
+        protected void calcScales(double[] xs, double[] out) {
+            this.target.scales(xs, out);
+        }
+
+        @Override
+        public DoubleFiniteClosedInterval interval() {
+            return this.interval;
+        }
+    }
+
+    /**
+     * 1つのセグメントの近似の結果.
+     */
+    private static final class Segment {
+
+        final ChebyshevDoublePolynomial polynomial;
+        final double error;
+
+        Segment(ChebyshevDoublePolynomial polynomial, double error) {
+            this.polynomial = polynomial;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 区間の近似の結果, 昇順に並んだセグメントあるいは失敗の理由.
+     */
+    private static final class Pieces {
+
+        final List<Segment> segments;
+        final String failure;
+
+        private Pieces(List<Segment> segments, String failure) {
+            this.segments = segments;
+            this.failure = failure;
+        }
+
+        static Pieces of(Segment segment) {
+            List<Segment> segments = new ArrayList<>();
+            segments.add(segment);
+            return new Pieces(segments, null);
+        }
+
+        static Pieces failed(String failure) {
+            return new Pieces(null, failure);
+        }
+
+        /**
+         * 下側と上側の区間の結果をつなげる. <br>
+         * いずれかが失敗している場合は, 下側を優先して失敗を返す.
+         */
+        static Pieces concat(Pieces lower, Pieces upper) {
+            if (Objects.nonNull(lower.failure)) {
+                return lower;
+            }
+            if (Objects.nonNull(upper.failure)) {
+                return upper;
+            }
+            lower.segments.addAll(upper.segments);
+            return lower;
+        }
+    }
+}
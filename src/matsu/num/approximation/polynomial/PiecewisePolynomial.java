@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.List;
+import java.util.Objects;
+
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+
+/**
+ * 区間を分割した各セグメント上の多項式により表現された, 独自クラスによる実数体に関する区分多項式関数.
+ * 
+ * <p>
+ * 区間 [<i>a</i>, <i>b</i>] を境界 <br>
+ * <i>a</i> = <i>x</i><sub>0</sub> &lt; <i>x</i><sub>1</sub> &lt; &sdot;&sdot;&sdot; &lt;
+ * <i>x</i><sub><i>m</i></sub> = <i>b</i> <br>
+ * により <i>m</i> 個のセグメントに分割し,
+ * セグメント [<i>x</i><sub><i>i</i></sub>, <i>x</i><sub><i>i</i>+1</sub>) 上の値を
+ * Chebyshev 基底の多項式 ({@link ChebyshevPolynomial}) で表現する
+ * (最後のセグメントは上端を含む). <br>
+ * 区間外の引数に対しては, 端のセグメントの多項式の値 (外挿) を返す. <br>
+ * 詳細は {@link PiecewiseDoublePolynomial} を参照.
+ * </p>
+ * 
+ * <p>
+ * セグメントの探索は, 境界の二分探索による.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(List, PseudoRealNumber.TypeProvider)} により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体の元を表現する型パラメータ
+ */
+public final class PiecewisePolynomial<T extends PseudoRealNumber<T>> {
+
+    private final FiniteClosedInterval<T> interval;
+    private final List<ChebyshevPolynomial<T>> segments;
+
+    /**
+     * セグメントの境界, 長さはセグメント数 + 1.
+     */
+    private final T[] boundary;
+
+    private final int degree;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private PiecewisePolynomial(
+            List<ChebyshevPolynomial<T>> segments, PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        final int count = segments.size();
+        this.segments = segments;
+
+        int degree = 0;
+        this.boundary = elementTypeProvider.createArray(count + 1);
+        for (int i = 0; i < count; i++) {
+            ChebyshevPolynomial<T> segment = segments.get(i);
+            degree = Math.max(degree, segment.degree());
+            this.boundary[i] = segment.interval().lower();
+        }
+        this.boundary[count] = segments.get(count - 1).interval().upper();
+        this.degree = degree;
+        this.interval = FiniteClosedInterval.from(this.boundary[0], this.boundary[count]);
+    }
+
+    /**
+     * 区分多項式が定義された区間を返す.
+     * 
+     * @return 区間
+     */
+    public FiniteClosedInterval<T> interval() {
+        return this.interval;
+    }
+
+    /**
+     * セグメントの数を返す.
+     * 
+     * @return セグメントの数
+     */
+    public int segmentCount() {
+        return this.segments.size();
+    }
+
+    /**
+     * セグメントの多項式の次数の最大値を返す.
+     * 
+     * @return 次数の最大値
+     */
+    public int degree() {
+        return this.degree;
+    }
+
+    /**
+     * セグメントの境界
+     * {<i>x</i><sub>0</sub>, <i>x</i><sub>1</sub>, ... , <i>x</i><sub><i>m</i></sub>}
+     * を配列として返す.
+     * 
+     * @return セグメントの境界, 長さはセグメント数 + 1
+     */
+    public T[] boundaries() {
+        return this.boundary.clone();
+    }
+
+    /**
+     * 指定したセグメントの多項式を返す.
+     * 
+     * @param index セグメントの添え字
+     * @return セグメントの多項式
+     * @throws IndexOutOfBoundsException 添え字が範囲外の場合
+     */
+    public ChebyshevPolynomial<T> segment(int index) {
+        return this.segments.get(index);
+    }
+
+    /**
+     * 与えた引数を含むセグメントの添え字を返す. <br>
+     * 区間外の引数に対しては端のセグメントの添え字を返す.
+     * 
+     * @param x 引数
+     * @return セグメントの添え字
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public int segmentIndex(T x) {
+        Objects.requireNonNull(x);
+
+        //boundary[low] <= x < boundary[high] となる範囲を狭める (区間外は端に寄せる)
+        int low = 0;
+        int high = this.segmentCount();
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (x.compareTo(this.boundary[mid]) < 0) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 区分多項式の値を返す.
+     * 
+     * @param x 引数
+     * @return 値
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public T value(T x) {
+        return this.segments.get(this.segmentIndex(x)).value(x);
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "PiecewisePolynomial(%s, segments = %s, degree = %s)".formatted(
+                this.interval, this.segmentCount(), this.degree());
+    }
+
+    /**
+     * 隣り合うセグメントの多項式を昇順に並べたリストを与えて, 区分多項式を返す. <br>
+     * 各セグメントの区間の上端は, 次のセグメントの区間の下端と一致しなければならない.
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param segments セグメントの多項式のリスト
+     * @param elementTypeProvider 体の元に関するプロバイダ
+     * @return 区分多項式
+     * @throws IllegalArgumentException リストが空の場合, セグメントの区間が連続していない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static <T extends PseudoRealNumber<T>> PiecewisePolynomial<T> of(
+            List<ChebyshevPolynomial<T>> segments, PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        Objects.requireNonNull(elementTypeProvider);
+        List<ChebyshevPolynomial<T>> copy = List.copyOf(segments);
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("empty segments");
+        }
+        for (int i = 0; i < copy.size() - 1; i++) {
+            if (copy.get(i).interval().upper().compareTo(copy.get(i + 1).interval().lower()) != 0) {
+                throw new IllegalArgumentException("segments are not contiguous: index = " + i);
+            }
+        }
+        return new PiecewisePolynomial<>(copy, elementTypeProvider);
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.PseudoRealNumber;
+
+/**
+ * 多項式を評価する Java の静的メソッドのソースコードを生成する.
+ * 
+ * <p>
+ * 近似結果の多項式の係数を, 16進浮動小数点リテラル ({@link Double#toHexString(double)})
+ * として埋め込んだ {@code static double name(double x)} の宣言を文字列として出力する. <br>
+ * 16進表記のため, 係数は丸めを伴わずに正確に再現される. <br>
+ * 生成されたコードはこのモジュールに依存しないため,
+ * 任意のソースファイルに貼り付けて利用できる.
+ * </p>
+ * 
+ * <p>
+ * 評価の方式は, {@link EvaluationScheme} (Horner 法あるいは Estrin 法) と,
+ * 積和演算 {@link Math#fma(double, double, double)} を用いるかどうかにより指定する. <br>
+ * 積和演算を用いる場合, 生成されたメソッドの値は,
+ * 同じ評価方式の {@link CompiledDoublePolynomial} の値とビット単位で一致する. <br>
+ * 積和演算を用いない場合, 乗算と加算がそれぞれ丸められる
+ * ({@code a * b + c} の形で出力される). <br>
+ * Estrin 法の場合, 演算の順序を保つため, 係数は8個単位で0により補われて出力される.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは, {@link #of(EvaluationScheme)} により取得する. <br>
+ * 既定では, メソッド名は {@code value} であり, 積和演算を用いる. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class PolynomialSourceEmitter {
+
+    private static final String DEFAULT_METHOD_NAME = "value";
+
+    /**
+     * インデントの単位.
+     */
+    private static final String INDENT = "    ";
+
+    private final EvaluationScheme scheme;
+    private final String methodName;
+    private final boolean fma;
+
+    private PolynomialSourceEmitter(EvaluationScheme scheme, String methodName, boolean fma) {
+        this.scheme = scheme;
+        this.methodName = methodName;
+        this.fma = fma;
+    }
+
+    /**
+     * 評価方式を返す.
+     * 
+     * @return 評価方式
+     */
+    public EvaluationScheme scheme() {
+        return this.scheme;
+    }
+
+    /**
+     * 生成するメソッドの名前を返す.
+     * 
+     * @return メソッド名
+     */
+    public String methodName() {
+        return this.methodName;
+    }
+
+    /**
+     * 積和演算 {@link Math#fma(double, double, double)} を用いるかどうかを返す.
+     * 
+     * @return 積和演算を用いる場合はtrue
+     */
+    public boolean usesFma() {
+        return this.fma;
+    }
+
+    /**
+     * 評価方式を置き換えたインスタンスを返す.
+     * 
+     * @param scheme 評価方式
+     * @return 評価方式を置き換えたインスタンス
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public PolynomialSourceEmitter withScheme(EvaluationScheme scheme) {
+        return new PolynomialSourceEmitter(Objects.requireNonNull(scheme), this.methodName, this.fma);
+    }
+
+    /**
+     * 生成するメソッドの名前を置き換えたインスタンスを返す.
+     * 
+     * <p>
+     * メソッド名は, Java の識別子として使用できる文字からなる必要がある
+     * (予約語であるかどうかは検査しない).
+     * </p>
+     * 
+     * @param methodName メソッド名
+     * @return メソッド名を置き換えたインスタンス
+     * @throws IllegalArgumentException メソッド名が識別子として不適当な場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public PolynomialSourceEmitter withMethodName(String methodName) {
+        if (!isIdentifier(methodName)) {
+            throw new IllegalArgumentException("invalid method name: " + methodName);
+        }
+        return new PolynomialSourceEmitter(this.scheme, methodName, this.fma);
+    }
+
+    /**
+     * 積和演算を用いるかどうかを置き換えたインスタンスを返す.
+     * 
+     * @param fma 積和演算を用いる場合はtrue
+     * @return 積和演算の使用を置き換えたインスタンス
+     */
+    public PolynomialSourceEmitter withFma(boolean fma) {
+        return new PolynomialSourceEmitter(this.scheme, this.methodName, fma);
+    }
+
+    /**
+     * 多項式を評価する静的メソッドのソースコードを生成する.
+     * 
+     * @param polynomial 多項式
+     * @return メソッド宣言のソースコード
+     * @throws IllegalArgumentException 多項式の係数が有限でない値を含む場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public String emit(DoublePolynomial polynomial) {
+        return this.emit(polynomial.coefficient());
+    }
+
+    /**
+     * 多項式を評価する静的メソッドのソースコードを生成する.
+     * 
+     * <p>
+     * 係数は {@link PseudoRealNumber#asDouble()} により {@code double} に変換される.
+     * </p>
+     * 
+     * @param polynomial 多項式
+     * @return メソッド宣言のソースコード
+     * @throws IllegalArgumentException 多項式の係数を {@code double} に変換した値が有限でない値を含む場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public String emit(Polynomial<?> polynomial) {
+        return this.emit(
+                Arrays.stream(polynomial.coefficient())
+                        .mapToDouble(PseudoRealNumber::asDouble)
+                        .toArray());
+    }
+
+    private String emit(double[] coeff) {
+        if (coeff.length == 0 || !Arrays.stream(coeff).allMatch(Double::isFinite)) {
+            throw new IllegalArgumentException("invalid coefficients");
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("// degree ").append(coeff.length - 1)
+                .append(", ").append(this.scheme)
+                .append(this.fma ? ", fma" : ", no fma")
+                .append('\n');
+        sb.append("static double ").append(this.methodName).append("(double x) {\n");
+        switch (this.scheme) {
+            case HORNER -> this.horner(sb, coeff);
+            case ESTRIN -> this.estrin(sb, DoublePolynomialKernel.estrinCoefficient(coeff));
+        }
+        sb.append(INDENT).append("return p;\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * {@link DoublePolynomialKernel#horner(double[], double)} と同一の演算を出力する.
+     */
+    private void horner(StringBuilder sb, double[] coeff) {
+        final int last = coeff.length - 1;
+        sb.append(INDENT).append("double p = ").append(literal(coeff[last])).append(";\n");
+        for (int k = last - 1; k >= 0; k--) {
+            sb.append(INDENT).append("p = ").append(this.mulAdd("p", "x", coeff[k])).append(";\n");
+        }
+    }
+
+    /**
+     * {@link DoublePolynomialKernel#estrin(double[], double)} と同一の演算を出力する.
+     */
+    private void estrin(StringBuilder sb, double[] estrinCoeff) {
+        sb.append(INDENT).append("final double x2 = x * x;\n");
+        sb.append(INDENT).append("final double x4 = x2 * x2;\n");
+        int from = estrinCoeff.length - 8;
+        if (from > 0) {
+            sb.append(INDENT).append("final double x8 = x4 * x4;\n");
+        }
+
+        sb.append(INDENT).append("double p = ");
+        this.estrinBlock(sb, estrinCoeff, from);
+        sb.append(";\n");
+        for (from -= 8; from >= 0; from -= 8) {
+            sb.append(INDENT).append(this.fma ? "p = Math.fma(p, x8, " : "p = p * x8 + (");
+            this.estrinBlock(sb, estrinCoeff, from);
+            sb.append(");\n");
+        }
+    }
+
+    /**
+     * 8個の係数からなるブロックの値 <br>
+     * r1 &times; x4 + r0, <br>
+     * r0 = (c3 x + c2) x2 + (c1 x + c0), <br>
+     * r1 = (c7 x + c6) x2 + (c5 x + c4) <br>
+     * の式を, 2行に分けて出力する.
+     */
+    private void estrinBlock(StringBuilder sb, double[] c, int from) {
+        String r0 = this.mulAdd(
+                this.mulAdd(literal(c[from + 3]), "x", c[from + 2]), "x2",
+                this.mulAdd(literal(c[from + 1]), "x", c[from]));
+        String r1 = this.mulAdd(
+                this.mulAdd(literal(c[from + 7]), "x", c[from + 6]), "x2",
+                this.mulAdd(literal(c[from + 5]), "x", c[from + 4]));
+
+        final String continuation = "\n" + INDENT + INDENT + INDENT;
+        if (this.fma) {
+            sb.append("Math.fma(")
+                    .append(continuation).append(r1).append(", x4,")
+                    .append(continuation).append(r0).append(')');
+        } else {
+            sb.append('(').append(r1).append(") * x4")
+                    .append(continuation).append("+ (").append(r0).append(')');
+        }
+    }
+
+    /**
+     * <i>a</i> &times; <i>b</i> + <i>c</i> の式を返す.
+     */
+    private String mulAdd(String a, String b, double c) {
+        if (this.fma) {
+            return "Math.fma(%s, %s, %s)".formatted(a, b, literal(c));
+        }
+        // x - y は x + (-y) と同一の結果を与える
+        String sign = Double.doubleToRawLongBits(c) < 0 ? " - " : " + ";
+        return "%s * %s%s%s".formatted(a, b, sign, literal(Math.abs(c)));
+    }
+
+    /**
+     * <i>a</i> &times; <i>b</i> + <i>c</i> の式を返す (<i>a</i>, <i>c</i> は式).
+     */
+    private String mulAdd(String a, String b, String c) {
+        if (this.fma) {
+            return "Math.fma(%s, %s, %s)".formatted(a, b, c);
+        }
+        return "(%s) * %s + (%s)".formatted(a, b, c);
+    }
+
+    /**
+     * 値を正確に表す16進浮動小数点リテラルを返す.
+     */
+    private static String literal(double value) {
+        return Double.toHexString(value);
+    }
+
+    /**
+     * 文字列が Java の識別子として使用できる文字からなるかを判定する.
+     */
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.codePointAt(0))) {
+            return false;
+        }
+        return name.codePoints().allMatch(Character::isJavaIdentifierPart);
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "PolynomialSourceEmitter(%s, %s, fma=%s)".formatted(this.scheme, this.methodName, this.fma);
+    }
+
+    /**
+     * 評価方式を与えて, ソースコードの生成器を返す.
+     * 
+     * @param scheme 評価方式
+     * @return ソースコードの生成器
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static PolynomialSourceEmitter of(EvaluationScheme scheme) {
+        return new PolynomialSourceEmitter(Objects.requireNonNull(scheme), DEFAULT_METHOD_NAME, true);
+    }
+}
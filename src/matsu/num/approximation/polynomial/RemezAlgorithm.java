@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+/**
+ * ミニマックス多項式近似における, Remez 法のノード (参照点) の更新方式を表す.
+ * 
+ * @author Matsuura Y.
+ */
+public enum RemezAlgorithm {
+
+    /**
+     * 各ノードを, 隣接ノードとの間隔に対してわずかな幅だけ, 近似誤差が大きくなる方向に移動させる方式.
+     * 
+     * <p>
+     * 1回のイテレーションは軽量であり, 近似誤差の分布が乱れていても安定して動作するが,
+     * 収束は線形であり, 多数のイテレーションを要する. <br>
+     * 既定の方式である.
+     * </p>
+     */
+    NODE_SHIFT,
+
+    /**
+     * 近似誤差の符号変化点の間で近似誤差の極値を探索し,
+     * 全てのノードを極値点に一括で交換する方式 (Remez の交換法).
+     * 
+     * <p>
+     * 極値点の探索には二分法と黄金分割探索を用いる. <br>
+     * 収束は速く, 数回から数十回のイテレーションで完了する. <br>
+     * イテレーションは, 近似誤差の水準と極値の最大値との相対差が許容誤差以下になった時点
+     * (許容誤差が与えられていない場合は既定の値を用いる),
+     * もしくは改善が見られなくなった時点で打ち切られる.
+     * </p>
+     */
+    EXCHANGE
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import matsu.num.approximation.CancellationToken;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * Remez 法のイテレーションの中断を判定する. <br>
+ * イミュータブルであり, スレッドセーフである
+ * (中断の要求を判定する関数はスレッドセーフでなければならない).
+ * 
+ * <p>
+ * 中断の条件は, 次のいずれかである. <br>
+ * 実行中のスレッドへの割り込み, 計算の開始 ({@link #start()}) からの経過時間が制限時間に達すること,
+ * トークンによる中断の要求, 内部で与えた関数 ({@link #or(BooleanSupplier)}) による中断の要求. <br>
+ * スレッドの割り込み状態はクリアしない.
+ * </p>
+ * 
+ * <p>
+ * イテレーションの各回の開始時に {@link #shouldStop(boolean)} が呼ばれる. <br>
+ * 中断の条件を満たしている場合, 途中結果を採用する設定であり途中結果が存在すればイテレーションを打ち切り,
+ * そうでなければ近似の失敗として扱われる. <br>
+ * イテレーションの途中で中断の条件を確認する場合は, {@link #stopReason()} を用いる.
+ * </p>
+ * 
+ * <p>
+ * 各メソッドの引数に対する契約は, プログラミングエラーによるものについてはアサーションで対応している. <br>
+ * したがって, このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class RemezCancellation {
+
+    /**
+     * 中断の条件を持たないインスタンス.
+     */
+    static final RemezCancellation NONE =
+            new RemezCancellation(null, null, false, () -> false, 0L, false);
+
+    /**
+     * 制限時間, 制限しない場合は null.
+     */
+    private final Duration timeLimit;
+
+    /**
+     * トークン, 与えられていない場合は null.
+     */
+    private final CancellationToken token;
+
+    private final boolean partialResult;
+
+    private final BooleanSupplier requested;
+
+    /**
+     * 計算の開始時刻 ({@link System#nanoTime()}).
+     */
+    private final long startTime;
+
+    /**
+     * 計算の開始時刻が定められているかどうか.
+     */
+    private final boolean started;
+
+    private RemezCancellation(
+            Duration timeLimit, CancellationToken token, boolean partialResult,
+            BooleanSupplier requested, long startTime, boolean started) {
+        this.timeLimit = timeLimit;
+        this.token = token;
+        this.partialResult = partialResult;
+        this.requested = requested;
+        this.startTime = startTime;
+        this.started = started;
+    }
+
+    /**
+     * 制限時間を返す, 制限しない場合は null.
+     * 
+     * @return 制限時間
+     */
+    Duration timeLimit() {
+        return this.timeLimit;
+    }
+
+    /**
+     * 制限時間を与えて, インスタンスを返す.
+     * 
+     * @param timeLimit 制限時間 (正), 制限しない場合は null
+     * @return 中断の判定
+     */
+    RemezCancellation withTimeLimit(Duration timeLimit) {
+        assert Objects.isNull(timeLimit) || (!timeLimit.isNegative() && !timeLimit.isZero()) : "not positive";
+        return new RemezCancellation(
+                timeLimit, this.token, this.partialResult, this.requested, this.startTime, this.started);
+    }
+
+    /**
+     * トークンを返す, 与えられていない場合は null.
+     * 
+     * @return トークン
+     */
+    CancellationToken token() {
+        return this.token;
+    }
+
+    /**
+     * トークンを与えて, インスタンスを返す.
+     * 
+     * @param token トークン, 与えない場合は null
+     * @return 中断の判定
+     */
+    RemezCancellation withToken(CancellationToken token) {
+        return new RemezCancellation(
+                this.timeLimit, token, this.partialResult, this.requested, this.startTime, this.started);
+    }
+
+    /**
+     * 中断した場合に途中結果を採用するかどうかを返す.
+     * 
+     * @return 途中結果を採用する場合はtrue
+     */
+    boolean isPartialResult() {
+        return this.partialResult;
+    }
+
+    /**
+     * 中断した場合に途中結果を採用するかどうかを与えて, インスタンスを返す.
+     * 
+     * @param partialResult 途中結果を採用する場合はtrue
+     * @return 中断の判定
+     */
+    RemezCancellation withPartialResult(boolean partialResult) {
+        return new RemezCancellation(
+                this.timeLimit, this.token, partialResult, this.requested, this.startTime, this.started);
+    }
+
+    /**
+     * 中断の要求を判定する関数を追加して, インスタンスを返す.
+     * 
+     * @param requested 中断が要求されている場合にtrueを返す関数, nullであってはいけない
+     * @return 中断の判定
+     */
+    RemezCancellation or(BooleanSupplier requested) {
+        assert Objects.nonNull(requested) : "null";
+        final BooleanSupplier current = this.requested;
+        return new RemezCancellation(
+                this.timeLimit, this.token, this.partialResult,
+                () -> current.getAsBoolean() || requested.getAsBoolean(), this.startTime, this.started);
+    }
+
+    /**
+     * 現在時刻を計算の開始時刻とした, インスタンスを返す. <br>
+     * 制限時間はこの時刻から計られる.
+     * 
+     * <p>
+     * 既に開始時刻が定められている場合は, 自身を返す
+     * (非同期実行では, 投入の時点で開始時刻を定め, 待ち時間を制限時間に含める).
+     * </p>
+     * 
+     * @return 中断の判定
+     */
+    RemezCancellation start() {
+        if (this.started) {
+            return this;
+        }
+        return new RemezCancellation(
+                this.timeLimit, this.token, this.partialResult, this.requested, System.nanoTime(), true);
+    }
+
+    /**
+     * 中断の条件を判定する.
+     * 
+     * <p>
+     * 中断の条件を満たしていない場合は {@code false} を返す. <br>
+     * 満たしている場合, 途中結果を採用する設定であり途中結果が存在すれば {@code true} を返し,
+     * そうでなければ中断の理由をメッセージとする例外をスローする.
+     * </p>
+     * 
+     * @param hasPartialResult 途中結果が存在する場合はtrue
+     * @return イテレーションを打ち切る場合はtrue
+     * @throws ApproximationFailedException 途中結果を採用せずに中断する場合
+     */
+    boolean shouldStop(boolean hasPartialResult) throws ApproximationFailedException {
+        String reason = this.stopReason();
+        if (Objects.isNull(reason)) {
+            return false;
+        }
+        if (this.partialResult && hasPartialResult) {
+            return true;
+        }
+        throw new ApproximationFailedException(reason);
+    }
+
+    /**
+     * 中断の条件を判定し, 中断の理由を返す. <br>
+     * 中断の条件を満たしていない場合は null を返す.
+     * 
+     * <p>
+     * 1回のイテレーションが重い場合に, イテレーションの途中で中断の条件を確認するために用いる.
+     * </p>
+     * 
+     * @return 中断の理由, 中断の条件を満たしていない場合は null
+     */
+    String stopReason() {
+        if (Thread.currentThread().isInterrupted()) {
+            return "calculation interrupted";
+        }
+        if (Objects.nonNull(this.timeLimit)
+                && System.nanoTime() - this.startTime >= saturatedNanos(this.timeLimit)) {
+            return "calculation timed out: time limit = " + this.timeLimit;
+        }
+        if ((Objects.nonNull(this.token) && this.token.isCancelled()) || this.requested.getAsBoolean()) {
+            return "calculation cancelled";
+        }
+        return null;
+    }
+
+    /**
+     * ナノ秒に変換する, long で表現できない場合は {@link Long#MAX_VALUE}.
+     */
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException ae) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
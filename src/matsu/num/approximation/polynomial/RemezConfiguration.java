@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+/**
+ * Remez 法による多項式近似の計算条件を扱う. <br>
+ * イミュータブルであり, 条件の変更は新しいインスタンスを生成することで行う.
+ * 
+ * <p>
+ * 各メソッドの引数に対する契約は, プログラミングエラーによるものについてはアサーションで対応している. <br>
+ * したがって, このクラスは外部に公開されてはいけない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class RemezConfiguration {
+
+    /**
+     * デフォルトの計算条件.
+     */
+    static final RemezConfiguration DEFAULT =
+            new RemezConfiguration(
+                    RemezAlgorithm.NODE_SHIFT, Double.NaN, false, RemezInitialization.CHEBYSHEV_NODES, false,
+                    RemezCancellation.NONE);
+
+    private final RemezAlgorithm algorithm;
+
+    /**
+     * 収束判定の許容相対誤差, 固定スケジュールの場合は NaN.
+     */
+    private final double convergenceTolerance;
+
+    private final boolean parallel;
+
+    private final RemezInitialization initialization;
+
+    private final boolean doublePresolve;
+
+    private final RemezCancellation cancellation;
+
+    private RemezConfiguration(
+            RemezAlgorithm algorithm, double convergenceTolerance, boolean parallel,
+            RemezInitialization initialization, boolean doublePresolve,
+            RemezCancellation cancellation) {
+        this.algorithm = algorithm;
+        this.convergenceTolerance = convergenceTolerance;
+        this.parallel = parallel;
+        this.initialization = initialization;
+        this.doublePresolve = doublePresolve;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * ノードの更新方式を返す.
+     * 
+     * @return ノードの更新方式
+     */
+    RemezAlgorithm algorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * ノードの更新方式を与えて, 計算条件を返す.
+     * 
+     * @param algorithm ノードの更新方式, nullであってはいけない
+     * @return 計算条件
+     */
+    RemezConfiguration withAlgorithm(RemezAlgorithm algorithm) {
+        assert algorithm != null : "null";
+        return new RemezConfiguration(
+                algorithm, this.convergenceTolerance, this.parallel,
+                this.initialization, this.doublePresolve, this.cancellation);
+    }
+
+    /**
+     * 収束判定によりイテレーションを打ち切るかどうかを判定する. <br>
+     * {@code false} の場合, 固定されたスケジュールでイテレーションが行われる.
+     * 
+     * @return 収束判定を行う場合はtrue
+     */
+    boolean isConvergenceMode() {
+        return !Double.isNaN(this.convergenceTolerance);
+    }
+
+    /**
+     * 収束判定の許容相対誤差を返す. <br>
+     * {@link #isConvergenceMode()} が {@code true} の場合のみ意味を持つ.
+     * 
+     * @return 許容相対誤差
+     */
+    double convergenceTolerance() {
+        assert this.isConvergenceMode();
+        return this.convergenceTolerance;
+    }
+
+    /**
+     * 収束判定の許容相対誤差を返す. <br>
+     * 許容相対誤差が与えられていない場合は, 引数の値を返す.
+     * 
+     * @param defaultTolerance 許容相対誤差が与えられていない場合の値
+     * @return 許容相対誤差
+     */
+    double convergenceToleranceOr(double defaultTolerance) {
+        return this.isConvergenceMode()
+                ? this.convergenceTolerance
+                : defaultTolerance;
+    }
+
+    /**
+     * 収束判定の許容相対誤差を与えて, 収束判定を行う計算条件を返す.
+     * 
+     * @param tolerance 許容相対誤差, 0より大きく1より小さくなければならない
+     * @return 計算条件
+     */
+    RemezConfiguration withConvergenceTolerance(double tolerance) {
+        assert acceptsConvergenceTolerance(tolerance) : "invalid tolerance";
+        return new RemezConfiguration(
+                this.algorithm, tolerance, this.parallel,
+                this.initialization, this.doublePresolve, this.cancellation);
+    }
+
+    /**
+     * ノード移動方式のイテレーションにおいて,
+     * ノードごとの近似誤差の評価を並列に行うかどうかを判定する.
+     * 
+     * @return 並列に評価する場合はtrue
+     */
+    boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * ノードごとの近似誤差の評価を並列に行うかどうかを与えて, 計算条件を返す.
+     * 
+     * @param parallel 並列に評価する場合はtrue
+     * @return 計算条件
+     */
+    RemezConfiguration withParallel(boolean parallel) {
+        return new RemezConfiguration(
+                this.algorithm, this.convergenceTolerance, parallel,
+                this.initialization, this.doublePresolve, this.cancellation);
+    }
+
+    /**
+     * 初期ノードの決め方を返す.
+     * 
+     * @return 初期ノードの決め方
+     */
+    RemezInitialization initialization() {
+        return this.initialization;
+    }
+
+    /**
+     * 初期ノードの決め方を与えて, 計算条件を返す.
+     * 
+     * @param initialization 初期ノードの決め方, nullであってはいけない
+     * @return 計算条件
+     */
+    RemezConfiguration withInitialization(RemezInitialization initialization) {
+        assert initialization != null : "null";
+        return new RemezConfiguration(
+                this.algorithm, this.convergenceTolerance, this.parallel,
+                initialization, this.doublePresolve, this.cancellation);
+    }
+
+    /**
+     * 独自クラスによる実数体に関する近似において,
+     * {@code double} 型による近似計算でノードを事前に求めるかどうかを判定する.
+     * 
+     * @return 事前に求める場合はtrue
+     */
+    boolean isDoublePresolve() {
+        return this.doublePresolve;
+    }
+
+    /**
+     * {@code double} 型による近似計算でノードを事前に求めるかどうかを与えて, 計算条件を返す.
+     * 
+     * @param doublePresolve 事前に求める場合はtrue
+     * @return 計算条件
+     */
+    RemezConfiguration withDoublePresolve(boolean doublePresolve) {
+        return new RemezConfiguration(
+                this.algorithm, this.convergenceTolerance, this.parallel,
+                this.initialization, doublePresolve, this.cancellation);
+    }
+
+    /**
+     * イテレーションの中断の判定を返す.
+     * 
+     * @return 中断の判定
+     */
+    RemezCancellation cancellation() {
+        return this.cancellation;
+    }
+
+    /**
+     * イテレーションの中断の判定を与えて, 計算条件を返す.
+     * 
+     * @param cancellation 中断の判定, nullであってはいけない
+     * @return 計算条件
+     */
+    RemezConfiguration withCancellation(RemezCancellation cancellation) {
+        assert cancellation != null : "null";
+        return new RemezConfiguration(
+                this.algorithm, this.convergenceTolerance, this.parallel,
+                this.initialization, this.doublePresolve, cancellation);
+    }
+
+    /**
+     * 収束判定の許容相対誤差として適切かどうかを判定する.
+     * 
+     * @param tolerance 許容相対誤差
+     * @return 適切な場合はtrue
+     */
+    static boolean acceptsConvergenceTolerance(double tolerance) {
+        return 0d < tolerance && tolerance < 1d;
+    }
+}
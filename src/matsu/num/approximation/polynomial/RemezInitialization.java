@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.polynomial;
+
+/**
+ * ミニマックス多項式近似における, Remez 法の初期ノード (参照点) の決め方を表す.
+ * 
+ * @author Matsuura Y.
+ */
+public enum RemezInitialization {
+
+    /**
+     * 区間の端を含む Chebyshev 点 (Chebyshev 多項式の極値点) を初期ノードとする方式.
+     * 
+     * <p>
+     * ターゲット関数を評価せずにノードが定まる. <br>
+     * 初期ノードはターゲット関数やスケールに依存しないため,
+     * スケールが区間内で大きく変化する場合には, 収束までに多数のイテレーションを要する. <br>
+     * 既定の方式である.
+     * </p>
+     */
+    CHEBYSHEV_NODES,
+
+    /**
+     * ターゲット関数の Chebyshev 補間多項式を構成し,
+     * その重みづけ誤差の極値点を初期ノードとする方式.
+     * 
+     * <p>
+     * 補間には Chebyshev 多項式の零点を用いるため,
+     * 補間多項式の近似誤差は零点で区切られた各区間内で符号が一定である. <br>
+     * 各区間内で重みづけ誤差の絶対値が最大となる点を粗い走査により求め,
+     * それらを初期ノードとする. <br>
+     * ターゲット関数の評価が (次数 + 1) の数十倍程度増えるが,
+     * スケールが区間内で大きく変化する場合でも, 初期ノードが解に近くなる. <br>
+     * 重みづけ誤差の符号が交互にならない場合
+     * (ターゲット関数が滑らかでない場合など) は,
+     * {@link #CHEBYSHEV_NODES} と同じ初期ノードを用いる.
+     * </p>
+     */
+    INTERPOLANT_EXTREMA
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.polynomial;
+
+import matsu.num.approximation.PseudoRealNumber;
+
+/**
+ * Remez アルゴリズムのイテレーションで用いる, Remez 多項式を扱う.
+ * 
+ * <p>
+ * 最後のノードを除く (<i>n</i> + 1) 個のノードによる Newton 補間多項式と,
+ * 丸め誤差の目安となる値を保持する. <br>
+ * 構成方法は {@link RemezTypePolynomialFactory#solve(PseudoRealNumber[])} を参照.
+ * </p>
+ * 
+ * <p>
+ * イミュータブルである. <br>
+ * 内部的に利用するための, 最低限の機能を持つオブジェクトとして実装されている. <br>
+ * 言うまでもなく, 外部に公開されるべきではない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体を表す型パラメータ
+ */
+final class RemezPolynomial<T extends PseudoRealNumber<T>> {
+
+    private final NewtonPolynomial<T> polynomial;
+    private final double maxScaledValue;
+
+    /**
+     * 内部でバリデーションされていない.
+     * 
+     * @param polynomial Newton 補間多項式
+     * @param maxScaledValue ノードにおける多項式の値をスケールで割った値の絶対値の最大値
+     */
+    RemezPolynomial(NewtonPolynomial<T> polynomial, double maxScaledValue) {
+        this.polynomial = polynomial;
+        this.maxScaledValue = maxScaledValue;
+    }
+
+    /**
+     * 多項式の次数を返す.
+     * 
+     * @return 次数
+     */
+    int degree() {
+        return this.polynomial.degree();
+    }
+
+    /**
+     * ノードにおける多項式の値をスケールで割った値の絶対値の最大値を返す. <br>
+     * 近似誤差の計算における丸め誤差の大きさの目安となる.
+     * 
+     * @return 値とスケールの比の絶対値の最大値 ({@code double} 表現)
+     */
+    double maxScaledValue() {
+        return this.maxScaledValue;
+    }
+
+    /**
+     * 多項式の値を返す.
+     * 
+     * @param x 引数
+     * @return 多項式の値
+     * @throws ArithmeticException 値が計算できない場合
+     */
+    T value(T x) {
+        return this.polynomial.value(x);
+    }
+
+    /**
+     * 多項式を, 最後のノードを除く (<i>n</i> + 1) 個のノードによる Newton 補間で表現する. <br>
+     * {@link #value(PseudoRealNumber)} で評価される多項式と同一である.
+     * 
+     * @return Newton 補間多項式
+     */
+    NewtonPolynomial<T> toNewtonPolynomial() {
+        return this.polynomial;
+    }
+}
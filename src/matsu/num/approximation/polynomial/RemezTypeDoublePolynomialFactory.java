@@ -5,12 +5,10 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.16
  */
 package matsu.num.approximation.polynomial;
 
-import java.util.Arrays;
-
 import matsu.num.approximation.DoubleApproxTarget;
 import matsu.num.approximation.component.ApproximationFailedException;
 
@@ -45,59 +43,21 @@ final class RemezTypeDoublePolynomialFactory {
      * @throws ApproximationFailedException 多項式の構成に破綻した場合
      * @throws NullPointerException null
      */
-    DoublePolynomial create(double[] node) throws ApproximationFailedException {
+    DoubleNewtonPolynomial create(double[] node) throws ApproximationFailedException {
         assert node.length >= 2 : "node.length is less than 2";
 
-        //ノードを検証し,ソートする
-        node = node.clone();
-        Arrays.sort(node);
-
-        assert Arrays.stream(node).allMatch(this.target::accepts) : "node is out of range";
-
-        double[] thinnedNode = Arrays.copyOf(node, node.length - 1);
-
-        /*
-         * p1は, p(x_i) = f(x_i)を満たすような多項式.
-         * i = 0, ... , n
-         */
-        double[] f = new double[thinnedNode.length];
-        for (int i = 0; i < f.length; i++) {
-            double v = this.target.value(thinnedNode[i]);
-            if (!Double.isFinite(v)) {
-                throw new ApproximationFailedException("invalid value");
-            }
-            f[i] = v;
-        }
-        DoublePolynomial p1 = DoubleNewtonPolynomial.from(thinnedNode, f);
-
-        /*
-         * p2は, p(x_i) = (-1)^i * scale(x_i)を満たすような多項式.
-         * i = 0, ... , n
-         */
-        double[] alternateError = new double[thinnedNode.length];
-        for (int i = 0; i < alternateError.length; i++) {
-            double scale = this.target.scale(thinnedNode[i]);
-            if (!(Double.isFinite(scale))) {
-                throw new ApproximationFailedException("invalid scale");
-            }
-            alternateError[i] = (i & 1) == 1 ? -scale : scale;
-        }
-        DoublePolynomial p2 = DoubleNewtonPolynomial.from(thinnedNode, alternateError);
-
-        //x_{n+1}からEを求める
-        double x_last = node[node.length - 1];
-        double sign_scale = (node.length - 1 & 1) == 1
-                ? -this.target.scale(x_last)
-                : this.target.scale(x_last);
-        double e = (p1.value(x_last) - this.target.value(x_last)) /
-                (p2.value(x_last) - sign_scale);
-        if (!(Double.isFinite(e))) {
-            throw new ApproximationFailedException("error value is invalid");
-        }
+        DoubleRemezWorkspace workspace = this.createWorkspace(node.length);
+        workspace.build(node);
+        return workspace.toPolynomial();
+    }
 
-        for (int i = 0; i < f.length; i++) {
-            f[i] -= alternateError[i] * e;
-        }
-        return DoubleNewtonPolynomial.from(thinnedNode, f);
+    /**
+     * ノード数を与えて, Remez 多項式を繰り返し構成するための作業領域を生成する.
+     * 
+     * @param nodeSize ノード数, 2以上でなければならない
+     * @return 作業領域
+     */
+    DoubleRemezWorkspace createWorkspace(int nodeSize) {
+        return new DoubleRemezWorkspace(this.target, nodeSize);
     }
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.12.26
+ * 2026.10.17
  */
 package matsu.num.approximation.polynomial;
 
@@ -36,14 +36,46 @@ final class RemezTypePolynomialFactory<T extends PseudoRealNumber<T>> {
     }
 
     /**
-     * Remez 多項式を構成する. <br>
+     * Remez 多項式を構成し, Newton 補間多項式として返す. <br>
      * ノード数は2個以上で, 区間内でなければならない.
      * 
+     * <p>
+     * 戻り値の係数は遅延評価されるため, 検証されていない
+     * ({@link NewtonPolynomial#validateCoefficient()} を参照).
+     * </p>
+     * 
+     * @param node ノード
+     * @return Remez多項式
+     * @throws ArithmeticException 計算が破綻して多項式の生成に失敗する場合 (ノードが接近しすぎる場合を含む)
+     */
+    NewtonPolynomial<T> create(T[] node) {
+        return this.solve(node).toNewtonPolynomial();
+    }
+
+    /**
+     * Remez 多項式を構成し, イテレーション用の形式で返す. <br>
+     * ノード数は2個以上で, 区間内でなければならない.
+     * 
+     * <p>
+     * <i>n</i> 次の Remez 多項式 <i>p</i> は, (<i>n</i> + 2) 個のノード
+     * <i>x</i><sub>0</sub> &lt; ... &lt; <i>x</i><sub><i>n</i>+1</sub> において <br>
+     * <i>p</i>(<i>x</i><sub><i>j</i></sub>) =
+     * <i>f</i>(<i>x</i><sub><i>j</i></sub>) -
+     * (-1)<sup><i>j</i></sup> <i>s</i>(<i>x</i><sub><i>j</i></sub>) <i>E</i> <br>
+     * を満たす多項式である. <br>
+     * 最後のノードを除く (<i>n</i> + 1) 個のノードで <i>f</i> と
+     * (-1)<sup><i>j</i></sup> <i>s</i> を補間する多項式の Newton 係数を,
+     * ノード間の差を共有して同時に計算し,
+     * <i>x</i><sub><i>n</i>+1</sub> における条件から <i>E</i> を求める. <br>
+     * <i>p</i> の Newton 係数は両者の係数の線形結合として得る
+     * (詳細は {@link DoubleRemezWorkspace} を参照).
+     * </p>
+     * 
      * @param node ノード
      * @return Remez多項式
      * @throws ArithmeticException 計算が破綻して多項式の生成に失敗する場合 (ノードが接近しすぎる場合を含む)
      */
-    Polynomial<T> create(T[] node) {
+    RemezPolynomial<T> solve(T[] node) {
         assert node.length >= 2 : "node.length is less than 2";
 
         //ノードを検証し,ソートする
@@ -52,43 +84,60 @@ final class RemezTypePolynomialFactory<T extends PseudoRealNumber<T>> {
 
         assert Arrays.stream(node).allMatch(this.target::accepts) : "node is out of range";
 
-        T[] thinnedNode = Arrays.copyOf(node, node.length - 1);
+        final int size = node.length;
+        final int last = size - 1;
 
-        /*
-         * p1は, p(x_i) = f(x_i)を満たすような多項式.
-         * i = 0, ... , n
-         */
-        T[] f = typeProvider.createArray(thinnedNode.length);
-        for (int i = 0; i < f.length; i++) {
+        T[] value = typeProvider.createArray(size);
+        T[] alternateScale = typeProvider.createArray(size);
+        for (int j = 0; j < size; j++) {
             //ArithmeticExが発生する可能性
-            f[i] = this.target.value(thinnedNode[i]);
+            value[j] = this.target.value(node[j]);
+            T scale = this.target.scale(node[j]);
+            alternateScale[j] = (j & 1) == 1 ? scale.negated() : scale;
         }
-        Polynomial<T> p1 = NewtonPolynomial.from(thinnedNode, f, typeProvider);
 
         /*
-         * p2は, p(x_i) = (-1)^i * scale(x_i)を満たすような多項式.
+         * valueCoeffは, p(x_i) = f(x_i) を満たすような多項式の Newton 係数.
+         * scaleCoeffは, p(x_i) = (-1)^i * scale(x_i) を満たすような多項式の Newton 係数.
          * i = 0, ... , n
          */
-        T[] alternateError = typeProvider.createArray(thinnedNode.length);
-        for (int i = 0; i < alternateError.length; i++) {
-            //ArithmeticExが発生する可能性
-            T scale = this.target.scale(thinnedNode[i]);
-            alternateError[i] = (i & 1) == 1 ? scale.negated() : scale;
+        PseudoRealNumber.PackedVector<T> thinnedNode = typeProvider.createPackedVector(Arrays.copyOf(node, last));
+        PseudoRealNumber.PackedVector<T> valueCoeff = typeProvider.createPackedVector(last);
+        PseudoRealNumber.PackedVector<T> scaleCoeff = typeProvider.createPackedVector(last);
+        PseudoRealNumber.Accumulator<T> value_i = typeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> scale_i = typeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> den = typeProvider.createAccumulator();
+        for (int i = 0; i < last; i++) {
+            value_i.set(value[i]);
+            scale_i.set(alternateScale[i]);
+            for (int k = 0; k < i; k++) {
+                den.set(thinnedNode, i).subtract(thinnedNode, k);
+                value_i.subtract(valueCoeff, k).divide(den);
+                scale_i.subtract(scaleCoeff, k).divide(den);
+            }
+            valueCoeff.set(i, value_i);
+            scaleCoeff.set(i, scale_i);
         }
-        Polynomial<T> p2 = NewtonPolynomial.from(thinnedNode, alternateError, typeProvider);
 
-        //x_{n+1}からEを求める
-        T x_last = node[node.length - 1];
-        T sign_scale_x_last = (node.length - 1 & 1) == 1
-                ? this.target.scale(x_last).negated()
-                : this.target.scale(x_last);
-        //最悪の場合, ArithmeticEx
-        T e = p1.value(x_last).minus(this.target.value(x_last))
-                .dividedBy(p2.value(x_last).minus(sign_scale_x_last));
+        //x_{n+1}からEを求める, 最悪の場合ArithmeticEx
+        T x_last = node[last];
+        T e = NewtonPolynomial.fromNewtonCoefficient(thinnedNode, valueCoeff, typeProvider).value(x_last)
+                .minus(value[last])
+                .dividedBy(NewtonPolynomial.fromNewtonCoefficient(thinnedNode, scaleCoeff, typeProvider)
+                        .value(x_last).minus(alternateScale[last]));
 
-        for (int i = 0; i < f.length; i++) {
-            f[i] = f[i].minus(alternateError[i].times(e));
+        PseudoRealNumber.Accumulator<T> accumulator = value_i;
+        PseudoRealNumber.PackedVector<T> remezCoeff = typeProvider.createPackedVector(last);
+        for (int i = 0; i < last; i++) {
+            remezCoeff.set(i, accumulator.set(valueCoeff, i).subtractProduct(scaleCoeff.get(i), e));
+        }
+        double maxScaledValue = 0d;
+        for (int j = 0; j < size; j++) {
+            T remezValue = accumulator.set(value[j]).subtractProduct(alternateScale[j], e).get();
+            maxScaledValue = Math.max(maxScaledValue,
+                    Math.abs(remezValue.asDouble() / alternateScale[j].asDouble()));
         }
-        return NewtonPolynomial.from(thinnedNode, f, typeProvider);
+        return new RemezPolynomial<>(
+                NewtonPolynomial.fromNewtonCoefficient(thinnedNode, remezCoeff, typeProvider), maxScaledValue);
     }
 }
@@ -23,7 +23,28 @@
  * 独自の数体 {@link matsu.num.approximation.PseudoRealNumber}
  * の場合は
  * {@link matsu.num.approximation.polynomial.Polynomial}
- * により表現される.
+ * により表現される. <br>
+ * {@code double} 型数体の多項式は, {@link matsu.num.approximation.polynomial.CompiledDoublePolynomial}
+ * により係数を直接評価する形式に変換できる. <br>
+ * 区間が原点から離れている場合や次数が高い場合は,
+ * {@link matsu.num.approximation.polynomial.ChebyshevDoublePolynomial},
+ * {@link matsu.num.approximation.polynomial.ChebyshevPolynomial}
+ * による Chebyshev 基底の表現が適する. <br>
+ * 滑らかなターゲット関数に対しては,
+ * {@link matsu.num.approximation.polynomial.ChebyshevInterpolationDoubleApproxExecutor}
+ * による Chebyshev 補間が, イテレーションなしでミニマックス近似に近い近似を与える. <br>
+ * 近似の次数が決まっていない場合は,
+ * {@link matsu.num.approximation.polynomial.MinimalDegreeDoublePolynomialApproxExecutor}
+ * により, 近似誤差の許容値を満たす最小の次数を探索できる. <br>
+ * 広い区間で単一の多項式による近似が困難な場合は,
+ * {@link matsu.num.approximation.polynomial.PiecewiseMinimaxDoublePolynomialApproxExecutor}
+ * により, 区間を自動的に分割した区分多項式
+ * ({@link matsu.num.approximation.polynomial.PiecewiseDoublePolynomial}) で近似できる
+ * (独自クラスによる実数体に関しては
+ * {@link matsu.num.approximation.polynomial.PiecewiseMinimaxPolynomialApproxExecutor},
+ * {@link matsu.num.approximation.polynomial.PiecewisePolynomial}). <br>
+ * また, {@link matsu.num.approximation.polynomial.PolynomialSourceEmitter}
+ * により, 多項式を評価する Java のソースコードを生成できる.
  * </p>
  */
 package matsu.num.approximation.polynomial;
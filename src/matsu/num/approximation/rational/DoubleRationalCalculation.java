@@ -0,0 +1,436 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.rational;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.component.DoubleApproximationErrorCalc;
+
+/**
+ * 有理関数による近似の, Remez 法による計算処理を扱う. <br>
+ * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * <p>
+ * 分子の次数を <i>n</i>, 分母の次数を <i>m</i> とし, <i>N</i> = <i>n</i> + <i>m</i> + 2 個の参照点
+ * <i>x</i><sub><i>i</i></sub> において, 重みづけ誤差が交互に等しくなる (水準 <i>E</i>) 有理関数 <br>
+ * (<i>f</i>(<i>x</i><sub><i>i</i></sub>) - <i>p</i>(<i>x</i><sub><i>i</i></sub>) /
+ * <i>q</i>(<i>x</i><sub><i>i</i></sub>)) / <i>s</i><sub><i>f</i></sub>(<i>x</i><sub><i>i</i></sub>)
+ * = (-1)<sup><i>i</i></sup> <i>E</i> <br>
+ * を構成する (分母の定数項の係数は1に正規化する). <br>
+ * この条件は <i>E</i> と分母の係数の積を含む非線形方程式であるので,
+ * <i>E</i> = 0 とした線形方程式の解を初期値として, Newton 法により解く.
+ * </p>
+ * 
+ * <p>
+ * 参照点の更新は, 区間に密に配置した Chebyshev 点と参照点を候補とした多点交換
+ * ({@link ReferenceSelection}) による. <br>
+ * 候補点における誤差の最大値と参照点における誤差の最小値が十分に近づいた時点でイテレーションを打ち切る. <br>
+ * 分母が区間内で正でない有理関数は, 近似の失敗として扱う. <br>
+ * 2回目以降のイテレーションで失敗した場合や, 誤差の最大値が改善しなくなった場合, 上限回数に達した場合は,
+ * それまでで誤差の最大値が最小の有理関数を候補とする. <br>
+ * ただし, 候補の誤差が参照点で交互に同程度の大きさになっていない (等振動していない) 場合は,
+ * 最良近似から遠い可能性があるので, 近似の失敗として扱う
+ * (誤差が丸め誤差の程度である場合を除く). <br>
+ * 最良近似の誤差の最大値は, 参照点における誤差の最小値と誤差の最大値の間にあるので
+ * (de la Vall&eacute;e Poussin の定理), 結果の誤差の最大値は最良近似のそれの高々
+ * 1 / (1 - {@link #ACCEPTANCE_TOLERANCE}) 倍である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class DoubleRationalCalculation {
+
+    /**
+     * イテレーションの上限回数.
+     */
+    private static final int ITERATION_LIMIT = 50;
+
+    /**
+     * 水準 <i>E</i> を定める Newton 法の上限回数.
+     */
+    private static final int LEVEL_ITERATION_LIMIT = 30;
+
+    /**
+     * 誤差の最大値が改善しないイテレーションの, 連続回数の上限.
+     */
+    private static final int STAGNATION_LIMIT = 5;
+
+    /**
+     * 参照点を補正する黄金分割探索の反復回数.
+     */
+    private static final int GOLDEN_SECTION_ITERATION = 30;
+
+    /**
+     * 水準 <i>E</i> の Newton 法による更新の, 相対的な許容値.
+     */
+    private static final double LEVEL_TOLERANCE = 1E-12;
+
+    /**
+     * 候補点の, 参照点の数に対する密度の倍率.
+     */
+    private static final int SAMPLING_RATE = 16;
+
+    /**
+     * 誤差の最大値と参照点における誤差の最小値の, 相対的な差の許容値.
+     */
+    private static final double CONVERGENCE_TOLERANCE = 1E-8;
+
+    /**
+     * 結果として受け入れる, 誤差の最大値と参照点における誤差の最小値の, 相対的な差の上限.
+     */
+    private static final double ACCEPTANCE_TOLERANCE = 0.1;
+
+    /**
+     * 重みづけしたターゲット関数の値の最大値に対する, 丸め誤差の程度とみなす誤差の最大値の比率.
+     */
+    private static final double ROUNDING_TOLERANCE = 64 * Math.ulp(1d);
+
+    private final DoubleApproxTarget target;
+    private final int numeratorOrder;
+    private final int denominatorOrder;
+
+    private DoubleRationalFunction result;
+
+    /**
+     * @param target ターゲット関数, nullであってはいけない
+     * @param numeratorOrder 分子の次数, 0以上
+     * @param denominatorOrder 分母の次数, 0以上
+     */
+    DoubleRationalCalculation(DoubleApproxTarget target, int numeratorOrder, int denominatorOrder) {
+        super();
+        assert numeratorOrder >= 0 && denominatorOrder >= 0;
+
+        this.target = target;
+        this.numeratorOrder = numeratorOrder;
+        this.denominatorOrder = denominatorOrder;
+    }
+
+    /**
+     * 近似計算を実行する.
+     * 
+     * @throws ApproximationFailedException 近似に失敗した場合
+     */
+    void calculate() throws ApproximationFailedException {
+        final int size = this.numeratorOrder + this.denominatorOrder + 2;
+        final DoubleFiniteClosedInterval interval = this.target.interval();
+        final double[] grid = chebyshevPoints(SAMPLING_RATE * (size - 1) + 1, interval);
+
+        double[] reference = chebyshevPoints(size, interval);
+        DoubleRationalFunction best = null;
+        double bestError = Double.POSITIVE_INFINITY;
+        double bestMinError = 0d;
+        int stagnation = 0;
+        for (int c = 0; c < ITERATION_LIMIT; c++) {
+            double[] candidate = merge(grid, reference);
+            double[] error = new double[candidate.length];
+            double[] nextReference = new double[size];
+            double[] referenceError = new double[size];
+            DoubleRationalFunction rational;
+            int[] selected;
+            try {
+                rational = this.solve(reference);
+                requirePositiveDenominator(rational, candidate);
+                DoubleApproximationErrorCalc errorCalc =
+                        new DoubleApproximationErrorCalc(this.target, rational::value);
+                errorCalc.values(candidate, error);
+                selected = ReferenceSelection.select(error, size);
+                if (Objects.nonNull(selected)) {
+                    refine(errorCalc, candidate, error, selected, nextReference, referenceError);
+                }
+            } catch (ApproximationFailedException afe) {
+                if (Objects.isNull(best)) {
+                    throw afe;
+                }
+                break;
+            }
+
+            double maxError = 0d;
+            for (double e : error) {
+                maxError = Math.max(maxError, Math.abs(e));
+            }
+            double minError = Double.POSITIVE_INFINITY;
+            for (double e : referenceError) {
+                maxError = Math.max(maxError, Math.abs(e));
+                minError = Math.min(minError, Math.abs(e));
+            }
+            stagnation = maxError < (1d - CONVERGENCE_TOLERANCE) * bestError ? 0 : stagnation + 1;
+            if (maxError < bestError) {
+                best = rational;
+                bestError = maxError;
+                bestMinError = Objects.nonNull(selected) ? minError : 0d;
+            }
+
+            if (Objects.isNull(selected)) {
+                //誤差が0あるいは符号が変化しない (参照点で交互になっていない) 場合
+                break;
+            }
+            reference = nextReference;
+            if (maxError - minError <= CONVERGENCE_TOLERANCE * maxError || stagnation >= STAGNATION_LIMIT) {
+                break;
+            }
+        }
+
+        if (!(bestError - bestMinError <= ACCEPTANCE_TOLERANCE * bestError
+                || bestError <= ROUNDING_TOLERANCE * this.maxWeightedValue(grid))) {
+            throw new ApproximationFailedException("error does not equioscillate");
+        }
+        this.result = best;
+    }
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    DoubleRationalFunction getResult() {
+        assert Objects.nonNull(this.result);
+
+        return this.result;
+    }
+
+    /**
+     * 点における重みづけしたターゲット関数の値 |<i>f</i> / <i>s</i>| の最大値を返す.
+     * 
+     * @throws ApproximationFailedException ターゲット関数の値が計算できない場合
+     */
+    private double maxWeightedValue(double[] points) throws ApproximationFailedException {
+        double[] f = new double[points.length];
+        double[] s = new double[points.length];
+        this.target.values(points, f);
+        this.target.scales(points, s);
+        double out = 0d;
+        for (int i = 0; i < points.length; i++) {
+            double v = Math.abs(f[i] / s[i]);
+            if (!Double.isFinite(v)) {
+                throw new ApproximationFailedException("target value cannot be calculated");
+            }
+            out = Math.max(out, v);
+        }
+        return out;
+    }
+
+    /**
+     * 参照点において重みづけ誤差が交互に等しくなる有理関数を構成する.
+     * 
+     * @throws ApproximationFailedException 構成できない場合
+     */
+    private DoubleRationalFunction solve(double[] reference) throws ApproximationFailedException {
+        final int n = this.numeratorOrder;
+        final int m = this.denominatorOrder;
+        final int size = reference.length;
+        final DoubleFiniteClosedInterval interval = this.target.interval();
+
+        double[] f = new double[size];
+        double[] s = new double[size];
+        this.target.values(reference, f);
+        this.target.scales(reference, s);
+        for (int i = 0; i < size; i++) {
+            if (!Double.isFinite(f[i])) {
+                throw new ApproximationFailedException("target value cannot be calculated");
+            }
+            //重みづけした値 f / s
+            f[i] /= s[i];
+        }
+        double[][] chebyshev = chebyshevValues(reference, Math.max(n, m), interval);
+
+        //水準 E を0とした線形方程式の解を初期値とし, Newton 法で非線形方程式を解く
+        double[] solution = new double[size];
+        for (int c = 0; c < LEVEL_ITERATION_LIMIT; c++) {
+            final double level = solution[size - 1];
+            double[][] jacobian = new double[size][size];
+            double[] residual = new double[size];
+            for (int i = 0; i < size; i++) {
+                final double sign = (i & 1) == 0 ? 1d : -1d;
+                final double[] basis = chebyshev[i];
+                final double[] row = jacobian[i];
+                final double shifted = f[i] - sign * level;
+
+                //F_i = p_i / s_i - q_i (f_i / s_i - sign E)
+                double p = 0d;
+                for (int k = 0; k <= n; k++) {
+                    row[k] = basis[k] / s[i];
+                    p += solution[k] * row[k];
+                }
+                double q = 1d;
+                for (int k = 1; k <= m; k++) {
+                    row[n + k] = -basis[k] * shifted;
+                    q += solution[n + k] * basis[k];
+                }
+                row[size - 1] = sign * q;
+                residual[i] = -(p - q * shifted);
+            }
+            double[] delta = LinearSolver.solve(jacobian, residual);
+            for (int k = 0; k < size; k++) {
+                solution[k] += delta[k];
+            }
+
+            //初回は線形方程式の解そのものであり, 分母の次数が0の場合はそれで確定する
+            if (m == 0 || (c > 0 && Math.abs(delta[size - 1]) <= LEVEL_TOLERANCE * Math.abs(solution[size - 1]))) {
+                break;
+            }
+        }
+
+        double[] numerator = new double[n + 1];
+        System.arraycopy(solution, 0, numerator, 0, n + 1);
+        double[] denominator = new double[m + 1];
+        denominator[0] = 1d;
+        System.arraycopy(solution, n + 1, denominator, 1, m);
+        try {
+            return DoubleRationalFunction.of(numerator, denominator, interval);
+        } catch (IllegalArgumentException iae) {
+            throw new ApproximationFailedException("rational function cannot be created");
+        }
+    }
+
+    /**
+     * 選んだ候補点を, 両隣の候補点の間で黄金分割探索により重みづけ誤差の極値点に補正し,
+     * 次の参照点とする. <br>
+     * 補正後の参照点が狭義単調増加にならない場合は, 選んだ候補点をそのまま用いる.
+     * 
+     * @param errorCalc 近似誤差の計算
+     * @param candidate 候補点
+     * @param error 候補点における近似誤差
+     * @param selected 選んだ候補点のインデックス
+     * @param reference 次の参照点の書き込み先
+     * @param referenceError 次の参照点における近似誤差の書き込み先
+     * @throws ApproximationFailedException 近似誤差が計算できない場合
+     */
+    private static void refine(
+            DoubleApproximationErrorCalc errorCalc, double[] candidate, double[] error, int[] selected,
+            double[] reference, double[] referenceError) throws ApproximationFailedException {
+        final double ratio = 0.5 * (Math.sqrt(5d) - 1d);
+
+        for (int k = 0; k < selected.length; k++) {
+            final int j = selected[k];
+            final double sign = error[j] > 0d ? 1d : -1d;
+            double bestX = candidate[j];
+            double bestE = error[j];
+
+            double lower = candidate[Math.max(j - 1, 0)];
+            double upper = candidate[Math.min(j + 1, candidate.length - 1)];
+            double x1 = upper - ratio * (upper - lower);
+            double x2 = lower + ratio * (upper - lower);
+            double e1 = errorCalc.value(x1);
+            double e2 = errorCalc.value(x2);
+            for (int c = 0; c < GOLDEN_SECTION_ITERATION; c++) {
+                if (sign * e1 < sign * e2) {
+                    lower = x1;
+                    x1 = x2;
+                    e1 = e2;
+                    x2 = lower + ratio * (upper - lower);
+                    e2 = errorCalc.value(x2);
+                } else {
+                    upper = x2;
+                    x2 = x1;
+                    e2 = e1;
+                    x1 = upper - ratio * (upper - lower);
+                    e1 = errorCalc.value(x1);
+                }
+            }
+            double x = sign * e1 >= sign * e2 ? x1 : x2;
+            double e = sign * e1 >= sign * e2 ? e1 : e2;
+            if (sign * e > sign * bestE) {
+                bestX = x;
+                bestE = e;
+            }
+            reference[k] = bestX;
+            referenceError[k] = bestE;
+        }
+
+        for (int k = 0; k < selected.length - 1; k++) {
+            if (!(reference[k] < reference[k + 1])) {
+                for (int i = 0; i < selected.length; i++) {
+                    reference[i] = candidate[selected[i]];
+                    referenceError[i] = error[selected[i]];
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 候補点における分母が全て正であることを確かめる.
+     * 
+     * @throws ApproximationFailedException 分母が正でない点がある場合
+     */
+    private static void requirePositiveDenominator(
+            DoubleRationalFunction rational, double[] points) throws ApproximationFailedException {
+        double[] q = new double[points.length];
+        rational.denominator().value(points, q);
+        for (double v : q) {
+            if (!(v > 0d)) {
+                throw new ApproximationFailedException("denominator vanishes in interval");
+            }
+        }
+    }
+
+    /**
+     * 点 <i>x</i><sub><i>i</i></sub> における
+     * <i>T</i><sub>0</sub>, ... , <i>T</i><sub><i>d</i></sub> の値を返す.
+     */
+    private static double[][] chebyshevValues(double[] xs, int degree, DoubleFiniteClosedInterval interval) {
+        final double halfGap = 0.5 * interval.gap();
+        final double mid = interval.lower() + halfGap;
+
+        double[][] out = new double[xs.length][degree + 1];
+        for (int i = 0; i < xs.length; i++) {
+            final double t = (xs[i] - mid) / halfGap;
+            double[] row = out[i];
+            row[0] = 1d;
+            if (degree >= 1) {
+                row[1] = t;
+            }
+            for (int k = 2; k <= degree; k++) {
+                row[k] = 2d * t * row[k - 1] - row[k - 2];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 区間の両端を含む Chebyshev 点 (極値点) を, 昇順に並べて返す.
+     */
+    private static double[] chebyshevPoints(int size, DoubleFiniteClosedInterval interval) {
+        final double halfGap = 0.5 * interval.gap();
+        final double mid = interval.lower() + halfGap;
+
+        double[] out = new double[size];
+        for (int i = 1; i < size - 1; i++) {
+            out[i] = mid - halfGap * Math.cos(Math.PI * i / (size - 1));
+        }
+        out[0] = interval.lower();
+        out[size - 1] = interval.upper();
+        return out;
+    }
+
+    /**
+     * 昇順に並んだ2つの配列を, 重複を除いて昇順に併合する.
+     */
+    private static double[] merge(double[] a, double[] b) {
+        double[] out = new double[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            double next = j >= b.length || (i < a.length && a[i] <= b[j])
+                    ? a[i++]
+                    : b[j++];
+            if (k == 0 || out[k - 1] != next) {
+                out[k++] = next;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+}
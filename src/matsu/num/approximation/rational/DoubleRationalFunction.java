@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.rational;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.polynomial.ChebyshevDoublePolynomial;
+
+/**
+ * 分子と分母が Chebyshev 基底により表現された, {@code double} 型の有理関数.
+ * 
+ * <p>
+ * 区間 [<i>a</i>, <i>b</i>] を [-1, 1] に写す変数変換 <br>
+ * <i>t</i> = (<i>x</i> - <i>m</i>) / <i>h</i>,
+ * <i>m</i> = (<i>a</i> + <i>b</i>) / 2,
+ * <i>h</i> = (<i>b</i> - <i>a</i>) / 2 <br>
+ * により, 有理関数を <br>
+ * <i>r</i>(<i>x</i>) = <i>p</i>(<i>x</i>) / <i>q</i>(<i>x</i>),
+ * <i>p</i>(<i>x</i>) =
+ * &sum;<sub><i>k</i> = 0</sub><sup><i>n</i></sup>
+ * <i>a</i><sub><i>k</i></sub> <i>T</i><sub><i>k</i></sub>(<i>t</i>),
+ * <i>q</i>(<i>x</i>) =
+ * &sum;<sub><i>k</i> = 0</sub><sup><i>m</i></sup>
+ * <i>b</i><sub><i>k</i></sub> <i>T</i><sub><i>k</i></sub>(<i>t</i>) <br>
+ * と表現する (<i>T</i><sub><i>k</i></sub> は第1種 Chebyshev 多項式). <br>
+ * 分子と分母の値は, Clenshaw の漸化式を1つのループにまとめて同時に計算する.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(double[], double[], DoubleFiniteClosedInterval)} により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class DoubleRationalFunction {
+
+    private final DoubleFiniteClosedInterval interval;
+    private final int numeratorDegree;
+    private final int denominatorDegree;
+
+    /**
+     * 分子と分母の Chebyshev 基底の係数, 長い方にそろえて0で埋めてある.
+     */
+    private final double[] numeratorCoeff;
+    private final double[] denominatorCoeff;
+
+    /**
+     * 変数変換の中心 <i>m</i> と倍率 1/<i>h</i>.
+     */
+    private final double shift;
+    private final double scale;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private DoubleRationalFunction(
+            double[] numeratorCoeff, double[] denominatorCoeff, DoubleFiniteClosedInterval interval) {
+        this.interval = interval;
+        this.numeratorDegree = numeratorCoeff.length - 1;
+        this.denominatorDegree = denominatorCoeff.length - 1;
+
+        final int length = Math.max(numeratorCoeff.length, denominatorCoeff.length);
+        this.numeratorCoeff = Arrays.copyOf(numeratorCoeff, length);
+        this.denominatorCoeff = Arrays.copyOf(denominatorCoeff, length);
+
+        double halfGap = 0.5 * interval.gap();
+        this.shift = interval.lower() + halfGap;
+        this.scale = 1d / halfGap;
+    }
+
+    /**
+     * 分子の次数を返す.
+     * 
+     * @return 分子の次数
+     */
+    public int numeratorDegree() {
+        return this.numeratorDegree;
+    }
+
+    /**
+     * 分母の次数を返す.
+     * 
+     * @return 分母の次数
+     */
+    public int denominatorDegree() {
+        return this.denominatorDegree;
+    }
+
+    /**
+     * 変数変換の基準となる区間を返す.
+     * 
+     * @return 区間
+     */
+    public DoubleFiniteClosedInterval interval() {
+        return this.interval;
+    }
+
+    /**
+     * 分子の多項式を返す.
+     * 
+     * @return 分子
+     */
+    public ChebyshevDoublePolynomial numerator() {
+        return ChebyshevDoublePolynomial.of(
+                Arrays.copyOf(this.numeratorCoeff, this.numeratorDegree + 1), this.interval);
+    }
+
+    /**
+     * 分母の多項式を返す.
+     * 
+     * @return 分母
+     */
+    public ChebyshevDoublePolynomial denominator() {
+        return ChebyshevDoublePolynomial.of(
+                Arrays.copyOf(this.denominatorCoeff, this.denominatorDegree + 1), this.interval);
+    }
+
+    /**
+     * 有理関数の値を返す.
+     * 
+     * @param x 引数
+     * @return 値
+     */
+    public double value(double x) {
+        final double[] a = this.numeratorCoeff;
+        final double[] b = this.denominatorCoeff;
+        final double t = (x - this.shift) * this.scale;
+        final double tt = t + t;
+
+        double p1 = 0d, p2 = 0d;
+        double q1 = 0d, q2 = 0d;
+        for (int k = a.length - 1; k >= 1; k--) {
+            final double p = Math.fma(tt, p1, a[k] - p2);
+            final double q = Math.fma(tt, q1, b[k] - q2);
+            p2 = p1;
+            p1 = p;
+            q2 = q1;
+            q1 = q;
+        }
+        return Math.fma(t, p1, a[0] - p2) / Math.fma(t, q1, b[0] - q2);
+    }
+
+    /**
+     * 有理関数の値を一括で計算し, 出力用の配列に書き込む. <br>
+     * 引数の配列と出力用の配列は同一でもよい.
+     * 
+     * @param xs 引数の配列
+     * @param out 出力用の配列, 引数の配列と同じ長さ
+     * @throws IllegalArgumentException 配列の長さが一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void value(double[] xs, double[] out) {
+        if (xs.length != out.length) {
+            throw new IllegalArgumentException(
+                    "mismatch length: xs.length = %s, out.length = %s".formatted(xs.length, out.length));
+        }
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = this.value(xs[i]);
+        }
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "DoubleRationalFunction(%s, %s, %s)".formatted(
+                this.interval,
+                Arrays.toString(Arrays.copyOf(this.numeratorCoeff, this.numeratorDegree + 1)),
+                Arrays.toString(Arrays.copyOf(this.denominatorCoeff, this.denominatorDegree + 1)));
+    }
+
+    /**
+     * 分子と分母の Chebyshev 基底の係数と区間を与えて, 有理関数を返す.
+     * 
+     * @param numeratorCoefficient 分子の Chebyshev 基底の係数
+     *            {<i>a</i><sub>0</sub>, ... , <i>a</i><sub><i>n</i></sub>}
+     * @param denominatorCoefficient 分母の Chebyshev 基底の係数
+     *            {<i>b</i><sub>0</sub>, ... , <i>b</i><sub><i>m</i></sub>}
+     * @param interval 変数変換の基準となる区間
+     * @return 有理関数
+     * @throws IllegalArgumentException 係数が空の場合, 係数が有限でない値を含む場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static DoubleRationalFunction of(
+            double[] numeratorCoefficient, double[] denominatorCoefficient,
+            DoubleFiniteClosedInterval interval) {
+        Objects.requireNonNull(interval);
+        double[] numerator = numeratorCoefficient.clone();
+        double[] denominator = denominatorCoefficient.clone();
+        if (numerator.length == 0 || !Arrays.stream(numerator).allMatch(Double::isFinite)
+                || denominator.length == 0 || !Arrays.stream(denominator).allMatch(Double::isFinite)) {
+            throw new IllegalArgumentException("invalid coefficients");
+        }
+        return new DoubleRationalFunction(numerator, denominator, interval);
+    }
+}
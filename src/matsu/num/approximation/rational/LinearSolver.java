@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.rational;
+
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * 部分ピボット選択付き Gauss 消去法により, 正方行列を係数とする線形方程式を解くユーティリティクラス. <br>
+ * 引数の行列と右辺は書き換えられる.
+ * 
+ * @author Matsuura Y.
+ */
+final class LinearSolver {
+
+    private LinearSolver() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 線形方程式を解く.
+     * 
+     * @param matrix 係数行列 (正方), 書き換えられる
+     * @param rhs 右辺, 書き換えられる
+     * @return 解
+     * @throws ApproximationFailedException 行列が特異な場合, 解が有限でない場合
+     */
+    static double[] solve(double[][] matrix, double[] rhs) throws ApproximationFailedException {
+        final int size = rhs.length;
+        assert matrix.length == size;
+
+        for (int col = 0; col < size; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < size; row++) {
+                if (Math.abs(matrix[row][col]) > Math.abs(matrix[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            if (!(Math.abs(matrix[pivot][col]) > 0d)) {
+                throw new ApproximationFailedException("singular matrix");
+            }
+            swap(matrix, rhs, col, pivot);
+
+            final double[] pivotRow = matrix[col];
+            for (int row = col + 1; row < size; row++) {
+                final double[] target = matrix[row];
+                final double factor = target[col] / pivotRow[col];
+                for (int k = col + 1; k < size; k++) {
+                    target[k] -= factor * pivotRow[k];
+                }
+                rhs[row] -= factor * rhs[col];
+            }
+        }
+
+        double[] out = new double[size];
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = rhs[row];
+            for (int k = row + 1; k < size; k++) {
+                sum -= matrix[row][k] * out[k];
+            }
+            out[row] = sum / matrix[row][row];
+            if (!Double.isFinite(out[row])) {
+                throw new ApproximationFailedException("singular matrix");
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 線形方程式を解く.
+     * 
+     * @param <T> 体を表す型パラメータ
+     * @param matrix 係数行列 (正方), 書き換えられる
+     * @param rhs 右辺, 書き換えられる
+     * @param typeProvider 体の元に関するプロバイダ
+     * @return 解
+     * @throws ApproximationFailedException 行列が特異な場合, 解が計算できない場合
+     */
+    static <T extends PseudoRealNumber<T>> T[] solve(
+            T[][] matrix, T[] rhs, PseudoRealNumber.TypeProvider<T> typeProvider)
+            throws ApproximationFailedException {
+        final int size = rhs.length;
+        assert matrix.length == size;
+
+        final T zero = typeProvider.zero();
+        try {
+            for (int col = 0; col < size; col++) {
+                int pivot = col;
+                for (int row = col + 1; row < size; row++) {
+                    if (matrix[row][col].abs().compareTo(matrix[pivot][col].abs()) > 0) {
+                        pivot = row;
+                    }
+                }
+                if (matrix[pivot][col].compareTo(zero) == 0) {
+                    throw new ApproximationFailedException("singular matrix");
+                }
+                swap(matrix, rhs, col, pivot);
+
+                final T[] pivotRow = matrix[col];
+                for (int row = col + 1; row < size; row++) {
+                    final T[] target = matrix[row];
+                    final T factor = target[col].dividedBy(pivotRow[col]);
+                    for (int k = col + 1; k < size; k++) {
+                        target[k] = target[k].minus(factor.times(pivotRow[k]));
+                    }
+                    rhs[row] = rhs[row].minus(factor.times(rhs[col]));
+                }
+            }
+
+            T[] out = typeProvider.createArray(size);
+            for (int row = size - 1; row >= 0; row--) {
+                T sum = rhs[row];
+                for (int k = row + 1; k < size; k++) {
+                    sum = sum.minus(matrix[row][k].times(out[k]));
+                }
+                out[row] = sum.dividedBy(matrix[row][row]);
+            }
+            return out;
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("singular matrix");
+        }
+    }
+
+    private static <E> void swap(E[][] matrix, E[] rhs, int i, int j) {
+        if (i == j) {
+            return;
+        }
+        E[] row = matrix[i];
+        matrix[i] = matrix[j];
+        matrix[j] = row;
+        E v = rhs[i];
+        rhs[i] = rhs[j];
+        rhs[j] = v;
+    }
+
+    private static void swap(double[][] matrix, double[] rhs, int i, int j) {
+        if (i == j) {
+            return;
+        }
+        double[] row = matrix[i];
+        matrix[i] = matrix[j];
+        matrix[j] = row;
+        double v = rhs[i];
+        rhs[i] = rhs[j];
+        rhs[j] = v;
+    }
+}
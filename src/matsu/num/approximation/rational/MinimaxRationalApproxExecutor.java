@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.rational;
+
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationFailedException;
+
+/**
+ * スケーリング付きミニマックス法 (重みづけ Chebyshev ノルム最小化) による,
+ * 独自クラスによる実数体に関する有理関数による近似の実行を扱う.
+ * 
+ * <p>
+ * <i>r</i>(<i>x</i>) = <i>p</i>(<i>x</i>) / <i>q</i>(<i>x</i>) を,
+ * 分子 <i>p</i> と分母 <i>q</i> の (最高) 次数が定められた有理関数空間の元とする. <br>
+ * 近似誤差を, <i>e</i>(<i>x</i>) =
+ * (<i>r</i>(<i>x</i>) - <i>f</i>(<i>x</i>))
+ * /
+ * <i>s</i><sub><i>f</i></sub>(<i>x</i>)
+ * と定め (多項式近似のエグゼキュータと同一の重みづけ誤差),
+ * max<sub><i>x</i></sub> |<i>e</i>(<i>x</i>)|
+ * が最小になるような <i>r</i>(<i>x</i>) を, このクラスの文脈における
+ * <i>f</i>(<i>x</i>)
+ * の近似有理関数という. <br>
+ * 分母は区間内で正であるものに限る.
+ * </p>
+ * 
+ * <p>
+ * 区間の近くに極を持つ関数や, 緩やかに減衰する関数は, 多項式による近似では高い次数を必要とするが,
+ * 有理関数では低い次数で同程度の精度が得られることが多い.
+ * </p>
+ * 
+ * <p>
+ * 近似計算は {@link MinimaxDoubleRationalApproxExecutor} と同一の Remez 法 (参照点の多点交換) により,
+ * 型 {@code T} の演算で行う. <br>
+ * 近似誤差の最大値は, 区間に密に配置した点における評価によって判定する. <br>
+ * 参照点における方程式が解けない場合や, 分母が区間内で正にならない場合,
+ * 近似誤差が参照点で交互に同程度の大きさにならない (最良近似に到達しない) 場合は, "空" が返る.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(int, int)} メソッドにより取得する. <br>
+ * 扱うことができる次数 <i>n</i> (分子), <i>m</i> (分母) は, 次のとおりである. <br>
+ * {@link #LOWER_LIMIT_OF_ORDER} &le; <i>n</i>, <i>m</i> &le; {@link #UPPER_LIMIT_OF_ORDER}
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class MinimaxRationalApproxExecutor {
+
+    /**
+     * 扱うことができる次数の下限.
+     */
+    public static final int LOWER_LIMIT_OF_ORDER = 0;
+
+    /**
+     * 扱うことができる次数の上限.
+     */
+    public static final int UPPER_LIMIT_OF_ORDER = 20;
+
+    private final int numeratorOrder;
+    private final int denominatorOrder;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private MinimaxRationalApproxExecutor(int numeratorOrder, int denominatorOrder) {
+        this.numeratorOrder = numeratorOrder;
+        this.denominatorOrder = denominatorOrder;
+    }
+
+    /**
+     * 分子の次数を返す.
+     * 
+     * @return 分子の次数
+     */
+    public int numeratorOrder() {
+        return this.numeratorOrder;
+    }
+
+    /**
+     * 分母の次数を返す.
+     * 
+     * @return 分母の次数
+     */
+    public int denominatorOrder() {
+        return this.denominatorOrder;
+    }
+
+    /**
+     * 与えられたターゲット関数を, 有理関数で近似する.
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param target ターゲット関数
+     * @return 近似結果, 近似に失敗した場合は空
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public <T extends PseudoRealNumber<T>> ApproxResult<RationalFunction<T>> apply(
+            ApproxTarget<T> target) {
+        RationalCalculation<T> calc = new RationalCalculation<>(
+                Objects.requireNonNull(target), this.numeratorOrder, this.denominatorOrder);
+        try {
+            calc.calculate();
+            return ApproxResult.of(calc.getResult());
+        } catch (ApproximationFailedException afe) {
+            return ApproxResult.failed(afe.failuerMessage());
+        }
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "MinimaxRationalApproxExecutor[%s/%s]".formatted(
+                this.numeratorOrder, this.denominatorOrder);
+    }
+
+    /**
+     * 分子と分母の次数を与えて, 有理関数近似エグゼキュータを返す.
+     * 
+     * @param numeratorOrder 分子の次数
+     * @param denominatorOrder 分母の次数
+     * @return 有理関数近似エグゼキュータ
+     * @throws IllegalArgumentException 次数が扱えない値の場合
+     */
+    public static MinimaxRationalApproxExecutor of(int numeratorOrder, int denominatorOrder) {
+        if (!(LOWER_LIMIT_OF_ORDER <= numeratorOrder && numeratorOrder <= UPPER_LIMIT_OF_ORDER
+                && LOWER_LIMIT_OF_ORDER <= denominatorOrder && denominatorOrder <= UPPER_LIMIT_OF_ORDER)) {
+            throw new IllegalArgumentException(
+                    "invalid order: numeratorOrder = %s, denominatorOrder = %s"
+                            .formatted(numeratorOrder, denominatorOrder));
+        }
+        return new MinimaxRationalApproxExecutor(numeratorOrder, denominatorOrder);
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.17
+ */
+package matsu.num.approximation.rational;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.component.ApproximationErrorCalc;
+import matsu.num.approximation.component.ApproximationFailedException;
+import matsu.num.approximation.polynomial.ChebyshevPolynomial;
+
+/**
+ * 有理関数による近似の, Remez 法による計算処理を扱う. <br>
+ * スレッドセーフでないので, 単一スレッド内でインスタンスが共有されるようにしなければならない.
+ * 
+ * <p>
+ * アルゴリズムは {@link DoubleRationalCalculation} と同一であり, 計算は全て型 {@code T} で行う. <br>
+ * ただし, 参照点の選択と収束判定は, 近似誤差を {@code double} に変換した値により行う. <br>
+ * 丸め誤差の程度は, 乗算の丸めから見積もった体の元の精度に基づいて定める.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体の元を表現する型パラメータ
+ */
+final class RationalCalculation<T extends PseudoRealNumber<T>> {
+
+    /**
+     * イテレーションの上限回数.
+     */
+    private static final int ITERATION_LIMIT = 50;
+
+    /**
+     * 水準 <i>E</i> を定める Newton 法の上限回数.
+     */
+    private static final int LEVEL_ITERATION_LIMIT = 30;
+
+    /**
+     * 誤差の最大値が改善しないイテレーションの, 連続回数の上限.
+     */
+    private static final int STAGNATION_LIMIT = 5;
+
+    /**
+     * 参照点を補正する黄金分割探索の反復回数.
+     */
+    private static final int GOLDEN_SECTION_ITERATION = 30;
+
+    /**
+     * 水準 <i>E</i> の Newton 法による更新の, 相対的な許容値.
+     */
+    private static final double LEVEL_TOLERANCE = 1E-12;
+
+    /**
+     * 候補点の, 参照点の数に対する密度の倍率.
+     */
+    private static final int SAMPLING_RATE = 16;
+
+    /**
+     * 誤差の最大値と参照点における誤差の最小値の, 相対的な差の許容値.
+     */
+    private static final double CONVERGENCE_TOLERANCE = 1E-8;
+
+    /**
+     * 結果として受け入れる, 誤差の最大値と参照点における誤差の最小値の, 相対的な差の上限.
+     */
+    private static final double ACCEPTANCE_TOLERANCE = 0.1;
+
+    /**
+     * 重みづけしたターゲット関数の値の最大値に対する, 丸め誤差の程度とみなす誤差の最大値の,
+     * 体の元の精度に対する倍率.
+     */
+    private static final double ROUNDING_TOLERANCE_FACTOR = 64d;
+
+    /**
+     * 体の元の精度を探索する際の, 2の冪の上限.
+     */
+    private static final int MAX_PRECISION_BITS = 400;
+
+    private final ApproxTarget<T> target;
+    private final int numeratorOrder;
+    private final int denominatorOrder;
+    private final PseudoRealNumber.TypeProvider<T> elementTypeProvider;
+
+    private RationalFunction<T> result;
+
+    /**
+     * @param target ターゲット関数, nullであってはいけない
+     * @param numeratorOrder 分子の次数, 0以上
+     * @param denominatorOrder 分母の次数, 0以上
+     */
+    RationalCalculation(ApproxTarget<T> target, int numeratorOrder, int denominatorOrder) {
+        super();
+        assert numeratorOrder >= 0 && denominatorOrder >= 0;
+
+        this.target = target;
+        this.numeratorOrder = numeratorOrder;
+        this.denominatorOrder = denominatorOrder;
+        this.elementTypeProvider = target.elementTypeProvider();
+    }
+
+    /**
+     * 近似計算を実行する.
+     * 
+     * @throws ApproximationFailedException 近似に失敗した場合
+     */
+    void calculate() throws ApproximationFailedException {
+        final int size = this.numeratorOrder + this.denominatorOrder + 2;
+        final T[] grid = this.chebyshevPoints(SAMPLING_RATE * (size - 1) + 1);
+
+        T[] reference = this.chebyshevPoints(size);
+        RationalFunction<T> best = null;
+        double bestError = Double.POSITIVE_INFINITY;
+        double bestMinError = 0d;
+        int stagnation = 0;
+        for (int c = 0; c < ITERATION_LIMIT; c++) {
+            T[] candidate = this.merge(grid, reference);
+            double[] error = new double[candidate.length];
+            T[] nextReference = this.elementTypeProvider.createArray(size);
+            double[] referenceError = new double[size];
+            RationalFunction<T> rational;
+            int[] selected;
+            try {
+                rational = this.solve(reference);
+                this.requirePositiveDenominator(rational, candidate);
+                ApproximationErrorCalc<T> errorCalc = new ApproximationErrorCalc<>(this.target, rational::value);
+                for (int i = 0; i < candidate.length; i++) {
+                    error[i] = errorCalc.value(candidate[i]).asDouble();
+                }
+                selected = ReferenceSelection.select(error, size);
+                if (Objects.nonNull(selected)) {
+                    this.refine(errorCalc, candidate, error, selected, nextReference, referenceError);
+                }
+            } catch (ApproximationFailedException afe) {
+                if (Objects.isNull(best)) {
+                    throw afe;
+                }
+                break;
+            }
+
+            double maxError = 0d;
+            for (double e : error) {
+                maxError = Math.max(maxError, Math.abs(e));
+            }
+            double minError = Double.POSITIVE_INFINITY;
+            for (double e : referenceError) {
+                maxError = Math.max(maxError, Math.abs(e));
+                minError = Math.min(minError, Math.abs(e));
+            }
+            stagnation = maxError < (1d - CONVERGENCE_TOLERANCE) * bestError ? 0 : stagnation + 1;
+            if (maxError < bestError) {
+                best = rational;
+                bestError = maxError;
+                bestMinError = Objects.nonNull(selected) ? minError : 0d;
+            }
+
+            if (Objects.isNull(selected)) {
+                //誤差が0あるいは符号が変化しない (参照点で交互になっていない) 場合
+                break;
+            }
+            reference = nextReference;
+            if (maxError - minError <= CONVERGENCE_TOLERANCE * maxError || stagnation >= STAGNATION_LIMIT) {
+                break;
+            }
+        }
+
+        if (!(bestError - bestMinError <= ACCEPTANCE_TOLERANCE * bestError
+                || bestError <= ROUNDING_TOLERANCE_FACTOR * this.epsilon() * this.maxWeightedValue(grid))) {
+            throw new ApproximationFailedException("error does not equioscillate");
+        }
+        this.result = best;
+    }
+
+    /**
+     * 近似結果を返す. <br>
+     * calculateが実行され成功していなければならない.
+     * 
+     * @return 近似結果
+     */
+    RationalFunction<T> getResult() {
+        assert Objects.nonNull(this.result);
+
+        return this.result;
+    }
+
+    /**
+     * 点における重みづけしたターゲット関数の値 |<i>f</i> / <i>s</i>| の最大値を返す.
+     * 
+     * @throws ApproximationFailedException ターゲット関数の値が計算できない場合
+     */
+    private double maxWeightedValue(T[] points) throws ApproximationFailedException {
+        double out = 0d;
+        try {
+            for (T x : points) {
+                double v = this.target.value(x).dividedBy(this.target.scale(x)).abs().asDouble();
+                if (!Double.isFinite(v)) {
+                    throw new ApproximationFailedException("target value cannot be calculated");
+                }
+                out = Math.max(out, v);
+            }
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("target value cannot be calculated");
+        }
+        return out;
+    }
+
+    /**
+     * 体の元の精度の目安を返す. <br>
+     * (1 + <i>h</i>)<sup>2</sup> の <i>h</i><sup>2</sup> の項が乗算の丸めにより失われる
+     * 最大の <i>h</i> (2の冪) を求め, 4<i>h</i><sup>2</sup> とする
+     * ({@code double} では ulp(1) に一致する). <br>
+     * 1 + <i>h</i> &ne; 1 となる最小の <i>h</i> は,
+     * 複数の浮動小数点数の和で表現される体では精度を表さないので用いない.
+     */
+    private double epsilon() {
+        final T one = this.elementTypeProvider.one();
+        double h = 1d;
+        for (int c = 0; c < MAX_PRECISION_BITS; c++) {
+            h *= 0.5;
+            T x = one.plus(h);
+            if (x.times(x).compareTo(one.plus(2d * h)) == 0) {
+                break;
+            }
+        }
+        return 4d * h * h;
+    }
+
+    /**
+     * 参照点において重みづけ誤差が交互に等しくなる有理関数を構成する.
+     * 
+     * @throws ApproximationFailedException 構成できない場合
+     */
+    private RationalFunction<T> solve(T[] reference) throws ApproximationFailedException {
+        final int n = this.numeratorOrder;
+        final int m = this.denominatorOrder;
+        final int size = reference.length;
+        final T zero = this.elementTypeProvider.zero();
+        final T one = this.elementTypeProvider.one();
+
+        T[] f = this.elementTypeProvider.createArray(size);
+        T[] s = this.elementTypeProvider.createArray(size);
+        T[][] chebyshev;
+        try {
+            for (int i = 0; i < size; i++) {
+                s[i] = this.target.scale(reference[i]);
+                //重みづけした値 f / s
+                f[i] = this.target.value(reference[i]).dividedBy(s[i]);
+            }
+            chebyshev = this.chebyshevValues(reference, Math.max(n, m));
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("target value cannot be calculated");
+        }
+
+        //水準 E を0とした線形方程式の解を初期値とし, Newton 法で非線形方程式を解く
+        T[] solution = this.elementTypeProvider.createArray(size);
+        Arrays.fill(solution, zero);
+        try {
+            for (int c = 0; c < LEVEL_ITERATION_LIMIT; c++) {
+                final T level = solution[size - 1];
+                T[][] jacobian = this.createMatrix(size);
+                T[] residual = this.elementTypeProvider.createArray(size);
+                for (int i = 0; i < size; i++) {
+                    final boolean even = (i & 1) == 0;
+                    final T[] basis = chebyshev[i];
+                    final T[] row = jacobian[i];
+                    final T shifted = even ? f[i].minus(level) : f[i].plus(level);
+
+                    //F_i = p_i / s_i - q_i (f_i / s_i - sign E)
+                    T p = zero;
+                    for (int k = 0; k <= n; k++) {
+                        row[k] = basis[k].dividedBy(s[i]);
+                        p = p.plus(solution[k].times(row[k]));
+                    }
+                    T q = one;
+                    for (int k = 1; k <= m; k++) {
+                        row[n + k] = basis[k].times(shifted).negated();
+                        q = q.plus(solution[n + k].times(basis[k]));
+                    }
+                    row[size - 1] = even ? q : q.negated();
+                    residual[i] = q.times(shifted).minus(p);
+                }
+                T[] delta = LinearSolver.solve(jacobian, residual, this.elementTypeProvider);
+                for (int k = 0; k < size; k++) {
+                    solution[k] = solution[k].plus(delta[k]);
+                }
+
+                //初回は線形方程式の解そのものであり, 分母の次数が0の場合はそれで確定する
+                if (m == 0 || (c > 0 && Math.abs(delta[size - 1].asDouble()) <= LEVEL_TOLERANCE
+                        * Math.abs(solution[size - 1].asDouble()))) {
+                    break;
+                }
+            }
+        } catch (ArithmeticException ae) {
+            throw new ApproximationFailedException("rational function cannot be created");
+        }
+
+        T[] numerator = Arrays.copyOf(solution, n + 1);
+        T[] denominator = this.elementTypeProvider.createArray(m + 1);
+        denominator[0] = one;
+        System.arraycopy(solution, n + 1, denominator, 1, m);
+        return RationalFunction.of(numerator, denominator, this.target.interval(), this.elementTypeProvider);
+    }
+
+    /**
+     * 選んだ候補点を, 両隣の候補点の間で黄金分割探索により重みづけ誤差の極値点に補正し,
+     * 次の参照点とする. <br>
+     * 補正後の参照点が狭義単調増加にならない場合は, 選んだ候補点をそのまま用いる.
+     * 
+     * @param errorCalc 近似誤差の計算
+     * @param candidate 候補点
+     * @param error 候補点における近似誤差
+     * @param selected 選んだ候補点のインデックス
+     * @param reference 次の参照点の書き込み先
+     * @param referenceError 次の参照点における近似誤差の書き込み先
+     * @throws ApproximationFailedException 近似誤差が計算できない場合
+     */
+    private void refine(
+            ApproximationErrorCalc<T> errorCalc, T[] candidate, double[] error, int[] selected,
+            T[] reference, double[] referenceError) throws ApproximationFailedException {
+        final double ratio = 0.5 * (Math.sqrt(5d) - 1d);
+
+        for (int k = 0; k < selected.length; k++) {
+            final int j = selected[k];
+            final double sign = error[j] > 0d ? 1d : -1d;
+            T bestX = candidate[j];
+            double bestE = error[j];
+
+            T lower = candidate[Math.max(j - 1, 0)];
+            T upper = candidate[Math.min(j + 1, candidate.length - 1)];
+            T x1 = upper.minus(upper.minus(lower).times(ratio));
+            T x2 = lower.plus(upper.minus(lower).times(ratio));
+            double e1 = errorCalc.value(x1).asDouble();
+            double e2 = errorCalc.value(x2).asDouble();
+            for (int c = 0; c < GOLDEN_SECTION_ITERATION; c++) {
+                if (sign * e1 < sign * e2) {
+                    lower = x1;
+                    x1 = x2;
+                    e1 = e2;
+                    x2 = lower.plus(upper.minus(lower).times(ratio));
+                    e2 = errorCalc.value(x2).asDouble();
+                } else {
+                    upper = x2;
+                    x2 = x1;
+                    e2 = e1;
+                    x1 = upper.minus(upper.minus(lower).times(ratio));
+                    e1 = errorCalc.value(x1).asDouble();
+                }
+            }
+            T x = sign * e1 >= sign * e2 ? x1 : x2;
+            double e = sign * e1 >= sign * e2 ? e1 : e2;
+            if (sign * e > sign * bestE) {
+                bestX = x;
+                bestE = e;
+            }
+            reference[k] = bestX;
+            referenceError[k] = bestE;
+        }
+
+        for (int k = 0; k < selected.length - 1; k++) {
+            if (!(reference[k].compareTo(reference[k + 1]) < 0)) {
+                for (int i = 0; i < selected.length; i++) {
+                    reference[i] = candidate[selected[i]];
+                    referenceError[i] = error[selected[i]];
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 候補点における分母が全て正であることを確かめる.
+     * 
+     * @throws ApproximationFailedException 分母が正でない点がある場合
+     */
+    private void requirePositiveDenominator(
+            RationalFunction<T> rational, T[] points) throws ApproximationFailedException {
+        final T zero = this.elementTypeProvider.zero();
+        ChebyshevPolynomial<T> denominator = rational.denominator();
+        for (T x : points) {
+            if (!(denominator.value(x).compareTo(zero) > 0)) {
+                throw new ApproximationFailedException("denominator vanishes in interval");
+            }
+        }
+    }
+
+    /**
+     * 点 <i>x</i><sub><i>i</i></sub> における
+     * <i>T</i><sub>0</sub>, ... , <i>T</i><sub><i>d</i></sub> の値を返す.
+     */
+    private T[][] chebyshevValues(T[] xs, int degree) {
+        final FiniteClosedInterval<T> interval = this.target.interval();
+        final T halfGap = interval.gap().times(0.5);
+        final T mid = interval.lower().plus(halfGap);
+
+        T[][] out = this.createMatrix(xs.length, degree + 1);
+        for (int i = 0; i < xs.length; i++) {
+            final T t = xs[i].minus(mid).dividedBy(halfGap);
+            final T tt = t.plus(t);
+            T[] row = out[i];
+            row[0] = this.elementTypeProvider.one();
+            if (degree >= 1) {
+                row[1] = t;
+            }
+            for (int k = 2; k <= degree; k++) {
+                row[k] = tt.times(row[k - 1]).minus(row[k - 2]);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 区間の両端を含む Chebyshev 点 (極値点) を, 昇順に並べて返す.
+     */
+    private T[] chebyshevPoints(int size) {
+        final FiniteClosedInterval<T> interval = this.target.interval();
+        final T halfGap = interval.gap().times(0.5);
+        final T mid = interval.lower().plus(halfGap);
+
+        T[] out = this.elementTypeProvider.createArray(size);
+        for (int i = 1; i < size - 1; i++) {
+            out[i] = mid.minus(halfGap.times(Math.cos(Math.PI * i / (size - 1))));
+        }
+        out[0] = interval.lower();
+        out[size - 1] = interval.upper();
+        return out;
+    }
+
+    /**
+     * 昇順に並んだ2つの配列を, 重複を除いて昇順に併合する.
+     */
+    private T[] merge(T[] a, T[] b) {
+        T[] out = this.elementTypeProvider.createArray(a.length + b.length);
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            T next = j >= b.length || (i < a.length && a[i].compareTo(b[j]) <= 0)
+                    ? a[i++]
+                    : b[j++];
+            if (k == 0 || out[k - 1].compareTo(next) != 0) {
+                out[k++] = next;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    /**
+     * 正方行列の入れ物を生成する.
+     */
+    private T[][] createMatrix(int size) {
+        return this.createMatrix(size, size);
+    }
+
+    /**
+     * 行列の入れ物を生成する. <br>
+     * 要素の配列は {@link PseudoRealNumber.TypeProvider#createArray(int)} により生成し,
+     * 外側の配列はその実行時型から生成する.
+     */
+    @SuppressWarnings("unchecked")
+    private T[][] createMatrix(int rows, int columns) {
+        T[] first = this.elementTypeProvider.createArray(columns);
+        T[][] out = (T[][]) Array.newInstance(first.getClass(), rows);
+        for (int i = 0; i < rows; i++) {
+            out[i] = i == 0 ? first : this.elementTypeProvider.createArray(columns);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.rational;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+import matsu.num.approximation.polynomial.ChebyshevPolynomial;
+
+/**
+ * 分子と分母が Chebyshev 基底により表現された, 独自の数体による有理関数.
+ * 
+ * <p>
+ * 表現は {@link DoubleRationalFunction} と同一である. <br>
+ * 分子と分母の値は, Clenshaw の漸化式を1つのループにまとめて同時に計算する.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスは,
+ * {@link #of(PseudoRealNumber[], PseudoRealNumber[], FiniteClosedInterval, PseudoRealNumber.TypeProvider)}
+ * により取得する. <br>
+ * イミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @param <T> 体の元を表現する型パラメータ
+ */
+public final class RationalFunction<T extends PseudoRealNumber<T>> {
+
+    private final FiniteClosedInterval<T> interval;
+    private final int numeratorDegree;
+    private final int denominatorDegree;
+
+    /**
+     * 分子と分母の Chebyshev 基底の係数, 長い方にそろえて0で埋めてある.
+     */
+    private final T[] numeratorCoeff;
+    private final T[] denominatorCoeff;
+
+    /**
+     * 変数変換の中心 <i>m</i> と半幅 <i>h</i>.
+     */
+    private final T shift;
+    private final T halfGap;
+
+    private final PseudoRealNumber.TypeProvider<T> elementTypeProvider;
+
+    /**
+     * 内部でバリデーションされていない.
+     */
+    private RationalFunction(
+            T[] numeratorCoeff, T[] denominatorCoeff, FiniteClosedInterval<T> interval,
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        this.interval = interval;
+        this.elementTypeProvider = elementTypeProvider;
+        this.numeratorDegree = numeratorCoeff.length - 1;
+        this.denominatorDegree = denominatorCoeff.length - 1;
+
+        final int length = Math.max(numeratorCoeff.length, denominatorCoeff.length);
+        this.numeratorCoeff = this.padded(numeratorCoeff, length);
+        this.denominatorCoeff = this.padded(denominatorCoeff, length);
+
+        this.halfGap = interval.upper().minus(interval.lower()).times(0.5);
+        this.shift = interval.lower().plus(this.halfGap);
+    }
+
+    private T[] padded(T[] coeff, int length) {
+        T[] out = this.elementTypeProvider.createArray(length);
+        Arrays.fill(out, this.elementTypeProvider.zero());
+        System.arraycopy(coeff, 0, out, 0, coeff.length);
+        return out;
+    }
+
+    /**
+     * 分子の次数を返す.
+     * 
+     * @return 分子の次数
+     */
+    public int numeratorDegree() {
+        return this.numeratorDegree;
+    }
+
+    /**
+     * 分母の次数を返す.
+     * 
+     * @return 分母の次数
+     */
+    public int denominatorDegree() {
+        return this.denominatorDegree;
+    }
+
+    /**
+     * 変数変換の基準となる区間を返す.
+     * 
+     * @return 区間
+     */
+    public FiniteClosedInterval<T> interval() {
+        return this.interval;
+    }
+
+    /**
+     * 分子の多項式を返す.
+     * 
+     * @return 分子
+     */
+    public ChebyshevPolynomial<T> numerator() {
+        return ChebyshevPolynomial.of(
+                Arrays.copyOf(this.numeratorCoeff, this.numeratorDegree + 1),
+                this.interval, this.elementTypeProvider);
+    }
+
+    /**
+     * 分母の多項式を返す.
+     * 
+     * @return 分母
+     */
+    public ChebyshevPolynomial<T> denominator() {
+        return ChebyshevPolynomial.of(
+                Arrays.copyOf(this.denominatorCoeff, this.denominatorDegree + 1),
+                this.interval, this.elementTypeProvider);
+    }
+
+    /**
+     * 有理関数の値を返す.
+     * 
+     * @param x 引数
+     * @return 値
+     * @throws ArithmeticException 値が計算できない場合 (分母が0である場合など)
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public T value(T x) {
+        final T[] a = this.numeratorCoeff;
+        final T[] b = this.denominatorCoeff;
+        final T t = x.minus(this.shift).dividedBy(this.halfGap);
+        final T tt = t.plus(t);
+
+        //ChebyshevPolynomial と同様に, b_{k+2} を保持していたアキュムレータに b_k を上書きする
+        PseudoRealNumber.Accumulator<T> p1 = this.elementTypeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> p2 = this.elementTypeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> q1 = this.elementTypeProvider.createAccumulator();
+        PseudoRealNumber.Accumulator<T> q2 = this.elementTypeProvider.createAccumulator();
+        for (int k = a.length - 1; k >= 1; k--) {
+            p2.negate().add(a[k]).addProduct(p1, tt);
+            q2.negate().add(b[k]).addProduct(q1, tt);
+            PseudoRealNumber.Accumulator<T> p = p2;
+            p2 = p1;
+            p1 = p;
+            PseudoRealNumber.Accumulator<T> q = q2;
+            q2 = q1;
+            q1 = q;
+        }
+        p2.negate().add(a[0]).addProduct(p1, t);
+        q2.negate().add(b[0]).addProduct(q1, t);
+        return p2.divide(q2).get();
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     */
+    @Override
+    public String toString() {
+        return "RationalFunction(%s, %s, %s)".formatted(
+                this.interval,
+                Arrays.toString(Arrays.copyOf(this.numeratorCoeff, this.numeratorDegree + 1)),
+                Arrays.toString(Arrays.copyOf(this.denominatorCoeff, this.denominatorDegree + 1)));
+    }
+
+    /**
+     * 分子と分母の Chebyshev 基底の係数と区間を与えて, 有理関数を返す.
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param numeratorCoefficient 分子の Chebyshev 基底の係数
+     *            {<i>a</i><sub>0</sub>, ... , <i>a</i><sub><i>n</i></sub>}
+     * @param denominatorCoefficient 分母の Chebyshev 基底の係数
+     *            {<i>b</i><sub>0</sub>, ... , <i>b</i><sub><i>m</i></sub>}
+     * @param interval 変数変換の基準となる区間
+     * @param elementTypeProvider 体の元に関するプロバイダ
+     * @return 有理関数
+     * @throws IllegalArgumentException 係数が空の場合
+     * @throws NullPointerException 引数にnullが含まれる場合, 係数にnullが含まれる場合
+     */
+    public static <T extends PseudoRealNumber<T>> RationalFunction<T> of(
+            T[] numeratorCoefficient, T[] denominatorCoefficient, FiniteClosedInterval<T> interval,
+            PseudoRealNumber.TypeProvider<T> elementTypeProvider) {
+        Objects.requireNonNull(interval);
+        Objects.requireNonNull(elementTypeProvider);
+        T[] numerator = numeratorCoefficient.clone();
+        T[] denominator = denominatorCoefficient.clone();
+        if (numerator.length == 0 || denominator.length == 0) {
+            throw new IllegalArgumentException("invalid coefficients");
+        }
+        for (T c : numerator) {
+            Objects.requireNonNull(c);
+        }
+        for (T c : denominator) {
+            Objects.requireNonNull(c);
+        }
+        return new RationalFunction<>(numerator, denominator, interval, elementTypeProvider);
+    }
+}
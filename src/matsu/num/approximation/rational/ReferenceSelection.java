@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2026.10.16
+ */
+package matsu.num.approximation.rational;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 有理関数の Remez 法における, 参照点の交換 (多点交換) を扱うユーティリティクラス.
+ * 
+ * <p>
+ * 昇順に並んだ候補点における近似誤差から, 符号が交互に変わる極値点を指定した数だけ選ぶ. <br>
+ * 符号が同じ連続した候補点からは絶対値が最大のものを1つ選び,
+ * 選んだ点が多すぎる場合は, 交互の符号を保ったまま絶対値が小さいものから取り除く.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ReferenceSelection {
+
+    private ReferenceSelection() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 近似誤差から, 符号が交互に変わる極値点を選ぶ.
+     * 
+     * @param error 昇順に並んだ候補点における近似誤差
+     * @param size 選ぶ点の数, 2以上
+     * @return 選んだ候補点のインデックス (昇順), 符号の変化が足りない場合はnull
+     */
+    static int[] select(double[] error, int size) {
+        assert size >= 2;
+
+        //符号が同じ連続した候補点から, 絶対値が最大のものを選ぶ (0は符号を持たないので飛ばす)
+        List<Integer> extrema = new ArrayList<>();
+        for (int i = 0; i < error.length; i++) {
+            if (error[i] == 0d) {
+                continue;
+            }
+            if (extrema.isEmpty()) {
+                extrema.add(i);
+                continue;
+            }
+            int lastIndex = extrema.size() - 1;
+            int last = extrema.get(lastIndex);
+            if ((error[i] > 0d) != (error[last] > 0d)) {
+                extrema.add(i);
+            } else if (Math.abs(error[i]) > Math.abs(error[last])) {
+                extrema.set(lastIndex, i);
+            }
+        }
+        if (extrema.size() < size) {
+            return null;
+        }
+
+        while (extrema.size() > size) {
+            if (extrema.size() == size + 1) {
+                //端の一方を取り除いても, 符号は交互のまま
+                if (Math.abs(error[extrema.get(0)]) < Math.abs(error[extrema.get(size)])) {
+                    extrema.remove(0);
+                } else {
+                    extrema.remove(size);
+                }
+                continue;
+            }
+
+            int smallest = 0;
+            for (int k = 1; k < extrema.size(); k++) {
+                if (Math.abs(error[extrema.get(k)]) < Math.abs(error[extrema.get(smallest)])) {
+                    smallest = k;
+                }
+            }
+            extrema.remove(smallest);
+            if (0 < smallest && smallest < extrema.size()) {
+                //両隣が同符号で隣り合うので, 絶対値が小さい方を取り除く
+                int lower = extrema.get(smallest - 1);
+                int upper = extrema.get(smallest);
+                extrema.remove(Math.abs(error[lower]) < Math.abs(error[upper]) ? smallest - 1 : smallest);
+            }
+        }
+
+        int[] out = new int[size];
+        for (int k = 0; k < size; k++) {
+            out[k] = extrema.get(k);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/**
+ * 有理関数による近似を扱うパッケージ.
+ * 
+ * <p>
+ * 関数近似に関する,
+ * 有理関数 (分子と分母の次数が定められた多項式の商) を近似関数空間とした関数近似を提供する. <br>
+ * {@link matsu.num.approximation.DoubleApproxTarget},
+ * {@link matsu.num.approximation.ApproxTarget}
+ * を与え, 重みづけ誤差のミニマックス基準にしたがって近似を試みる.
+ * </p>
+ * 
+ * <p>
+ * 有理関数は,
+ * {@code double} 型数体の場合は
+ * {@link matsu.num.approximation.rational.DoubleRationalFunction},
+ * 独自の数体 {@link matsu.num.approximation.PseudoRealNumber}
+ * の場合は
+ * {@link matsu.num.approximation.rational.RationalFunction}
+ * により表現される. <br>
+ * 近似は,
+ * {@link matsu.num.approximation.rational.MinimaxDoubleRationalApproxExecutor},
+ * {@link matsu.num.approximation.rational.MinimaxRationalApproxExecutor}
+ * により実行する. <br>
+ * 区間の近くに極を持つ関数などは, 多項式 ({@link matsu.num.approximation.polynomial})
+ * よりも低い次数で高い精度の近似が得られることがある.
+ * </p>
+ */
+package matsu.num.approximation.rational;
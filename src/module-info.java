@@ -19,6 +19,9 @@
  * <li>{@link matsu.num.approximation.polynomial}:
  * 関数の多項式近似に係るインターフェース, 機能を提供するパッケージ.
  * </li>
+ * <li>{@link matsu.num.approximation.rational}:
+ * 関数の有理関数近似に係る機能を提供するパッケージ.
+ * </li>
  * </ul>
  * 
  * <p>
@@ -27,10 +30,11 @@
  * </p>
  * 
  * @author Matsuura Y.
- * @version 24.5.0
+ * @version 24.6.0
  */
 module matsu.num.Approximation {
 
     exports matsu.num.approximation;
     exports matsu.num.approximation.polynomial;
+    exports matsu.num.approximation.rational;
 }
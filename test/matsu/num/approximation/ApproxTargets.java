@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.UnaryOperator;
+
+import org.junit.Ignore;
+
+/**
+ * テストにおけるターゲット関数の生成を助けるユーティリティ.
+ */
+@Ignore
+public final class ApproxTargets {
+
+    private ApproxTargets() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 区間, 値, スケールを与えて, ターゲット関数を返す.
+     * 
+     * @param lower 区間の下端
+     * @param upper 区間の上端
+     * @param value 値
+     * @param scale スケール
+     * @return ターゲット関数
+     */
+    public static DoubleApproxTarget target(
+            double lower, double upper, DoubleUnaryOperator value, DoubleUnaryOperator scale) {
+        DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(lower, upper);
+        return new DoubleApproxTarget() {
+
+            @Override
+            public DoubleFiniteClosedInterval interval() {
+                return interval;
+            }
+
+            @Override
+            protected double calcValue(double x) {
+                return value.applyAsDouble(x);
+            }
+
+            @Override
+            protected double calcScale(double x) {
+                return scale.applyAsDouble(x);
+            }
+        };
+    }
+
+    /**
+     * 体の元に関するプロバイダ, 区間, 値, スケールを与えて, ターゲット関数を返す.
+     * 
+     * @param <T> 体の元を表現する型パラメータ
+     * @param typeProvider 体の元に関するプロバイダ
+     * @param lower 区間の下端
+     * @param upper 区間の上端
+     * @param value 値
+     * @param scale スケール
+     * @return ターゲット関数
+     */
+    public static <T extends PseudoRealNumber<T>> ApproxTarget<T> target(
+            PseudoRealNumber.TypeProvider<T> typeProvider,
+            double lower, double upper, UnaryOperator<T> value, UnaryOperator<T> scale) {
+        FiniteClosedInterval<T> interval = FiniteClosedInterval.from(
+                typeProvider.fromDoubleValue(lower), typeProvider.fromDoubleValue(upper));
+        return new ApproxTarget<>() {
+
+            @Override
+            public PseudoRealNumber.TypeProvider<T> elementTypeProvider() {
+                return typeProvider;
+            }
+
+            @Override
+            public FiniteClosedInterval<T> interval() {
+                return interval;
+            }
+
+            @Override
+            protected T calcValue(T x) {
+                return value.apply(x);
+            }
+
+            @Override
+            protected T calcScale(T x) {
+                return scale.apply(x);
+            }
+        };
+    }
+}
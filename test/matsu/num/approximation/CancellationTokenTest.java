@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link CancellationToken} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CancellationTokenTest {
+
+    public static final Class<?> TEST_CLASS = CancellationToken.class;
+
+    public static class 中断要求のテスト {
+
+        @Test
+        public void test_生成直後は中断が要求されていない() {
+            assertThat(CancellationToken.create().isCancelled(), is(false));
+        }
+
+        @Test
+        public void test_cancelにより中断が要求される() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            assertThat(token.isCancelled(), is(true));
+        }
+
+        @Test
+        public void test_2回のcancelでも中断が要求されたまま() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            token.cancel();
+            assertThat(token.isCancelled(), is(true));
+        }
+
+        @Test
+        public void test_トークンは互いに独立である() {
+            CancellationToken token1 = CancellationToken.create();
+            CancellationToken token2 = CancellationToken.create();
+            token1.cancel();
+            assertThat(token2.isCancelled(), is(false));
+        }
+    }
+}
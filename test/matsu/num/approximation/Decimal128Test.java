@@ -59,6 +59,11 @@ final class Decimal128Test {
                     ELEMENT_PROVIDER.createArray(0).getClass().getComponentType(),
                     is(Decimal128.class));
         }
+
+        @Test
+        public void test_double値と同等の型でない() {
+            assertThat(ELEMENT_PROVIDER.isDoubleBacked(), is(false));
+        }
     }
 
     public static class 等価性のテスト {
@@ -210,6 +215,112 @@ final class Decimal128Test {
         }
     }
 
+    public static class アキュムレータのテスト {
+
+        private final Decimal128 a = ELEMENT_PROVIDER.fromDoubleValue(1.5d).dividedBy(7d);
+        private final Decimal128 b = ELEMENT_PROVIDER.fromDoubleValue(-2.25d).dividedBy(3d);
+        private final Decimal128 c = ELEMENT_PROVIDER.fromDoubleValue(0.125d);
+
+        @Test
+        public void test_初期値は0であり呼び出しごとに新しいインスタンス() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+
+            assertThat(accumulator.get(), is(ELEMENT_PROVIDER.zero()));
+            assertThat(ELEMENT_PROVIDER.createAccumulator(), is(not(sameInstance(accumulator))));
+        }
+
+        @Test
+        public void test_四則演算は元の演算に一致する() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+
+            assertThat(accumulator.set(a).add(b).get(), is(a.plus(b)));
+            assertThat(accumulator.set(a).subtract(b).get(), is(a.minus(b)));
+            assertThat(accumulator.set(a).multiply(b).get(), is(a.times(b)));
+            assertThat(accumulator.set(a).divide(b).get(), is(a.dividedBy(b)));
+            assertThat(accumulator.set(a).negate().get(), is(a.negated()));
+        }
+
+        @Test
+        public void test_アキュムレータを引数とする演算は元の演算に一致する() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+            var other = ELEMENT_PROVIDER.createAccumulator().set(b);
+
+            assertThat(accumulator.set(a).add(other).get(), is(a.plus(b)));
+            assertThat(accumulator.set(a).subtract(other).get(), is(a.minus(b)));
+            assertThat(accumulator.set(a).multiply(other).get(), is(a.times(b)));
+            assertThat(accumulator.set(a).divide(other).get(), is(a.dividedBy(b)));
+        }
+
+        @Test
+        public void test_積和演算() {
+            assertThat(
+                    ELEMENT_PROVIDER.createAccumulator().set(c).addProduct(a, b).get(),
+                    is(a.times(b).plus(c)));
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_0割りで例外AriEx() {
+            ELEMENT_PROVIDER.createAccumulator().set(a).divide(ELEMENT_PROVIDER.zero());
+        }
+    }
+
+    public static class パックドベクトルのテスト {
+
+        private final Decimal128 a = ELEMENT_PROVIDER.fromDoubleValue(1.5d).dividedBy(7d);
+        private final Decimal128 b = ELEMENT_PROVIDER.fromDoubleValue(-2.25d).dividedBy(3d);
+
+        @Test
+        public void test_初期値は0であり長さは指定値() {
+            var vector = ELEMENT_PROVIDER.createPackedVector(3);
+
+            assertThat(vector.length(), is(3));
+            for (int i = 0; i < vector.length(); i++) {
+                assertThat(vector.get(i), is(ELEMENT_PROVIDER.zero()));
+            }
+        }
+
+        @Test
+        public void test_設定した値が取得できる() {
+            var vector = ELEMENT_PROVIDER.createPackedVector(2);
+            vector.set(0, a);
+            vector.set(1, ELEMENT_PROVIDER.createAccumulator().set(b));
+
+            assertThat(vector.get(0), is(a));
+            assertThat(vector.get(1), is(b));
+        }
+
+        @Test
+        public void test_配列からの生成() {
+            Decimal128[] values = ELEMENT_PROVIDER.createArray(2);
+            values[0] = a;
+            values[1] = b;
+            var vector = ELEMENT_PROVIDER.createPackedVector(values);
+
+            assertThat(vector.length(), is(2));
+            assertThat(vector.get(0), is(a));
+            assertThat(vector.get(1), is(b));
+        }
+
+        @Test
+        public void test_ベクトルの要素を引数とする演算は元の演算に一致する() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+            var vector = ELEMENT_PROVIDER.createPackedVector(2);
+            vector.set(0, a);
+            vector.set(1, b);
+
+            assertThat(accumulator.set(vector, 0).get(), is(a));
+            assertThat(accumulator.set(a).add(vector, 1).get(), is(a.plus(b)));
+            assertThat(accumulator.set(a).subtract(vector, 1).get(), is(a.minus(b)));
+            assertThat(accumulator.set(a).multiply(vector, 1).get(), is(a.times(b)));
+            assertThat(accumulator.set(a).divide(vector, 1).get(), is(a.dividedBy(b)));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外の添え字で例外IOOBEx() {
+            ELEMENT_PROVIDER.createPackedVector(2).get(2);
+        }
+    }
+
     public static class toString表示 {
 
         @Test
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link DoubleApproxTarget} のテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleApproxTargetTest {
+
+    public static final Class<?> TEST_CLASS = DoubleApproxTarget.class;
+
+    /**
+     * 区間 [0, 1] で定義され, 0.5 で不正値を返すターゲット. <br>
+     * 一括評価の呼び出し回数を数える.
+     */
+    private static final class TargetImpl extends DoubleApproxTarget {
+
+        final AtomicInteger batchCount = new AtomicInteger();
+
+        @Override
+        protected double calcValue(double x) {
+            return x == 0.5 ? Double.POSITIVE_INFINITY : 2 * x;
+        }
+
+        @Override
+        protected double calcScale(double x) {
+            return x == 0.5 ? -1d : 1 + x;
+        }
+
+        @Override
+        protected void calcValues(double[] xs, double[] out) {
+            batchCount.incrementAndGet();
+            super.calcValues(xs, out);
+        }
+
+        @Override
+        public DoubleFiniteClosedInterval interval() {
+            return DoubleFiniteClosedInterval.from(0, 1);
+        }
+    }
+
+    public static class 一括評価のテスト {
+
+        private final TargetImpl target = new TargetImpl();
+
+        @Test
+        public void test_一括評価は要素ごとの評価に一致する() {
+            double[][] args = {
+                    { 0, 0.25, 0.5, 0.75, 1 },
+                    { 1, 0.5, 0, 0.25 },
+                    {} };
+            for (double[] xs : args) {
+                double[] values = new double[xs.length];
+                double[] scales = new double[xs.length];
+                target.values(xs, values);
+                target.scales(xs, scales);
+                for (int i = 0; i < xs.length; i++) {
+                    assertThat(values[i], is(target.value(xs[i])));
+                    assertThat(scales[i], is(target.scale(xs[i])));
+                }
+            }
+            assertThat(target.batchCount.get(), is(args.length));
+        }
+
+        @Test
+        public void test_昇順の区間外は例外() {
+            double[] out = { 7, 7, 7 };
+            try {
+                target.values(new double[] { 0, 0.5, 1.5 }, out);
+                throw new AssertionError("unreachable");
+            } catch (IllegalArgumentException expected) {
+                assertThat(out, is(new double[] { 7, 7, 7 }));
+                assertThat(target.batchCount.get(), is(0));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_昇順でない区間外は例外() {
+            target.scales(new double[] { 0.5, -0.5, 1 }, new double[3]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNを含む場合は例外() {
+            target.values(new double[] { 0, Double.NaN, 1 }, new double[3]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さが一致しない場合は例外() {
+            target.values(new double[] { 0, 1 }, new double[3]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_同一の配列の場合は例外() {
+            double[] xs = { 0, 1 };
+            target.values(xs, xs);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.approximation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.Test.None;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.PseudoRealNumber.TypeProvider;
+
+/**
+ * {@link DoubleDouble} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleDoubleTest {
+    public static final Class<?> TEST_CLASS = DoubleDouble.class;
+
+    private static final TypeProvider<DoubleDouble> ELEMENT_PROVIDER = DoubleDouble.elementTypeProvider();
+
+    public static class 生成のテスト {
+
+        @Test(expected = None.class)
+        public void test_有限値は生成可能() {
+            ELEMENT_PROVIDER.fromDoubleValue(0d);
+            ELEMENT_PROVIDER.fromDoubleValue(-1d);
+            ELEMENT_PROVIDER.fromDoubleValue(Double.MAX_VALUE);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_正の無限大はIAEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(Double.POSITIVE_INFINITY);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の無限大はIAEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(Double.NEGATIVE_INFINITY);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNはIAEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(Double.NaN);
+        }
+
+        @Test
+        public void test_配列の型を検証() {
+            assertThat(
+                    ELEMENT_PROVIDER.createArray(0).getClass().getComponentType(),
+                    is(DoubleDouble.class));
+        }
+    }
+
+    public static class 等価性のテスト {
+
+        @Test
+        public void test_同一値から生成された値は等価() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(1d)));
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d).hashCode(),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(1d).hashCode()));
+        }
+
+        @Test
+        public void test_異なる値から生成された値は等価でない() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d),
+                    is(not(ELEMENT_PROVIDER.fromDoubleValue(2d))));
+        }
+
+        @Test
+        public void test_0とm0は等価() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(-0d),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(0d)));
+        }
+
+        @Test
+        public void test_nullとの比較() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d).equals(null),
+                    is(false));
+        }
+    }
+
+    public static class 比較のテスト {
+
+        @Test
+        public void test_1_equals_1() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d),
+                    is(lessThanOrEqualTo(ELEMENT_PROVIDER.fromDoubleValue(1d))));
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d),
+                    is(greaterThanOrEqualTo(ELEMENT_PROVIDER.fromDoubleValue(1d))));
+        }
+
+        @Test
+        public void test_1_less_than_2() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(1d),
+                    is(lessThan(ELEMENT_PROVIDER.fromDoubleValue(2d))));
+        }
+
+        @Test
+        public void test_0_equals_m0() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(-0d),
+                    is(lessThanOrEqualTo(ELEMENT_PROVIDER.fromDoubleValue(0d))));
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(-0d),
+                    is(greaterThanOrEqualTo(ELEMENT_PROVIDER.fromDoubleValue(0d))));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 二項演算のテスト {
+
+        @DataPoints
+        public static double[][] valueSet = {
+                { 1d, 2d },
+                { 3d, 4d },
+                { 2d, 1d },
+                { 5d, 0.5d },
+        };
+
+        @Theory
+        public void test_和のテスト(double[] values) {
+            final double v1 = values[0];
+            final double v2 = values[1];
+
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(v1).plus(v2),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(v1 + v2)));
+        }
+
+        @Theory
+        public void test_差のテスト(double[] values) {
+            final double v1 = values[0];
+            final double v2 = values[1];
+
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(v1).minus(v2),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(v1 - v2)));
+        }
+
+        @Theory
+        public void test_積のテスト(double[] values) {
+            final double v1 = values[0];
+            final double v2 = values[1];
+
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(v1).times(v2),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(v1 * v2)));
+        }
+
+        @Theory
+        public void test_商のテスト(double[] values) {
+            final double v1 = values[0];
+            final double v2 = values[1];
+
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(v1).dividedBy(v2),
+                    is(ELEMENT_PROVIDER.fromDoubleValue(v1 / v2)));
+        }
+    }
+
+    public static class 二項演算のテスト_特殊値 {
+
+        @Test(expected = ArithmeticException.class)
+        public void test_doubleMaxでの和は例外AriEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(Double.MAX_VALUE).plus(Double.MAX_VALUE);
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_doubleMaxでの積は例外AriEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(Double.MAX_VALUE).times(Double.MAX_VALUE);
+        }
+
+        @Test
+        public void test_doubleMaxでの商() {
+            assertThat(
+                    ELEMENT_PROVIDER.fromDoubleValue(Double.MAX_VALUE).dividedBy(Double.MAX_VALUE),
+                    is(ELEMENT_PROVIDER.one()));
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_0割りで例外AriEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(1d).dividedBy(0d);
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_0割る0で例外AriEx() {
+            ELEMENT_PROVIDER.fromDoubleValue(0d).dividedBy(0d);
+        }
+    }
+
+    public static class 精度のテスト {
+
+        private static final double EPSILON = 0x1p-104;
+
+        @Test
+        public void test_doubleの精度を超える値を区別する() {
+            DoubleDouble one = ELEMENT_PROVIDER.one();
+            DoubleDouble tiny = ELEMENT_PROVIDER.fromDoubleValue(0x1p-80);
+            DoubleDouble sum = one.plus(tiny);
+
+            assertThat(sum, is(greaterThan(one)));
+            assertThat(sum.asDouble(), is(1d));
+            assertThat(sum.minus(one), is(tiny));
+        }
+
+        @Test
+        public void test_1割る3の3倍は1に近い() {
+            DoubleDouble one = ELEMENT_PROVIDER.one();
+            DoubleDouble third = one.dividedBy(3d);
+
+            assertThat(third.times(3d).minus(one).abs().asDouble(), is(lessThan(2 * EPSILON)));
+            assertThat(one.minus(third).minus(third).minus(third).abs().asDouble(), is(lessThan(2 * EPSILON)));
+        }
+
+        @Test
+        public void test_2の平方根をNewton法で求める() {
+            DoubleDouble two = ELEMENT_PROVIDER.fromDoubleValue(2d);
+            DoubleDouble x = ELEMENT_PROVIDER.fromDoubleValue(Math.sqrt(2d));
+            for (int i = 0; i < 3; i++) {
+                x = x.plus(two.dividedBy(x)).times(0.5);
+            }
+
+            assertThat(x.times(x).minus(two).abs().asDouble(), is(lessThan(4 * EPSILON)));
+            assertThat(x.minus(Math.sqrt(2d)).abs().asDouble(), is(greaterThan(0d)));
+        }
+
+        @Test
+        public void test_符号反転と絶対値() {
+            DoubleDouble third = ELEMENT_PROVIDER.one().dividedBy(3d);
+
+            assertThat(third.negated().negated(), is(third));
+            assertThat(third.negated().abs(), is(third));
+            assertThat(third.negated().plus(third), is(ELEMENT_PROVIDER.zero()));
+            assertThat(ELEMENT_PROVIDER.zero().negated(), is(ELEMENT_PROVIDER.zero()));
+        }
+    }
+
+    public static class アキュムレータのテスト {
+
+        private final DoubleDouble a = ELEMENT_PROVIDER.fromDoubleValue(1.5d).dividedBy(7d);
+        private final DoubleDouble b = ELEMENT_PROVIDER.fromDoubleValue(-2.25d).dividedBy(3d);
+        private final DoubleDouble c = ELEMENT_PROVIDER.fromDoubleValue(0.125d);
+
+        @Test
+        public void test_初期値は0であり呼び出しごとに新しいインスタンス() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+
+            assertThat(accumulator.get(), is(ELEMENT_PROVIDER.zero()));
+            assertThat(ELEMENT_PROVIDER.createAccumulator(), is(not(sameInstance(accumulator))));
+        }
+
+        @Test
+        public void test_四則演算は元の演算に一致する() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+
+            assertThat(accumulator.set(a).add(b).get(), is(a.plus(b)));
+            assertThat(accumulator.set(a).subtract(b).get(), is(a.minus(b)));
+            assertThat(accumulator.set(a).multiply(b).get(), is(a.times(b)));
+            assertThat(accumulator.set(a).divide(b).get(), is(a.dividedBy(b)));
+            assertThat(accumulator.set(a).negate().get(), is(a.negated()));
+        }
+
+        @Test
+        public void test_アキュムレータを引数とする演算は元の演算に一致する() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+            var other = ELEMENT_PROVIDER.createAccumulator().set(b);
+
+            assertThat(accumulator.set(a).add(other).get(), is(a.plus(b)));
+            assertThat(accumulator.set(a).subtract(other).get(), is(a.minus(b)));
+            assertThat(accumulator.set(a).multiply(other).get(), is(a.times(b)));
+            assertThat(accumulator.set(a).divide(other).get(), is(a.dividedBy(b)));
+        }
+
+        @Test
+        public void test_積和演算() {
+            assertThat(
+                    ELEMENT_PROVIDER.createAccumulator().set(c).addProduct(a, b).get()
+                            .minus(a.times(b).plus(c)).abs().asDouble(),
+                    is(lessThan(1E-30)));
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_0割りで例外AriEx() {
+            ELEMENT_PROVIDER.createAccumulator().set(a).divide(ELEMENT_PROVIDER.zero());
+        }
+    }
+
+    public static class パックドベクトルのテスト {
+
+        private final DoubleDouble a = ELEMENT_PROVIDER.fromDoubleValue(1.5d).dividedBy(7d);
+        private final DoubleDouble b = ELEMENT_PROVIDER.fromDoubleValue(-2.25d).dividedBy(3d);
+
+        @Test
+        public void test_初期値は0であり長さは指定値() {
+            var vector = ELEMENT_PROVIDER.createPackedVector(3);
+
+            assertThat(vector.length(), is(3));
+            for (int i = 0; i < vector.length(); i++) {
+                assertThat(vector.get(i), is(ELEMENT_PROVIDER.zero()));
+            }
+        }
+
+        @Test
+        public void test_設定した値が取得できる() {
+            var vector = ELEMENT_PROVIDER.createPackedVector(2);
+            vector.set(0, a);
+            vector.set(1, ELEMENT_PROVIDER.createAccumulator().set(b));
+
+            assertThat(vector.get(0), is(a));
+            assertThat(vector.get(1), is(b));
+        }
+
+        @Test
+        public void test_配列からの生成() {
+            DoubleDouble[] values = ELEMENT_PROVIDER.createArray(2);
+            values[0] = a;
+            values[1] = b;
+            var vector = ELEMENT_PROVIDER.createPackedVector(values);
+
+            assertThat(vector.length(), is(2));
+            assertThat(vector.get(0), is(a));
+            assertThat(vector.get(1), is(b));
+        }
+
+        @Test
+        public void test_ベクトルの要素を引数とする演算は元の演算に一致する() {
+            var accumulator = ELEMENT_PROVIDER.createAccumulator();
+            var vector = ELEMENT_PROVIDER.createPackedVector(2);
+            vector.set(0, a);
+            vector.set(1, b);
+
+            assertThat(accumulator.set(vector, 0).get(), is(a));
+            assertThat(accumulator.set(a).add(vector, 1).get(), is(a.plus(b)));
+            assertThat(accumulator.set(a).subtract(vector, 1).get(), is(a.minus(b)));
+            assertThat(accumulator.set(a).multiply(vector, 1).get(), is(a.times(b)));
+            assertThat(accumulator.set(a).divide(vector, 1).get(), is(a.dividedBy(b)));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外の添え字で例外IOOBEx() {
+            ELEMENT_PROVIDER.createPackedVector(2).get(2);
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ELEMENT_PROVIDER.fromDoubleValue(1d));
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link MeasuredApproximation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MeasuredApproximationTest {
+
+    public static final Class<?> TEST_CLASS = MeasuredApproximation.class;
+
+    public static class 生成のテスト {
+
+        @Test
+        public void test_近似関数と誤差を保持する() {
+            MeasuredApproximation<String> measured = MeasuredApproximation.of("p", 0.25);
+            assertThat(measured.approximation(), is("p"));
+            assertThat(measured.weightedError(), is(0.25));
+        }
+
+        @Test
+        public void test_誤差0は可() {
+            assertThat(MeasuredApproximation.of("p", 0d).weightedError(), is(0d));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の誤差は不可() {
+            MeasuredApproximation.of("p", -1E-20);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNは不可() {
+            MeasuredApproximation.of("p", Double.NaN);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_無限大は不可() {
+            MeasuredApproximation.of("p", Double.POSITIVE_INFINITY);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullは不可() {
+            MeasuredApproximation.of(null, 0d);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.PseudoRealNumber.TypeProvider;
+
+/**
+ * {@link MemoizingApproxTarget} のテスト.
+ */
+@RunWith(Enclosed.class)
+final class MemoizingApproxTargetTest {
+
+    public static final Class<?> TEST_CLASS = MemoizingApproxTarget.class;
+
+    private static final TypeProvider<DoubleLike> PROVIDER = DoubleLike.elementTypeProvider();
+
+    /**
+     * 評価回数を数える exp のターゲット.
+     */
+    private static final class CountingExpTarget extends ApproxTarget<DoubleLike> {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        protected DoubleLike calcValue(DoubleLike x) {
+            count.incrementAndGet();
+            return PROVIDER.fromDoubleValue(Math.exp(x.asDouble()));
+        }
+
+        @Override
+        protected DoubleLike calcScale(DoubleLike x) {
+            count.incrementAndGet();
+            return PROVIDER.fromDoubleValue(Math.exp(x.asDouble()));
+        }
+
+        @Override
+        public FiniteClosedInterval<DoubleLike> interval() {
+            return FiniteClosedInterval.from(PROVIDER.fromDoubleValue(-1), PROVIDER.fromDoubleValue(1));
+        }
+
+        @Override
+        public TypeProvider<DoubleLike> elementTypeProvider() {
+            return PROVIDER;
+        }
+    }
+
+    public static class キャッシュの動作 {
+
+        private CountingExpTarget original;
+        private MemoizingApproxTarget<DoubleLike> memoizing;
+
+        @Before
+        public void before_容量2のキャッシュを生成() {
+            original = new CountingExpTarget();
+            memoizing = MemoizingApproxTarget.of(original, 2);
+        }
+
+        @Test
+        public void test_値とスケールは元のターゲットに一致する() {
+            for (double x = -1d; x <= 1d; x += 0.25) {
+                DoubleLike arg = PROVIDER.fromDoubleValue(x);
+                assertThat(memoizing.value(arg), is(original.value(arg)));
+                assertThat(memoizing.scale(arg), is(original.scale(arg)));
+            }
+            assertThat(memoizing.elementTypeProvider(), is(sameInstance(PROVIDER)));
+        }
+
+        @Test
+        public void test_等価な引数ではキャッシュがヒットする() {
+            memoizing.value(PROVIDER.fromDoubleValue(0.5));
+            memoizing.value(PROVIDER.fromDoubleValue(0.5));
+            memoizing.scale(PROVIDER.fromDoubleValue(0.5));
+
+            assertThat(original.count.get(), is(2));
+            assertThat(memoizing.hitCount(), is(1L));
+            assertThat(memoizing.missCount(), is(2L));
+        }
+
+        @Test
+        public void test_容量を超えると最も古いエントリが破棄される() {
+            memoizing.value(PROVIDER.fromDoubleValue(0.1));
+            memoizing.value(PROVIDER.fromDoubleValue(0.2));
+            memoizing.value(PROVIDER.fromDoubleValue(0.3));
+            memoizing.value(PROVIDER.fromDoubleValue(0.1));
+
+            assertThat(memoizing.hitCount(), is(0L));
+            assertThat(original.count.get(), is(4));
+        }
+    }
+
+    public static class 生成に関する {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_容量が0の場合は例外() {
+            MemoizingApproxTarget.of(new CountingExpTarget(), 0);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link MemoizingDoubleApproxTarget} のテスト.
+ */
+@RunWith(Enclosed.class)
+final class MemoizingDoubleApproxTargetTest {
+
+    public static final Class<?> TEST_CLASS = MemoizingDoubleApproxTarget.class;
+
+    /**
+     * 評価回数を数える exp のターゲット.
+     */
+    private static final class CountingExpTarget extends DoubleApproxTarget {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        protected double calcValue(double x) {
+            count.incrementAndGet();
+            return Math.exp(x);
+        }
+
+        @Override
+        protected double calcScale(double x) {
+            count.incrementAndGet();
+            return Math.exp(x);
+        }
+
+        @Override
+        public DoubleFiniteClosedInterval interval() {
+            return DoubleFiniteClosedInterval.from(-1, 1);
+        }
+    }
+
+    public static class キャッシュの動作 {
+
+        private CountingExpTarget original;
+        private MemoizingDoubleApproxTarget memoizing;
+
+        @Before
+        public void before_容量2のキャッシュを生成() {
+            original = new CountingExpTarget();
+            memoizing = MemoizingDoubleApproxTarget.of(original, 2);
+        }
+
+        @Test
+        public void test_値とスケールは元のターゲットに一致する() {
+            for (double x = -1d; x <= 1d; x += 0.25) {
+                assertThat(memoizing.value(x), is(original.value(x)));
+                assertThat(memoizing.scale(x), is(original.scale(x)));
+            }
+            assertThat(memoizing.interval(), is(original.interval()));
+        }
+
+        @Test
+        public void test_同一の引数ではキャッシュがヒットする() {
+            memoizing.value(0.5);
+            memoizing.value(0.5);
+            memoizing.scale(0.5);
+            memoizing.scale(0.5);
+
+            assertThat(original.count.get(), is(2));
+            assertThat(memoizing.hitCount(), is(2L));
+            assertThat(memoizing.missCount(), is(2L));
+        }
+
+        @Test
+        public void test_正負のゼロは区別される() {
+            memoizing.value(0d);
+            memoizing.value(-0d);
+
+            assertThat(memoizing.hitCount(), is(0L));
+            assertThat(memoizing.missCount(), is(2L));
+        }
+
+        @Test
+        public void test_容量を超えると最も古いエントリが破棄される() {
+            memoizing.value(0.1);
+            memoizing.value(0.2);
+            memoizing.value(0.1);
+            memoizing.value(0.3);
+
+            // 0.2 が破棄され, 0.1 は残る
+            memoizing.value(0.1);
+            assertThat(memoizing.hitCount(), is(2L));
+            memoizing.value(0.2);
+            assertThat(memoizing.missCount(), is(4L));
+            assertThat(original.count.get(), is(4));
+        }
+
+        @Test
+        public void test_一括評価ではヒットしなかった引数のみが評価される() {
+            memoizing.value(0.5);
+
+            double[] xs = { 0.25, 0.5 };
+            double[] out = new double[xs.length];
+            memoizing.values(xs, out);
+
+            assertThat(out, is(new double[] { Math.exp(0.25), Math.exp(0.5) }));
+            assertThat(original.count.get(), is(2));
+            assertThat(memoizing.hitCount(), is(1L));
+            assertThat(memoizing.missCount(), is(2L));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_区間外は例外() {
+            memoizing.value(2d);
+        }
+    }
+
+    public static class 生成に関する {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_容量が0の場合は例外() {
+            MemoizingDoubleApproxTarget.of(new CountingExpTarget(), 0);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_ターゲットがnullの場合は例外() {
+            MemoizingDoubleApproxTarget.of(null, 1);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * {@link ChebyshevDoublePolynomial} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ChebyshevDoublePolynomialTest {
+
+    public static final Class<?> TEST_CLASS = ChebyshevDoublePolynomial.class;
+
+    public static class 値のテスト {
+
+        private static final double[] COEFF = { 0.5, -1.25, 0.75, 2d, -0.125, 0.0625, 1d };
+        private static final DoubleFiniteClosedInterval INTERVAL = DoubleFiniteClosedInterval.from(2d, 5d);
+
+        /**
+         * <i>T</i><sub><i>k</i></sub>(<i>t</i>) = cos(<i>k</i> arccos <i>t</i>) による直接の和.
+         */
+        private static double expected(double x) {
+            double t = (x - 3.5) / 1.5;
+            double sum = 0d;
+            for (int k = 0; k < COEFF.length; k++) {
+                sum += COEFF[k] * Math.cos(k * Math.acos(t));
+            }
+            return sum;
+        }
+
+        @Test
+        public void test_区間上の値は基底の直接の和に一致する() {
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(COEFF, INTERVAL);
+            for (double x = 2d; x <= 5d; x += 0.0625) {
+                assertThat(polynomial.value(x), is(closeTo(expected(x), 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_一括評価は1点ずつの評価に一致する() {
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(COEFF, INTERVAL);
+            double[] xs = new double[37];
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = 1.5 + 0.1 * i;
+            }
+            double[] out = new double[xs.length];
+            polynomial.value(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(out[i], is(polynomial.value(xs[i])));
+            }
+        }
+
+        @Test
+        public void test_次数と係数() {
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(COEFF, INTERVAL);
+            assertThat(polynomial.degree(), is(COEFF.length - 1));
+            assertThat(polynomial.chebyshevCoefficient(), is(COEFF));
+            assertThat(polynomial.interval(), is(INTERVAL));
+        }
+    }
+
+    public static class 単項式基底の係数のテスト {
+
+        @Test
+        public void test_変数変換を含む係数() {
+            // 1 + 2t + 3(2t^2 - 1), t = x - 2 => 18 - 22x + 6x^2
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(
+                    new double[] { 1d, 2d, 3d }, DoubleFiniteClosedInterval.from(1d, 3d));
+
+            double[] coeff = polynomial.coefficient();
+            assertThat(coeff.length, is(3));
+            assertThat(coeff[0], is(closeTo(18d, 1E-13)));
+            assertThat(coeff[1], is(closeTo(-22d, 1E-13)));
+            assertThat(coeff[2], is(closeTo(6d, 1E-13)));
+        }
+
+        @Test
+        public void test_定数() {
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(
+                    new double[] { 1.5 }, DoubleFiniteClosedInterval.from(1d, 3d));
+            assertThat(polynomial.coefficient(), is(new double[] { 1.5 }));
+            assertThat(polynomial.value(100d), is(1.5));
+        }
+    }
+
+    public static class Newton形式からの変換のテスト {
+
+        @Test
+        public void test_変換した多項式の値は元の多項式に一致する() throws Exception {
+            DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(1000d, 1001d);
+            int degree = 20;
+            double[] node = new double[degree + 1];
+            double[] value = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                node[i] = 1000.5 - 0.5 * Math.cos(Math.PI * i / degree);
+                value[i] = Math.exp(node[i] - 1000d);
+            }
+            DoubleNewtonPolynomial newton = DoubleNewtonPolynomial.from(node, value);
+            ChebyshevDoublePolynomial chebyshev = newton.toChebyshev(interval);
+
+            assertThat(chebyshev.degree(), is(degree));
+            for (double x = 1000d; x <= 1001d; x += 1d / 64) {
+                assertThat(chebyshev.value(x), is(closeTo(Math.exp(x - 1000d), 1E-13)));
+            }
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空の係数は例外() {
+            ChebyshevDoublePolynomial.of(new double[0], DoubleFiniteClosedInterval.from(0d, 1d));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_有限でない係数は例外() {
+            ChebyshevDoublePolynomial.of(
+                    new double[] { 1d, Double.NaN }, DoubleFiniteClosedInterval.from(0d, 1d));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_区間がnullの場合は例外() {
+            ChebyshevDoublePolynomial.of(new double[] { 1d }, null);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static matsu.num.approximation.ApproxTargets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.MeasuredApproximation;
+
+/**
+ * {@link ChebyshevInterpolationDoubleApproxExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ChebyshevInterpolationDoubleApproxExecutorTest {
+
+    public static final Class<?> TEST_CLASS = ChebyshevInterpolationDoubleApproxExecutor.class;
+
+    public static class 近似のテスト {
+
+        @Test
+        public void test_expの近似と報告される誤差() {
+            DoubleApproxTarget target = target(-1d, 2d, Math::exp, Math::exp);
+            MeasuredApproximation<ChebyshevDoublePolynomial> result =
+                    ChebyshevInterpolationDoubleApproxExecutor.of(10).apply(target).get();
+
+            ChebyshevDoublePolynomial polynomial = result.approximation();
+            assertThat(polynomial.degree(), is(10));
+            assertThat(polynomial.interval(), is(target.interval()));
+
+            double actual = 0d;
+            for (double x = -1d; x <= 2d; x += 1E-3) {
+                actual = Math.max(actual, Math.abs(polynomial.value(x) - Math.exp(x)) / Math.exp(x));
+            }
+            // 報告される誤差は有限個の点による推定値
+            assertThat(result.weightedError(), is(closeTo(actual, 0.1 * actual)));
+            assertThat(actual, is(lessThan(1E-8)));
+        }
+
+        @Test
+        public void test_ミニマックス近似と同程度の誤差() {
+            DoubleApproxTarget target = target(0d, 3d, Math::sin, x -> 1d);
+            double interpolationError = ChebyshevInterpolationDoubleApproxExecutor.of(12)
+                    .apply(target).get().weightedError();
+
+            DoublePolynomial minimax = MinimaxDoublePolynomialApproxExecutor.of(12).apply(target).get();
+            double minimaxError = 0d;
+            for (double x = 0d; x <= 3d; x += 1E-3) {
+                minimaxError = Math.max(minimaxError, Math.abs(minimax.value(x) - Math.sin(x)));
+            }
+
+            assertThat(interpolationError, is(lessThan(4 * minimaxError)));
+        }
+
+        @Test
+        public void test_多項式は再現される() {
+            DoubleApproxTarget target = target(10d, 12d, x -> ((x - 11) * x + 2) * x - 5, x -> 1d);
+            MeasuredApproximation<ChebyshevDoublePolynomial> result =
+                    ChebyshevInterpolationDoubleApproxExecutor.of(5).apply(target).get();
+
+            assertThat(result.weightedError(), is(lessThan(1E-12)));
+            double[] coeff = result.approximation().chebyshevCoefficient();
+            assertThat(coeff[4], is(closeTo(0d, 1E-13)));
+            assertThat(coeff[5], is(closeTo(0d, 1E-13)));
+        }
+
+        @Test
+        public void test_次数0は中点の値() {
+            DoubleApproxTarget target = target(1d, 3d, x -> x * x, x -> 1d);
+            MeasuredApproximation<ChebyshevDoublePolynomial> result =
+                    ChebyshevInterpolationDoubleApproxExecutor.of(0).apply(target).get();
+
+            assertThat(result.approximation().value(1.5), is(4d));
+            assertThat(result.weightedError(), is(5d));
+        }
+
+        @Test
+        public void test_ターゲットの値が不正な場合は空() {
+            DoubleApproxTarget target = target(-1d, 1d, x -> x > 0.5 ? Double.NaN : x, x -> 1d);
+            ApproxResult<MeasuredApproximation<ChebyshevDoublePolynomial>> result =
+                    ChebyshevInterpolationDoubleApproxExecutor.of(6).apply(target);
+
+            assertThat(result.isEmpty(), is(true));
+        }
+    }
+
+    public static class 次数のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は不可() {
+            ChebyshevInterpolationDoubleApproxExecutor.of(-1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える次数は不可() {
+            ChebyshevInterpolationDoubleApproxExecutor.of(
+                    ChebyshevInterpolationDoubleApproxExecutor.UPPER_LIMIT_OF_ORDER + 1);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.DoubleLike;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber;
+
+/**
+ * {@link ChebyshevPolynomial} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ChebyshevPolynomialTest {
+
+    public static final Class<?> TEST_CLASS = ChebyshevPolynomial.class;
+
+    private static final PseudoRealNumber.TypeProvider<DoubleLike> PROVIDER =
+            DoubleLike.elementTypeProvider();
+
+    private static DoubleLike[] array(double... values) {
+        DoubleLike[] out = PROVIDER.createArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            out[i] = PROVIDER.fromDoubleValue(values[i]);
+        }
+        return out;
+    }
+
+    private static FiniteClosedInterval<DoubleLike> interval(double lower, double upper) {
+        return FiniteClosedInterval.from(PROVIDER.fromDoubleValue(lower), PROVIDER.fromDoubleValue(upper));
+    }
+
+    public static class 値と係数のテスト {
+
+        @Test
+        public void test_値はdouble型の多項式に一致する() {
+            double[] coeff = { 0.5, -1.25, 0.75, 2d, -0.125 };
+            ChebyshevPolynomial<DoubleLike> polynomial =
+                    ChebyshevPolynomial.of(array(coeff), interval(-3d, 1d), PROVIDER);
+            ChebyshevDoublePolynomial reference =
+                    ChebyshevDoublePolynomial.of(coeff, DoubleFiniteClosedInterval.from(-3d, 1d));
+
+            for (double x = -3d; x <= 1d; x += 0.125) {
+                assertThat(
+                        polynomial.value(PROVIDER.fromDoubleValue(x)).asDouble(),
+                        is(closeTo(reference.value(x), 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_変数変換を含む係数() {
+            // 1 + 2t + 3(2t^2 - 1), t = x - 2 => 18 - 22x + 6x^2
+            ChebyshevPolynomial<DoubleLike> polynomial =
+                    ChebyshevPolynomial.of(array(1d, 2d, 3d), interval(1d, 3d), PROVIDER);
+
+            DoubleLike[] coeff = polynomial.coefficient();
+            assertThat(polynomial.degree(), is(2));
+            assertThat(coeff[0].asDouble(), is(closeTo(18d, 1E-13)));
+            assertThat(coeff[1].asDouble(), is(closeTo(-22d, 1E-13)));
+            assertThat(coeff[2].asDouble(), is(closeTo(6d, 1E-13)));
+        }
+
+        @Test
+        public void test_Newton形式から変換した多項式の値は元の多項式に一致する() {
+            DoubleLike[] node = array(-1d, -0.5, 0d, 0.5, 1d, 1.5);
+            NewtonPolynomial<DoubleLike> newton = NewtonPolynomial.from(
+                    node, x -> x.times(x).times(x).minus(x.times(2d)).plus(1d), PROVIDER);
+            ChebyshevPolynomial<DoubleLike> chebyshev = newton.toChebyshev(interval(-1d, 1.5));
+
+            for (double x = -1d; x <= 1.5; x += 0.125) {
+                DoubleLike xObj = PROVIDER.fromDoubleValue(x);
+                assertThat(chebyshev.value(xObj).asDouble(),
+                        is(closeTo(newton.value(xObj).asDouble(), 1E-14)));
+            }
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空の係数は例外() {
+            ChebyshevPolynomial.of(array(), interval(0d, 1d), PROVIDER);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_係数にnullを含む場合は例外() {
+            ChebyshevPolynomial.of(PROVIDER.createArray(1), interval(0d, 1d), PROVIDER);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link CompiledDoublePolynomial} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CompiledDoublePolynomialTest {
+
+    public static final Class<?> TEST_CLASS = CompiledDoublePolynomial.class;
+
+    /**
+     * 係数による多項式の値を, 十分な精度で計算する.
+     */
+    private static double exactValue(double[] coeff, double x) {
+        BigDecimal bx = new BigDecimal(x);
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int k = coeff.length - 1; k >= 0; k--) {
+            sum = sum.multiply(bx, MathContext.DECIMAL128).add(new BigDecimal(coeff[k]));
+        }
+        return sum.doubleValue();
+    }
+
+    /**
+     * 次数の異なる (Estrin 法の端数処理を網羅する) 多項式を生成する.
+     */
+    private static DoublePolynomial polynomial(int degree) {
+        double[] node = new double[degree + 1];
+        double[] value = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            node[i] = degree == 0 ? 0d : Math.cos(Math.PI * i / degree);
+            value[i] = Math.exp(node[i]) * (1 + 0.1 * i);
+        }
+        return DoubleNewtonPolynomial.from(node, value);
+    }
+
+    @RunWith(Theories.class)
+    public static class 値と誤差上限のテスト {
+
+        @DataPoints
+        public static final int[] DEGREES = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 13, 20 };
+
+        @DataPoints
+        public static final EvaluationScheme[] SCHEMES = EvaluationScheme.values();
+
+        @Theory
+        public void test_値は誤差上限の範囲で厳密値に一致する(int degree, EvaluationScheme scheme) {
+            DoublePolynomial source = polynomial(degree);
+            CompiledDoublePolynomial compiled = CompiledDoublePolynomial.of(source, scheme);
+            double[] coeff = compiled.coefficient();
+
+            assertThat(compiled.degree(), is(degree));
+            assertThat(coeff, is(source.coefficient()));
+            for (double x = -1.5; x <= 1.5; x += 0.0625) {
+                double res = Math.abs(compiled.value(x) - exactValue(coeff, x));
+                assertThat(
+                        "x = %s".formatted(x),
+                        res, is(lessThanOrEqualTo(compiled.errorBound(x))));
+            }
+        }
+
+        @Theory
+        public void test_一括評価は逐次評価に一致する(int degree, EvaluationScheme scheme) {
+            CompiledDoublePolynomial compiled = CompiledDoublePolynomial.of(polynomial(degree), scheme);
+
+            double[] xs = new double[23];
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = -1.1 + 0.1 * i;
+            }
+            double[] out = new double[xs.length];
+            compiled.value(xs, out);
+            DoubleBuffer bufferOut = DoubleBuffer.allocate(xs.length);
+            compiled.value(DoubleBuffer.wrap(xs).asReadOnlyBuffer(), bufferOut);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(out[i], is(compiled.value(xs[i])));
+                assertThat(bufferOut.get(i), is(out[i]));
+            }
+        }
+    }
+
+    public static class 生成に関するテスト {
+
+        @Test
+        public void test_Estrin法の誤差上限はHorner法より大きい() {
+            DoublePolynomial source = polynomial(8);
+            CompiledDoublePolynomial horner = CompiledDoublePolynomial.of(source, EvaluationScheme.HORNER);
+            CompiledDoublePolynomial estrin = CompiledDoublePolynomial.of(source, EvaluationScheme.ESTRIN);
+
+            assertThat(estrin.errorBound(0.5), is(greaterThan(horner.errorBound(0.5))));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_係数が有限でない場合は例外() {
+            CompiledDoublePolynomial.of(
+                    DoubleNewtonPolynomial.from(new double[] { 0d, 1E-300 }, new double[] { 0d, 1E300 }),
+                    EvaluationScheme.HORNER);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_評価方式がnullの場合は例外() {
+            CompiledDoublePolynomial.of(polynomial(2), null);
+        }
+    }
+}
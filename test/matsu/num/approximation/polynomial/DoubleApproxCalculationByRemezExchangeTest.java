@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * {@link DoubleApproxCalculationByRemezExchange} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleApproxCalculationByRemezExchangeTest {
+
+    public static final Class<?> TEST_CLASS = DoubleApproxCalculationByRemezExchange.class;
+
+    private static DoubleApproxTarget target(
+            DoubleUnaryOperator value, DoubleUnaryOperator scale, double lower, double upper) {
+        var interval = DoubleFiniteClosedInterval.from(lower, upper);
+        return new DoubleApproxTarget() {
+
+            @Override
+            public DoubleFiniteClosedInterval interval() {
+                return interval;
+            }
+
+            @Override
+            protected double calcValue(double x) {
+                return value.applyAsDouble(x);
+            }
+
+            @Override
+            protected double calcScale(double x) {
+                return scale.applyAsDouble(x);
+            }
+        };
+    }
+
+    private static double maxError(DoubleApproxTarget target, DoublePolynomial polynomial) {
+        double lower = target.interval().lower();
+        double upper = target.interval().upper();
+        double maxError = 0d;
+        for (int k = 0; k <= 20000; k++) {
+            double x = lower + (upper - lower) * k / 20000;
+            maxError = Math.max(maxError, Math.abs((polynomial.value(x) - target.value(x)) / target.scale(x)));
+        }
+        return maxError;
+    }
+
+    public static class 交換によるノードのテスト {
+
+        @Test
+        public void test_区間の端で誤差が最大となるノードは端に一致する() throws Exception {
+            DoubleApproxTarget[] targets = {
+                    target(Math::exp, x -> 1d, 0d, 1d),
+                    target(Math::exp, Math::exp, -10d, 10d)
+            };
+            int[] orders = { 8, 28 };
+            for (int j = 0; j < targets.length; j++) {
+                DoubleApproxTarget target = targets[j];
+                var calc = new DoubleApproxCalculationByRemezExchange(
+                        target, orders[j], RemezConfiguration.DEFAULT);
+                calc.calculate();
+                double[] node = calc.getNode();
+
+                assertThat(node[0], is(target.interval().lower()));
+                assertThat(node[node.length - 1], is(target.interval().upper()));
+            }
+        }
+
+        @Test
+        public void test_近似誤差はノード移動方式の結果と同等である() throws Exception {
+            DoubleApproxTarget[] targets = {
+                    target(Math::exp, x -> 1d, 0d, 1d),
+                    target(Math::exp, Math::exp, -3d, 3d),
+                    target(Math::exp, Math::exp, -10d, 10d)
+            };
+            int[] orders = { 8, 16, 28 };
+            for (int j = 0; j < targets.length; j++) {
+                DoubleApproxTarget target = targets[j];
+                var exchange = new DoubleApproxCalculationByRemezExchange(
+                        target, orders[j], RemezConfiguration.DEFAULT);
+                exchange.calculate();
+                var nodeShift = new DoubleApproxCalculationByRemezMinimax(target, orders[j]);
+                nodeShift.calculate();
+
+                assertThat("order = " + orders[j],
+                        maxError(target, exchange.getResult()),
+                        is(lessThan(maxError(target, nodeShift.getResult()) * 1.001)));
+            }
+        }
+    }
+}
@@ -152,4 +152,55 @@ final class DoubleApproxCalculationByRemezMinimaxTest {
             DOUBLE_RELATIVE_ASSERTION.compareAndAssert(3d, poly.value(3d));
         }
     }
+
+    public static class 構築のテスト_収束判定あり {
+
+        private DoubleApproxTarget target;
+
+        @Before
+        public void before_ターゲットを作成() {
+            target = new DoubleApproxTarget() {
+
+                @Override
+                protected double calcValue(double x) {
+                    return x;
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return x;
+                }
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return DoubleFiniteClosedInterval.from(1, 3);
+                }
+            };
+        }
+
+        @Test
+        public void test_定数関数で近似() throws Exception {
+            DoubleApproxCalculationByRemezMinimax calc = new DoubleApproxCalculationByRemezMinimax(
+                    target, 0, RemezConfiguration.DEFAULT.withConvergenceTolerance(1E-10));
+            calc.calculate();
+            DoublePolynomial poly = calc.getResult();
+
+            assertThat(poly.degree(), is(0));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1.5d, poly.value(1d));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1.5d, poly.value(3d));
+        }
+
+        @Test
+        public void test_1次関数で近似() throws Exception {
+            DoubleApproxCalculationByRemezMinimax calc = new DoubleApproxCalculationByRemezMinimax(
+                    target, 1, RemezConfiguration.DEFAULT.withConvergenceTolerance(1E-10));
+            calc.calculate();
+            DoublePolynomial poly = calc.getResult();
+
+            assertThat(poly.degree(), is(1));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1d, poly.value(1d));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(2d, poly.value(2d));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(3d, poly.value(3d));
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * {@link DoubleChebyshevTransform} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleChebyshevTransformTest {
+
+    public static final Class<?> TEST_CLASS = DoubleChebyshevTransform.class;
+
+    @RunWith(Theories.class)
+    public static class 離散Fourier変換のテスト {
+
+        /**
+         * 2の累乗の長さと, それ以外の長さ (Bluestein のアルゴリズム).
+         */
+        @DataPoints
+        public static final int[] SIZES = { 1, 2, 3, 5, 8, 12, 17, 64, 100 };
+
+        @Theory
+        public void test_直接計算に一致する(int size) {
+            Random random = new Random(size);
+            double[] re = new double[size];
+            double[] im = new double[size];
+            for (int j = 0; j < size; j++) {
+                re[j] = random.nextDouble() - 0.5;
+                im[j] = random.nextDouble() - 0.5;
+            }
+            double[] expectedRe = new double[size];
+            double[] expectedIm = new double[size];
+            for (int k = 0; k < size; k++) {
+                for (int j = 0; j < size; j++) {
+                    double theta = -2 * Math.PI * (((long) j * k) % size) / size;
+                    expectedRe[k] += re[j] * Math.cos(theta) - im[j] * Math.sin(theta);
+                    expectedIm[k] += re[j] * Math.sin(theta) + im[j] * Math.cos(theta);
+                }
+            }
+
+            DoubleChebyshevTransform.fourier(re, im);
+            for (int k = 0; k < size; k++) {
+                assertThat(re[k], is(closeTo(expectedRe[k], 1E-13)));
+                assertThat(im[k], is(closeTo(expectedIm[k], 1E-13)));
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Chebyshev係数のテスト {
+
+        @DataPoints
+        public static final int[] DEGREES = { 1, 2, 3, 7, 8, 10, 33 };
+
+        @Theory
+        public void test_Chebyshev多項式の値から係数が復元される(int degree) {
+            double[] coeff = new double[degree + 1];
+            for (int k = 0; k <= degree; k++) {
+                coeff[k] = 1d / (k + 1) * (k % 2 == 0 ? 1 : -1);
+            }
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(
+                    coeff, DoubleFiniteClosedInterval.from(-1d, 1d));
+
+            // 昇順に並んだ Chebyshev 点
+            double[] value = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                value[i] = polynomial.value(-Math.cos(Math.PI * i / degree));
+            }
+
+            double[] result = DoubleChebyshevTransform.chebyshevCoefficient(value);
+            for (int k = 0; k <= degree; k++) {
+                assertThat(result[k], is(closeTo(coeff[k], 1E-14)));
+            }
+        }
+
+        @Theory
+        public void test_Chebyshev多項式の零点の値から係数が復元される(int degree) {
+            double[] coeff = new double[degree + 1];
+            for (int k = 0; k <= degree; k++) {
+                coeff[k] = 1d / (k + 1) * (k % 2 == 0 ? 1 : -1);
+            }
+            ChebyshevDoublePolynomial polynomial = ChebyshevDoublePolynomial.of(
+                    coeff, DoubleFiniteClosedInterval.from(-1d, 1d));
+
+            // 昇順に並んだ, (degree + 1) 次の Chebyshev 多項式の零点
+            double[] value = new double[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                value[i] = polynomial.value(-Math.cos(Math.PI * (i + 0.5) / (degree + 1)));
+            }
+
+            double[] result = DoubleChebyshevTransform.chebyshevCoefficientAtRoots(value);
+            for (int k = 0; k <= degree; k++) {
+                assertThat(result[k], is(closeTo(coeff[k], 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_零点1個の場合は定数() {
+            double[] result = DoubleChebyshevTransform.chebyshevCoefficientAtRoots(new double[] { 2.5 });
+            assertThat(result.length, is(1));
+            assertThat(result[0], is(closeTo(2.5, 1E-15)));
+        }
+    }
+}
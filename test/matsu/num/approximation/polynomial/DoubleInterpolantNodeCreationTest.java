@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static matsu.num.approximation.ApproxTargets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * {@link DoubleInterpolantNodeCreation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleInterpolantNodeCreationTest {
+
+    public static final Class<?> TEST_CLASS = DoubleInterpolantNodeCreation.class;
+
+    @RunWith(Theories.class)
+    public static class ノードの配置のテスト {
+
+        private static final DoubleApproxTarget TARGET = target(-4d, 4d, Math::exp, Math::exp);
+
+        @DataPoints
+        public static final int[] SIZES = { 2, 3, 6, 12 };
+
+        @Theory
+        public void test_区間内に昇順に配置される(int size) {
+            double[] node = DoubleInterpolantNodeCreation.execute(size, TARGET);
+
+            assertThat(node.length, is(size));
+            assertThat(node[0], is(greaterThanOrEqualTo(TARGET.interval().lower())));
+            assertThat(node[size - 1], is(lessThanOrEqualTo(TARGET.interval().upper())));
+            for (int i = 0; i < size - 1; i++) {
+                assertThat(node[i], is(lessThan(node[i + 1])));
+            }
+        }
+
+        @Theory
+        public void test_区間の端が含まれる(int size) {
+            // expの補間多項式の誤差は区間の端で極値をとる
+            double[] node = DoubleInterpolantNodeCreation.execute(size, TARGET);
+
+            assertThat(node[0], is(TARGET.interval().lower()));
+            assertThat(node[size - 1], is(TARGET.interval().upper()));
+        }
+    }
+
+    public static class 代替のテスト {
+
+        @Test
+        public void test_補間が厳密な場合はChebyshev点になる() {
+            DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(1d, 3d);
+            DoubleApproxTarget target = target(1d, 3d, x -> 2 * x + 1, x -> 1d);
+
+            assertThat(
+                    DoubleInterpolantNodeCreation.execute(4, target),
+                    is(DoubleNodeCreation.execute(4, interval)));
+        }
+
+        @Test
+        public void test_値が計算できない場合はChebyshev点になる() {
+            DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(1d, 3d);
+            DoubleApproxTarget target = target(1d, 3d, x -> Double.NaN, x -> 1d);
+
+            assertThat(
+                    DoubleInterpolantNodeCreation.execute(4, target),
+                    is(DoubleNodeCreation.execute(4, interval)));
+        }
+    }
+}
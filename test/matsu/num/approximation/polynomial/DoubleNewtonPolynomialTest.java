@@ -9,6 +9,9 @@ package matsu.num.approximation.polynomial;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.*;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.function.DoubleUnaryOperator;
 
 import org.junit.BeforeClass;
@@ -19,6 +22,7 @@ import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
+import matsu.num.approximation.DoubleRelativeAssertion;
 import matsu.num.approximation.component.ApproximationFailedException;
 
 /**
@@ -240,4 +244,119 @@ final class DoubleNewtonPolynomialTest {
             }
         }
     }
+
+    public static class 係数の遅延評価のテスト {
+
+        @Test
+        public void test_係数は呼び出しごとに独立した配列である() {
+            DoubleNewtonPolynomial polynomial =
+                    DoubleNewtonPolynomial.from(new double[] { 2d, 4d }, new double[] { 11d, 17d });
+
+            double[] coeff = polynomial.coefficient();
+            coeff[0] = 0d;
+            assertThat(polynomial.coefficient()[0], is(5d));
+        }
+
+        @Test
+        public void test_検証済みの係数は同一の値を返す() throws ApproximationFailedException {
+            DoubleNewtonPolynomial polynomial =
+                    DoubleNewtonPolynomial.from(new double[] { 2d, 4d }, new double[] { 11d, 17d });
+
+            assertThat(polynomial.validateCoefficient(), is(sameInstance(polynomial)));
+            assertThat(polynomial.coefficient()[0], is(5d));
+            assertThat(polynomial.coefficient()[1], is(3d));
+        }
+
+        @Test(expected = ApproximationFailedException.class)
+        public void test_不正な係数は検証により例外() throws ApproximationFailedException {
+            DoubleNewtonPolynomial polynomial =
+                    DoubleNewtonPolynomial.from(new double[] { 0d, 1E-300 }, new double[] { 0d, 1E300 });
+
+            polynomial.validateCoefficient();
+        }
+    }
+
+    public static class 一括評価のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-14);
+
+        private static DoubleNewtonPolynomial polynomial;
+        private static double[] xs;
+
+        @BeforeClass
+        public static void before_多項式の作成() {
+            //端数処理を確かめるため, ループ展開の幅の倍数でない個数とする
+            double[] node = { -1d, -0.5, 0d, 0.5, 1d };
+            double[] values = new double[node.length];
+            for (int i = 0; i < node.length; i++) {
+                values[i] = Math.exp(node[i]);
+            }
+            polynomial = DoubleNewtonPolynomial.from(node, values);
+
+            xs = new double[11];
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = -1d + 0.2 * i;
+            }
+        }
+
+        @Test
+        public void test_配列による一括評価は逐次評価に一致する() {
+            double[] out = new double[xs.length];
+            polynomial.value(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                DOUBLE_RELATIVE_ASSERTION.compareAndAssert(out[i], polynomial.value(xs[i]));
+            }
+        }
+
+        @Test
+        public void test_配列による一括評価は上書きできる() {
+            double[] expected = new double[xs.length];
+            polynomial.value(xs, expected);
+
+            double[] inPlace = xs.clone();
+            polynomial.value(inPlace, inPlace);
+            assertThat(inPlace, is(expected));
+        }
+
+        @Test
+        public void test_バッファによる一括評価は配列による評価に一致する() {
+            double[] expected = new double[xs.length];
+            polynomial.value(xs, expected);
+
+            //ヒープバッファ (位置をずらしたスライス)
+            DoubleBuffer heapOut = DoubleBuffer.allocate(xs.length + 2);
+            heapOut.position(1);
+            polynomial.value(DoubleBuffer.wrap(xs), heapOut.slice());
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(heapOut.get(i + 1), is(expected[i]));
+            }
+
+            //ダイレクトバッファと読み取り専用バッファ
+            DoubleBuffer in = DoubleBuffer.wrap(xs).asReadOnlyBuffer();
+            DoubleBuffer directOut = ByteBuffer.allocateDirect(Double.BYTES * xs.length)
+                    .asDoubleBuffer();
+            polynomial.value(in, directOut);
+            assertThat(in.hasRemaining(), is(false));
+            assertThat(directOut.hasRemaining(), is(false));
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(directOut.get(i), is(expected[i]));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_配列の長さが一致しない場合は例外() {
+            polynomial.value(xs, new double[xs.length - 1]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_出力用のバッファが小さい場合は例外() {
+            polynomial.value(DoubleBuffer.wrap(xs), DoubleBuffer.allocate(xs.length - 1));
+        }
+
+        @Test(expected = ReadOnlyBufferException.class)
+        public void test_出力用のバッファが読み取り専用の場合は例外() {
+            polynomial.value(DoubleBuffer.wrap(xs), DoubleBuffer.allocate(xs.length).asReadOnlyBuffer());
+        }
+    }
 }
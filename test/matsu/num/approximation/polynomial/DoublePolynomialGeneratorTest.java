@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link DoublePolynomialGenerator} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoublePolynomialGeneratorTest {
+
+    public static final Class<?> TEST_CLASS = DoublePolynomialGenerator.class;
+
+    /**
+     * 与えた次数の多項式を生成する.
+     */
+    private static DoublePolynomial polynomial(int degree) {
+        double[] node = new double[degree + 1];
+        double[] value = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            node[i] = degree == 0 ? 0d : Math.cos(Math.PI * i / degree);
+            value[i] = Math.exp(node[i]) * (1 + 0.1 * i);
+        }
+        return DoubleNewtonPolynomial.from(node, value);
+    }
+
+    /**
+     * 与えた係数を持つ多項式を生成する.
+     */
+    private static DoublePolynomial polynomialOf(double[] coeff) {
+        return new DoublePolynomial() {
+
+            @Override
+            public int degree() {
+                return coeff.length - 1;
+            }
+
+            @Override
+            public double value(double x) {
+                double v = 0d;
+                for (int k = coeff.length - 1; k >= 0; k--) {
+                    v = v * x + coeff[k];
+                }
+                return v;
+            }
+
+            @Override
+            public double[] coefficient() {
+                return coeff.clone();
+            }
+        };
+    }
+
+    @RunWith(Theories.class)
+    public static class 生成された多項式のテスト {
+
+        @DataPoints
+        public static final int[] DEGREES = { 0, 1, 2, 6, 7, 8, 9, 15, 16, 17, 40 };
+
+        @DataPoints
+        public static final EvaluationScheme[] SCHEMES = EvaluationScheme.values();
+
+        @Theory
+        public void test_隠しクラスとして生成される(int degree, EvaluationScheme scheme) {
+            DoublePolynomial generated = DoublePolynomialGenerator.generate(polynomial(degree), scheme);
+
+            assertThat(generated.getClass().isHidden(), is(true));
+            assertThat(generated, is(instanceOf(GeneratedDoublePolynomial.class)));
+        }
+
+        @Theory
+        public void test_値は同じ評価方式の多項式にビット単位で一致する(int degree, EvaluationScheme scheme) {
+            DoublePolynomial source = polynomial(degree);
+            DoublePolynomial generated = DoublePolynomialGenerator.generate(source, scheme);
+            CompiledDoublePolynomial compiled = CompiledDoublePolynomial.of(source, scheme);
+
+            assertThat(generated.degree(), is(degree));
+            assertThat(generated.coefficient(), is(compiled.coefficient()));
+            for (double x = -2d; x <= 2d; x += 0.03125) {
+                assertThat(
+                        Double.doubleToRawLongBits(generated.value(x)),
+                        is(Double.doubleToRawLongBits(compiled.value(x))));
+            }
+
+            double[] xs = { -1d, -0.25, 0d, 0.5, 1.5 };
+            double[] out = new double[xs.length];
+            generated.value(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(out[i], is(generated.value(xs[i])));
+            }
+        }
+    }
+
+    public static class 生成できない場合のテスト {
+
+        @Test
+        public void test_コードが長すぎる場合は係数を直接評価する多項式が返る() {
+            double[] coeff = new double[1500];
+            for (int k = 0; k < coeff.length; k++) {
+                coeff[k] = 1d / (k + 1);
+            }
+            DoublePolynomial generated =
+                    DoublePolynomialGenerator.generate(polynomialOf(coeff), EvaluationScheme.HORNER);
+
+            assertThat(generated, is(instanceOf(CompiledDoublePolynomial.class)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_係数が有限でない場合は例外() {
+            DoublePolynomialGenerator.generate(
+                    polynomialOf(new double[] { 1d, Double.NaN }), EvaluationScheme.HORNER);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_評価方式がnullの場合は例外() {
+            DoublePolynomialGenerator.generate(polynomial(2), null);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.DoubleRelativeAssertion;
+
+/**
+ * {@link DoubleRemezWorkspace} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleRemezWorkspaceTest {
+
+    public static final Class<?> TEST_CLASS = DoubleRemezWorkspace.class;
+
+    private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+            new DoubleRelativeAssertion(1E-12);
+
+    public static class 再利用のテスト {
+
+        private RemezTypeDoublePolynomialFactory remezFactory;
+        private DoubleRemezWorkspace workspace;
+
+        @Before
+        public void before_作業領域を作成() {
+            DoubleApproxTarget targetFunction = new DoubleApproxTarget() {
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return DoubleFiniteClosedInterval.from(0, 1);
+                }
+            };
+            remezFactory = new RemezTypeDoublePolynomialFactory(targetFunction);
+            workspace = remezFactory.createWorkspace(4);
+        }
+
+        @Test
+        public void test_繰り返し構成しても生成器の結果に一致する() throws Exception {
+            double[][] nodes = {
+                    { 0, 0.2, 0.7, 1 },
+                    { 0, 0.5, 0.9, 1 },
+                    { 1, 0.3, 0, 0.6 } };
+
+            for (double[] node : nodes) {
+                double[] copy = node.clone();
+                workspace.build(node);
+                DoublePolynomial expected = remezFactory.create(node);
+
+                assertThat(node, is(copy));
+                for (double x = 0d; x <= 1d; x += 0.125) {
+                    DOUBLE_RELATIVE_ASSERTION.compareAndAssert(expected.value(x), workspace.value(x));
+                }
+                assertThat(workspace.toPolynomial().coefficient(), is(expected.coefficient()));
+            }
+        }
+
+        @Test
+        public void test_評価する多項式は返す多項式と一致する() throws Exception {
+            double[] node = { 0, 0.1, 0.6, 1 };
+            workspace.build(node);
+            DoublePolynomial polynomial = workspace.toPolynomial();
+
+            for (double x = 0d; x <= 1d; x += 0.0625) {
+                assertThat(workspace.value(x), is(polynomial.value(x)));
+            }
+        }
+    }
+}
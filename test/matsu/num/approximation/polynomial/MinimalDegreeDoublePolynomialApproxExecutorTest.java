@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static matsu.num.approximation.ApproxTargets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.MeasuredApproximation;
+
+/**
+ * {@link MinimalDegreeDoublePolynomialApproxExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MinimalDegreeDoublePolynomialApproxExecutorTest {
+
+    public static final Class<?> TEST_CLASS = MinimalDegreeDoublePolynomialApproxExecutor.class;
+
+    public static class 探索のテスト {
+
+        @Test
+        public void test_expの近似と報告される誤差() {
+            DoubleApproxTarget target = target(0d, 1d, Math::exp, Math::exp);
+            MeasuredApproximation<DoublePolynomial> result =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-10).apply(target).get();
+
+            DoublePolynomial polynomial = result.approximation();
+            double actual = 0d;
+            for (double x = 0d; x <= 1d; x += 1E-4) {
+                actual = Math.max(actual, Math.abs(polynomial.value(x) - Math.exp(x)) / Math.exp(x));
+            }
+            // 報告される誤差は有限個の点による推定値
+            assertThat(result.weightedError(), is(lessThanOrEqualTo(1E-10)));
+            assertThat(result.weightedError(), is(closeTo(actual, 0.1 * actual)));
+        }
+
+        @Test
+        public void test_次数は許容値を満たす最小の次数() {
+            DoubleUnaryOperator function = x -> Math.sqrt(1d + 20d * x * x);
+            DoubleApproxTarget target = target(0d, 1d, function, x -> 1d);
+            MinimalDegreeDoublePolynomialApproxExecutor executor =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-6);
+
+            int degree = executor.apply(target).get().approximation().degree();
+            assertThat(degree, is(greaterThan(0)));
+
+            // 1つ低い次数を上限とすると, 許容値を満たす次数は見つからない
+            assertThat(executor.withMaxOrder(degree - 1).apply(target).isPresent(), is(false));
+
+            // 1つ低い次数のミニマックス近似は許容値を満たさない
+            DoublePolynomial lower = MinimaxDoublePolynomialApproxExecutor.of(degree - 1).apply(target).get();
+            double lowerError = 0d;
+            for (double x = 0d; x <= 1d; x += 1E-4) {
+                lowerError = Math.max(lowerError, Math.abs(lower.value(x) - function.applyAsDouble(x)));
+            }
+            assertThat(lowerError, is(greaterThan(1E-6)));
+        }
+
+        @Test
+        public void test_奇関数の探索() {
+            DoubleApproxTarget target = target(-3d, 3d, Math::sin, x -> 1d);
+            for (RemezAlgorithm algorithm : RemezAlgorithm.values()) {
+                MeasuredApproximation<DoublePolynomial> result =
+                        MinimalDegreeDoublePolynomialApproxExecutor.of(1E-6)
+                                .withAlgorithm(algorithm)
+                                .apply(target).get();
+
+                assertThat(result.weightedError(), is(lessThanOrEqualTo(1E-6)));
+                assertThat(result.approximation().degree(), is(11));
+            }
+        }
+
+        @Test
+        public void test_ウォームスタートが破綻する次数があっても最小の次数を返す() {
+            // Runge関数: 次数12からのウォームスタートでは次数23の近似が破綻する
+            DoubleUnaryOperator function = x -> 1d / (1d + 25d * x * x);
+            DoubleApproxTarget target = target(-1d, 1d, function, x -> 1d);
+            MeasuredApproximation<DoublePolynomial> result =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(5E-3).apply(target).get();
+
+            assertThat(result.approximation().degree(), is(24));
+            assertThat(denseError(result.approximation(), function, x -> 1d, -1d, 1d),
+                    is(lessThanOrEqualTo(5E-3)));
+        }
+
+        @Test
+        public void test_近似計算に失敗する次数があっても最小の次数を返す() {
+            DoubleUnaryOperator function = Math::abs;
+            DoubleApproxTarget target = target(-1d, 1d, function, x -> 1d);
+            MeasuredApproximation<DoublePolynomial> result =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(0.02).apply(target).get();
+
+            assertThat(result.approximation().degree(), is(14));
+            assertThat(denseError(result.approximation(), function, x -> 1d, -1d, 1d),
+                    is(lessThanOrEqualTo(0.02)));
+        }
+
+        @Test
+        public void test_丸め誤差の水準の許容値でも密な評価で許容値を満たす() {
+            DoubleApproxTarget target = target(0d, 2d, Math::exp, Math::exp);
+            MeasuredApproximation<DoublePolynomial> result =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(4E-15).apply(target).get();
+
+            assertThat(result.weightedError(), is(lessThanOrEqualTo(4E-15)));
+            assertThat(denseError(result.approximation(), Math::exp, Math::exp, 0d, 2d),
+                    is(lessThanOrEqualTo(4E-15)));
+        }
+
+        @Test
+        public void test_多項式は再現される() {
+            DoubleApproxTarget target = target(10d, 12d, x -> ((x - 11) * x + 2) * x - 5, x -> 1d);
+            MeasuredApproximation<DoublePolynomial> result =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-9).apply(target).get();
+
+            assertThat(result.approximation().degree(), is(3));
+        }
+
+        @Test
+        public void test_達成できない許容値の場合は空() {
+            DoubleApproxTarget target = target(0d, 1d, Math::exp, Math::exp);
+
+            assertThat(
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-30).apply(target).isPresent(),
+                    is(false));
+            assertThat(
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-10).withMaxOrder(4)
+                            .apply(target).isPresent(),
+                    is(false));
+        }
+
+        @Test
+        public void test_ターゲットの値が不正な場合は空() {
+            DoubleApproxTarget target = target(0d, 1d, x -> Double.NaN, x -> 1d);
+
+            assertThat(
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-6).apply(target).isPresent(),
+                    is(false));
+        }
+
+        private static double denseError(
+                DoublePolynomial polynomial, DoubleUnaryOperator function, DoubleUnaryOperator scale,
+                double lower, double upper) {
+            double error = 0d;
+            for (int k = 0; k <= 100000; k++) {
+                double x = lower + (upper - lower) * k / 100000;
+                error = Math.max(error,
+                        Math.abs(polynomial.value(x) - function.applyAsDouble(x)) / scale.applyAsDouble(x));
+            }
+            return error;
+        }
+    }
+
+    public static class ノードの補間のテスト {
+
+        @Test
+        public void test_Chebyshev点はChebyshev点に写される() {
+            DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(-1d, 3d);
+            double[] resampled = MinimalDegreeDoublePolynomialApproxExecutor.resample(
+                    DoubleNodeCreation.execute(5, interval), 9, interval);
+            double[] expected = DoubleNodeCreation.execute(9, interval);
+
+            for (int i = 0; i < expected.length; i++) {
+                assertThat(resampled[i], is(closeTo(expected[i], 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_両端は保たれ昇順に並ぶ() {
+            DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(0d, 1d);
+            double[] node = { 0.1, 0.15, 0.5, 0.55, 0.9 };
+            double[] resampled = MinimalDegreeDoublePolynomialApproxExecutor.resample(node, 12, interval);
+
+            assertThat(resampled[0], is(0.1));
+            assertThat(resampled[11], is(0.9));
+            for (int i = 0; i < resampled.length - 1; i++) {
+                assertThat(resampled[i], is(lessThan(resampled[i + 1])));
+            }
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0の許容値は不可() {
+            MinimalDegreeDoublePolynomialApproxExecutor.of(0d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNの許容値は不可() {
+            MinimalDegreeDoublePolynomialApproxExecutor.of(Double.NaN);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える次数の上限は不可() {
+            MinimalDegreeDoublePolynomialApproxExecutor.of(1E-6).withMaxOrder(
+                    MinimalDegreeDoublePolynomialApproxExecutor.UPPER_LIMIT_OF_ORDER + 1);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのターゲットは不可() {
+            MinimalDegreeDoublePolynomialApproxExecutor.of(1E-6).apply(null);
+        }
+
+        @Test
+        public void test_条件の変更() {
+            MinimalDegreeDoublePolynomialApproxExecutor executor =
+                    MinimalDegreeDoublePolynomialApproxExecutor.of(1E-6)
+                            .withMaxOrder(20)
+                            .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                            .withInitialization(RemezInitialization.INTERPOLANT_EXTREMA)
+                            .withParallelEvaluation(true);
+
+            assertThat(executor.errorTolerance(), is(1E-6));
+            assertThat(executor.maxOrder(), is(20));
+            assertThat(executor.algorithm(), is(RemezAlgorithm.EXCHANGE));
+            assertThat(executor.initialization(), is(RemezInitialization.INTERPOLANT_EXTREMA));
+            assertThat(executor.isParallelEvaluation(), is(true));
+        }
+    }
+}
@@ -10,6 +10,15 @@ package matsu.num.approximation.polynomial;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleUnaryOperator;
 
 import org.junit.Before;
@@ -17,7 +26,10 @@ import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
+import matsu.num.approximation.ApproxResult;
+import matsu.num.approximation.CancellationToken;
 import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.ApproxTargets;
 import matsu.num.approximation.DoubleFiniteClosedInterval;
 
 /**
@@ -26,6 +38,13 @@ import matsu.num.approximation.DoubleFiniteClosedInterval;
 @RunWith(Enclosed.class)
 final class MinimaxDoublePolynomialApproxExecutorTest {
 
+    /**
+     * 区間 [-1, 1] 上の, スケールが1であるターゲット関数を返す.
+     */
+    private static DoubleApproxTarget target(DoubleUnaryOperator op) {
+        return ApproxTargets.target(-1d, 1d, op, x -> 1d);
+    }
+
     public static class sinの近似 {
 
         private DoubleApproxTarget target;
@@ -74,5 +93,798 @@ final class MinimaxDoublePolynomialApproxExecutorTest {
                         res, is(lessThan(1E-12)));
             }
         }
+
+        @Test
+        public void test_並列評価の結果は逐次評価に一致する() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(11);
+            DoublePolynomial sequential = executor.apply(target).get();
+            DoublePolynomial parallel = executor.withParallelEvaluation(true).apply(target).get();
+
+            assertThat(parallel.coefficient(), is(sequential.coefficient()));
+        }
+
+        @Test
+        public void test_収束判定による近似をテストする() {
+            DoublePolynomial polynomial = MinimaxDoublePolynomialApproxExecutor.of(11)
+                    .withConvergenceTolerance(1E-6)
+                    .apply(target)
+                    .get();
+
+            double xMin = target.interval().lower();
+            double xMax = target.interval().upper();
+            double deltaX = (xMax - xMin) * 0.01d;
+
+            for (double x = xMin; x <= xMax; x += deltaX) {
+                double approxValue = polynomial.value(x);
+                double refValue = target.value(x);
+                double res = Math.abs(approxValue - refValue);
+
+                assertThat(
+                        "res (x = %s, approxValue = %s, refValue = %s)".formatted(x, approxValue, refValue),
+                        res, is(lessThan(1E-12)));
+            }
+        }
+    }
+
+    public static class 値の範囲が広い関数の相対誤差による近似 {
+
+        private DoubleApproxTarget target;
+
+        @Before
+        public void before_ターゲットを用意する() {
+            var interval = DoubleFiniteClosedInterval.from(-10d, 10d);
+
+            target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return interval;
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+            };
+        }
+
+        @Test
+        public void test_近似誤差は従来の解法の水準に達する() {
+            //Newton 補間による従来の解法で得られていた近似誤差 (次数28から32)
+            double[] reference = { 1.865E-11, 3.192E-12, 5.545E-13, 1.009E-13, 2.577E-14 };
+            for (int i = 0; i < reference.length; i++) {
+                DoublePolynomial polynomial = MinimaxDoublePolynomialApproxExecutor.of(28 + i)
+                        .apply(target)
+                        .get();
+
+                double maxError = 0d;
+                for (int k = 0; k <= 20000; k++) {
+                    double x = -10d + 20d * k / 20000;
+                    maxError = Math.max(maxError, Math.abs(polynomial.value(x) / Math.exp(x) - 1d));
+                }
+                assertThat("order = " + (28 + i), maxError, is(lessThan(reference[i] * 1.1)));
+            }
+        }
+    }
+
+    public static class 丸め誤差が支配的な次数での近似 {
+
+        private DoubleApproxTarget target;
+
+        @Before
+        public void before_ターゲットを用意する() {
+            var interval = DoubleFiniteClosedInterval.from(-3d, 3d);
+
+            target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return interval;
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+            };
+        }
+
+        @Test
+        public void test_既定の計算条件で近似誤差は丸め誤差の水準に留まる() {
+            //丸め誤差程度の差でノードを移動させていた従来の解法では, 次数21以上で近似が破綻していた
+            for (int order = 20; order <= 32; order++) {
+                ApproxResult<DoublePolynomial> result =
+                        MinimaxDoublePolynomialApproxExecutor.of(order).apply(target);
+                assertThat("order = " + order, result.isPresent(), is(true));
+
+                DoublePolynomial polynomial = result.get();
+                double maxError = 0d;
+                for (int k = 0; k <= 20000; k++) {
+                    double x = -3d + 6d * k / 20000;
+                    maxError = Math.max(maxError, Math.abs(polynomial.value(x) / Math.exp(x) - 1d));
+                }
+                assertThat("order = " + order, maxError, is(lessThan(1E-14)));
+            }
+        }
+    }
+
+    public static class 交換法によるsinの近似 {
+
+        private DoubleApproxTarget target;
+
+        @Before
+        public void before_ターゲットを用意する() {
+            var interval = DoubleFiniteClosedInterval.from(-1d, 1d);
+            DoubleUnaryOperator op = Math::sin;
+
+            target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return interval;
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return op.applyAsDouble(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return 1d;
+                }
+            };
+        }
+
+        @Test
+        public void test_近似をテストする() {
+            DoublePolynomial polynomial = MinimaxDoublePolynomialApproxExecutor.of(11)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .apply(target)
+                    .get();
+
+            double xMin = target.interval().lower();
+            double xMax = target.interval().upper();
+            double deltaX = (xMax - xMin) * 0.01d;
+
+            for (double x = xMin; x <= xMax; x += deltaX) {
+                double approxValue = polynomial.value(x);
+                double refValue = target.value(x);
+                double res = Math.abs(approxValue - refValue);
+
+                assertThat(
+                        "res (x = %s, approxValue = %s, refValue = %s)".formatted(x, approxValue, refValue),
+                        res, is(lessThan(1E-12)));
+            }
+        }
+    }
+
+    public static class 交換法による対称な関数の近似 {
+
+        private static double maxError(DoubleApproxTarget target, DoublePolynomial polynomial) {
+            double maxError = 0d;
+            for (int k = 0; k <= 100000; k++) {
+                double x = -1d + 2d * k / 100000;
+                maxError = Math.max(maxError, Math.abs(polynomial.value(x) - target.value(x)));
+            }
+            return maxError;
+        }
+
+        @Test
+        public void test_偶関数の近似誤差はノード移動方式と一致する() {
+            //対称なノードでは近似誤差の水準が0になり, ノードにおける誤差の符号が交互にならない
+            DoubleApproxTarget target = target(Math::abs);
+            for (int order : new int[] { 0, 8 }) {
+                MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(order);
+                double reference = maxError(target, executor.apply(target).get());
+                double error = maxError(
+                        target, executor.withAlgorithm(RemezAlgorithm.EXCHANGE).apply(target).get());
+                assertThat(error, is(lessThan(reference * 1.001)));
+            }
+        }
+
+        @Test
+        public void test_奇関数の近似誤差はノード移動方式と一致する() {
+            DoubleApproxTarget target = target(Math::atan);
+            for (int order : new int[] { 1, 3, 15 }) {
+                MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(order);
+                double reference = maxError(target, executor.apply(target).get());
+                double error = maxError(
+                        target, executor.withAlgorithm(RemezAlgorithm.EXCHANGE).apply(target).get());
+                assertThat(error, is(lessThan(reference * 1.001)));
+            }
+        }
+    }
+
+    public static class 更新方式のテスト {
+
+        @Test
+        public void test_既定はノード移動方式() {
+            assertThat(MinimaxDoublePolynomialApproxExecutor.of(3).algorithm(), is(RemezAlgorithm.NODE_SHIFT));
+        }
+
+        @Test
+        public void test_更新方式と次数は引き継がれる() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .withConvergenceTolerance(1E-8);
+            assertThat(executor.algorithm(), is(RemezAlgorithm.EXCHANGE));
+            assertThat(executor.order(), is(3));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullは不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(3).withAlgorithm(null);
+        }
+
+        @Test
+        public void test_並列化の有無は引き継がれる() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withParallelEvaluation(true)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE);
+            assertThat(MinimaxDoublePolynomialApproxExecutor.of(3).isParallelEvaluation(), is(false));
+            assertThat(executor.isParallelEvaluation(), is(true));
+        }
+    }
+
+    public static class 初期ノードのテスト {
+
+        private DoubleApproxTarget target;
+
+        @Before
+        public void before_相対誤差によるexpのターゲットを用意する() {
+            var interval = DoubleFiniteClosedInterval.from(-4d, 4d);
+
+            target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return interval;
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+            };
+        }
+
+        private double maxError(DoublePolynomial polynomial) {
+            double xMin = target.interval().lower();
+            double xMax = target.interval().upper();
+            double out = 0d;
+            for (int i = 0; i <= 10000; i++) {
+                double x = xMin + (xMax - xMin) * i / 10000;
+                out = Math.max(out, Math.abs((polynomial.value(x) - target.value(x)) / target.scale(x)));
+            }
+            return out;
+        }
+
+        @Test
+        public void test_既定はChebyshev点() {
+            assertThat(
+                    MinimaxDoublePolynomialApproxExecutor.of(3).initialization(),
+                    is(RemezInitialization.CHEBYSHEV_NODES));
+        }
+
+        @Test
+        public void test_補間多項式の極値点から開始しても同じ近似に収束する() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(10);
+            double expected = maxError(executor.apply(target).get());
+
+            for (RemezAlgorithm algorithm : RemezAlgorithm.values()) {
+                DoublePolynomial polynomial = executor
+                        .withAlgorithm(algorithm)
+                        .withInitialization(RemezInitialization.INTERPOLANT_EXTREMA)
+                        .apply(target)
+                        .get();
+                assertThat(maxError(polynomial), is(closeTo(expected, expected * 1E-3)));
+            }
+        }
+
+        @Test
+        public void test_初期ノードの決め方とその他の条件は引き継がれる() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withInitialization(RemezInitialization.INTERPOLANT_EXTREMA)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .withChebyshevBasis(true);
+            assertThat(executor.initialization(), is(RemezInitialization.INTERPOLANT_EXTREMA));
+            assertThat(executor.algorithm(), is(RemezAlgorithm.EXCHANGE));
+            assertThat(executor.isChebyshevBasis(), is(true));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullは不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(3).withInitialization(null);
+        }
+    }
+
+    public static class 評価方式のテスト {
+
+        @Test
+        public void test_既定は評価方式なし() {
+            assertThat(MinimaxDoublePolynomialApproxExecutor.of(3).evaluationScheme().isEmpty(), is(true));
+        }
+
+        @Test
+        public void test_評価方式を与えると係数を直接評価する多項式が返る() {
+            DoubleApproxTarget target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return DoubleFiniteClosedInterval.from(-1d, 1d);
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+            };
+
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(8);
+            DoublePolynomial newton = executor.apply(target).get();
+            DoublePolynomial compiled = executor
+                    .withEvaluationScheme(EvaluationScheme.ESTRIN)
+                    .apply(target).get();
+
+            assertThat(compiled, is(instanceOf(CompiledDoublePolynomial.class)));
+            assertThat(((CompiledDoublePolynomial) compiled).scheme(), is(EvaluationScheme.ESTRIN));
+            assertThat(compiled.coefficient(), is(newton.coefficient()));
+        }
+
+        @Test
+        public void test_評価方式とその他の条件は引き継がれる() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withEvaluationScheme(EvaluationScheme.HORNER)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .withParallelEvaluation(true);
+            assertThat(executor.evaluationScheme().get(), is(EvaluationScheme.HORNER));
+            assertThat(executor.algorithm(), is(RemezAlgorithm.EXCHANGE));
+            assertThat(executor.isParallelEvaluation(), is(true));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullは不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(3).withEvaluationScheme(null);
+        }
+    }
+
+    public static class Chebyshev基底のテスト {
+
+        @Test
+        public void test_既定はChebyshev基底でない() {
+            assertThat(MinimaxDoublePolynomialApproxExecutor.of(3).isChebyshevBasis(), is(false));
+        }
+
+        @Test
+        public void test_原点から離れた区間でも精度が保たれる() {
+            DoubleApproxTarget target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return DoubleFiniteClosedInterval.from(1000d, 1001d);
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x - 1000d);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return 1d;
+                }
+            };
+
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(14);
+            DoublePolynomial newton = executor.apply(target).get();
+            DoublePolynomial chebyshev = executor.withChebyshevBasis(true).apply(target).get();
+
+            assertThat(chebyshev, is(instanceOf(ChebyshevDoublePolynomial.class)));
+            assertThat(((ChebyshevDoublePolynomial) chebyshev).interval(), is(target.interval()));
+            for (double x = 1000d; x <= 1001d; x += 1d / 128) {
+                assertThat(chebyshev.value(x), is(closeTo(newton.value(x), 1E-14)));
+                assertThat(chebyshev.value(x), is(closeTo(Math.exp(x - 1000d), 1E-13)));
+            }
+        }
+
+        @Test
+        public void test_相対誤差による近似でもNewton補間の形式と同等の精度を持つ() {
+            //値が係数の大きさに比べて小さくなる区間の下端で, 係数の丸め誤差が問題になる例
+            DoubleApproxTarget target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return DoubleFiniteClosedInterval.from(-3d, 3d);
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+            };
+
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(25);
+            DoublePolynomial newton = executor.apply(target).get();
+            DoublePolynomial chebyshev = executor.withChebyshevBasis(true).apply(target).get();
+
+            double newtonError = 0d;
+            double chebyshevError = 0d;
+            double[] xs = new double[6001];
+            for (int k = 0; k < xs.length; k++) {
+                double x = -3d + 6d * k / (xs.length - 1);
+                xs[k] = x;
+                newtonError = Math.max(newtonError, Math.abs(newton.value(x) / Math.exp(x) - 1d));
+                chebyshevError = Math.max(chebyshevError, Math.abs(chebyshev.value(x) / Math.exp(x) - 1d));
+            }
+            assertThat(chebyshevError, is(lessThan(2 * newtonError)));
+
+            //一括評価は1点ずつの評価と一致する
+            double[] out = new double[xs.length];
+            chebyshev.value(xs, out);
+            for (int k = 0; k < xs.length; k++) {
+                assertThat(out[k], is(chebyshev.value(xs[k])));
+            }
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_評価方式を指定した後にChebyshev基底は指定できない() {
+            MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withEvaluationScheme(EvaluationScheme.HORNER)
+                    .withChebyshevBasis(true);
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_Chebyshev基底を指定した後に評価方式は指定できない() {
+            MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withChebyshevBasis(true)
+                    .withEvaluationScheme(EvaluationScheme.ESTRIN);
+        }
+
+        @Test
+        public void test_Chebyshev基底の解除は評価方式を保つ() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withEvaluationScheme(EvaluationScheme.HORNER)
+                    .withChebyshevBasis(false);
+            assertThat(executor.isChebyshevBasis(), is(false));
+            assertThat(executor.evaluationScheme().get(), is(EvaluationScheme.HORNER));
+
+            executor = MinimaxDoublePolynomialApproxExecutor.of(3)
+                    .withChebyshevBasis(true)
+                    .withChebyshevBasis(false)
+                    .withEvaluationScheme(EvaluationScheme.ESTRIN);
+            assertThat(executor.evaluationScheme().get(), is(EvaluationScheme.ESTRIN));
+        }
+    }
+
+    public static class 収束判定の許容誤差のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0は不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(3).withConvergenceTolerance(0d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_1は不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(3).withConvergenceTolerance(1d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNは不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(3).withConvergenceTolerance(Double.NaN);
+        }
+
+        @Test
+        public void test_次数は引き継がれる() {
+            assertThat(
+                    MinimaxDoublePolynomialApproxExecutor.of(3).withConvergenceTolerance(1E-8).order(),
+                    is(3));
+        }
+
+        @Test
+        public void test_近似誤差は許容相対誤差の範囲で既定のスケジュールの結果に一致する() {
+            //ノードの移動幅が小さいステージでは水準の変化が小さく, 水準の変化では収束を誤判定する例
+            DoubleApproxTarget target = new DoubleApproxTarget() {
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return DoubleFiniteClosedInterval.from(-3d, 3d);
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.exp(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return Math.exp(x);
+                }
+            };
+
+            double reference = maxError(target, MinimaxDoublePolynomialApproxExecutor.of(1).apply(target).get());
+            for (double tolerance : new double[] { 1E-3, 1E-6 }) {
+                double error = maxError(target, MinimaxDoublePolynomialApproxExecutor.of(1)
+                        .withConvergenceTolerance(tolerance)
+                        .apply(target)
+                        .get());
+                assertThat(error, is(lessThanOrEqualTo(reference * (1d + 2 * tolerance))));
+            }
+        }
+
+        private static double maxError(DoubleApproxTarget target, DoublePolynomial polynomial) {
+            double xMin = target.interval().lower();
+            double xMax = target.interval().upper();
+            double maxError = 0d;
+            for (int k = 0; k <= 100000; k++) {
+                double x = xMin + (xMax - xMin) * k / 100000;
+                maxError = Math.max(maxError, Math.abs(polynomial.value(x) - target.value(x)) / target.scale(x));
+            }
+            return maxError;
+        }
+    }
+
+    public static class 破綻した近似の検出のテスト {
+
+        @Test
+        public void test_次数が高すぎて破綻した近似は失敗となる() {
+            List<DoubleApproxTarget> targets = List.of(
+                    ApproxTargets.target(0d, 2d, Math::exp, x -> 1d),
+                    target(x -> 1d / (1d + 25d * x * x)));
+            for (DoubleApproxTarget target : targets) {
+                for (RemezAlgorithm algorithm : RemezAlgorithm.values()) {
+                    ApproxResult<DoublePolynomial> result =
+                            MinimaxDoublePolynomialApproxExecutor.of(100)
+                                    .withAlgorithm(algorithm)
+                                    .apply(target);
+                    assertThat(result.isPresent(), is(false));
+                }
+            }
+        }
+    }
+
+    public static class 非同期実行のテスト {
+
+        @Test
+        public void test_結果は同期実行と一致する() throws Exception {
+            DoubleApproxTarget target = target(Math::sin);
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(7);
+
+            ExecutorService pool = Executors.newSingleThreadExecutor();
+            try {
+                DoublePolynomial async = executor.applyAsync(target, pool).get().get();
+                DoublePolynomial sync = executor.apply(target).get();
+                for (double x = -1d; x <= 1d; x += 0.125) {
+                    assertThat(async.value(x), is(sync.value(x)));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        public void test_取り消しは実行中の近似計算に伝わる() throws Exception {
+            AtomicInteger fullCount = new AtomicInteger();
+            MinimaxDoublePolynomialApproxExecutor.of(7).apply(target(x -> {
+                fullCount.incrementAndGet();
+                return Math.sin(x);
+            }));
+
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch cancelled = new CountDownLatch(1);
+            AtomicInteger count = new AtomicInteger();
+            DoubleApproxTarget target = target(x -> {
+                if (count.getAndIncrement() == 0) {
+                    started.countDown();
+                    try {
+                        cancelled.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return Math.sin(x);
+            });
+
+            ExecutorService pool = Executors.newSingleThreadExecutor();
+            CompletableFuture<ApproxResult<DoublePolynomial>> future =
+                    MinimaxDoublePolynomialApproxExecutor.of(7).applyAsync(target, pool);
+            started.await();
+            future.cancel(true);
+            cancelled.countDown();
+            pool.shutdown();
+
+            assertThat(pool.awaitTermination(10L, TimeUnit.SECONDS), is(true));
+            assertThat(future.isCancelled(), is(true));
+            //実行中のイテレーションの終了時点で打ち切られる
+            assertThat(count.get(), is(lessThan(fullCount.get() / 5)));
+        }
+
+        @Test
+        public void test_開始前に取り消した場合は計算されない() {
+            AtomicInteger count = new AtomicInteger();
+            DoubleApproxTarget target = target(x -> {
+                count.incrementAndGet();
+                return Math.sin(x);
+            });
+
+            List<Runnable> tasks = new ArrayList<>();
+            CompletableFuture<ApproxResult<DoublePolynomial>> future =
+                    MinimaxDoublePolynomialApproxExecutor.of(7).applyAsync(target, tasks::add);
+            future.cancel(false);
+            tasks.forEach(Runnable::run);
+
+            assertThat(tasks.size(), is(1));
+            assertThat(count.get(), is(0));
+        }
+
+        @Test
+        public void test_制限時間は投入の時点から計られる() throws Exception {
+            List<Runnable> tasks = new ArrayList<>();
+            CompletableFuture<ApproxResult<DoublePolynomial>> future =
+                    MinimaxDoublePolynomialApproxExecutor.of(7)
+                            .withTimeLimit(Duration.ofMillis(10L))
+                            .applyAsync(target(Math::sin), tasks::add);
+            //待ち行列で制限時間を超える
+            Thread.sleep(30L);
+            tasks.forEach(Runnable::run);
+
+            ApproxResult<DoublePolynomial> result = future.get();
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), startsWith("calculation timed out"));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのエグゼキュータは不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(7).applyAsync(target(Math::sin), null);
+        }
+    }
+
+    public static class 中断のテスト {
+
+        @Test
+        public void test_既定では制限時間とトークンはなく途中結果は返さない() {
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(7);
+            assertThat(executor.timeLimit().isEmpty(), is(true));
+            assertThat(executor.cancellationToken().isEmpty(), is(true));
+            assertThat(executor.isPartialResult(), is(false));
+        }
+
+        @Test
+        public void test_設定は他の設定の変更後も保持される() {
+            CancellationToken token = CancellationToken.create();
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(7)
+                    .withTimeLimit(Duration.ofSeconds(3L))
+                    .withCancellationToken(token)
+                    .withPartialResult(true)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .withConvergenceTolerance(1E-3);
+            assertThat(executor.timeLimit().get(), is(Duration.ofSeconds(3L)));
+            assertThat(executor.cancellationToken().get(), is(sameInstance(token)));
+            assertThat(executor.isPartialResult(), is(true));
+        }
+
+        @Test
+        public void test_中断が要求されたトークンでは空() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            ApproxResult<DoublePolynomial> result = MinimaxDoublePolynomialApproxExecutor.of(7)
+                    .withCancellationToken(token)
+                    .apply(target(Math::sin));
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), is("calculation cancelled"));
+        }
+
+        @Test
+        public void test_途中結果を返す設定ではノード移動方式は途中の多項式を返す() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            MinimaxDoublePolynomialApproxExecutor executor = MinimaxDoublePolynomialApproxExecutor.of(7)
+                    .withCancellationToken(token)
+                    .withPartialResult(true);
+            ApproxResult<DoublePolynomial> result = executor.apply(target(Math::sin));
+            assertThat(result.isPresent(), is(true));
+            assertThat(result.get().degree(), is(executor.order()));
+        }
+
+        @Test
+        public void test_多点交換方式で最初のイテレーション前に中断した場合は途中結果の設定でも空() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            ApproxResult<DoublePolynomial> result = MinimaxDoublePolynomialApproxExecutor.of(7)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .withCancellationToken(token)
+                    .withPartialResult(true)
+                    .apply(target(Math::sin));
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), is("calculation cancelled"));
+        }
+
+        @Test
+        public void test_割り込まれたスレッドでは空で割り込み状態は保たれる() {
+            Thread.currentThread().interrupt();
+            ApproxResult<DoublePolynomial> result;
+            try {
+                result = MinimaxDoublePolynomialApproxExecutor.of(7).apply(target(Math::sin));
+            } finally {
+                //割り込み状態を確認し, 後続のテストのためにクリアする
+                assertThat(Thread.interrupted(), is(true));
+            }
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), is("calculation interrupted"));
+        }
+
+        @Test
+        public void test_制限時間を超えた場合は空() {
+            AtomicInteger count = new AtomicInteger();
+            DoubleApproxTarget target = target(x -> {
+                if (count.getAndIncrement() == 0) {
+                    try {
+                        Thread.sleep(20L);
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return Math.sin(x);
+            });
+            ApproxResult<DoublePolynomial> result = MinimaxDoublePolynomialApproxExecutor.of(7)
+                    .withTimeLimit(Duration.ofMillis(1L))
+                    .apply(target);
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), startsWith("calculation timed out"));
+        }
+
+        @Test
+        public void test_制限時間内に収束した場合は中断しない() {
+            ApproxResult<DoublePolynomial> result = MinimaxDoublePolynomialApproxExecutor.of(7)
+                    .withTimeLimit(Duration.ofMinutes(1L))
+                    .withCancellationToken(CancellationToken.create())
+                    .apply(target(Math::sin));
+            assertThat(result.isPresent(), is(true));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_制限時間0は不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(7).withTimeLimit(Duration.ZERO);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の制限時間は不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(7).withTimeLimit(Duration.ofMillis(-1L));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullの制限時間は不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(7).withTimeLimit(null);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのトークンは不可() {
+            MinimaxDoublePolynomialApproxExecutor.of(7).withCancellationToken(null);
+        }
     }
 }
@@ -10,14 +10,28 @@ package matsu.num.approximation.polynomial;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
+import matsu.num.approximation.ApproxResult;
 import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.ApproxTargets;
+import matsu.num.approximation.CancellationToken;
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleDouble;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
 import matsu.num.approximation.DoubleLike;
 import matsu.num.approximation.FiniteClosedInterval;
 import matsu.num.approximation.PseudoRealNumber.TypeProvider;
@@ -28,6 +42,14 @@ import matsu.num.approximation.PseudoRealNumber.TypeProvider;
 @RunWith(Enclosed.class)
 final class MinimaxPolynomialApproxExecutorTest {
 
+    /**
+     * 区間 [-1, 1] 上の, スケールが1である {@link DoubleDouble} のターゲット関数を返す.
+     */
+    private static ApproxTarget<DoubleDouble> target(UnaryOperator<DoubleDouble> op) {
+        TypeProvider<DoubleDouble> typeProvider = DoubleDouble.elementTypeProvider();
+        return ApproxTargets.target(typeProvider, -1d, 1d, op, x -> typeProvider.one());
+    }
+
     public static class sinの近似 {
 
         private static final TypeProvider<DoubleLike> TYPE_PROVIDER =
@@ -92,5 +114,468 @@ final class MinimaxPolynomialApproxExecutorTest {
                         res, is(lessThan(1E-12)));
             }
         }
+
+        @Test
+        public void test_並列評価の結果は逐次評価に一致する() {
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(11);
+            Polynomial<DoubleLike> sequential = executor.apply(target).get();
+            Polynomial<DoubleLike> parallel = executor.withParallelEvaluation(true).apply(target).get();
+
+            assertThat(parallel.coefficient(), is(sequential.coefficient()));
+        }
+
+        @Test
+        public void test_交換法による近似をテストする() {
+            Polynomial<DoubleLike> polynomial = MinimaxPolynomialApproxExecutor.of(11)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .apply(target)
+                    .get();
+
+            double xMin = target.interval().lower().asDouble();
+            double xMax = target.interval().upper().asDouble();
+            double deltaX = (xMax - xMin) * 0.01d;
+
+            for (double x = xMin; x <= xMax; x += deltaX) {
+                DoubleLike xObj = TYPE_PROVIDER.fromDoubleValue(x);
+                
+                double approxValue = polynomial.value(xObj).asDouble();
+                double refValue = target.value(xObj).asDouble();
+                double res = Math.abs(approxValue - refValue);
+
+                assertThat(
+                        "res (x = %s, approxValue = %s, refValue = %s)".formatted(x, approxValue, refValue),
+                        res, is(lessThan(1E-12)));
+            }
+        }
+
+        @Test
+        public void test_Chebyshev基底の近似結果は補間の形式の値に一致する() {
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(11);
+            Polynomial<DoubleLike> newton = executor.apply(target).get();
+            Polynomial<DoubleLike> chebyshev = executor.withChebyshevBasis(true).apply(target).get();
+
+            assertThat(executor.withChebyshevBasis(true).isChebyshevBasis(), is(true));
+            assertThat(chebyshev, is(instanceOf(ChebyshevPolynomial.class)));
+            for (double x = -1d; x <= 1d; x += 0.02) {
+                DoubleLike xObj = TYPE_PROVIDER.fromDoubleValue(x);
+                assertThat(
+                        chebyshev.value(xObj).asDouble(),
+                        is(closeTo(newton.value(xObj).asDouble(), 1E-15)));
+            }
+        }
+
+        @Test
+        public void test_補間多項式の極値点から開始した近似をテストする() {
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(11)
+                    .withInitialization(RemezInitialization.INTERPOLANT_EXTREMA);
+            assertThat(executor.initialization(), is(RemezInitialization.INTERPOLANT_EXTREMA));
+
+            for (RemezAlgorithm algorithm : RemezAlgorithm.values()) {
+                Polynomial<DoubleLike> polynomial = executor
+                        .withAlgorithm(algorithm)
+                        .apply(target)
+                        .get();
+
+                for (double x = -1d; x <= 1d; x += 0.02) {
+                    DoubleLike xObj = TYPE_PROVIDER.fromDoubleValue(x);
+                    double res = Math.abs(polynomial.value(xObj).asDouble() - target.value(xObj).asDouble());
+                    assertThat(res, is(lessThan(1E-12)));
+                }
+            }
+        }
+
+        @Test
+        public void test_double型の事前計算から開始した近似をテストする() {
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(11);
+            assertThat(executor.isDoublePresolve(), is(false));
+            executor = executor.withDoublePresolve(true);
+            assertThat(executor.isDoublePresolve(), is(true));
+
+            for (RemezAlgorithm algorithm : RemezAlgorithm.values()) {
+                Polynomial<DoubleLike> polynomial = executor
+                        .withAlgorithm(algorithm)
+                        .apply(target)
+                        .get();
+
+                for (double x = -1d; x <= 1d; x += 0.02) {
+                    DoubleLike xObj = TYPE_PROVIDER.fromDoubleValue(x);
+                    double res = Math.abs(polynomial.value(xObj).asDouble() - target.value(xObj).asDouble());
+                    assertThat(res, is(lessThan(1E-12)));
+                }
+            }
+        }
+
+        @Test
+        public void test_double値と同等の型の近似結果はdouble型の近似結果に一致する() {
+            DoubleApproxTarget doubleTarget = new DoubleApproxTarget() {
+
+                private final DoubleFiniteClosedInterval interval = DoubleFiniteClosedInterval.from(-1d, 1d);
+
+                @Override
+                public DoubleFiniteClosedInterval interval() {
+                    return interval;
+                }
+
+                @Override
+                protected double calcValue(double x) {
+                    return Math.sin(x);
+                }
+
+                @Override
+                protected double calcScale(double x) {
+                    return 1d;
+                }
+            };
+
+            for (RemezAlgorithm algorithm : RemezAlgorithm.values()) {
+                Polynomial<DoubleLike> polynomial = MinimaxPolynomialApproxExecutor.of(11)
+                        .withAlgorithm(algorithm)
+                        .apply(target)
+                        .get();
+                DoublePolynomial reference = MinimaxDoublePolynomialApproxExecutor.of(11)
+                        .withAlgorithm(algorithm)
+                        .apply(doubleTarget)
+                        .get();
+
+                for (double x = -1d; x <= 1d; x += 0.02) {
+                    assertThat(
+                            polynomial.value(TYPE_PROVIDER.fromDoubleValue(x)).asDouble(),
+                            is(reference.value(x)));
+                }
+            }
+        }
+    }
+
+    public static class 交換法による対称な関数の近似 {
+
+        @Test
+        public void test_偶関数の近似誤差はノード移動方式と一致する() {
+            TypeProvider<DoubleDouble> typeProvider = DoubleDouble.elementTypeProvider();
+            var interval = FiniteClosedInterval.from(
+                    typeProvider.fromDoubleValue(-1d),
+                    typeProvider.fromDoubleValue(1d));
+            ApproxTarget<DoubleDouble> target = new ApproxTarget<>() {
+
+                @Override
+                public TypeProvider<DoubleDouble> elementTypeProvider() {
+                    return typeProvider;
+                }
+
+                @Override
+                public FiniteClosedInterval<DoubleDouble> interval() {
+                    return interval;
+                }
+
+                @Override
+                protected DoubleDouble calcValue(DoubleDouble x) {
+                    return x.abs();
+                }
+
+                @Override
+                protected DoubleDouble calcScale(DoubleDouble x) {
+                    return typeProvider.one();
+                }
+            };
+
+            //対称なノードでは近似誤差の水準が0になり, ノードにおける誤差の符号が交互にならない
+            Polynomial<DoubleDouble> polynomial = MinimaxPolynomialApproxExecutor.of(0)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .apply(target)
+                    .get();
+            for (double x = -1d; x <= 1d; x += 0.125) {
+                DoubleDouble xObj = typeProvider.fromDoubleValue(x);
+                assertThat(polynomial.value(xObj).asDouble(), is(closeTo(0.5, 1E-3)));
+            }
+        }
+    }
+
+    public static class 収束判定のテスト {
+
+        private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+        private ApproxTarget<DoubleDouble> target;
+
+        @Before
+        public void before_ターゲットを用意する() {
+            var interval = FiniteClosedInterval.from(
+                    TYPE_PROVIDER.fromDoubleValue(-3d),
+                    TYPE_PROVIDER.fromDoubleValue(3d));
+
+            target = new ApproxTarget<>() {
+
+                @Override
+                public TypeProvider<DoubleDouble> elementTypeProvider() {
+                    return TYPE_PROVIDER;
+                }
+
+                @Override
+                public FiniteClosedInterval<DoubleDouble> interval() {
+                    return interval;
+                }
+
+                @Override
+                protected DoubleDouble calcValue(DoubleDouble x) {
+                    return TYPE_PROVIDER.fromDoubleValue(Math.exp(x.asDouble()));
+                }
+
+                @Override
+                protected DoubleDouble calcScale(DoubleDouble x) {
+                    return TYPE_PROVIDER.fromDoubleValue(Math.exp(x.asDouble()));
+                }
+            };
+        }
+
+        @Test
+        public void test_近似誤差は許容相対誤差の範囲で既定のスケジュールの結果に一致する() {
+            double reference = this.maxError(MinimaxPolynomialApproxExecutor.of(1).apply(target).get());
+            for (double tolerance : new double[] { 1E-3, 1E-6 }) {
+                double error = this.maxError(MinimaxPolynomialApproxExecutor.of(1)
+                        .withConvergenceTolerance(tolerance)
+                        .apply(target)
+                        .get());
+                assertThat(error, is(lessThanOrEqualTo(reference * (1d + 2 * tolerance))));
+            }
+        }
+
+        private double maxError(Polynomial<DoubleDouble> polynomial) {
+            double maxError = 0d;
+            for (int k = 0; k <= 10000; k++) {
+                DoubleDouble x = TYPE_PROVIDER.fromDoubleValue(-3d + 6d * k / 10000);
+                maxError = Math.max(maxError,
+                        polynomial.value(x).minus(target.value(x)).dividedBy(target.scale(x)).abs().asDouble());
+            }
+            return maxError;
+        }
+    }
+
+    public static class 事前計算の後の仕上げのテスト {
+
+        private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+        private AtomicInteger count;
+        private ApproxTarget<DoubleDouble> target;
+
+        @Before
+        public void before_評価回数を数えるターゲットを用意する() {
+            var interval = FiniteClosedInterval.from(
+                    TYPE_PROVIDER.fromDoubleValue(0d),
+                    TYPE_PROVIDER.fromDoubleValue(1d));
+
+            count = new AtomicInteger();
+            target = new ApproxTarget<>() {
+
+                @Override
+                public TypeProvider<DoubleDouble> elementTypeProvider() {
+                    return TYPE_PROVIDER;
+                }
+
+                @Override
+                public FiniteClosedInterval<DoubleDouble> interval() {
+                    return interval;
+                }
+
+                @Override
+                protected DoubleDouble calcValue(DoubleDouble x) {
+                    count.incrementAndGet();
+                    return exp(x);
+                }
+
+                @Override
+                protected DoubleDouble calcScale(DoubleDouble x) {
+                    return exp(x);
+                }
+            };
+        }
+
+        /**
+         * Taylor展開によるexp(x), 0 &le; x &le; 1 でDoubleDoubleの精度を持つ.
+         */
+        private static DoubleDouble exp(DoubleDouble x) {
+            DoubleDouble s = TYPE_PROVIDER.zero();
+            for (int k = 36; k >= 1; k--) {
+                s = s.times(x).dividedBy(k).plus(1d);
+            }
+            return s;
+        }
+
+        @Test
+        public void test_事前計算を行うと評価回数が減り精度は劣化しない() {
+            var executor = MinimaxPolynomialApproxExecutor.of(16);
+
+            count.set(0);
+            double errorWithout = this.maxError(executor.apply(target).get());
+            int countWithout = count.get();
+
+            count.set(0);
+            double errorWith = this.maxError(executor.withDoublePresolve(true).apply(target).get());
+            int countWith = count.get();
+
+            assertThat(countWith, is(lessThan(countWithout / 3)));
+            assertThat(errorWith, is(lessThanOrEqualTo(errorWithout)));
+        }
+
+        private double maxError(Polynomial<DoubleDouble> polynomial) {
+            double maxError = 0d;
+            for (int k = 0; k <= 10000; k++) {
+                DoubleDouble x = TYPE_PROVIDER.fromDoubleValue(k / 10000d);
+                maxError = Math.max(maxError,
+                        polynomial.value(x).minus(exp(x)).dividedBy(exp(x)).abs().asDouble());
+            }
+            return maxError;
+        }
+    }
+
+    public static class 非同期実行のテスト {
+
+        private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+        private static DoubleDouble sin(DoubleDouble x) {
+            return TYPE_PROVIDER.fromDoubleValue(Math.sin(x.asDouble()));
+        }
+
+        @Test
+        public void test_結果は同期実行と一致する() throws Exception {
+            ApproxTarget<DoubleDouble> target = target(非同期実行のテスト::sin);
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(7);
+
+            ExecutorService pool = Executors.newSingleThreadExecutor();
+            try {
+                Polynomial<DoubleDouble> async = executor.applyAsync(target, pool).get().get();
+                Polynomial<DoubleDouble> sync = executor.apply(target).get();
+                for (double x = -1d; x <= 1d; x += 0.125) {
+                    DoubleDouble v = TYPE_PROVIDER.fromDoubleValue(x);
+                    assertThat(async.value(v), is(sync.value(v)));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        public void test_取り消しは実行中の近似計算に伝わる() throws Exception {
+            AtomicInteger fullCount = new AtomicInteger();
+            MinimaxPolynomialApproxExecutor.of(7).apply(target(x -> {
+                fullCount.incrementAndGet();
+                return sin(x);
+            }));
+
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch cancelled = new CountDownLatch(1);
+            AtomicInteger count = new AtomicInteger();
+            ApproxTarget<DoubleDouble> target = target(x -> {
+                if (count.getAndIncrement() == 0) {
+                    started.countDown();
+                    try {
+                        cancelled.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return sin(x);
+            });
+
+            ExecutorService pool = Executors.newSingleThreadExecutor();
+            CompletableFuture<ApproxResult<Polynomial<DoubleDouble>>> future =
+                    MinimaxPolynomialApproxExecutor.of(7).applyAsync(target, pool);
+            started.await();
+            future.cancel(true);
+            cancelled.countDown();
+            pool.shutdown();
+
+            assertThat(pool.awaitTermination(10L, TimeUnit.SECONDS), is(true));
+            assertThat(future.isCancelled(), is(true));
+            //実行中のイテレーションの終了時点で打ち切られる
+            assertThat(count.get(), is(lessThan(fullCount.get() / 5)));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのターゲットは不可() {
+            MinimaxPolynomialApproxExecutor.of(7).applyAsync(null, Runnable::run);
+        }
+    }
+
+    public static class 中断のテスト {
+
+        private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+        private static DoubleDouble sin(DoubleDouble x) {
+            return TYPE_PROVIDER.fromDoubleValue(Math.sin(x.asDouble()));
+        }
+
+        @Test
+        public void test_既定では制限時間とトークンはなく途中結果は返さない() {
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(7);
+            assertThat(executor.timeLimit().isEmpty(), is(true));
+            assertThat(executor.cancellationToken().isEmpty(), is(true));
+            assertThat(executor.isPartialResult(), is(false));
+        }
+
+        @Test
+        public void test_中断が要求されたトークンでは空() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            ApproxResult<Polynomial<DoubleDouble>> result = MinimaxPolynomialApproxExecutor.of(7)
+                    .withCancellationToken(token)
+                    .apply(target(中断のテスト::sin));
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), is("calculation cancelled"));
+        }
+
+        @Test
+        public void test_途中結果を返す設定ではノード移動方式は途中の多項式を返す() {
+            CancellationToken token = CancellationToken.create();
+            token.cancel();
+            MinimaxPolynomialApproxExecutor executor = MinimaxPolynomialApproxExecutor.of(7)
+                    .withCancellationToken(token)
+                    .withPartialResult(true);
+            ApproxResult<Polynomial<DoubleDouble>> result = executor.apply(target(中断のテスト::sin));
+            assertThat(result.isPresent(), is(true));
+            assertThat(result.get().degree(), is(executor.order()));
+        }
+
+        @Test
+        public void test_割り込まれたスレッドでは空で割り込み状態は保たれる() {
+            Thread.currentThread().interrupt();
+            ApproxResult<Polynomial<DoubleDouble>> result;
+            try {
+                result = MinimaxPolynomialApproxExecutor.of(7).apply(target(中断のテスト::sin));
+            } finally {
+                //割り込み状態を確認し, 後続のテストのためにクリアする
+                assertThat(Thread.interrupted(), is(true));
+            }
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), is("calculation interrupted"));
+        }
+
+        @Test
+        public void test_多点交換方式でもイテレーションの途中で制限時間により中断する() {
+            AtomicInteger count = new AtomicInteger();
+            ApproxTarget<DoubleDouble> target = target(x -> {
+                if (count.getAndIncrement() == 0) {
+                    try {
+                        Thread.sleep(20L);
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return sin(x);
+            });
+            ApproxResult<Polynomial<DoubleDouble>> result = MinimaxPolynomialApproxExecutor.of(7)
+                    .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                    .withTimeLimit(Duration.ofMillis(1L))
+                    .apply(target);
+            assertThat(result.isEmpty(), is(true));
+            assertThat(result.message(), startsWith("calculation timed out"));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_制限時間0は不可() {
+            MinimaxPolynomialApproxExecutor.of(7).withTimeLimit(Duration.ZERO);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのトークンは不可() {
+            MinimaxPolynomialApproxExecutor.of(7).withCancellationToken(null);
+        }
     }
 }
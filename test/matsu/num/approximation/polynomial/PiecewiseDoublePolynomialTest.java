@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * {@link PiecewiseDoublePolynomial} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PiecewiseDoublePolynomialTest {
+
+    public static final Class<?> TEST_CLASS = PiecewiseDoublePolynomial.class;
+
+    private static ChebyshevDoublePolynomial segment(double lower, double upper, double... coeff) {
+        return ChebyshevDoublePolynomial.of(coeff, DoubleFiniteClosedInterval.from(lower, upper));
+    }
+
+    public static class 探索と評価のテスト {
+
+        @Test
+        public void test_不均一な分割のセグメントの探索() {
+            PiecewiseDoublePolynomial polynomial = PiecewiseDoublePolynomial.of(List.of(
+                    segment(0d, 1d, 1d),
+                    segment(1d, 1.5d, 2d),
+                    segment(1.5d, 4d, 3d, 1d)));
+
+            assertThat(polynomial.isUniform(), is(false));
+            assertThat(polynomial.degree(), is(1));
+            assertThat(polynomial.segmentIndex(-1d), is(0));
+            assertThat(polynomial.segmentIndex(0.5d), is(0));
+            assertThat(polynomial.segmentIndex(1d), is(1));
+            assertThat(polynomial.segmentIndex(1.49d), is(1));
+            assertThat(polynomial.segmentIndex(1.5d), is(2));
+            assertThat(polynomial.segmentIndex(4d), is(2));
+            assertThat(polynomial.segmentIndex(5d), is(2));
+
+            assertThat(polynomial.value(0.5d), is(1d));
+            assertThat(polynomial.value(1.2d), is(2d));
+            // T_1(t), t = (x - 2.75) / 1.25
+            assertThat(polynomial.value(4d), is(closeTo(4d, 1E-15)));
+        }
+
+        @Test
+        public void test_均一な分割のセグメントの探索() {
+            PiecewiseDoublePolynomial polynomial = PiecewiseDoublePolynomial.of(List.of(
+                    segment(0d, 0.1d, 0d),
+                    segment(0.1d, 0.2d, 1d),
+                    segment(0.2d, 0.30000000000000004d, 2d),
+                    segment(0.30000000000000004d, 0.4d, 3d)));
+
+            assertThat(polynomial.isUniform(), is(true));
+            double[] boundaries = polynomial.boundaries();
+            for (int i = 0; i < polynomial.segmentCount(); i++) {
+                assertThat(polynomial.segmentIndex(boundaries[i]), is(i));
+                assertThat(polynomial.segmentIndex(Math.nextDown(boundaries[i + 1])), is(i));
+            }
+            assertThat(polynomial.segmentIndex(-1d), is(0));
+            assertThat(polynomial.segmentIndex(1d), is(3));
+        }
+
+        @Test
+        public void test_一括評価は個別の評価に一致する() {
+            PiecewiseDoublePolynomial polynomial = PiecewiseDoublePolynomial.of(List.of(
+                    segment(1d, 2d, 0.5d, -1d, 0.25d),
+                    segment(2d, 10d, 1d, 2d)));
+
+            double[] xs = new double[37];
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = 1d + 9d * i / (xs.length - 1);
+            }
+            double[] out = new double[xs.length];
+            polynomial.value(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(out[i], is(polynomial.value(xs[i])));
+            }
+        }
+
+        @Test
+        public void test_セグメントの取得() {
+            PiecewiseDoublePolynomial polynomial = PiecewiseDoublePolynomial.of(List.of(
+                    segment(1d, 2d, 0.5d, -1d, 0.25d),
+                    segment(2d, 10d, 1d, 2d)));
+
+            ChebyshevDoublePolynomial second = polynomial.segment(1);
+            assertThat(second.interval().lower(), is(2d));
+            assertThat(second.interval().upper(), is(10d));
+            // 次数が低いセグメントの係数は0で埋められる
+            assertThat(second.chebyshevCoefficient(), is(new double[] { 1d, 2d, 0d }));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外のセグメントは不可() {
+            PiecewiseDoublePolynomial.of(List.of(segment(0d, 1d, 1d))).segment(1);
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_連続しないセグメントは不可() {
+            PiecewiseDoublePolynomial.of(List.of(segment(0d, 1d, 1d), segment(1.5d, 2d, 1d)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空のセグメントは不可() {
+            PiecewiseDoublePolynomial.of(List.of());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static matsu.num.approximation.ApproxTargets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.MeasuredApproximation;
+
+/**
+ * {@link PiecewiseMinimaxDoublePolynomialApproxExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PiecewiseMinimaxDoublePolynomialApproxExecutorTest {
+
+    public static final Class<?> TEST_CLASS = PiecewiseMinimaxDoublePolynomialApproxExecutor.class;
+
+    public static class 分割のテスト {
+
+        @Test
+        public void test_logの近似と報告される誤差() {
+            DoubleApproxTarget target = target(1E-2, 1E2, Math::log, x -> 1d);
+            MeasuredApproximation<PiecewiseDoublePolynomial> result =
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(8, 1E-12).apply(target).get();
+
+            PiecewiseDoublePolynomial polynomial = result.approximation();
+            double actual = 0d;
+            for (int i = 0; i <= 100000; i++) {
+                double x = Math.min(1E2, 1E-2 + (1E2 - 1E-2) * i / 100000);
+                actual = Math.max(actual, Math.abs(polynomial.value(x) - Math.log(x)));
+            }
+            // 報告される誤差は有限個の点による推定値
+            assertThat(result.weightedError(), is(lessThanOrEqualTo(1E-12)));
+            assertThat(result.weightedError(), is(closeTo(actual, 0.1 * actual)));
+
+            // 原点に近い側ほど細かく分割される
+            assertThat(polynomial.isUniform(), is(false));
+            assertThat(polynomial.degree(), is(8));
+            double[] boundaries = polynomial.boundaries();
+            assertThat(boundaries[1] - boundaries[0],
+                    is(lessThan(boundaries[boundaries.length - 1] - boundaries[boundaries.length - 2])));
+        }
+
+        @Test
+        public void test_セグメントは区間を隙間なく覆う() {
+            DoubleApproxTarget target = target(-8d, 8d, x -> Math.exp(-x * x), x -> 1d);
+            PiecewiseDoublePolynomial polynomial =
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(8, 1E-13)
+                            .apply(target).get().approximation();
+
+            double[] boundaries = polynomial.boundaries();
+            assertThat(boundaries.length, is(polynomial.segmentCount() + 1));
+            assertThat(boundaries[0], is(-8d));
+            assertThat(boundaries[boundaries.length - 1], is(8d));
+            for (int i = 0; i < polynomial.segmentCount(); i++) {
+                DoubleFiniteClosedInterval interval = polynomial.segment(i).interval();
+                assertThat(interval.lower(), is(boundaries[i]));
+                assertThat(interval.upper(), is(boundaries[i + 1]));
+            }
+        }
+
+        @Test
+        public void test_一様な分割() {
+            DoubleApproxTarget target = target(0d, 1d, Math::exp, Math::exp);
+            MeasuredApproximation<PiecewiseDoublePolynomial> result =
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(6, 1E-14).apply(target).get();
+
+            PiecewiseDoublePolynomial polynomial = result.approximation();
+            assertThat(polynomial.isUniform(), is(true));
+            assertThat(Integer.bitCount(polynomial.segmentCount()), is(1));
+            assertThat(result.weightedError(), is(lessThanOrEqualTo(1E-14)));
+        }
+
+        @Test
+        public void test_分割不要の場合は1つのセグメント() {
+            DoubleApproxTarget target = target(10d, 12d, x -> ((x - 11) * x + 2) * x - 5, x -> 1d);
+            PiecewiseDoublePolynomial polynomial =
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(3, 1E-9)
+                            .apply(target).get().approximation();
+
+            assertThat(polynomial.segmentCount(), is(1));
+        }
+
+        @Test
+        public void test_並列化しても結果は同一() {
+            DoubleApproxTarget target = target(1E-2, 1E2, Math::log, x -> 1d);
+            PiecewiseMinimaxDoublePolynomialApproxExecutor executor =
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(6, 1E-10);
+
+            PiecewiseDoublePolynomial sequential = executor.apply(target).get().approximation();
+            PiecewiseDoublePolynomial parallel =
+                    executor.withParallelFitting(true).apply(target).get().approximation();
+
+            assertThat(parallel.boundaries(), is(sequential.boundaries()));
+            for (int i = 0; i < sequential.segmentCount(); i++) {
+                assertThat(parallel.segment(i).chebyshevCoefficient(),
+                        is(sequential.segment(i).chebyshevCoefficient()));
+            }
+        }
+
+        @Test
+        public void test_上限の深さで許容値を満たさない場合は空() {
+            DoubleApproxTarget target = target(0d, 1d, Math::sqrt, x -> 1d);
+
+            assertThat(
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(8, 1E-8).apply(target).isPresent(),
+                    is(false));
+            assertThat(
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(4, 1E-12).withMaxDepth(2)
+                            .withParallelFitting(true)
+                            .apply(target(0d, 1d, Math::exp, Math::exp)).isPresent(),
+                    is(false));
+        }
+
+        @Test
+        public void test_ターゲットの値が不正な場合は空() {
+            DoubleApproxTarget target = target(0d, 1d, x -> Double.NaN, x -> 1d);
+
+            assertThat(
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(4, 1E-6).withMaxDepth(3)
+                            .apply(target).isPresent(),
+                    is(false));
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は不可() {
+            PiecewiseMinimaxDoublePolynomialApproxExecutor.of(-1, 1E-6);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0の許容値は不可() {
+            PiecewiseMinimaxDoublePolynomialApproxExecutor.of(4, 0d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える深さは不可() {
+            PiecewiseMinimaxDoublePolynomialApproxExecutor.of(4, 1E-6).withMaxDepth(
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.UPPER_LIMIT_OF_DEPTH + 1);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのターゲットは不可() {
+            PiecewiseMinimaxDoublePolynomialApproxExecutor.of(4, 1E-6).apply(null);
+        }
+
+        @Test
+        public void test_条件の変更() {
+            PiecewiseMinimaxDoublePolynomialApproxExecutor executor =
+                    PiecewiseMinimaxDoublePolynomialApproxExecutor.of(4, 1E-6)
+                            .withMaxDepth(10)
+                            .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                            .withParallelFitting(true);
+
+            assertThat(executor.order(), is(4));
+            assertThat(executor.errorTolerance(), is(1E-6));
+            assertThat(executor.maxDepth(), is(10));
+            assertThat(executor.algorithm(), is(RemezAlgorithm.EXCHANGE));
+            assertThat(executor.isParallelFitting(), is(true));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static matsu.num.approximation.ApproxTargets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.DoubleDouble;
+import matsu.num.approximation.MeasuredApproximation;
+import matsu.num.approximation.PseudoRealNumber.TypeProvider;
+
+/**
+ * {@link PiecewiseMinimaxPolynomialApproxExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PiecewiseMinimaxPolynomialApproxExecutorTest {
+
+    public static final Class<?> TEST_CLASS = PiecewiseMinimaxPolynomialApproxExecutor.class;
+
+    private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+    /**
+     * 1/x を [0.1, 10] で近似するターゲット.
+     */
+    private static ApproxTarget<DoubleDouble> reciprocal() {
+        return target(TYPE_PROVIDER, 0.1d, 10d, x -> TYPE_PROVIDER.one().dividedBy(x), x -> TYPE_PROVIDER.one());
+    }
+
+    public static class 分割のテスト {
+
+        @Test
+        public void test_逆数の近似と報告される誤差() {
+            MeasuredApproximation<PiecewisePolynomial<DoubleDouble>> result =
+                    PiecewiseMinimaxPolynomialApproxExecutor.of(8, 1E-20).apply(reciprocal()).get();
+
+            PiecewisePolynomial<DoubleDouble> polynomial = result.approximation();
+            double actual = 0d;
+            for (int i = 0; i <= 20000; i++) {
+                DoubleDouble x = TYPE_PROVIDER.fromDoubleValue(Math.min(10d, 0.1d + (10d - 0.1d) * i / 20000));
+                actual = Math.max(actual,
+                        polynomial.value(x).minus(TYPE_PROVIDER.one().dividedBy(x)).abs().asDouble());
+            }
+            // 報告される誤差は有限個の点による推定値
+            assertThat(result.weightedError(), is(lessThanOrEqualTo(1E-20)));
+            assertThat(result.weightedError(), is(closeTo(actual, 0.1 * actual)));
+
+            // 原点に近い側ほど細かく分割される
+            assertThat(polynomial.degree(), is(8));
+            DoubleDouble[] boundaries = polynomial.boundaries();
+            assertThat(boundaries[1].minus(boundaries[0]).asDouble(),
+                    is(lessThan(boundaries[boundaries.length - 1].minus(boundaries[boundaries.length - 2])
+                            .asDouble())));
+        }
+
+        @Test
+        public void test_セグメントは区間を隙間なく覆う() {
+            PiecewisePolynomial<DoubleDouble> polynomial =
+                    PiecewiseMinimaxPolynomialApproxExecutor.of(6, 1E-16).apply(reciprocal()).get().approximation();
+
+            DoubleDouble[] boundaries = polynomial.boundaries();
+            assertThat(boundaries.length, is(polynomial.segmentCount() + 1));
+            assertThat(boundaries[0].asDouble(), is(0.1d));
+            assertThat(boundaries[boundaries.length - 1].asDouble(), is(10d));
+            for (int i = 0; i < polynomial.segmentCount(); i++) {
+                assertThat(polynomial.segment(i).interval().lower(), is(boundaries[i]));
+                assertThat(polynomial.segment(i).interval().upper(), is(boundaries[i + 1]));
+            }
+        }
+
+        @Test
+        public void test_分割不要の場合は1つのセグメント() {
+            ApproxTarget<DoubleDouble> target = target(TYPE_PROVIDER, 10d, 12d,
+                    x -> x.minus(11d).times(x).plus(2d).times(x).minus(5d), x -> TYPE_PROVIDER.one());
+            PiecewisePolynomial<DoubleDouble> polynomial =
+                    PiecewiseMinimaxPolynomialApproxExecutor.of(3, 1E-20).apply(target).get().approximation();
+
+            assertThat(polynomial.segmentCount(), is(1));
+        }
+
+        @Test
+        public void test_並列化しても結果は同一() {
+            PiecewiseMinimaxPolynomialApproxExecutor executor =
+                    PiecewiseMinimaxPolynomialApproxExecutor.of(6, 1E-14);
+
+            PiecewisePolynomial<DoubleDouble> sequential = executor.apply(reciprocal()).get().approximation();
+            PiecewisePolynomial<DoubleDouble> parallel =
+                    executor.withParallelFitting(true).apply(reciprocal()).get().approximation();
+
+            assertThat(parallel.boundaries(), is(sequential.boundaries()));
+            for (int i = 0; i < sequential.segmentCount(); i++) {
+                assertThat(parallel.segment(i).chebyshevCoefficient(),
+                        is(sequential.segment(i).chebyshevCoefficient()));
+            }
+        }
+
+        @Test
+        public void test_上限の深さで許容値を満たさない場合は空() {
+            assertThat(
+                    PiecewiseMinimaxPolynomialApproxExecutor.of(4, 1E-20).withMaxDepth(2)
+                            .apply(reciprocal()).isPresent(),
+                    is(false));
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は不可() {
+            PiecewiseMinimaxPolynomialApproxExecutor.of(-1, 1E-6);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0の許容値は不可() {
+            PiecewiseMinimaxPolynomialApproxExecutor.of(4, 0d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える深さは不可() {
+            PiecewiseMinimaxPolynomialApproxExecutor.of(4, 1E-6).withMaxDepth(
+                    PiecewiseMinimaxPolynomialApproxExecutor.UPPER_LIMIT_OF_DEPTH + 1);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのターゲットは不可() {
+            PiecewiseMinimaxPolynomialApproxExecutor.of(4, 1E-6).apply(null);
+        }
+
+        @Test
+        public void test_条件の変更() {
+            PiecewiseMinimaxPolynomialApproxExecutor executor =
+                    PiecewiseMinimaxPolynomialApproxExecutor.of(4, 1E-6)
+                            .withMaxDepth(10)
+                            .withAlgorithm(RemezAlgorithm.EXCHANGE)
+                            .withDoublePresolve(true)
+                            .withParallelFitting(true);
+
+            assertThat(executor.order(), is(4));
+            assertThat(executor.errorTolerance(), is(1E-6));
+            assertThat(executor.maxDepth(), is(10));
+            assertThat(executor.algorithm(), is(RemezAlgorithm.EXCHANGE));
+            assertThat(executor.isDoublePresolve(), is(true));
+            assertThat(executor.isParallelFitting(), is(true));
+        }
+    }
+}
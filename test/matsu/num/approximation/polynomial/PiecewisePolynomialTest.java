@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleDouble;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber.TypeProvider;
+
+/**
+ * {@link PiecewisePolynomial} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PiecewisePolynomialTest {
+
+    public static final Class<?> TEST_CLASS = PiecewisePolynomial.class;
+
+    private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+    private static DoubleDouble dd(double value) {
+        return TYPE_PROVIDER.fromDoubleValue(value);
+    }
+
+    private static ChebyshevPolynomial<DoubleDouble> segment(double lower, double upper, double... coeff) {
+        DoubleDouble[] c = TYPE_PROVIDER.createArray(coeff.length);
+        for (int i = 0; i < coeff.length; i++) {
+            c[i] = dd(coeff[i]);
+        }
+        return ChebyshevPolynomial.of(c, FiniteClosedInterval.from(dd(lower), dd(upper)), TYPE_PROVIDER);
+    }
+
+    public static class 探索と評価のテスト {
+
+        @Test
+        public void test_セグメントの探索と評価() {
+            PiecewisePolynomial<DoubleDouble> polynomial = PiecewisePolynomial.of(List.of(
+                    segment(0d, 1d, 1d),
+                    segment(1d, 1.5d, 2d),
+                    segment(1.5d, 4d, 3d, 1d)), TYPE_PROVIDER);
+
+            assertThat(polynomial.segmentCount(), is(3));
+            assertThat(polynomial.degree(), is(1));
+            assertThat(polynomial.segmentIndex(dd(-1d)), is(0));
+            assertThat(polynomial.segmentIndex(dd(0.5d)), is(0));
+            assertThat(polynomial.segmentIndex(dd(1d)), is(1));
+            assertThat(polynomial.segmentIndex(dd(1.49d)), is(1));
+            assertThat(polynomial.segmentIndex(dd(1.5d)), is(2));
+            assertThat(polynomial.segmentIndex(dd(4d)), is(2));
+            assertThat(polynomial.segmentIndex(dd(5d)), is(2));
+
+            assertThat(polynomial.value(dd(0.5d)).asDouble(), is(1d));
+            assertThat(polynomial.value(dd(1.2d)).asDouble(), is(2d));
+            // T_1(t), t = (x - 2.75) / 1.25
+            assertThat(polynomial.value(dd(4d)).asDouble(), is(closeTo(4d, 1E-15)));
+        }
+
+        @Test
+        public void test_境界と区間() {
+            PiecewisePolynomial<DoubleDouble> polynomial = PiecewisePolynomial.of(List.of(
+                    segment(1d, 2d, 0.5d, -1d, 0.25d),
+                    segment(2d, 10d, 1d, 2d)), TYPE_PROVIDER);
+
+            DoubleDouble[] boundaries = polynomial.boundaries();
+            assertThat(boundaries.length, is(3));
+            assertThat(boundaries[0].asDouble(), is(1d));
+            assertThat(boundaries[1].asDouble(), is(2d));
+            assertThat(boundaries[2].asDouble(), is(10d));
+            assertThat(polynomial.interval().lower().asDouble(), is(1d));
+            assertThat(polynomial.interval().upper().asDouble(), is(10d));
+            assertThat(polynomial.segment(1).degree(), is(1));
+        }
+
+        @Test(expected = IndexOutOfBoundsException.class)
+        public void test_範囲外のセグメントは不可() {
+            PiecewisePolynomial.of(List.of(segment(0d, 1d, 1d)), TYPE_PROVIDER).segment(1);
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_連続しないセグメントは不可() {
+            PiecewisePolynomial.of(List.of(segment(0d, 1d, 1d), segment(1.5d, 2d, 1d)), TYPE_PROVIDER);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空のセグメントは不可() {
+            PiecewisePolynomial.of(List.<ChebyshevPolynomial<DoubleDouble>> of(), TYPE_PROVIDER);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.polynomial;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleLike;
+import matsu.num.approximation.PseudoRealNumber;
+
+/**
+ * {@link PolynomialSourceEmitter} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PolynomialSourceEmitterTest {
+
+    public static final Class<?> TEST_CLASS = PolynomialSourceEmitter.class;
+
+    /**
+     * 与えた次数の多項式を生成する.
+     */
+    private static DoublePolynomial polynomial(int degree) {
+        double[] node = new double[degree + 1];
+        double[] value = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            node[i] = degree == 0 ? 0d : Math.cos(Math.PI * i / degree);
+            value[i] = Math.exp(node[i]) * (1 - 0.1 * i);
+        }
+        return DoubleNewtonPolynomial.from(node, value);
+    }
+
+    /**
+     * メソッドのソースコードをクラスに埋め込んでコンパイルし, メソッドを返す. <br>
+     * コンパイラが利用できない場合はテストをスキップする.
+     */
+    private static Method compile(String methodSource, String methodName) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeThat(compiler, is(notNullValue()));
+
+        Path dir = Files.createTempDirectory("emitter");
+        try {
+            Path source = dir.resolve("Emitted.java");
+            Files.writeString(source,
+                    "public final class Emitted {\n" + methodSource + "}\n", StandardCharsets.UTF_8);
+            assertThat(compiler.run(null, null, null, source.toString()), is(0));
+
+            try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+                Method method = loader.loadClass("Emitted").getDeclaredMethod(methodName, double.class);
+                method.setAccessible(true);
+                return method;
+            } catch (ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    private static double invoke(Method method, double x) {
+        try {
+            return (double) method.invoke(null, x);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 生成されたコードのテスト {
+
+        @DataPoints
+        public static final int[] DEGREES = { 0, 1, 7, 8, 9, 20 };
+
+        @DataPoints
+        public static final EvaluationScheme[] SCHEMES = EvaluationScheme.values();
+
+        @Theory
+        public void test_積和演算を用いる場合は同じ評価方式の多項式にビット単位で一致する(
+                int degree, EvaluationScheme scheme) throws IOException {
+            DoublePolynomial source = polynomial(degree);
+            CompiledDoublePolynomial compiled = CompiledDoublePolynomial.of(source, scheme);
+            Method method = compile(
+                    PolynomialSourceEmitter.of(scheme).emit(source), "value");
+
+            for (double x = -2d; x <= 2d; x += 0.0625) {
+                assertThat(
+                        Double.doubleToRawLongBits(invoke(method, x)),
+                        is(Double.doubleToRawLongBits(compiled.value(x))));
+            }
+        }
+
+        @Theory
+        public void test_積和演算を用いない場合は係数の多項式に近い値を返す(
+                int degree, EvaluationScheme scheme) throws IOException {
+            DoublePolynomial source = polynomial(degree);
+            CompiledDoublePolynomial compiled = CompiledDoublePolynomial.of(source, scheme);
+            Method method = compile(
+                    PolynomialSourceEmitter.of(scheme).withFma(false).withMethodName("p").emit(source), "p");
+
+            for (double x = -2d; x <= 2d; x += 0.0625) {
+                // 丸めの回数は積和演算を用いる場合の高々2倍
+                assertThat(
+                        Math.abs(invoke(method, x) - compiled.value(x)),
+                        is(lessThanOrEqualTo(3 * compiled.errorBound(x))));
+            }
+        }
+    }
+
+    public static class 係数の表記のテスト {
+
+        @Test
+        public void test_係数は16進表記で正確に出力される() {
+            double[] coeff = polynomial(5).coefficient();
+            String code = PolynomialSourceEmitter.of(EvaluationScheme.HORNER).emit(polynomial(5));
+
+            for (double c : coeff) {
+                assertThat(code, containsString(Double.toHexString(c)));
+            }
+        }
+
+        @Test
+        public void test_Polynomialはdoubleに変換して出力される() {
+            PseudoRealNumber.TypeProvider<DoubleLike> provider = DoubleLike.elementTypeProvider();
+            DoubleLike[] node = {
+                    provider.fromDoubleValue(-1d),
+                    provider.fromDoubleValue(0d),
+                    provider.fromDoubleValue(2d)
+            };
+            NewtonPolynomial<DoubleLike> polynomial = NewtonPolynomial.from(
+                    node, x -> x.times(x).plus(provider.fromDoubleValue(0.5)), provider);
+            PolynomialSourceEmitter emitter = PolynomialSourceEmitter.of(EvaluationScheme.HORNER);
+
+            assertThat(
+                    emitter.emit(polynomial),
+                    is(emitter.emit(DoubleNewtonPolynomial.from(
+                            new double[] { -1d, 0d, 2d }, new double[] { 1.5, 0.5, 4.5 }))));
+        }
+    }
+
+    public static class 引数のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_識別子として不適当なメソッド名は例外() {
+            PolynomialSourceEmitter.of(EvaluationScheme.HORNER).withMethodName("1value");
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_評価方式がnullの場合は例外() {
+            PolynomialSourceEmitter.of(null);
+        }
+    }
+}
@@ -107,6 +107,19 @@ final class RemezTypePolynomialFactoryTest {
             DOUBLE_RELATIVE_ASSERTION.compareAndAssert(e, error(node[2]).asDouble());
         }
 
+        @Test
+        public void test_イテレーション用の形式とNewton形式の値が一致するかを検証() {
+            RemezTypePolynomialFactory<DoubleLike> factory = new RemezTypePolynomialFactory<>(target);
+            RemezPolynomial<DoubleLike> remezPolynomial = factory.solve(node);
+            Polynomial<DoubleLike> newton = factory.create(node);
+
+            assertThat(remezPolynomial.degree(), is(newton.degree()));
+            for (double x = 1d; x <= 2d; x += 0.0625) {
+                DoubleLike xObj = PROVIDER.fromDoubleValue(x);
+                assertThat(remezPolynomial.value(xObj).asDouble(), is(newton.value(xObj).asDouble()));
+            }
+        }
+
         private DoubleLike error(DoubleLike x) {
             return remezResult.value(x).minus(target.value(x)).dividedBy(target.scale(x));
         }
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.rational;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+
+/**
+ * {@link DoubleRationalFunction} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleRationalFunctionTest {
+
+    public static final Class<?> TEST_CLASS = DoubleRationalFunction.class;
+
+    public static class 値のテスト {
+
+        private static final DoubleFiniteClosedInterval INTERVAL = DoubleFiniteClosedInterval.from(1d, 3d);
+
+        /*
+         * t = x - 2 として,
+         * p = 1 + 2 T_1(t) + 3 T_2(t), q = 4 + T_1(t)
+         */
+        private final DoubleRationalFunction rational = DoubleRationalFunction.of(
+                new double[] { 1d, 2d, 3d }, new double[] { 4d, 1d }, INTERVAL);
+
+        @Test
+        public void test_値は分子と分母の比() {
+            for (double x = 1d; x <= 3d; x += 0.125) {
+                double t = x - 2d;
+                double p = 1d + 2d * t + 3d * (2d * t * t - 1d);
+                double q = 4d + t;
+
+                assertThat(rational.value(x), is(closeTo(p / q, 1E-15)));
+                assertThat(rational.numerator().value(x), is(closeTo(p, 1E-14)));
+                assertThat(rational.denominator().value(x), is(closeTo(q, 1E-14)));
+            }
+        }
+
+        @Test
+        public void test_次数と区間() {
+            assertThat(rational.numeratorDegree(), is(2));
+            assertThat(rational.denominatorDegree(), is(1));
+            assertThat(rational.denominator().degree(), is(1));
+            assertThat(rational.interval(), is(INTERVAL));
+        }
+
+        @Test
+        public void test_一括評価() {
+            double[] xs = { 1d, 1.5, 2d, 2.5, 3d };
+            double[] out = new double[xs.length];
+            rational.value(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(out[i], is(rational.value(xs[i])));
+            }
+
+            rational.value(xs, xs);
+            assertThat(xs, is(out));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_一括評価の配列の長さが異なる場合は例外() {
+            rational.value(new double[3], new double[2]);
+        }
+    }
+
+    public static class 生成のテスト {
+
+        private static final DoubleFiniteClosedInterval INTERVAL = DoubleFiniteClosedInterval.from(-1d, 1d);
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空の係数は不可() {
+            DoubleRationalFunction.of(new double[] { 1d }, new double[0], INTERVAL);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_有限でない係数は不可() {
+            DoubleRationalFunction.of(new double[] { Double.NaN }, new double[] { 1d }, INTERVAL);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullの区間は不可() {
+            DoubleRationalFunction.of(new double[] { 1d }, new double[] { 1d }, null);
+        }
+
+        @Test
+        public void test_係数は防御的にコピーされる() {
+            double[] numerator = { 1d, 2d };
+            DoubleRationalFunction rational = DoubleRationalFunction.of(numerator, new double[] { 1d }, INTERVAL);
+            numerator[1] = 0d;
+
+            assertThat(rational.value(1d), is(3d));
+        }
+    }
+}
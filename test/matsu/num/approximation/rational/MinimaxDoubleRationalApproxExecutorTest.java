@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.rational;
+
+import static matsu.num.approximation.ApproxTargets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleApproxTarget;
+import matsu.num.approximation.DoubleFiniteClosedInterval;
+import matsu.num.approximation.polynomial.MinimaxDoublePolynomialApproxExecutor;
+
+/**
+ * {@link MinimaxDoubleRationalApproxExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MinimaxDoubleRationalApproxExecutorTest {
+
+    public static final Class<?> TEST_CLASS = MinimaxDoubleRationalApproxExecutor.class;
+
+    /**
+     * 区間を等分した点における重みづけ誤差の最大値を返す.
+     */
+    private static double maxError(DoubleApproxTarget target, DoubleUnaryOperator approx) {
+        DoubleFiniteClosedInterval interval = target.interval();
+        double out = 0d;
+        for (int i = 0; i <= 10000; i++) {
+            double x = Math.min(interval.upper(), interval.lower() + interval.gap() * i / 10000);
+            out = Math.max(out,
+                    Math.abs((approx.applyAsDouble(x) - target.value(x)) / target.scale(x)));
+        }
+        return out;
+    }
+
+    public static class 近似のテスト {
+
+        @Test
+        public void test_有理関数は厳密に再現される() {
+            DoubleApproxTarget target = target(-1d, 1d, x -> 1d / (1d + 25d * x * x), x -> 1d);
+            DoubleRationalFunction rational =
+                    MinimaxDoubleRationalApproxExecutor.of(0, 2).apply(target).get();
+
+            assertThat(maxError(target, rational::value), is(lessThan(1E-14)));
+        }
+
+        @Test
+        public void test_expの相対誤差による近似() {
+            DoubleApproxTarget target = target(-1d, 1d, Math::exp, Math::exp);
+            DoubleRationalFunction rational =
+                    MinimaxDoubleRationalApproxExecutor.of(3, 3).apply(target).get();
+
+            assertThat(rational.numeratorDegree(), is(3));
+            assertThat(rational.denominatorDegree(), is(3));
+            assertThat(maxError(target, rational::value), is(lessThan(2E-7)));
+        }
+
+        @Test
+        public void test_極に近い関数は同程度の次数の多項式よりも精度が高い() {
+            DoubleApproxTarget target = target(-1.5, 1.5, Math::tan, x -> 1d);
+            DoubleRationalFunction rational =
+                    MinimaxDoubleRationalApproxExecutor.of(5, 4).apply(target).get();
+            double rationalError = maxError(target, rational::value);
+
+            assertThat(rationalError, is(lessThan(1E-7)));
+            assertThat(
+                    maxError(target, MinimaxDoublePolynomialApproxExecutor.of(11).apply(target).get()::value),
+                    is(greaterThan(1E4 * rationalError)));
+        }
+
+        @Test
+        public void test_分母の次数が0の場合は多項式近似と同等() {
+            DoubleApproxTarget target = target(-1d, 1d, Math::exp, x -> 1d);
+            DoubleRationalFunction rational =
+                    MinimaxDoubleRationalApproxExecutor.of(6, 0).apply(target).get();
+            double polynomialError = maxError(
+                    target, MinimaxDoublePolynomialApproxExecutor.of(6).apply(target).get()::value);
+
+            assertThat(maxError(target, rational::value), is(closeTo(polynomialError, 0.01 * polynomialError)));
+        }
+
+        @Test
+        public void test_誤差が等振動しない場合は空() {
+            // atanの[3/2]近似は参照点で誤差の符号が交互にならず, 最良近似 (誤差1E-4未満) に到達しない
+            DoubleApproxTarget target = target(-1d, 1d, Math::atan, x -> 1d);
+
+            assertThat(MinimaxDoubleRationalApproxExecutor.of(3, 2).apply(target).isPresent(), is(false));
+        }
+
+        @Test
+        public void test_ターゲットの値が不正な場合は空() {
+            DoubleApproxTarget target = target(0d, 1d, x -> Double.NaN, x -> 1d);
+
+            assertThat(MinimaxDoubleRationalApproxExecutor.of(2, 2).apply(target).isPresent(), is(false));
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は不可() {
+            MinimaxDoubleRationalApproxExecutor.of(2, -1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える次数は不可() {
+            MinimaxDoubleRationalApproxExecutor.of(
+                    MinimaxDoubleRationalApproxExecutor.UPPER_LIMIT_OF_ORDER + 1, 2);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのターゲットは不可() {
+            MinimaxDoubleRationalApproxExecutor.of(2, 2).apply(null);
+        }
+
+        @Test
+        public void test_次数の取得() {
+            MinimaxDoubleRationalApproxExecutor executor = MinimaxDoubleRationalApproxExecutor.of(5, 3);
+
+            assertThat(executor.numeratorOrder(), is(5));
+            assertThat(executor.denominatorOrder(), is(3));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.rational;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.ApproxTarget;
+import matsu.num.approximation.ApproxTargets;
+import matsu.num.approximation.DoubleDouble;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber.TypeProvider;
+
+/**
+ * {@link MinimaxRationalApproxExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class MinimaxRationalApproxExecutorTest {
+
+    public static final Class<?> TEST_CLASS = MinimaxRationalApproxExecutor.class;
+
+    private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+    private static ApproxTarget<DoubleDouble> target(
+            double lower, double upper, UnaryOperator<DoubleDouble> value) {
+        return ApproxTargets.target(TYPE_PROVIDER, lower, upper, value, x -> TYPE_PROVIDER.one());
+    }
+
+    /**
+     * 区間を等分した点における誤差の最大値を返す.
+     */
+    private static double maxError(ApproxTarget<DoubleDouble> target, RationalFunction<DoubleDouble> rational) {
+        FiniteClosedInterval<DoubleDouble> interval = target.interval();
+        double out = 0d;
+        for (int i = 0; i <= 1000; i++) {
+            DoubleDouble x = interval.lower().plus(interval.gap().times(i / 1000d));
+            if (x.compareTo(interval.upper()) > 0) {
+                x = interval.upper();
+            }
+            out = Math.max(out, rational.value(x).minus(target.value(x)).abs().asDouble());
+        }
+        return out;
+    }
+
+    public static class 近似のテスト {
+
+        @Test
+        public void test_有理関数はdoubleの精度を超えて再現される() {
+            ApproxTarget<DoubleDouble> target = target(-1d, 1d, x -> x.plus(1d).dividedBy(x.plus(2d)));
+            RationalFunction<DoubleDouble> rational =
+                    MinimaxRationalApproxExecutor.of(1, 1).apply(target).get();
+
+            assertThat(maxError(target, rational), is(lessThan(1E-28)));
+        }
+
+        @Test
+        public void test_Runge関数の近似() {
+            ApproxTarget<DoubleDouble> target = target(
+                    -1d, 1d, x -> TYPE_PROVIDER.one().dividedBy(x.times(x).times(25d).plus(1d)));
+            RationalFunction<DoubleDouble> rational =
+                    MinimaxRationalApproxExecutor.of(0, 2).apply(target).get();
+
+            assertThat(rational.numeratorDegree(), is(0));
+            assertThat(rational.denominatorDegree(), is(2));
+            assertThat(maxError(target, rational), is(lessThan(1E-28)));
+        }
+
+        @Test
+        public void test_tanの近似() {
+            ApproxTarget<DoubleDouble> target = target(
+                    -1.5, 1.5, x -> TYPE_PROVIDER.fromDoubleValue(Math.tan(x.asDouble())));
+            RationalFunction<DoubleDouble> rational =
+                    MinimaxRationalApproxExecutor.of(5, 4).apply(target).get();
+
+            assertThat(maxError(target, rational), is(lessThan(1E-7)));
+        }
+
+        @Test
+        public void test_atanの近似は等振動する誤差で返る() {
+            // 最良近似の誤差は1E-4未満であり, 等振動しない途中の結果 (誤差2.8E-4) を返してはいけない
+            ApproxTarget<DoubleDouble> target = target(
+                    -1d, 1d, x -> TYPE_PROVIDER.fromDoubleValue(Math.atan(x.asDouble())));
+            RationalFunction<DoubleDouble> rational =
+                    MinimaxRationalApproxExecutor.of(3, 2).apply(target).get();
+
+            assertThat(maxError(target, rational), is(lessThan(1E-4)));
+        }
+
+        @Test
+        public void test_ターゲットの値が計算できない場合は空() {
+            ApproxTarget<DoubleDouble> target = target(0d, 1d, x -> {
+                throw new ArithmeticException();
+            });
+
+            assertThat(MinimaxRationalApproxExecutor.of(2, 2).apply(target).isPresent(), is(false));
+        }
+    }
+
+    public static class 生成のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は不可() {
+            MinimaxRationalApproxExecutor.of(-1, 2);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullのターゲットは不可() {
+            MinimaxRationalApproxExecutor.of(2, 2).apply(null);
+        }
+    }
+}
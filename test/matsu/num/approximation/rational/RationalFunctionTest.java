@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.approximation.rational;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.approximation.DoubleDouble;
+import matsu.num.approximation.FiniteClosedInterval;
+import matsu.num.approximation.PseudoRealNumber.TypeProvider;
+
+/**
+ * {@link RationalFunction} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class RationalFunctionTest {
+
+    public static final Class<?> TEST_CLASS = RationalFunction.class;
+
+    private static final TypeProvider<DoubleDouble> TYPE_PROVIDER = DoubleDouble.elementTypeProvider();
+
+    private static DoubleDouble[] array(double... values) {
+        DoubleDouble[] out = TYPE_PROVIDER.createArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            out[i] = TYPE_PROVIDER.fromDoubleValue(values[i]);
+        }
+        return out;
+    }
+
+    public static class 値のテスト {
+
+        private static final FiniteClosedInterval<DoubleDouble> INTERVAL = FiniteClosedInterval.from(
+                TYPE_PROVIDER.fromDoubleValue(1d), TYPE_PROVIDER.fromDoubleValue(3d));
+
+        /*
+         * t = x - 2 として,
+         * p = 1 + 2 T_1(t) + 3 T_2(t), q = 4 + T_1(t)
+         */
+        private final RationalFunction<DoubleDouble> rational = RationalFunction.of(
+                array(1d, 2d, 3d), array(4d, 1d), INTERVAL, TYPE_PROVIDER);
+
+        @Test
+        public void test_値は分子と分母の比() {
+            for (double v = 1d; v <= 3d; v += 0.125) {
+                DoubleDouble x = TYPE_PROVIDER.fromDoubleValue(v);
+                DoubleDouble t = x.minus(2d);
+                DoubleDouble p = t.times(t).times(6d).plus(t.times(2d)).minus(2d);
+                DoubleDouble q = t.plus(4d);
+
+                assertThat(rational.value(x).minus(p.dividedBy(q)).abs().asDouble(), is(lessThan(1E-30)));
+                assertThat(rational.numerator().value(x).minus(p).abs().asDouble(), is(lessThan(1E-30)));
+                assertThat(rational.denominator().value(x).minus(q).abs().asDouble(), is(lessThan(1E-30)));
+            }
+        }
+
+        @Test
+        public void test_次数と区間() {
+            assertThat(rational.numeratorDegree(), is(2));
+            assertThat(rational.denominatorDegree(), is(1));
+            assertThat(rational.interval(), is(INTERVAL));
+        }
+    }
+
+    public static class 生成のテスト {
+
+        private static final FiniteClosedInterval<DoubleDouble> INTERVAL = FiniteClosedInterval.from(
+                TYPE_PROVIDER.fromDoubleValue(-1d), TYPE_PROVIDER.fromDoubleValue(1d));
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空の係数は不可() {
+            RationalFunction.of(array(1d), array(), INTERVAL, TYPE_PROVIDER);
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_nullを含む係数は不可() {
+            DoubleDouble[] numerator = array(1d, 2d);
+            numerator[1] = null;
+            RationalFunction.of(numerator, array(1d), INTERVAL, TYPE_PROVIDER);
+        }
+    }
+}